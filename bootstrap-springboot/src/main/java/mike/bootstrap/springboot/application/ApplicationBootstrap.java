@@ -7,11 +7,13 @@ import org.springframework.boot.Banner.Mode;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 import mike.bootstrap.utilities.helpers.Print;
 import mike.bootstrap.utilities.helpers.Strings;
 import mike.bootstrap.utilities.security.SSLCertificateConfiguration;
 import mike.bootstrap.utilities.system.AppInfo;
+import mike.bootstrap.utilities.system.StartupProfiler;
 import mike.bootstrap.utilities.system.SysInfo;
 
 /**
@@ -22,6 +24,12 @@ import mike.bootstrap.utilities.system.SysInfo;
  */
 class ApplicationBootstrap {
 
+    /* *** Startup profiler (system properties) *** */
+    static final String KW_STARTUP_PROFILE = "container.startup.profile"; // Spring steps (beans)
+    static final String KW_STARTUP_TRACE = "container.startup.trace"; // Trace file
+
+    private static final int STARTUP_STEPS_CAPACITY = 20_000;
+
     private ApplicationBootstrap() {}
 
     /**
@@ -69,25 +77,40 @@ class ApplicationBootstrap {
             WebApplicationType appType) {
 
         List<String> options = args != null ? List.of(args) : List.of();
+        var profiler = StartupProfiler.global();
+
+        /* *** Application information (static initialization) *** */
+        Print.out(profiler.time("app_info", AppInfo::banner));
 
-        Print.out(AppInfo.banner());
         Print.out("Application starting with args: %s", options);
 
         if (clazz == null) {
             throw new IllegalArgumentException("Bootstrap::configure: no such class");
         }
 
-        SysInfo.setMainClass(clazz);
+        /* *** System information (static initialization) *** */
+        var phase = profiler.start("sys_info");
+
+        try {
+            SysInfo.setMainClass(clazz);
+        } finally {
+            phase.close();
+        }
 
         Properties configuration = parseCommandLineArguments(options);
 
         /* *** SSL Auto-Configuration *** */
-        SSLCertificateConfiguration.configure();
+        phase = profiler.start("ssl_configuration");
+
+        try {
+            SSLCertificateConfiguration.configure();
+        } finally {
+            phase.close();
+        }
 
         /* *** Build Spring Application *** */
-        SpringApplication application = new SpringApplicationBuilder(clazz).logStartupInfo(true)
-                .bannerMode(Mode.OFF).properties(configuration)
-                .initializers(new ApplicationBootstrapInitializer()).web(appType).build();
+        SpringApplication application = profiler.time("spring_application",
+                () -> build(clazz, configuration, appType, profiler));
 
         System.setProperty(AppInfo.KW_APP_WEBAPP,
                 String.valueOf(appType != WebApplicationType.NONE));
@@ -95,6 +118,28 @@ class ApplicationBootstrap {
         return application;
     }
 
+    /**
+     * Build the Spring application (with the startup steps buffering if profiled).
+     */
+    private static SpringApplication build(Class<?> clazz, Properties configuration,
+            WebApplicationType appType, StartupProfiler profiler) {
+
+        var startup = Boolean.getBoolean(KW_STARTUP_PROFILE)
+                ? new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY)
+                : null;
+
+        SpringApplication application = new SpringApplicationBuilder(clazz).logStartupInfo(true)
+                .bannerMode(Mode.OFF).properties(configuration)
+                .initializers(new ApplicationBootstrapInitializer())
+                .listeners(new StartupProfilerListener(profiler, startup)).web(appType).build();
+
+        if (startup != null) {
+            application.setApplicationStartup(startup);
+        }
+
+        return application;
+    }
+
     /**
      * Parse command line arguments.
      * 
@@ -14,6 +14,7 @@ import mike.bootstrap.utilities.exceptions.ApplicationErrorException;
 import mike.bootstrap.utilities.helpers.Print;
 import mike.bootstrap.utilities.security.SSLCertificateConfiguration;
 import mike.bootstrap.utilities.system.AppInfo;
+import mike.bootstrap.utilities.system.StartupProfiler;
 import mike.bootstrap.utilities.system.SysInfo;
 
 /**
@@ -28,24 +29,45 @@ class ApplicationBootstrapInitializer implements ApplicationContextInitializer<C
     @Override
     public void initialize(ConfigurableApplicationContext applicationContext) {
         ConfigurableEnvironment env = applicationContext.getEnvironment();
+        var profiler = StartupProfiler.global();
 
         /* *** Check server address *** */
-        Optional<String> url = this.checkServerAddresses(env);
+        Optional<String> url = profiler.time("server_address",
+                () -> this.checkServerAddresses(env));
 
         /* *** SSL configuration if not already done *** */
-        this.sslCertificateAutoConfiguration(env);
+        var phase = profiler.start("ssl_initializer");
+
+        try {
+            this.sslCertificateAutoConfiguration(env);
+        } finally {
+            phase.close();
+        }
 
         /* ***** Display startup header ***** */
-        this.startup(env, url);
+        phase = profiler.start("startup_header");
+
+        try {
+            this.startup(env, url);
+        } finally {
+            phase.close();
+        }
 
         /* ***** Finalize setup ***** */
-        String runtimeDirectory = AppInfo.runtimeDirectory();
+        phase = profiler.start("runtime_directory");
 
-        if (!env.getProperty(AppInfo.KW_APP_RUNDIR, "").isEmpty()) {
-            System.setProperty(AppInfo.KW_APP_RUNDIR, env.getProperty(AppInfo.KW_APP_RUNDIR, runtimeDirectory));
-        }
+        try {
+            String runtimeDirectory = AppInfo.runtimeDirectory();
 
-        log.info("Runtime root directory: {}", runtimeDirectory);
+            if (!env.getProperty(AppInfo.KW_APP_RUNDIR, "").isEmpty()) {
+                System.setProperty(AppInfo.KW_APP_RUNDIR,
+                        env.getProperty(AppInfo.KW_APP_RUNDIR, runtimeDirectory));
+            }
+
+            log.info("Runtime root directory: {}", runtimeDirectory);
+        } finally {
+            phase.close();
+        }
     }
 
     private void startup(ConfigurableEnvironment env, Optional<String> url) {
@@ -87,6 +109,11 @@ class ApplicationBootstrapInitializer implements ApplicationContextInitializer<C
         if (AppInfo.isWebApplication()) {
 
             try {
+                // Host name resolved in background since the bootstrap (bounded wait)
+                if (env.getProperty("server.address") == null && !SysInfo.awaitHost()) {
+                    log.warn("Host name not resolved in time, using: {}", SysInfo.hostname());
+                }
+
                 String hostname = env.getProperty("server.address", SysInfo.hostname());
                 String port = env.getProperty("server.port", "8080");
                 String contextPath = env.getProperty("server.servlet.context-path", "/");
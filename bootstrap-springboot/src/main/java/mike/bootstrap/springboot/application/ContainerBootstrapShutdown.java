@@ -6,6 +6,7 @@ import org.springframework.beans.factory.DisposableBean;
 import mike.bootstrap.utilities.helpers.Dates;
 import mike.bootstrap.utilities.helpers.Print;
 import mike.bootstrap.utilities.helpers.Timer;
+import mike.bootstrap.utilities.metrics.MetricsRegistry;
 import mike.bootstrap.utilities.system.AppInfo;
 
 /**
@@ -36,6 +37,9 @@ public interface ContainerBootstrapShutdown extends DisposableBean {
 
         this.onContainerShutdown();
 
+        MetricsRegistry.global().timer("bootstrap_shutdown_seconds", "component",
+                this.getClass().getSimpleName()).record(tm.elapsNanos());
+
         log.info("{} (node: {}) shutdown applicative components completed in {}", 
             AppInfo.module(), AppInfo.node(), tm.elapsInSeconds.get());
     }
@@ -0,0 +1,136 @@
+package mike.bootstrap.springboot.application;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationContextInitializedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.event.SpringApplicationEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.metrics.StartupStep;
+
+import mike.bootstrap.utilities.metrics.MetricsRegistry;
+import mike.bootstrap.utilities.system.StartupProfiler;
+
+/**
+ * Time the Spring phases of the startup and report all the phases when the application is ready
+ * (after the {@link ContainerBootstrapReady} components).
+ * <p>
+ * With the Spring startup buffering (-Dcontainer.startup.profile=true), the slowest beans are
+ * reported too, and the phases can be written as a trace file
+ * (-Dcontainer.startup.trace=startup-trace.json).
+ *
+ * @author Mike (2026-10)
+ */
+class StartupProfilerListener implements ApplicationListener<SpringApplicationEvent>, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupProfilerListener.class);
+
+    static final String STARTUP_PHASE = "bootstrap_startup_phase_seconds";
+    static final String BEAN = "bean";
+
+    private static final String BEAN_INSTANTIATE = "spring.beans.instantiate";
+    private static final int BEAN_REPORT_LIMIT = 20;
+
+    private final StartupProfiler profiler;
+    private final BufferingApplicationStartup startup;
+    private StartupProfiler.Step current;
+
+    /**
+     * @param profiler the startup profiler
+     * @param startup  the Spring startup steps (null if not buffered)
+     */
+    StartupProfilerListener(StartupProfiler profiler, BufferingApplicationStartup startup) {
+        this.profiler = profiler;
+        this.startup = startup;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public void onApplicationEvent(SpringApplicationEvent event) {
+
+        if (event instanceof ApplicationContextInitializedEvent) {
+            this.next("spring_context");
+        } else if (event instanceof ApplicationStartedEvent) {
+            this.next("application_runners");
+        } else if (event instanceof ApplicationReadyEvent) {
+            this.next(null);
+            this.report();
+        }
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private void next(String phase) {
+
+        if (this.current != null) {
+            this.current.close();
+        }
+
+        this.current = phase == null ? null : this.profiler.start(phase);
+    }
+
+    private void report() {
+        var metrics = MetricsRegistry.global();
+
+        for (var phase : this.profiler.phases(StartupProfiler.BOOTSTRAP)) {
+            metrics.timer(STARTUP_PHASE, "phase", phase.name()).record(phase.duration());
+        }
+
+        metrics.timer(STARTUP_PHASE, "phase", "application_ready")
+                .record(this.profiler.uptimeNanos());
+
+        log.info(this.profiler.report(StartupProfiler.BOOTSTRAP, 0));
+
+        if (this.startup != null) {
+            this.startup.drainBufferedTimeline().getEvents().forEach(this::record);
+            log.info(this.profiler.report(BEAN, BEAN_REPORT_LIMIT));
+        }
+
+        String trace = System.getProperty(ApplicationBootstrap.KW_STARTUP_TRACE, "");
+
+        if (!trace.isBlank()) {
+
+            try {
+                this.profiler.writeTrace(Path.of(trace));
+                log.info("StartupProfiler: trace written to {}", trace);
+            } catch (IOException | RuntimeException e) {
+                log.warn("StartupProfiler: cannot write the trace {}: {}", trace, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Records a bean instantiation (the duration includes the dependencies created on the way).
+     */
+    private void record(TimelineEvent event) {
+        StartupStep step = event.getStartupStep();
+
+        if (BEAN_INSTANTIATE.equals(step.getName())) {
+            String bean = step.getName();
+
+            for (StartupStep.Tag tag : step.getTags()) {
+
+                if ("beanName".equals(tag.getKey())) {
+                    bean = tag.getValue();
+                }
+            }
+
+            // Timeline clock (wall) converted to the profiler clock (monotonic)
+            long ago = Duration.between(event.getStartTime(), Instant.now()).toNanos();
+            this.profiler.record(bean, BEAN, System.nanoTime() - ago, event.getDuration().toNanos());
+        }
+    }
+}
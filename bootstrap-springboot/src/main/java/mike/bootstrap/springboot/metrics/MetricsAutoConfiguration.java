@@ -0,0 +1,80 @@
+package mike.bootstrap.springboot.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import mike.bootstrap.utilities.metrics.MetricsExporter;
+import mike.bootstrap.utilities.metrics.MetricsRegistry;
+
+/**
+ * Expose the {@link MetricsRegistry#global() global metrics} (startup phases, controller
+ * requests, application metrics) and export them periodically to the {@link MetricsExporter}
+ * beans.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * container.metrics.enabled=true
+ * container.metrics.path=/metrics
+ * container.metrics.instrument-requests=true
+ * container.metrics.export-interval=1m
+ * </pre>
+ *
+ * @author Mike (2026-10)
+ */
+@Configuration
+@ConditionalOnProperty(name = MetricsProperties.ENABLED, matchIfMissing = false)
+class MetricsAutoConfiguration {
+
+    /**
+     * @return the global registry (with the process uptime)
+     */
+    @Bean(destroyMethod = "")
+    public MetricsRegistry metricsRegistry() {
+        var registry = MetricsRegistry.global();
+        var runtime = ManagementFactory.getRuntimeMXBean();
+        registry.gauge("process_uptime_seconds", () -> runtime.getUptime() / 1000d);
+
+        return registry;
+    }
+
+    @Bean
+    public MetricsLifecycle metricsLifecycle(MetricsRegistry registry,
+            MetricsProperties properties, ObjectProvider<MetricsExporter> exporters) {
+        return new MetricsLifecycle(registry, exporters.orderedStream().toList(),
+                properties.getExportInterval());
+    }
+
+    /**
+     * Controller requests instrumentation (the endpoint is the {@link MetricsEndpoint}).
+     */
+    @Configuration
+    @ConditionalOnClass(WebMvcConfigurer.class)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class WebMetricsConfiguration {
+
+        @Bean
+        public WebMvcConfigurer metricsWebMvcConfigurer(MetricsRegistry registry,
+                MetricsProperties properties) {
+
+            return new WebMvcConfigurer() {
+
+                @Override
+                public void addInterceptors(InterceptorRegistry interceptors) {
+
+                    if (properties.isInstrumentRequests()) {
+                        interceptors.addInterceptor(new RequestMetricsInterceptor(registry));
+                    }
+                }
+            };
+        }
+    }
+}
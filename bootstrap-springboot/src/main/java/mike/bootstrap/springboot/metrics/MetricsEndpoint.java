@@ -0,0 +1,31 @@
+package mike.bootstrap.springboot.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import mike.bootstrap.utilities.metrics.MetricsRegistry;
+import mike.bootstrap.utilities.metrics.PrometheusFormat;
+
+/**
+ * Expose the metrics in the Prometheus text format (path: container.metrics.path).
+ *
+ * @author Mike (2026-10)
+ */
+@RestController
+@ConditionalOnProperty(name = MetricsProperties.ENABLED, matchIfMissing = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+class MetricsEndpoint {
+
+    private final MetricsRegistry registry;
+
+    MetricsEndpoint(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @GetMapping(path = MetricsProperties.PATH, produces = PrometheusFormat.CONTENT_TYPE)
+    public String scrape() {
+        return PrometheusFormat.format(this.registry.snapshot());
+    }
+}
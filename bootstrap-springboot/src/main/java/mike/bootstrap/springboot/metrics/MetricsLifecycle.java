@@ -0,0 +1,41 @@
+package mike.bootstrap.springboot.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import mike.bootstrap.springboot.application.ContainerBootstrapReady;
+import mike.bootstrap.springboot.application.ContainerBootstrapShutdown;
+import mike.bootstrap.utilities.metrics.MetricsExporter;
+import mike.bootstrap.utilities.metrics.MetricsRegistry;
+
+/**
+ * Schedule the exporters when the application is ready, then cancel them on shutdown.
+ *
+ * @author Mike (2026-10)
+ */
+class MetricsLifecycle implements ContainerBootstrapReady, ContainerBootstrapShutdown {
+
+    private final MetricsRegistry registry;
+    private final List<MetricsExporter> exporters;
+    private final Duration interval;
+    private final List<ScheduledFuture<?>> scheduled = new ArrayList<>();
+
+    MetricsLifecycle(MetricsRegistry registry, List<MetricsExporter> exporters, Duration interval) {
+        this.registry = registry;
+        this.exporters = exporters;
+        this.interval = interval;
+    }
+
+    @Override
+    public void onContainerReady() {
+        this.exporters.forEach(e -> this.scheduled.add(this.registry.schedule(e, this.interval)));
+    }
+
+    @Override
+    public void onContainerShutdown() {
+        this.scheduled.forEach(future -> future.cancel(false));
+        this.scheduled.clear();
+    }
+}
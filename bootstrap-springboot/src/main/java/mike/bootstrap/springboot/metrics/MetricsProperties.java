@@ -0,0 +1,49 @@
+package mike.bootstrap.springboot.metrics;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics configuration (prefix: container.metrics).
+ *
+ * @author Mike (2026-10)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "container.metrics")
+@ConditionalOnProperty(name = MetricsProperties.ENABLED, matchIfMissing = false)
+class MetricsProperties {
+
+    static final String ENABLED = "container.metrics.enabled";
+    static final String PATH = "${container.metrics.path:/metrics}";
+
+    private String path = "/metrics";
+    private boolean instrumentRequests = true;
+    private Duration exportInterval = Duration.ofMinutes(1);
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public boolean isInstrumentRequests() {
+        return instrumentRequests;
+    }
+
+    public void setInstrumentRequests(boolean instrumentRequests) {
+        this.instrumentRequests = instrumentRequests;
+    }
+
+    public Duration getExportInterval() {
+        return exportInterval;
+    }
+
+    public void setExportInterval(Duration exportInterval) {
+        this.exportInterval = exportInterval;
+    }
+}
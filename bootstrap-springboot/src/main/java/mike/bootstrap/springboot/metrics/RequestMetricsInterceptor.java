@@ -0,0 +1,57 @@
+package mike.bootstrap.springboot.metrics;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import mike.bootstrap.utilities.metrics.MetricsRegistry;
+
+/**
+ * Time the controller requests (labels: method, uri pattern and status).
+ * <p>
+ * The uri label is the matched pattern (i.e. '/users/{id}'), never the raw path, to keep the
+ * number of timers bounded.
+ *
+ * @author Mike (2026-10)
+ */
+class RequestMetricsInterceptor implements HandlerInterceptor {
+
+    static final String REQUESTS = "http_server_requests_seconds";
+
+    private static final String START = RequestMetricsInterceptor.class.getName() + ".start";
+
+    private final MetricsRegistry registry;
+
+    RequestMetricsInterceptor(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START, System.nanoTime());
+        }
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+            Object handler, Exception ex) {
+
+        if (request.getAttribute(START) instanceof Long start) {
+            long elapsed = System.nanoTime() - start;
+            var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+            this.registry.timer(REQUESTS, "method", request.getMethod(), "uri",
+                    pattern == null ? "UNKNOWN" : pattern.toString(), "status",
+                    Integer.toString(ex != null && response.getStatus() < 400 ? 500
+                            : response.getStatus()))
+                    .record(elapsed);
+        }
+    }
+}
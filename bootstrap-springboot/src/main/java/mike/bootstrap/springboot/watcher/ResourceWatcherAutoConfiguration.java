@@ -0,0 +1,67 @@
+package mike.bootstrap.springboot.watcher;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import mike.bootstrap.utilities.exceptions.ApplicationErrorException;
+import mike.bootstrap.utilities.nio.files.ResourceWatcher;
+
+/**
+ * Watch the configured directories and notify the {@link ResourceWatcher.Listener} beans.
+ * <p>
+ * Example:
+ * 
+ * <pre>
+ * container.watcher.enabled=true
+ * container.watcher.directories=/data/inputs
+ * container.watcher.includes=*.csv,*.json
+ * container.watcher.debounce=1s
+ * </pre>
+ * 
+ * @author Mike (2026-10)
+ */
+@Configuration
+@ConditionalOnProperty(name = ResourceWatcherProperties.ENABLED, matchIfMissing = false)
+class ResourceWatcherAutoConfiguration {
+
+    /**
+     * @return the resource watcher, started when the application is ready
+     */
+    @Bean(destroyMethod = "")
+    public ResourceWatcher resourceWatcher(ResourceWatcherProperties properties,
+            ObjectProvider<ResourceWatcher.Listener> listeners) {
+
+        if (properties.getDirectories().isEmpty()) {
+            throw new ApplicationErrorException("ResourceWatcher: no such directories: %s",
+                    "container.watcher.directories");
+        }
+
+        var watcher = ResourceWatcher
+                .of(properties.getDirectories().stream().map(Path::of).toArray(Path[]::new))
+                .debounce(properties.getDebounce()).pollInterval(properties.getPollInterval());
+
+        properties.getIncludes().forEach(watcher::include);
+        properties.getExcludes().forEach(watcher::exclude);
+
+        if (properties.isRecursive()) {
+            watcher.recursive();
+        }
+
+        if (properties.isPolling()) {
+            watcher.polling();
+        }
+
+        listeners.orderedStream().forEach(watcher::listener);
+
+        return watcher;
+    }
+
+    @Bean
+    public ResourceWatcherLifecycle resourceWatcherLifecycle(ResourceWatcher watcher) {
+        return new ResourceWatcherLifecycle(watcher);
+    }
+}
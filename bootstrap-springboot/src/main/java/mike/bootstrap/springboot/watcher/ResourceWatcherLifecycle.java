@@ -0,0 +1,38 @@
+package mike.bootstrap.springboot.watcher;
+
+import java.io.IOException;
+
+import mike.bootstrap.springboot.application.ContainerBootstrapReady;
+import mike.bootstrap.springboot.application.ContainerBootstrapShutdown;
+import mike.bootstrap.utilities.exceptions.ApplicationErrorException;
+import mike.bootstrap.utilities.nio.files.ResourceWatcher;
+
+/**
+ * Start the resource watcher when the application is ready (the listeners are not notified before
+ * the business services are started) and close it on shutdown.
+ * 
+ * @author Mike (2026-10)
+ */
+class ResourceWatcherLifecycle implements ContainerBootstrapReady, ContainerBootstrapShutdown {
+
+    private final ResourceWatcher watcher;
+
+    ResourceWatcherLifecycle(ResourceWatcher watcher) {
+        this.watcher = watcher;
+    }
+
+    @Override
+    public void onContainerReady() {
+
+        try {
+            this.watcher.start();
+        } catch (IOException ioe) {
+            throw new ApplicationErrorException(ioe, "ResourceWatcher: %s", ioe.getMessage());
+        }
+    }
+
+    @Override
+    public void onContainerShutdown() {
+        this.watcher.close();
+    }
+}
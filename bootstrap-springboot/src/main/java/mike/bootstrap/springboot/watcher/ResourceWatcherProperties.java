@@ -0,0 +1,88 @@
+package mike.bootstrap.springboot.watcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import mike.bootstrap.utilities.nio.files.ResourceWatcher;
+
+/**
+ * Resource watcher configuration (prefix: container.watcher).
+ * 
+ * @author Mike (2026-10)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "container.watcher")
+@ConditionalOnProperty(name = ResourceWatcherProperties.ENABLED, matchIfMissing = false)
+class ResourceWatcherProperties {
+
+    static final String ENABLED = "container.watcher.enabled";
+
+    private List<String> directories = new ArrayList<>();
+    private List<String> includes = new ArrayList<>();
+    private List<String> excludes = new ArrayList<>();
+    private boolean recursive;
+    private boolean polling;
+    private Duration debounce = ResourceWatcher.DEFAULT_DEBOUNCE;
+    private Duration pollInterval = ResourceWatcher.DEFAULT_POLL_INTERVAL;
+
+    public List<String> getDirectories() {
+        return directories;
+    }
+
+    public void setDirectories(List<String> directories) {
+        this.directories = directories;
+    }
+
+    public List<String> getIncludes() {
+        return includes;
+    }
+
+    public void setIncludes(List<String> includes) {
+        this.includes = includes;
+    }
+
+    public List<String> getExcludes() {
+        return excludes;
+    }
+
+    public void setExcludes(List<String> excludes) {
+        this.excludes = excludes;
+    }
+
+    public boolean isRecursive() {
+        return recursive;
+    }
+
+    public void setRecursive(boolean recursive) {
+        this.recursive = recursive;
+    }
+
+    public boolean isPolling() {
+        return polling;
+    }
+
+    public void setPolling(boolean polling) {
+        this.polling = polling;
+    }
+
+    public Duration getDebounce() {
+        return debounce;
+    }
+
+    public void setDebounce(Duration debounce) {
+        this.debounce = debounce;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+}
@@ -2,6 +2,8 @@ package mike.bootstrap.utilities.helpers;
 
 import java.nio.file.attribute.FileTime;
 import java.sql.Timestamp;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -9,7 +11,10 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
 import java.util.Date;
+import java.util.Objects;
 
 /**
  * Date converter/formatter helpers
@@ -30,6 +35,13 @@ public class Dates {
     public static final DateTimeFormatter LOG_DTTM_NANO = DateTimeFormatter
             .ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
 
+    /** Cached {@link #ISO_DTTM_NANO_OFFSET} in the system default zone */
+    private static final TimestampFormatter ISO_TIMESTAMP = TimestampFormatter
+            .of(ISO_DTTM_NANO_OFFSET);
+
+    /** Cached {@link #LOG_DTTM_NANO} in the system default zone */
+    private static final TimestampFormatter LOG_TIMESTAMP = TimestampFormatter.of(LOG_DTTM_NANO);
+
     /**
      * Private constructor (Prevent any instantiation)
      */
@@ -48,7 +60,7 @@ public class Dates {
      * @see #LOG_DTTM_NANO
      */
     public static String dLogNano() {
-        return Dates.dNow(LOG_DTTM_NANO);
+        return LOG_TIMESTAMP.now();
     }
 
     /**
@@ -88,7 +100,7 @@ public class Dates {
      * @see Dates#ISO_DTTM_NANO_OFFSET
      */
     public static String zNow() {
-        return Dates.zNow(ISO_DTTM_NANO_OFFSET);
+        return ISO_TIMESTAMP.now();
     }
 
     /**
@@ -159,7 +171,7 @@ public class Dates {
      * @see Dates#ISO_DTTM_NANO_OFFSET
      */
     public static String format(FileTime fileTime) {
-        return Dates.format(fileTime, Dates.ISO_DTTM_NANO_OFFSET);
+        return ISO_TIMESTAMP.format(fileTime.toMillis());
     }
 
     /**
@@ -168,7 +180,7 @@ public class Dates {
      * @return the given FileTime formatted with the given format
      */
     public static String format(FileTime fileTime, DateTimeFormatter formatter) {
-        return formatter.withZone(ZoneId.systemDefault()).format(fileTime.toInstant());
+        return Dates.zoned(formatter).format(fileTime.toInstant());
     }
 
     /**
@@ -177,7 +189,7 @@ public class Dates {
      * @see Dates#ISO_DTTM_NANO_OFFSET
      */
     public static String format(Date date) {
-        return Dates.format(date, Dates.ISO_DTTM_NANO_OFFSET);
+        return ISO_TIMESTAMP.format(date.getTime());
     }
 
     /**
@@ -186,7 +198,7 @@ public class Dates {
      * @return the given Date with the given format
      */
     public static String format(Date date, DateTimeFormatter formatter) {
-        return formatter.withZone(ZoneId.systemDefault()).format(date.toInstant());
+        return Dates.zoned(formatter).format(date.toInstant());
     }
 
     /**
@@ -195,7 +207,7 @@ public class Dates {
      * @see Dates#ISO_DTTM_NANO_OFFSET
      */
     public static String format(long epochMillis) {
-        return Dates.format(epochMillis, Dates.ISO_DTTM_NANO_OFFSET);
+        return ISO_TIMESTAMP.format(epochMillis);
     }
 
     /**
@@ -203,7 +215,7 @@ public class Dates {
      * @return the given Epoch formatted with the given format
      */
     public static String format(long epochMillis, DateTimeFormatter formatter) {
-        return formatter.withZone(ZoneId.systemDefault()).format(Instant.ofEpochMilli(epochMillis));
+        return Dates.zoned(formatter).format(Instant.ofEpochMilli(epochMillis));
     }
 
     /**
@@ -308,20 +320,244 @@ public class Dates {
 
     /**
      * Verifies that the value has a valid format regarding the given formatter.
+     * <p>
+     * {@link DateTimeFormatter#ISO_LOCAL_DATE}, {@link DateTimeFormatter#BASIC_ISO_DATE},
+     * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} and {@link #ISO_DTTM_NANO_OFFSET} are
+     * validated without the formatter. The other formats are only resolved by the formatter once
+     * the value is structurally parsed, so no exception is thrown for malformed values.
      * 
-     * @param value     a date(time) value
+     * @param value     a date(time) value (may be null)
      * @param formatter the format to validate
      * @return true is the date value can be parse otherwise false
      * @see DateTimeFormatter#parse(CharSequence)
      */
     public static boolean isValid(String value, DateTimeFormatter formatter) {
 
+        if (value == null) {
+            return false;
+        }
+
+        int length = value.length();
+
+        if (formatter == DateTimeFormatter.ISO_LOCAL_DATE && !Dates.isExtendedYear(value, 0)) {
+            return IsoDateParser.localDate(value, 0, length) != IsoDateParser.INVALID_DATE;
+        } else if (formatter == DateTimeFormatter.BASIC_ISO_DATE && length == 8) {
+            return IsoDateParser.basicDate(value, 0, length) != IsoDateParser.INVALID_DATE;
+        } else if (formatter == DateTimeFormatter.ISO_LOCAL_DATE_TIME
+                && !Dates.isExtendedYear(value, 0)) {
+            return IsoDateParser.localDateTime(value, 0, length) != IsoDateParser.INVALID;
+        } else if (formatter == ISO_DTTM_NANO_OFFSET && !Dates.isExtendedYear(value, 0)) {
+
+            if (value.startsWith("0000")) {
+                // Year of era pattern: no year 0
+                return false;
+            } else if (IsoDateParser.offsetDateTime(value, 0, length) != IsoDateParser.INVALID) {
+                return true;
+            } else if (!Dates.isEndOfMonthDay(value)) {
+                return false;
+            }
+
+            // Days 29 to 31 beyond the end of the month are resolved to the last day of the
+            // month by the pattern formatter (smart resolver)
+        }
+
+        return Dates.parse(value, formatter) != null;
+    }
+
+    /**
+     * Parses an ISO date ({@link DateTimeFormatter#ISO_LOCAL_DATE} or
+     * {@link DateTimeFormatter#BASIC_ISO_DATE}) into a primitive packed date (i.e. 20261018 for
+     * 2026-10-18), without exception nor intermediate object for 4 digits years.
+     *
+     * @param value  sequence holding the date
+     * @param offset position of the first character
+     * @param length number of characters
+     * @return the date packed as yyyyMMdd or -1 if not a valid date
+     * @throws IndexOutOfBoundsException if the range is out of the sequence bounds
+     * @see #toLocalDate(int)
+     */
+    public static int toPackedDate(CharSequence value, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, value.length());
+        int to = offset + length;
+
+        if (length == 10) {
+            return IsoDateParser.localDate(value, offset, to);
+        } else if (length == 8) {
+            return IsoDateParser.basicDate(value, offset, to);
+        }
+
+        // Unusual: extended year or basic date with offset
+        var formatter = Dates.isExtendedYear(value, offset) ? DateTimeFormatter.ISO_LOCAL_DATE
+                : DateTimeFormatter.BASIC_ISO_DATE;
+        var parsed = Dates.parse(value.subSequence(offset, to), formatter);
+
+        if (parsed == null || parsed.get(ChronoField.YEAR) < 0) {
+            return IsoDateParser.INVALID_DATE;
+        }
+
+        return parsed.get(ChronoField.YEAR) * 10000 + parsed.get(ChronoField.MONTH_OF_YEAR) * 100
+                + parsed.get(ChronoField.DAY_OF_MONTH);
+    }
+
+    /**
+     * @param value  ASCII bytes holding the date
+     * @param offset position of the first byte
+     * @param length number of bytes
+     * @return the date packed as yyyyMMdd or -1 if not a valid date
+     * @see #toPackedDate(CharSequence, int, int)
+     */
+    public static int toPackedDate(byte[] value, int offset, int length) {
+        return Dates.toPackedDate(IsoDateParser.ascii(value), offset, length);
+    }
+
+    /**
+     * @param packedDate a date packed as yyyyMMdd
+     * @return the local date
+     * @throws DateTimeException if the packed date is invalid
+     * @see #toPackedDate(CharSequence, int, int)
+     */
+    public static LocalDate toLocalDate(int packedDate) {
+        return LocalDate.of(packedDate / 10000, packedDate / 100 % 100, packedDate % 100);
+    }
+
+    /**
+     * Parses an ISO date time into epoch milliseconds, without exception nor intermediate object
+     * for the usual layouts:
+     * <ul>
+     * <li>{@link #ISO_DTTM_NANO_OFFSET} (i.e. '2026-10-18T15:34:56.345+02:00')</li>
+     * <li>{@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} in the system default zone (i.e.
+     * '2026-10-18T15:34:56.345')</li>
+     * <li>{@link DateTimeFormatter#ISO_LOCAL_DATE} or {@link DateTimeFormatter#BASIC_ISO_DATE},
+     * at the start of the day in the system default zone</li>
+     * </ul>
+     * The other layouts (extended years, offset date times without seconds or milliseconds...)
+     * are parsed by {@link DateTimeFormatter#ISO_DATE_TIME}. The fraction of second is truncated to
+     * the millisecond.
+     *
+     * @param value    sequence holding the date time
+     * @param offset   position of the first character
+     * @param length   number of characters
+     * @param defValue default value if not a valid date time
+     * @return the epoch milliseconds or the default value
+     * @throws IndexOutOfBoundsException if the range is out of the sequence bounds
+     */
+    public static long toEpochMillis(CharSequence value, int offset, int length, long defValue) {
+        Objects.checkFromIndexSize(offset, length, value.length());
+        int to = offset + length;
+        long millis = IsoDateParser.offsetDateTime(value, offset, to);
+
+        if (millis != IsoDateParser.INVALID) {
+            return millis;
+        }
+
+        millis = IsoDateParser.localDateTime(value, offset, to);
+
+        if (millis == IsoDateParser.INVALID && (length == 8 || length == 10)) {
+            int date = length == 8 ? IsoDateParser.basicDate(value, offset, to)
+                    : IsoDateParser.localDate(value, offset, to);
+            return date != IsoDateParser.INVALID_DATE ? IsoDateParser.toEpochMillis(
+                    IsoDateParser.localMillis(date, 0), ZoneId.systemDefault()) : defValue;
+        }
+
+        if (millis != IsoDateParser.INVALID) {
+            return IsoDateParser.toEpochMillis(millis, ZoneId.systemDefault());
+        } else if (!Dates.isExtendedYear(value, offset) && !Dates.isZoned(value, offset, to)) {
+            return defValue;
+        }
+
+        // Unusual layout
+        var parsed = Dates.parse(value.subSequence(offset, to), DateTimeFormatter.ISO_DATE_TIME);
+
+        if (parsed == null) {
+            return defValue;
+        } else if (parsed.isSupported(ChronoField.INSTANT_SECONDS)) {
+            return Instant.from(parsed).toEpochMilli();
+        }
+
+        return LocalDateTime.from(parsed).atZone(ZoneId.systemDefault()).toInstant()
+                .toEpochMilli();
+    }
+
+    /**
+     * @param value    ASCII bytes holding the date time
+     * @param offset   position of the first byte
+     * @param length   number of bytes
+     * @param defValue default value if not a valid date time
+     * @return the epoch milliseconds or the default value
+     * @see #toEpochMillis(CharSequence, int, int, long)
+     */
+    public static long toEpochMillis(byte[] value, int offset, int length, long defValue) {
+        return Dates.toEpochMillis(IsoDateParser.ascii(value), offset, length, defValue);
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    /**
+     * @return the resolved value or null if the value cannot be parsed (the formatter is only
+     *         called once the value is structurally valid, to avoid most exceptions)
+     */
+    private static TemporalAccessor parse(CharSequence value, DateTimeFormatter formatter) {
+        var position = new ParsePosition(0);
+
+        if (formatter.parseUnresolved(value, position) == null
+                || position.getIndex() != value.length()) {
+            return null;
+        }
+
         try {
-            formatter.parse(value);
+            return formatter.parse(value);
         } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * @return true if the date time has an offset or a zone (after the date)
+     */
+    private static boolean isZoned(CharSequence value, int from, int to) {
+
+        for (int i = from + 10; i < to; i++) {
+            char c = value.charAt(i);
+
+            if (c == 'Z' || c == 'z' || c == '+' || c == '-' || c == '[') {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return true if the day of the 'yyyy-MM-dd' date is 29, 30 or 31
+     */
+    private static boolean isEndOfMonthDay(CharSequence value) {
+
+        if (value.length() < 10) {
             return false;
         }
 
-        return true;
+        char tens = value.charAt(8);
+        char units = value.charAt(9);
+
+        return tens == '2' && units == '9' || tens == '3' && (units == '0' || units == '1');
+    }
+
+    private static boolean isExtendedYear(CharSequence value, int offset) {
+        return value.length() > offset
+                && (value.charAt(offset) == '+' || value.charAt(offset) == '-');
+    }
+
+    /**
+     * @return the formatter with a zone (the zoned constants are created once)
+     */
+    private static DateTimeFormatter zoned(DateTimeFormatter formatter) {
+
+        if (formatter == ISO_DTTM_NANO_OFFSET) {
+            return ISO_TIMESTAMP.formatter();
+        } else if (formatter == LOG_DTTM_NANO) {
+            return LOG_TIMESTAMP.formatter();
+        }
+
+        return formatter.getZone() != null ? formatter : formatter.withZone(ZoneId.systemDefault());
     }
 }
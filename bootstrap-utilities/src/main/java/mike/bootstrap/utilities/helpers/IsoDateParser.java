@@ -0,0 +1,346 @@
+package mike.bootstrap.utilities.helpers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Hand-rolled parsers of the ISO layouts used by {@link Dates}, validating without any
+ * exception nor intermediate object:
+ * <ul>
+ * <li>{@code yyyy-MM-dd} ({@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE})</li>
+ * <li>{@code yyyyMMdd} ({@link java.time.format.DateTimeFormatter#BASIC_ISO_DATE} without
+ * offset)</li>
+ * <li>{@code yyyy-MM-ddTHH:mm[:ss[.fraction]]}
+ * ({@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME})</li>
+ * <li>{@code yyyy-MM-ddTHH:mm:ss.SSS(Z|+HH:MM[:SS])} ({@link Dates#ISO_DTTM_NANO_OFFSET})</li>
+ * </ul>
+ * Only 4 digits years are handled, the other forms are left to the formatters.
+ *
+ * @author Mike (2026-10)
+ */
+final class IsoDateParser {
+
+    static final int INVALID_DATE = -1;
+    static final long INVALID = Long.MIN_VALUE;
+
+    /** Days from 0000-01-01 to 1970-01-01 */
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    private static final int MAX_OFFSET = 18 * 3600;
+
+    private static final int[] POW10 = { 1, 10, 100, 1000, 10_000, 100_000, 1_000_000 };
+
+    /** Last local time range with a single offset in a zone */
+    private static volatile OffsetWindow window = new OffsetWindow(null, 0, 0, 0);
+
+    /**
+     * Private constructor (Prevent any instantiation)
+     */
+    private IsoDateParser() {}
+
+    /**
+     * @return the date packed as yyyyMMdd or -1 if not a valid 'yyyy-MM-dd' date
+     */
+    static int localDate(CharSequence value, int from, int to) {
+
+        if (to - from != 10 || value.charAt(from + 4) != '-' || value.charAt(from + 7) != '-') {
+            return INVALID_DATE;
+        }
+
+        return IsoDateParser.date(IsoDateParser.digits(value, from, 4),
+                IsoDateParser.digits(value, from + 5, 2), IsoDateParser.digits(value, from + 8, 2));
+    }
+
+    /**
+     * @return the date packed as yyyyMMdd or -1 if not a valid 'yyyyMMdd' date
+     */
+    static int basicDate(CharSequence value, int from, int to) {
+
+        if (to - from != 8) {
+            return INVALID_DATE;
+        }
+
+        return IsoDateParser.date(IsoDateParser.digits(value, from, 4),
+                IsoDateParser.digits(value, from + 4, 2), IsoDateParser.digits(value, from + 6, 2));
+    }
+
+    /**
+     * @return the local date time as milliseconds from 1970-01-01T00:00 (no zone) or
+     *         {@link #INVALID} if not a valid 'yyyy-MM-ddTHH:mm[:ss[.fraction]]' date time
+     */
+    static long localDateTime(CharSequence value, int from, int to) {
+
+        if (to - from < 16 || !IsoDateParser.isTimeSeparator(value.charAt(from + 10))) {
+            return INVALID;
+        }
+
+        int date = IsoDateParser.localDate(value, from, from + 10);
+        long millis = IsoDateParser.time(value, from + 11, to, false);
+
+        return date != INVALID_DATE && millis >= 0 ? IsoDateParser.localMillis(date, millis)
+                : INVALID;
+    }
+
+    /**
+     * @return the epoch milliseconds or {@link #INVALID} if not a valid
+     *         'yyyy-MM-ddTHH:mm:ss.SSS(Z|+HH:MM[:SS])' date time
+     */
+    static long offsetDateTime(CharSequence value, int from, int to) {
+
+        if (to - from < 24 || value.charAt(from + 10) != 'T') {
+            return INVALID;
+        }
+
+        int date = IsoDateParser.localDate(value, from, from + 10);
+        long millis = IsoDateParser.time(value, from + 11, from + 23, true);
+        int offset = IsoDateParser.offset(value, from + 23, to);
+
+        if (date == INVALID_DATE || millis < 0 || offset == Integer.MIN_VALUE) {
+            return INVALID;
+        }
+
+        return IsoDateParser.localMillis(date, millis) - offset * 1000L;
+    }
+
+    /**
+     * Converts a local date time to epoch milliseconds as {@link LocalDateTime#atZone(ZoneId)}
+     * does (gaps shifted forward, overlaps resolved with the earlier offset). The offset is cached
+     * for the range of local times where it is the only valid one.
+     *
+     * @param localMillis milliseconds from 1970-01-01T00:00 (no zone)
+     * @param zone        the zone of the local time
+     * @return the epoch milliseconds
+     */
+    static long toEpochMillis(long localMillis, ZoneId zone) {
+        long local = Math.floorDiv(localMillis, 1000);
+        var cached = window;
+
+        if (zone.equals(cached.zone) && local >= cached.from && local < cached.to) {
+            return localMillis - cached.offset * 1000L;
+        }
+
+        var zoned = LocalDateTime.ofEpochSecond(local, 0, ZoneOffset.UTC).atZone(zone);
+        var rules = zone.getRules();
+        long epoch = zoned.toEpochSecond();
+        var previous = rules.previousTransition(Instant.ofEpochSecond(epoch + 1));
+        var next = rules.nextTransition(Instant.ofEpochSecond(epoch));
+
+        long from = previous == null ? Long.MIN_VALUE
+                : previous.toEpochSecond() + Math.max(previous.getOffsetBefore().getTotalSeconds(),
+                        previous.getOffsetAfter().getTotalSeconds());
+        long to = next == null ? Long.MAX_VALUE
+                : next.toEpochSecond() + Math.min(next.getOffsetBefore().getTotalSeconds(),
+                        next.getOffsetAfter().getTotalSeconds());
+
+        if (local >= from && local < to) {
+            window = new OffsetWindow(zone, from, to, zoned.getOffset().getTotalSeconds());
+        }
+
+        return epoch * 1000 + Math.floorMod(localMillis, 1000);
+    }
+
+    /**
+     * @param date        a date packed as yyyyMMdd
+     * @param millisOfDay the millisecond of the day
+     * @return the milliseconds from 1970-01-01T00:00 (no zone)
+     */
+    static long localMillis(int date, long millisOfDay) {
+        return IsoDateParser.epochDay(date / 10000, date / 100 % 100, date % 100) * 86_400_000L
+                + millisOfDay;
+    }
+
+    /**
+     * @return a char sequence view of the bytes (ISO-8859-1)
+     */
+    static CharSequence ascii(byte[] value) {
+        return new AsciiSequence(value);
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    /**
+     * @return the packed date or -1 if invalid
+     */
+    private static int date(int year, int month, int day) {
+
+        if (year < 0 || month < 1 || month > 12 || day < 1) {
+            return INVALID_DATE;
+        }
+
+        int length = switch (month) {
+            case 2 -> IsoDateParser.isLeap(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+
+        return day <= length ? year * 10000 + month * 100 + day : INVALID_DATE;
+    }
+
+    /**
+     * Parses 'HH:mm[:ss[.fraction]]' up to the end, or 'HH:mm:ss.SSS' strictly (where 24:00 is
+     * accepted as the end of day, as the pattern formatters do).
+     *
+     * @return the millisecond of day or -1 if invalid
+     */
+    private static long time(CharSequence value, int from, int to, boolean strict) {
+
+        if (to - from < 5 || value.charAt(from + 2) != ':') {
+            return -1;
+        }
+
+        int hour = IsoDateParser.digits(value, from, 2);
+        int minute = IsoDateParser.digits(value, from + 3, 2);
+        int second = 0;
+        int millis = 0;
+        int i = from + 5;
+
+        if (i < to) {
+
+            if (to - i < 3 || value.charAt(i) != ':') {
+                return -1;
+            }
+
+            second = IsoDateParser.digits(value, i + 1, 2);
+            i += 3;
+
+            if (i < to && value.charAt(i) == '.') {
+                int digits = to - i - 1;
+
+                if (digits > 9 || strict && digits != 3) {
+                    return -1;
+                }
+
+                int fraction = IsoDateParser.digits(value, i + 1, digits);
+
+                if (fraction < 0) {
+                    return -1;
+                }
+
+                // Truncated to the millisecond
+                millis = digits > 3 ? fraction / POW10[digits - 3] : fraction * POW10[3 - digits];
+                i = to;
+            }
+        } else if (strict) {
+            return -1;
+        }
+
+        if (i != to || minute < 0 || minute > 59 || second < 0 || second > 59 || millis < 0) {
+            return -1;
+        }
+
+        if (hour == 24 && strict && minute == 0 && second == 0 && millis == 0) {
+            return 24 * 3600_000L;
+        }
+
+        return hour >= 0 && hour <= 23 ? (hour * 3600 + minute * 60 + second) * 1000L + millis : -1;
+    }
+
+    /**
+     * @return the offset seconds ('Z', '+HH:MM' or '+HH:MM:SS') or Integer.MIN_VALUE if invalid
+     */
+    private static int offset(CharSequence value, int from, int to) {
+
+        if (to - from == 1 && value.charAt(from) == 'Z') {
+            return 0;
+        }
+
+        if (to - from != 6 && to - from != 9 || value.charAt(from + 3) != ':') {
+            return Integer.MIN_VALUE;
+        }
+
+        char sign = value.charAt(from);
+        int hours = IsoDateParser.digits(value, from + 1, 2);
+        int minutes = IsoDateParser.digits(value, from + 4, 2);
+        int seconds = 0;
+
+        if (to - from == 9) {
+            seconds = value.charAt(from + 6) == ':' ? IsoDateParser.digits(value, from + 7, 2) : -1;
+        }
+
+        int offset = hours * 3600 + minutes * 60 + seconds;
+
+        if (sign != '+' && sign != '-' || hours < 0 || minutes < 0 || minutes > 59 || seconds < 0
+                || seconds > 59 || offset > MAX_OFFSET) {
+            return Integer.MIN_VALUE;
+        }
+
+        return sign == '-' ? -offset : offset;
+    }
+
+    /**
+     * @return the value of the ASCII digits or -1 if any is not a digit
+     */
+    private static int digits(CharSequence value, int from, int count) {
+        int result = 0;
+
+        for (int i = from; i < from + count; i++) {
+            int digit = value.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+
+            result = result * 10 + digit;
+        }
+
+        return result;
+    }
+
+    private static boolean isTimeSeparator(char c) {
+        return c == 'T' || c == 't';
+    }
+
+    private static boolean isLeap(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+
+    /**
+     * Same computation as {@link java.time.LocalDate#toEpochDay()} for positive years.
+     */
+    private static long epochDay(long year, int month, int day) {
+        long total = 365 * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400
+                + (367 * month - 362) / 12 + day - 1;
+
+        if (month > 2) {
+            total -= IsoDateParser.isLeap((int) year) ? 1 : 2;
+        }
+
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Local time range [from, to[ (seconds from 1970-01-01T00:00) with a single valid offset
+     */
+    private record OffsetWindow(ZoneId zone, long from, long to, int offset) {}
+
+    /**
+     * ISO-8859-1 view of bytes (no copy)
+     */
+    private record AsciiSequence(byte[] bytes) implements CharSequence {
+
+        @Override
+        public int length() {
+            return this.bytes.length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (this.bytes[index] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(this.bytes, start, end - start,
+                    StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public String toString() {
+            return new String(this.bytes, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
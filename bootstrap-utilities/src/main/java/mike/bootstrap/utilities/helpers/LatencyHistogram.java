@@ -0,0 +1,286 @@
+package mike.bootstrap.utilities.helpers;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear histogram of durations (HDR style), recording without lock nor allocation.
+ * <p>
+ * The values below 2^precision are counted exactly, above each power of two is split into
+ * 2^(precision-1) buckets, so the relative error of the reported values is at most
+ * 1/2^(precision-1) (0.8% with the default precision of 8 bits).
+ *
+ * <pre>
+ * var histogram = LatencyHistogram.of();
+ * var stopwatch = Stopwatch.start(histogram);
+ * ...
+ * stopwatch.stop();
+ * var snapshot = histogram.snapshot();
+ * log.info("p50: {} ns, p99: {} ns", snapshot.p50(), snapshot.p99());
+ * </pre>
+ *
+ * @author Mike (2026-10)
+ */
+public final class LatencyHistogram {
+
+    private static final int DEFAULT_PRECISION = 8;
+
+    private final int precision;
+    private final AtomicLongArray counts;
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    private LatencyHistogram(int precision) {
+        this.precision = precision;
+        this.counts = new AtomicLongArray(LatencyHistogram.bucketCount(precision));
+    }
+
+    /**
+     * @return a new histogram with a precision of 8 bits (relative error below 1%)
+     */
+    public static LatencyHistogram of() {
+        return new LatencyHistogram(DEFAULT_PRECISION);
+    }
+
+    /**
+     * @param precision number of bits of the exactly counted values (from 2 to 10)
+     * @return a new histogram
+     * @throws IllegalArgumentException if the precision is out of range
+     */
+    public static LatencyHistogram of(int precision) {
+        PreConditions.test(precision >= 2 && precision <= 10,
+                "The precision must be between 2 and 10 bits: %d", precision);
+        return new LatencyHistogram(precision);
+    }
+
+    /**
+     * @return the number of bits of the exactly counted values
+     */
+    public int precision() {
+        return this.precision;
+    }
+
+    /**
+     * @param value the value to record (i.e. nanoseconds), negative values are recorded as 0
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+
+        this.counts.incrementAndGet(LatencyHistogram.index(v, this.precision));
+        this.sum.add(v);
+        this.min.accumulate(v);
+        this.max.accumulate(v);
+    }
+
+    /**
+     * Clears the recorded values (the values recorded concurrently may be partially kept).
+     */
+    public void reset() {
+
+        for (int i = 0; i < this.counts.length(); i++) {
+            this.counts.set(i, 0);
+        }
+
+        this.sum.reset();
+        this.min.reset();
+        this.max.reset();
+    }
+
+    /**
+     * @return a copy of the recorded values
+     */
+    public Snapshot snapshot() {
+        var copy = new long[this.counts.length()];
+        long count = 0;
+
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = this.counts.get(i);
+            count += copy[i];
+        }
+
+        return new Snapshot(this.precision, copy, count, this.sum.sum(),
+                count > 0 ? this.min.get() : 0, count > 0 ? this.max.get() : 0);
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private static int bucketCount(int precision) {
+        return LatencyHistogram.index(Long.MAX_VALUE, precision) + 1;
+    }
+
+    private static int index(long value, int precision) {
+        long linear = 1L << precision;
+
+        if (value < linear) {
+            return (int) value;
+        }
+
+        int octave = 63 - Long.numberOfLeadingZeros(value);
+        int shift = octave - precision + 1;
+        int half = 1 << (precision - 1);
+
+        return (int) (linear + (long) (octave - precision) * half + (value >>> shift) - half);
+    }
+
+    /**
+     * @return the highest value counted in the bucket
+     */
+    private static long highest(int index, int precision) {
+        int linear = 1 << precision;
+
+        if (index < linear) {
+            return index;
+        }
+
+        int half = 1 << (precision - 1);
+        int shift = (index - linear) / half + 1;
+        long lowest = (long) (half + (index - linear) % half) << shift;
+
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Immutable copy of the recorded values, mergeable with the snapshots of the same precision
+     * (i.e. one histogram per thread or per node).
+     */
+    public static final class Snapshot {
+
+        private final int precision;
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long min;
+        private final long max;
+
+        private Snapshot(int precision, long[] counts, long count, long sum, long min, long max) {
+            this.precision = precision;
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * @return the number of recorded values
+         */
+        public long count() {
+            return this.count;
+        }
+
+        /**
+         * @return the sum of the recorded values
+         */
+        public long sum() {
+            return this.sum;
+        }
+
+        /**
+         * @return the lowest recorded value (0 if empty)
+         */
+        public long min() {
+            return this.min;
+        }
+
+        /**
+         * @return the highest recorded value (0 if empty)
+         */
+        public long max() {
+            return this.max;
+        }
+
+        /**
+         * @return the mean of the recorded values (0 if empty)
+         */
+        public double mean() {
+            return this.count > 0 ? (double) this.sum / this.count : 0;
+        }
+
+        /**
+         * @param percentile the percentile (from 0 to 100)
+         * @return the value (bucket upper bound, capped by the max.) at or below which the given
+         *         percentage of the recorded values fall (0 if empty)
+         * @throws IllegalArgumentException if the percentile is out of range
+         */
+        public long percentile(double percentile) {
+            PreConditions.test(percentile >= 0 && percentile <= 100,
+                    "The percentile must be between 0 and 100: %s", percentile);
+
+            if (this.count == 0) {
+                return 0;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * this.count));
+            long seen = 0;
+
+            for (int i = 0; i < this.counts.length; i++) {
+                seen += this.counts[i];
+
+                if (seen >= rank) {
+                    return Math.max(this.min,
+                            Math.min(this.max, LatencyHistogram.highest(i, this.precision)));
+                }
+            }
+
+            return this.max;
+        }
+
+        /**
+         * @return the median
+         */
+        public long p50() {
+            return this.percentile(50);
+        }
+
+        /**
+         * @return the 99th percentile
+         */
+        public long p99() {
+            return this.percentile(99);
+        }
+
+        /**
+         * @return the 99.9th percentile
+         */
+        public long p999() {
+            return this.percentile(99.9);
+        }
+
+        /**
+         * @param other another snapshot of the same precision
+         * @return a new snapshot holding the values of both
+         * @throws IllegalArgumentException if the precisions differ
+         */
+        public Snapshot merge(Snapshot other) {
+            PreConditions.notNull(other, "The snapshot to merge cannot be null");
+            PreConditions.test(other.precision == this.precision,
+                    "Cannot merge snapshots of different precisions: %d/%d", this.precision,
+                    other.precision);
+
+            if (other.count == 0) {
+                return this;
+            } else if (this.count == 0) {
+                return other;
+            }
+
+            var merged = Arrays.copyOf(this.counts, this.counts.length);
+
+            for (int i = 0; i < merged.length; i++) {
+                merged[i] += other.counts[i];
+            }
+
+            return new Snapshot(this.precision, merged, this.count + other.count,
+                    this.sum + other.sum, Math.min(this.min, other.min),
+                    Math.max(this.max, other.max));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d, min=%d, p50=%d, p99=%d, p999=%d, max=%d", this.count,
+                    this.min, this.p50(), this.p99(), this.p999(), this.max);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package mike.bootstrap.utilities.helpers;
+
+import java.math.BigDecimal;
+
+/**
+ * Decimal number scanner: validates a number without throwing any exception and keeps its
+ * unscaled value when it fits in a long.
+ * <p>
+ * Accepted format: {@code [+-]digits[.digits][(e|E)[+-]digits]} (the integer or the fraction
+ * digits may be omitted, not both), surrounding white spaces are ignored. {@code NaN} and
+ * {@code Infinity} are recognized as {@link #special} values.
+ *
+ * @author Mike (2026-10)
+ */
+final class NumberScanner {
+
+    /** Max. number of significant digits held by {@link #unscaled} */
+    static final int MAX_LONG_DIGITS = 18;
+
+    /** Max. number of significant digits exactly represented by a double */
+    private static final int MAX_DOUBLE_DIGITS = 15;
+
+    /** Exponent bound (far beyond any BigDecimal scale) */
+    private static final long MAX_EXPONENT = 10_000_000_000L;
+
+    /** Powers of ten exactly represented by a double */
+    private static final double[] POW10 = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+            1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    /** First and last (exclusive) positions of the number (white spaces excluded) */
+    int from;
+    int to;
+
+    boolean negative;
+
+    /** Unscaled value (without sign), valid if {@link #digits} is at most 18 */
+    long unscaled;
+
+    /** Number of significant digits (leading zeros excluded) */
+    int digits;
+
+    /** Scale of the unscaled value (fraction digits minus exponent) */
+    long scale;
+
+    /** NaN or Infinity (not a decimal) */
+    boolean special;
+
+    /**
+     * @param value  the value to scan
+     * @param offset position of the first character
+     * @param length number of characters
+     * @return true if the range holds a valid number
+     */
+    boolean scan(CharSequence value, int offset, int length) {
+        int from = offset;
+        int to = offset + length;
+
+        while (from < to && Character.isWhitespace(value.charAt(from))) {
+            from++;
+        }
+
+        while (to > from && Character.isWhitespace(value.charAt(to - 1))) {
+            to--;
+        }
+
+        this.from = from;
+        this.to = to;
+        this.negative = false;
+        this.unscaled = 0;
+        this.digits = 0;
+        this.scale = 0;
+        this.special = false;
+
+        if (from == to) {
+            return false;
+        }
+
+        int i = from;
+        char c = value.charAt(i);
+
+        if (c == '-' || c == '+') {
+            this.negative = c == '-';
+            i++;
+        }
+
+        if (NumberScanner.matches(value, i, to, "NaN")
+                || NumberScanner.matches(value, i, to, "Infinity")) {
+            this.special = true;
+            return true;
+        }
+
+        boolean any = false;
+        boolean fraction = false;
+
+        for (; i < to; i++) {
+            c = value.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                any = true;
+
+                if (fraction) {
+                    this.scale++;
+                }
+
+                if (this.digits > 0 || c != '0') {
+                    this.digits++;
+
+                    if (this.digits <= MAX_LONG_DIGITS) {
+                        this.unscaled = this.unscaled * 10 + (c - '0');
+                    }
+                }
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+
+        if (!any) {
+            return false;
+        }
+
+        if (i < to && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+            long exponent = NumberScanner.exponent(value, i + 1, to);
+
+            if (exponent == Long.MIN_VALUE) {
+                return false;
+            }
+
+            this.scale -= exponent;
+            i = to;
+        }
+
+        return i == to;
+    }
+
+    /**
+     * Converts the last valid scanned number. Up to 15 significant digits and a scale of 22, the
+     * value is computed with a single correctly rounded operation, otherwise the JDK parser is
+     * called on the (already validated) number.
+     *
+     * @param value the scanned value
+     * @return the double value
+     */
+    double toDouble(CharSequence value) {
+
+        if (this.special) {
+            var infinite = value.charAt(this.to - 1) == 'y';
+            return !infinite ? Double.NaN
+                    : this.negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+
+        if (this.digits <= MAX_DOUBLE_DIGITS && Math.abs(this.scale) < POW10.length) {
+            double number = this.unscaled;
+            number = this.scale >= 0 ? number / POW10[(int) this.scale]
+                    : number * POW10[(int) -this.scale];
+            return this.negative ? -number : number;
+        }
+
+        return Double.parseDouble(value.subSequence(this.from, this.to).toString());
+    }
+
+    /**
+     * Converts the last valid scanned number.
+     *
+     * @param value the scanned value
+     * @return the decimal value or null if not a decimal (NaN, Infinity or out of range scale)
+     */
+    BigDecimal toBigDecimal(CharSequence value) {
+
+        if (this.special) {
+            return null;
+        }
+
+        if (this.scale < Integer.MIN_VALUE || this.scale > Integer.MAX_VALUE) {
+            return null;
+        }
+
+        if (this.digits <= MAX_LONG_DIGITS) {
+            return BigDecimal.valueOf(this.negative ? -this.unscaled : this.unscaled,
+                    (int) this.scale);
+        }
+
+        try {
+            return new BigDecimal(value.subSequence(this.from, this.to).toString());
+        } catch (NumberFormatException nfe) {
+            // Scale overflow, out of the fast path
+            return null;
+        }
+    }
+
+    /**
+     * @return the exponent value (bounded) or Long.MIN_VALUE if malformed
+     */
+    private static long exponent(CharSequence value, int from, int to) {
+        int i = from;
+        boolean negative = false;
+
+        if (i < to && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            negative = value.charAt(i++) == '-';
+        }
+
+        if (i == to) {
+            return Long.MIN_VALUE;
+        }
+
+        long exponent = 0;
+
+        for (; i < to; i++) {
+            char c = value.charAt(i);
+
+            if (c < '0' || c > '9') {
+                return Long.MIN_VALUE;
+            }
+
+            // Beyond the bound the value is zero, infinite or not a BigDecimal anyway
+            exponent = Math.min(MAX_EXPONENT, exponent * 10 + (c - '0'));
+        }
+
+        return negative ? -exponent : exponent;
+    }
+
+    private static boolean matches(CharSequence value, int from, int to, String word) {
+
+        if (to - from != word.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < word.length(); i++) {
+
+            if (value.charAt(from + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
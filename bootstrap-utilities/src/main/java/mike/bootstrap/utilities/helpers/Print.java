@@ -1,6 +1,5 @@
 package mike.bootstrap.utilities.helpers;
 
-import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
 /**
@@ -11,7 +10,7 @@ import java.time.format.DateTimeFormatter;
 public class Print {
 
     private static boolean enabled = false;
-    private static DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private static TimestampFormatter dtf = TimestampFormatter.of(Dates.LOG_DTTM_NANO);
 
     private Print() {}
 
@@ -28,7 +27,7 @@ public class Print {
      * @param format timestamp format
      */
     public static void timestamp(DateTimeFormatter format) {
-        dtf = format;
+        dtf = TimestampFormatter.of(format);
         Print.enabled = true;
     }
 
@@ -143,6 +142,6 @@ public class Print {
      * @return message prefix
      */
     private static String prefix(String level) {
-        return enabled ? dtf.format(ZonedDateTime.now()) + " - " + level : level;
+        return enabled ? dtf.now() + " - " + level : level;
     }
 }
@@ -0,0 +1,138 @@
+package mike.bootstrap.utilities.helpers;
+
+/**
+ * Monotonic stopwatch based on {@link System#nanoTime()} (not affected by wall clock
+ * adjustments), without any allocation once started.
+ * <p>
+ * The elapsed time is measured from the start, the split time from the last checkpoint. When a
+ * {@link LatencyHistogram} is attached, each lap (time between two checkpoints, the last one
+ * ending with {@link #stop()}) is recorded in nanoseconds.
+ * <p>
+ * Not thread-safe (one stopwatch per measured task), the histogram may be shared.
+ *
+ * @author Mike (2026-10)
+ */
+public final class Stopwatch {
+
+    private final LatencyHistogram histogram;
+
+    private long start;
+    private long checkPoint;
+    private long end;
+    private boolean stopped;
+
+    private Stopwatch(LatencyHistogram histogram) {
+        this.histogram = histogram;
+        this.reset();
+    }
+
+    /**
+     * @return a new started stopwatch
+     */
+    public static Stopwatch start() {
+        return new Stopwatch(null);
+    }
+
+    /**
+     * @param histogram the histogram recording the laps
+     * @return a new started stopwatch
+     * @throws IllegalArgumentException if the histogram is null
+     */
+    public static Stopwatch start(LatencyHistogram histogram) {
+        PreConditions.notNull(histogram, "The histogram cannot be null");
+        return new Stopwatch(histogram);
+    }
+
+    /**
+     * Restarts the stopwatch from the current time.
+     *
+     * @return this stopwatch
+     */
+    public Stopwatch reset() {
+        this.start = System.nanoTime();
+        this.checkPoint = this.start;
+        this.stopped = false;
+        return this;
+    }
+
+    /**
+     * @return true if {@link #stop()} has been invoked
+     */
+    public boolean isStopped() {
+        return this.stopped;
+    }
+
+    /**
+     * @return the histogram recording the laps (may be null)
+     */
+    public LatencyHistogram histogram() {
+        return this.histogram;
+    }
+
+    /**
+     * Moves the checkpoint to the current time (nothing is recorded).
+     */
+    public void checkPoint() {
+        this.checkPoint = System.nanoTime();
+    }
+
+    /**
+     * Ends the current lap: its duration is recorded and the checkpoint moved to the current
+     * time.
+     *
+     * @return the lap duration in nanoseconds (0 if stopped)
+     */
+    public long lap() {
+
+        if (this.stopped) {
+            return 0;
+        }
+
+        long now = System.nanoTime();
+        long lap = now - this.checkPoint;
+        this.checkPoint = now;
+        this.record(lap);
+
+        return lap;
+    }
+
+    /**
+     * Stops the stopwatch, the last lap (from the last checkpoint) is recorded. The elapsed and
+     * split times are then frozen.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long stop() {
+
+        if (!this.stopped) {
+            this.end = System.nanoTime();
+            this.stopped = true;
+            this.record(this.end - this.checkPoint);
+        }
+
+        return this.end - this.start;
+    }
+
+    /**
+     * @return the time since the start in nanoseconds
+     */
+    public long elapsedNanos() {
+        return (this.stopped ? this.end : System.nanoTime()) - this.start;
+    }
+
+    /**
+     * @return the time since the last checkpoint in nanoseconds
+     */
+    public long splitNanos() {
+        return (this.stopped ? this.end : System.nanoTime()) - this.checkPoint;
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private void record(long nanos) {
+
+        if (this.histogram != null) {
+            this.histogram.record(nanos);
+        }
+    }
+}
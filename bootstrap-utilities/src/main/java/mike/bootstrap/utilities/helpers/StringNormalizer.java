@@ -0,0 +1,516 @@
+package mike.bootstrap.utilities.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Reusable string normalization pipeline.
+ * <p>
+ * The {@link #strip()}, {@link #chomp()}, {@link #shrink()} and {@link #sanitize()} operations
+ * are fused into a single pass over the characters: no intermediate {@code String} is created and
+ * the original instance is returned when the pipeline does not change it. The other operations
+ * ({@link #blankAs(String...)}, regular expressions) are applied on the result of the preceding
+ * operations.
+ *
+ * <pre>
+ * var normalizer = StringNormalizer.of().strip().chomp().sanitize();
+ *
+ * normalizer.normalize("  My \r\n  Value ") => "My Value"
+ * normalizer.normalize(field, builder);     // appends to a reused builder
+ * </pre>
+ *
+ * The normalizer must be configured before being shared: {@link #normalize(String)} is then
+ * thread-safe (each thread reuses its own pass state).
+ *
+ * @author Mike (2026-10)
+ */
+public final class StringNormalizer {
+
+    private Step[] steps = new Step[0];
+    private volatile ThreadLocal<Pass> passes;
+
+    /**
+     * @return an empty normalizer (returns the values unchanged)
+     */
+    public static StringNormalizer of() {
+        return new StringNormalizer();
+    }
+
+    /**
+     * Constructor.
+     */
+    private StringNormalizer() {}
+
+    /**
+     * Remove all leading and trailing white space.
+     *
+     * @return this normalizer
+     * @see Strings#strip(String, String...)
+     */
+    public StringNormalizer strip() {
+        return this.add(new Step(Kind.STRIP, null, null));
+    }
+
+    /**
+     * Replace each newline ("\n" or "\r\n") with a single space.
+     *
+     * @return this normalizer
+     * @see Strings#chomp(String)
+     */
+    public StringNormalizer chomp() {
+        return this.add(new Step(Kind.CHOMP, null, null));
+    }
+
+    /**
+     * Remove all white space.
+     *
+     * @return this normalizer
+     * @see Strings#shrink(String)
+     */
+    public StringNormalizer shrink() {
+        return this.sanitize(Strings.EMPTY);
+    }
+
+    /**
+     * Replace all repeating spaces with a single space.
+     *
+     * @return this normalizer
+     * @see Strings#sanitize(String)
+     */
+    public StringNormalizer sanitize() {
+        return this.sanitize(Strings.SPACE);
+    }
+
+    /**
+     * Replace all repeating spaces with the replacement {@code String}.
+     *
+     * @param replacement the replacement string
+     * @return this normalizer
+     * @see Strings#sanitize(String, String)
+     */
+    public StringNormalizer sanitize(String replacement) {
+        PreConditions.notNull(replacement, "no such replacement");
+
+        if (replacement.indexOf('$') >= 0 || replacement.indexOf('\\') >= 0) {
+            // Group references or escapes: regular expression replacement
+            return this.add(new Step(Kind.APPLY, null,
+                    value -> Strings.sanitize(value, replacement)));
+        }
+
+        return this.add(new Step(Kind.REPLACE, replacement, null));
+    }
+
+    /**
+     * Replace every subsequence that matches the pattern with the replacement string.
+     *
+     * @param pattern     the matching pattern
+     * @param replacement the replacement string (default: single white space)
+     * @return this normalizer
+     * @see Strings#sanitize(String, Pattern, String...)
+     */
+    public StringNormalizer sanitize(Pattern pattern, String... replacement) {
+        PreConditions.notNull(pattern, "no such pattern");
+
+        if (pattern == Strings.REGEX_SPACES) {
+            return this.sanitize(replacement.length > 0 && replacement[0] != null ? replacement[0]
+                    : Strings.EMPTY);
+        }
+
+        return this.add(new Step(Kind.APPLY, null,
+                value -> Strings.sanitize(value, pattern, replacement)));
+    }
+
+    /**
+     * Set default value (default: empty) if empty or blank.
+     *
+     * @param defValue the default value to set
+     * @return this normalizer
+     * @see Strings#blankAs(String, String...)
+     */
+    public StringNormalizer blankAs(String... defValue) {
+        return this.add(new Step(Kind.APPLY, null, value -> Strings.blankAs(value, defValue)));
+    }
+
+    /**
+     * @param value the value to normalize (may be null, processed as an empty string)
+     * @return the normalized value (the original instance if unchanged)
+     */
+    public String normalize(String value) {
+        return this.pass().apply(Strings.nullAs(value));
+    }
+
+    /**
+     * @param value the value to normalize
+     * @param out   the builder to append the normalized value to
+     * @return the builder
+     */
+    public StringBuilder normalize(CharSequence value, StringBuilder out) {
+        return this.pass().apply(value, out);
+    }
+
+    /**
+     * @return true if the normalizer has no operation
+     */
+    public boolean isEmpty() {
+        return this.steps.length == 0;
+    }
+
+    /**
+     * Normalize a single value (the pass state is not kept).
+     */
+    String normalizeOnce(String value) {
+        return new Pass(this.steps).apply(value);
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private StringNormalizer add(Step step) {
+        this.steps = Arrays.copyOf(this.steps, this.steps.length + 1);
+        this.steps[this.steps.length - 1] = step;
+        this.passes = null;
+        return this;
+    }
+
+    private Pass pass() {
+        var local = this.passes;
+
+        if (local == null) {
+            var snapshot = this.steps;
+            local = ThreadLocal.withInitial(() -> new Pass(snapshot));
+            this.passes = local;
+        }
+
+        return local.get();
+    }
+
+    /**
+     * @return true if the character is a white space of the {@link Strings#REGEX_SPACES} pattern
+     */
+    private static boolean isSpace(char c) {
+        return c <= ' ' && (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f'
+                || c == 0x0B);
+    }
+
+    private enum Kind {
+        STRIP, CHOMP, REPLACE, APPLY
+    }
+
+    /**
+     * Pipeline operation.
+     */
+    private record Step(Kind kind, String replacement, UnaryOperator<String> operator) {}
+
+    /**
+     * Execution state of the pipeline: consecutive fusible steps are run in a single segment, the
+     * other steps are applied between the segments.
+     */
+    private static final class Pass {
+
+        private final List<Object> segments = new ArrayList<>();
+        private final StringBuilder out = new StringBuilder(64);
+
+        Pass(Step[] steps) {
+            var fused = new ArrayList<Step>();
+
+            for (var step : steps) {
+
+                if (step.kind() == Kind.APPLY) {
+                    this.addSegment(fused);
+                    this.segments.add(step.operator());
+                } else {
+                    fused.add(step);
+                }
+            }
+
+            this.addSegment(fused);
+        }
+
+        @SuppressWarnings("unchecked")
+        String apply(String value) {
+            var current = value;
+
+            for (var segment : this.segments) {
+
+                if (segment instanceof Segment fused) {
+                    this.out.setLength(0);
+
+                    if (fused.run(current, this.out)) {
+                        current = this.out.toString();
+                    }
+                } else {
+                    current = ((UnaryOperator<String>) segment).apply(current);
+                }
+            }
+
+            return current;
+        }
+
+        StringBuilder apply(CharSequence value, StringBuilder target) {
+
+            if (this.segments.isEmpty()) {
+                return target.append(value);
+            }
+
+            if (this.segments.size() == 1 && this.segments.get(0) instanceof Segment fused) {
+                // Single fused segment: straight into the target
+                int length = target.length();
+
+                if (!fused.run(value, target)) {
+                    target.setLength(length);
+                    target.append(value);
+                }
+
+                return target;
+            }
+
+            return target.append(this.apply(value.toString()));
+        }
+
+        private void addSegment(List<Step> fused) {
+
+            if (!fused.isEmpty()) {
+                this.segments.add(new Segment(fused.toArray(Step[]::new)));
+                fused.clear();
+            }
+        }
+    }
+
+    /**
+     * Fused steps.
+     * <p>
+     * The fusible steps only change white spaces: the characters between the white spaces are
+     * copied as is and each run of white spaces goes through the steps. The result is only
+     * copied once it differs from the input.
+     * <p>
+     * The result for a run made of {@link Strings#REGEX_SPACES} characters only is usually
+     * independent of the run content (i.e. a sanitize step turns any run into a single space), it
+     * is then computed once for each run position (leading, trailing, in between).
+     */
+    private static final class Segment {
+
+        private static final int LEADING = 1;
+        private static final int TRAILING = 2;
+
+        private final Step[] steps;
+        private final String[] constants = new String[4];
+
+        private StringBuilder span = new StringBuilder();
+        private StringBuilder next = new StringBuilder();
+
+        private CharSequence input;
+        private StringBuilder out;
+        private boolean changed;
+
+        Segment(Step[] steps) {
+            this.steps = steps;
+
+            for (int position = 0; position < this.constants.length; position++) {
+                this.constants[position] = this.constant((position & LEADING) != 0,
+                        (position & TRAILING) != 0);
+            }
+        }
+
+        /**
+         * @return true if the value has been changed (result appended to out), false if unchanged
+         *         (out content is undefined)
+         */
+        boolean run(CharSequence value, StringBuilder out) {
+            this.input = value;
+            this.out = out;
+            this.changed = false;
+
+            int length = value.length();
+            int i = 0;
+
+            while (i < length) {
+                int start = i;
+
+                while (i < length && !Character.isWhitespace(value.charAt(i))) {
+                    i++;
+                }
+
+                if (this.changed) {
+                    out.append(value, start, i);
+                }
+
+                if (i == length) {
+                    break;
+                }
+
+                start = i;
+                boolean spaces = true;
+                char c;
+
+                while (i < length && Character.isWhitespace(c = value.charAt(i))) {
+                    spaces &= isSpace(c);
+                    i++;
+                }
+
+                var constant = spaces ? this.constants[(start == 0 ? LEADING : 0)
+                        | (i == length ? TRAILING : 0)] : null;
+
+                this.emit(start, i, constant != null ? constant
+                        : this.transform(value, start, i, start == 0, i == length));
+            }
+
+            this.input = null;
+            this.out = null;
+
+            return this.changed;
+        }
+
+        /**
+         * @return the result of the steps for any run of {@link Strings#REGEX_SPACES} characters at
+         *         the given position or null if it depends on the run content
+         */
+        private String constant(boolean leading, boolean trailing) {
+            String constant = null;
+
+            for (var step : this.steps) {
+
+                if (constant != null) {
+                    constant = this.transform(constant, 0, constant.length(), leading, trailing,
+                            step).toString();
+                } else if (step.kind() == Kind.REPLACE) {
+                    constant = step.replacement();
+                } else if (step.kind() == Kind.STRIP && (leading || trailing)) {
+                    constant = Strings.EMPTY;
+                }
+            }
+
+            return constant;
+        }
+
+        /**
+         * Append the transformed run of white spaces if the value has changed.
+         */
+        private void emit(int start, int end, CharSequence result) {
+
+            if (!this.changed) {
+
+                if (Segment.equals(this.input, start, end, result)) {
+                    return;
+                }
+
+                this.changed = true;
+                this.out.append(this.input, 0, start);
+            }
+
+            this.out.append(result);
+        }
+
+        /**
+         * @return the run of white spaces transformed by the steps
+         */
+        private CharSequence transform(CharSequence value, int start, int end, boolean leading,
+                boolean trailing) {
+            this.span.setLength(0);
+            this.span.append(value, start, end);
+
+            for (var step : this.steps) {
+                this.apply(step, leading, trailing);
+            }
+
+            return this.span;
+        }
+
+        /**
+         * @return the run of white spaces transformed by a single step
+         */
+        private CharSequence transform(CharSequence value, int start, int end, boolean leading,
+                boolean trailing, Step step) {
+            this.span.setLength(0);
+            this.span.append(value, start, end);
+            this.apply(step, leading, trailing);
+
+            return this.span;
+        }
+
+        private void apply(Step step, boolean leading, boolean trailing) {
+            this.next.setLength(0);
+
+            switch (step.kind()) {
+                case STRIP -> Segment.strip(this.span, leading, trailing, this.next);
+                case CHOMP -> Segment.chomp(this.span, this.next);
+                default -> Segment.replace(this.span, step.replacement(), this.next);
+            }
+
+            var swap = this.span;
+            this.span = this.next;
+            this.next = swap;
+        }
+
+        private static void strip(CharSequence span, boolean leading, boolean trailing,
+                StringBuilder out) {
+            int from = 0;
+            int to = span.length();
+
+            while (leading && from < to && Character.isWhitespace(span.charAt(from))) {
+                from++;
+            }
+
+            while (trailing && to > from && Character.isWhitespace(span.charAt(to - 1))) {
+                to--;
+            }
+
+            out.append(span, from, to);
+        }
+
+        private static void chomp(CharSequence span, StringBuilder out) {
+
+            for (int i = 0; i < span.length(); i++) {
+                char c = span.charAt(i);
+
+                if (c == '\r' && i + 1 < span.length() && span.charAt(i + 1) == '\n') {
+                    out.append(' ');
+                    i++;
+                } else {
+                    out.append(c == '\n' ? ' ' : c);
+                }
+            }
+        }
+
+        private static void replace(CharSequence span, String replacement, StringBuilder out) {
+            boolean spaces = false;
+
+            for (int i = 0; i < span.length(); i++) {
+                char c = span.charAt(i);
+
+                if (isSpace(c)) {
+                    spaces = true;
+                    continue;
+                }
+
+                if (spaces) {
+                    out.append(replacement);
+                    spaces = false;
+                }
+
+                out.append(c);
+            }
+
+            if (spaces) {
+                out.append(replacement);
+            }
+        }
+
+        private static boolean equals(CharSequence value, int start, int end, CharSequence other) {
+
+            if (other.length() != end - start) {
+                return false;
+            }
+
+            for (int i = start; i < end; i++) {
+
+                if (value.charAt(i) != other.charAt(i - start)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
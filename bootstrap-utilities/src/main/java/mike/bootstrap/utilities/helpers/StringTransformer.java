@@ -1,5 +1,9 @@
 package mike.bootstrap.utilities.helpers;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -9,6 +13,11 @@ public class StringTransformer {
 
     private final Pattern pattern;
 
+    private volatile int maxCachedMatches;
+
+    /* *** Guarded by this *** */
+    private LinkedHashMap<String, String[]> matches;
+
     public static StringTransformer of(Pattern pattern) {
         return new StringTransformer(pattern);
     }
@@ -22,6 +31,321 @@ public class StringTransformer {
         return new RegexExpression(this.pattern, basename, expression);
     }
 
+    /**
+     * Keep the groups of the last matched values (i.e. when several templates are rendered for
+     * the same value).
+     *
+     * @param maxEntries max. number of cached matches (0 to disable the cache)
+     * @return this transformer
+     */
+    public synchronized StringTransformer cache(int maxEntries) {
+        PreConditions.test(maxEntries >= 0, "max. entries must be a positive number or 0");
+
+        this.maxCachedMatches = maxEntries;
+        this.matches = maxEntries > 0 ? new LinkedHashMap<>(16, 0.75f, true) : null;
+
+        return this;
+    }
+
+    /**
+     * Compile an expression made of the pattern group references ({@code $1}, {@code ${name}})
+     * and of {@code %key%} placeholders. The expression is parsed once and rendered in a single
+     * pass.
+     *
+     * <pre>
+     * var template = StringTransformer.of(pattern).template("%type%${name}_%id%${ext}", "type",
+     *         "id");
+     *
+     * template.render("PFX_BAR_DATA.DAT", "FOO", "01") => "FOO_BAR_DATA_01.DAT"
+     * template.render("PFX_BAR_DATA.DAT", Map.of("type", "FOO", "id", "01"))
+     * </pre>
+     *
+     * @param expression the replacement expression
+     * @param keys       the placeholder keys in the order of the positional values (default: the
+     *                   order of appearance in the expression)
+     * @return the compiled template
+     * @throws IllegalArgumentException if the expression is malformed, refers to an unknown group
+     *                                  or to an undeclared key
+     */
+    public Template template(String expression, String... keys) {
+        return new Template(this, expression, keys);
+    }
+
+    /**
+     * @param value the value to match
+     * @return the groups of the pattern (index 0 is the whole value)
+     * @throws IllegalArgumentException if the value does not match the pattern
+     */
+    private String[] groups(String value) {
+
+        if (this.maxCachedMatches > 0) {
+
+            synchronized (this) {
+                var groups = this.matches.get(value);
+
+                if (groups != null) {
+                    return groups;
+                }
+            }
+        }
+
+        var matcher = this.pattern.matcher(Strings.strip(value));
+
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException(String.format(
+                    "value does not match pattern: %s (pattern: %s)", value, pattern.pattern()));
+        }
+
+        var groups = new String[matcher.groupCount() + 1];
+
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = Strings.nullAs(matcher.group(i));
+        }
+
+        if (this.maxCachedMatches > 0) {
+
+            synchronized (this) {
+                this.matches.put(value, groups);
+
+                if (this.matches.size() > this.maxCachedMatches) {
+                    var eldest = this.matches.keySet().iterator();
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+        }
+
+        return groups;
+    }
+
+    /**
+     * Compiled expression: literals, group references and placeholders.
+     */
+    public static class Template {
+
+        private static final int LITERAL = 0;
+        private static final int GROUP = 1;
+        private static final int KEY = 2;
+
+        private final StringTransformer transformer;
+        private final String expression;
+        private final List<String> keys;
+
+        private final int[] kinds;
+        private final String[] literals;
+        private final int[] indexes;
+        private final int literalLength;
+
+        Template(StringTransformer transformer, String expression, String... keys) {
+            PreConditions.notBlank(expression, "no such replacement expression");
+
+            this.transformer = transformer;
+            this.expression = expression;
+
+            var kinds = new ArrayList<Integer>();
+            var literals = new ArrayList<String>();
+            var indexes = new ArrayList<Integer>();
+            var used = new ArrayList<String>();
+            var declared = keys.length > 0 ? Arrays.asList(keys) : null;
+            var literal = new StringBuilder();
+            int groupCount = transformer.pattern.matcher("").groupCount();
+
+            for (int i = 0; i < expression.length(); i++) {
+                char c = expression.charAt(i);
+
+                if (c == '\\') {
+                    PreConditions.test(++i < expression.length(),
+                            "character to be escaped is missing: " + expression);
+                    literal.append(expression.charAt(i));
+                } else if (c == '$' || c == '%') {
+                    int index;
+                    int end;
+
+                    if (c == '$') {
+                        end = Template.groupEnd(expression, i, groupCount);
+                        index = Template.groupIndex(transformer.pattern, expression, i, end,
+                                groupCount);
+                    } else {
+                        end = expression.indexOf('%', i + 1);
+                        PreConditions.test(end > i + 1, "malformed placeholder at index " + i
+                                + ": " + expression);
+
+                        var key = expression.substring(i + 1, end);
+
+                        if (!used.contains(key)) {
+                            used.add(key);
+                        }
+
+                        if (declared == null) {
+                            index = used.indexOf(key);
+                        } else {
+                            index = declared.indexOf(key);
+                            PreConditions.test(index >= 0, "undeclared key: " + key);
+                        }
+
+                        end++;
+                    }
+
+                    if (!literal.isEmpty()) {
+                        kinds.add(LITERAL);
+                        literals.add(literal.toString());
+                        indexes.add(-1);
+                        literal.setLength(0);
+                    }
+
+                    kinds.add(c == '$' ? GROUP : KEY);
+                    literals.add(null);
+                    indexes.add(index);
+                    i = end - 1;
+                } else {
+                    literal.append(c);
+                }
+            }
+
+            if (!literal.isEmpty()) {
+                kinds.add(LITERAL);
+                literals.add(literal.toString());
+                indexes.add(-1);
+            }
+
+            this.keys = List.copyOf(declared != null ? declared : used);
+            this.kinds = kinds.stream().mapToInt(Integer::intValue).toArray();
+            this.literals = literals.toArray(String[]::new);
+            this.indexes = indexes.stream().mapToInt(Integer::intValue).toArray();
+            this.literalLength = literals.stream().mapToInt(l -> l != null ? l.length() : 0)
+                    .sum();
+        }
+
+        /**
+         * @return the placeholder keys in the order of the positional values
+         */
+        public List<String> keys() {
+            return keys;
+        }
+
+        /**
+         * @param value  the value to transform
+         * @param values the placeholder values in the order of the {@link #keys()}
+         * @return the transformed value
+         * @throws IllegalArgumentException if the value does not match the pattern or if the
+         *                                  number of values differs from the number of keys
+         */
+        public String render(String value, String... values) {
+            PreConditions.test(values.length == this.keys.size(), String.format(
+                    "expected %d value(s) for keys %s", this.keys.size(), this.keys));
+
+            return this.render(this.transformer.groups(value), values);
+        }
+
+        /**
+         * @param value  the value to transform
+         * @param values the placeholder values by key
+         * @return the transformed value
+         * @throws IllegalArgumentException if the value does not match the pattern
+         * @throws IllegalStateException    if a key has no value
+         */
+        public String render(String value, Map<String, String> values) {
+            var positional = new String[this.keys.size()];
+
+            for (int i = 0; i < positional.length; i++) {
+                positional[i] = values.get(this.keys.get(i));
+            }
+
+            return this.render(this.transformer.groups(value), positional);
+        }
+
+        @Override
+        public String toString() {
+            return "Template [" + expression + ", keys=" + keys + "]";
+        }
+
+        private String render(String[] groups, String[] values) {
+            int length = this.literalLength;
+
+            for (int i = 0; i < this.kinds.length; i++) {
+
+                if (this.kinds[i] == GROUP) {
+                    length += groups[this.indexes[i]].length();
+                } else if (this.kinds[i] == KEY) {
+                    var value = values[this.indexes[i]];
+
+                    if (value == null) {
+                        throw new IllegalStateException(String.format(
+                                "remaining unresolved key(s): %s", this.keys.get(this.indexes[i])));
+                    }
+
+                    length += value.length();
+                }
+            }
+
+            var result = new StringBuilder(length);
+
+            for (int i = 0; i < this.kinds.length; i++) {
+
+                switch (this.kinds[i]) {
+                    case GROUP -> result.append(groups[this.indexes[i]]);
+                    case KEY -> result.append(values[this.indexes[i]]);
+                    default -> result.append(this.literals[i]);
+                }
+            }
+
+            return result.toString();
+        }
+
+        /**
+         * @return the end (exclusive) of the group reference starting at index (same rules as
+         *         {@link Matcher#appendReplacement(StringBuilder, String)})
+         */
+        private static int groupEnd(String expression, int index, int groupCount) {
+            int i = index + 1;
+
+            PreConditions.test(i < expression.length(),
+                    "illegal group reference: group index is missing");
+
+            if (expression.charAt(i) == '{') {
+                int end = expression.indexOf('}', i);
+                PreConditions.test(end > i + 1, "named capturing group is missing trailing '}'");
+
+                return end + 1;
+            }
+
+            PreConditions.test(Character.isDigit(expression.charAt(i)),
+                    "illegal group reference: " + expression);
+
+            int number = expression.charAt(i++) - '0';
+
+            while (i < expression.length() && Character.isDigit(expression.charAt(i))) {
+                int next = number * 10 + (expression.charAt(i) - '0');
+
+                if (next > groupCount) {
+                    break;
+                }
+
+                number = next;
+                i++;
+            }
+
+            return i;
+        }
+
+        private static int groupIndex(Pattern pattern, String expression, int start, int end,
+                int groupCount) {
+
+            if (expression.charAt(start + 1) == '{') {
+                var name = expression.substring(start + 2, end - 1);
+                var index = pattern.namedGroups().get(name);
+                PreConditions.test(index != null, "no group with name {" + name + "}");
+
+                return index;
+            }
+
+            int index = Integer.parseInt(expression.substring(start + 1, end));
+            PreConditions.test(index <= groupCount, "no group " + index);
+
+            return index;
+        }
+    }
+
     public static class RegexExpression {
 
         private final String regexName;
@@ -1,10 +1,32 @@
 package mike.bootstrap.utilities.helpers;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
+/**
+ * String value with chained normalization operations.
+ * <p>
+ * The operations are recorded and run as a single fused pass (see {@link StringNormalizer}) when
+ * the {@link #value()} is requested, the result is then cached. Use a {@link StringNormalizer}
+ * directly to run the same operations over many values.
+ */
 public class StringValue {
 
+    // Operations without argument, recorded as 4 bits codes
+    private static final int STRIP = 1;
+    private static final int CHOMP = 2;
+    private static final int SHRINK = 3;
+    private static final int SANITIZE = 4;
+    private static final int MAX_CODED_OPERATIONS = Long.SIZE / 4 - 1;
+
+    /** Normalizers shared by the values recording the same operations */
+    private static final Map<Long, StringNormalizer> normalizers = new ConcurrentHashMap<>();
+
     private String value;
+    private long operations;
+    private int count;
+    private StringNormalizer pending;
 
     /**
      * Create a new String value instance.
@@ -31,6 +53,17 @@ public class StringValue {
      * @return The resulting {@code String}
      */
     public String value() {
+
+        if (this.count > 0) {
+            this.value = normalizers.computeIfAbsent(this.operations, StringValue::compile)
+                    .normalize(this.value);
+            this.operations = 0;
+            this.count = 0;
+        } else if (this.pending != null) {
+            this.value = this.pending.normalizeOnce(this.value);
+            this.pending = null;
+        }
+
         return this.value;
     }
 
@@ -45,7 +78,7 @@ public class StringValue {
      * @see Strings#strip()
      */
     public StringValue strip() {
-        this.value = Strings.strip(this.value);
+        this.record(STRIP);
         return this;
     }
 
@@ -62,7 +95,7 @@ public class StringValue {
      * @see Strings#blankAs(String, String...)
      */
     public StringValue blankAs(String... defValue) {
-        this.value = Strings.blankAs(value, defValue);
+        this.pending().blankAs(defValue);
         return this;
     }
 
@@ -73,7 +106,7 @@ public class StringValue {
      * @see Strings#chomp(String)
      */
     public StringValue chomp() {
-        this.value = Strings.chomp(this.value);
+        this.record(CHOMP);
         return this;
     }
 
@@ -88,7 +121,7 @@ public class StringValue {
      * @see Strings#shrink(String)
      */
     public StringValue shrink() {
-        this.value = Strings.shrink(this.value);
+        this.record(SHRINK);
         return this;
     }
 
@@ -104,7 +137,7 @@ public class StringValue {
      * @see Strings#sanitize(String)
      */
     public StringValue sanitize() {
-        this.value = Strings.sanitize(this.value);
+        this.record(SANITIZE);
         return this;
     }
 
@@ -113,10 +146,10 @@ public class StringValue {
      * 
      * @param replacement The replacement string
      * @return string value instance
-     * @see StringValue#sanitize(Pattern, String)
+     * @see Strings#sanitize(String, String)
      */
     public StringValue sanitize(String replacement) {
-        this.value = Strings.sanitize(this.value, Strings.REGEX_SPACES, replacement);
+        this.pending().sanitize(replacement);
         return this;
     }
 
@@ -130,7 +163,66 @@ public class StringValue {
      * @see Strings#sanitize(String, Pattern, String...)
      */
     public StringValue sanitize(Pattern pattern, String... replacement) {
-        this.value = Strings.sanitize(this.value, pattern, replacement);
+        this.pending().sanitize(pattern, replacement);
         return this;
     }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    /**
+     * Record an operation without argument (the values recording the same operations share the
+     * same normalizer).
+     */
+    private void record(int operation) {
+
+        if (this.pending == null && this.count < MAX_CODED_OPERATIONS) {
+            this.operations = this.operations << 4 | operation;
+            this.count++;
+        } else {
+            StringValue.apply(this.pending(), operation);
+        }
+    }
+
+    /**
+     * @return the normalizer of this value (holding the operations recorded so far)
+     */
+    private StringNormalizer pending() {
+
+        if (this.pending == null) {
+            this.pending = StringNormalizer.of();
+
+            for (int i = this.count - 1; i >= 0; i--) {
+                StringValue.apply(this.pending, (int) (this.operations >>> (i * 4)) & 0x0F);
+            }
+
+            this.operations = 0;
+            this.count = 0;
+        }
+
+        return this.pending;
+    }
+
+    private static StringNormalizer compile(long operations) {
+        var normalizer = StringNormalizer.of();
+
+        for (int shift = Long.SIZE - 4; shift >= 0; shift -= 4) {
+            int operation = (int) (operations >>> shift) & 0x0F;
+
+            if (operation != 0) {
+                StringValue.apply(normalizer, operation);
+            }
+        }
+
+        return normalizer;
+    }
+
+    private static void apply(StringNormalizer normalizer, int operation) {
+
+        switch (operation) {
+            case STRIP -> normalizer.strip();
+            case CHOMP -> normalizer.chomp();
+            case SHRINK -> normalizer.shrink();
+            default -> normalizer.sanitize();
+        }
+    }
 }
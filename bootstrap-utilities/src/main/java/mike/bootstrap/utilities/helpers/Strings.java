@@ -1,5 +1,7 @@
 package mike.bootstrap.utilities.helpers;
 
+import java.math.BigDecimal;
+import java.util.Objects;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
@@ -46,12 +48,33 @@ public interface Strings {
     }
 
     /**
-     * Removes all newline(s) from a String
+     * Removes all newline(s) from a String (each "\n" or "\r\n" is replaced with a single space).
      * 
-     * @return string value instance
+     * @return the resulting value (the original instance if there is no newline)
      */
     public static String chomp(String str) {
-        return sanitize(str, REGEX_LINE_FEED, " ");
+        int from = str.indexOf('\n');
+
+        if (from < 0) {
+            return str;
+        }
+
+        int start = from > 0 && str.charAt(from - 1) == '\r' ? from - 1 : from;
+        var out = new StringBuilder(str.length()).append(str, 0, start);
+
+        return Strings.chomp(str, start, out).toString();
+    }
+
+    /**
+     * Removes all newline(s) from a sequence into a builder.
+     * 
+     * @param value the original value
+     * @param out   the builder to append the resulting value to
+     * @return the builder
+     * @see Strings#chomp(String)
+     */
+    public static StringBuilder chomp(CharSequence value, StringBuilder out) {
+        return Strings.chomp(value, 0, out);
     }
 
     /**
@@ -61,12 +84,24 @@ public interface Strings {
      * StringValue.shrink("  My   Value    ") => "MyValue"
      * </pre>
      * 
-     * @return string value instance
+     * @return the resulting value (the original instance if there is no white space)
      */
     public static String shrink(String value) {
         return sanitize(value, Strings.EMPTY);
     }
 
+    /**
+     * Remove all white space from a sequence into a builder.
+     * 
+     * @param value the original value
+     * @param out   the builder to append the resulting value to
+     * @return the builder
+     * @see Strings#shrink(String)
+     */
+    public static StringBuilder shrink(CharSequence value, StringBuilder out) {
+        return Strings.sanitize(value, Strings.EMPTY, out);
+    }
+
     /**
      * Replace all repeating spaces with a single space. Call {@link StringValue#strip()} first if
      * the leading and trailing must be removed.
@@ -75,7 +110,7 @@ public interface Strings {
      * StringValue.sanitize("  My   Value    ")  => "  My Value    "
      * </pre>
      * 
-     * @return string value instance
+     * @return the resulting value (the original instance if there is nothing to replace)
      */
     public static String sanitize(String value) {
         return sanitize(value, Strings.SPACE);
@@ -84,12 +119,44 @@ public interface Strings {
     /**
      * Replace all repeating spaces with the replacement {@code String}.
      * 
+     * <p>
+     * The white spaces are those of the {@link #REGEX_SPACES} pattern and the value is scanned
+     * without regular expression: nothing is allocated when there is nothing to replace.
+     * 
      * @param replacement The replacement string
-     * @return string value instance
+     * @return the resulting value (the original instance if there is nothing to replace)
      * @see StringValue#sanitize(Pattern, String)
      */
     public static String sanitize(String value, String replacement) {
-        return sanitize(value, REGEX_SPACES, replacement);
+
+        if (replacement.indexOf('$') >= 0 || replacement.indexOf('\\') >= 0) {
+            // Group references or escapes: regular expression replacement
+            return REGEX_SPACES.matcher(value).replaceAll(replacement);
+        }
+
+        int from = Strings.firstReplacement(value, replacement);
+
+        if (from < 0) {
+            return value;
+        }
+
+        var out = new StringBuilder(value.length()).append(value, 0, from);
+        return Strings.sanitize(value, from, replacement, out).toString();
+    }
+
+    /**
+     * Replace all repeating spaces of a sequence with the replacement {@code String} into a
+     * builder.
+     * 
+     * @param value       the original value
+     * @param replacement the replacement string (literal)
+     * @param out         the builder to append the resulting value to
+     * @return the builder
+     * @see Strings#sanitize(String, String)
+     */
+    public static StringBuilder sanitize(CharSequence value, String replacement,
+            StringBuilder out) {
+        return Strings.sanitize(value, 0, replacement, out);
     }
 
     /**
@@ -102,6 +169,11 @@ public interface Strings {
      */
     public static String sanitize(String value, Pattern pattern, String... replacement) {
         var rc = Strings.defaultValue(replacement);
+
+        if (pattern == REGEX_SPACES) {
+            return Strings.sanitize(value, rc);
+        }
+
         return pattern.matcher(value).replaceAll(rc);
     }
 
@@ -164,33 +236,270 @@ public interface Strings {
     /**
      * @param value    number to convert
      * @param defValue default value if value is null or not a number (default is 0)
-     * @return the converted value or in case of any error occurs during conversion, the default
-     *         value otherwise a NumberFormatException is thrown
-     * @throws NumberFormatException if a conversion error occurs and no default value is provided
+     * @return the converted value or the default value if the conversion fails
+     * @see Strings#toInteger(CharSequence, int, int, int)
      */
     public static int toInteger(String value, int... defValue) {
+        int def = defValue.length > 0 ? defValue[0] : 0;
+        return value != null ? Strings.toInteger(value, 0, value.length(), def) : def;
+    }
 
-        try {
-            return Integer.parseInt(Strings.strip(value));
-        } catch (NumberFormatException nfe) {
-            return defValue.length > 0 ? defValue[0] : 0;
-        }
+    /**
+     * Same as {@link Integer#parseInt(CharSequence, int, int, int)} (leading and trailing white
+     * spaces ignored) without throwing any exception, the failure is signaled by the default value.
+     *
+     * @param value    sequence holding the number
+     * @param offset   position of the first character
+     * @param length   number of characters
+     * @param defValue default value if the range is blank, not a number or out of the int range
+     * @return the converted value or the default value if the conversion fails
+     * @throws IndexOutOfBoundsException if the range is out of the sequence bounds
+     */
+    public static int toInteger(CharSequence value, int offset, int length, int defValue) {
+        return (int) Strings.parseLong(value, offset, length, Integer.MIN_VALUE, Integer.MAX_VALUE,
+                defValue);
     }
 
     /**
      * @param value    number to convert
      * @param defValue default value if value is null or not a number (default is 0)
-     * @return the converted value or in case of any error occurs during conversion, the default
-     *         value otherwise a NumberFormatException is thrown
-     * @throws NumberFormatException if a conversion error occurs and no default value is provided
+     * @return the converted value or the default value if the conversion fails
+     * @see Strings#toLong(CharSequence, int, int, long)
      */
     public static long toLong(String value, long... defValue) {
+        long def = defValue.length > 0 ? defValue[0] : 0;
+        return value != null ? Strings.toLong(value, 0, value.length(), def) : def;
+    }
+
+    /**
+     * Same as {@link Long#parseLong(CharSequence, int, int, int)} (leading and trailing white
+     * spaces ignored) without throwing any exception, the failure is signaled by the default value.
+     *
+     * @param value    sequence holding the number
+     * @param offset   position of the first character
+     * @param length   number of characters
+     * @param defValue default value if the range is blank, not a number or out of the long range
+     * @return the converted value or the default value if the conversion fails
+     * @throws IndexOutOfBoundsException if the range is out of the sequence bounds
+     */
+    public static long toLong(CharSequence value, int offset, int length, long defValue) {
+        return Strings.parseLong(value, offset, length, Long.MIN_VALUE, Long.MAX_VALUE, defValue);
+    }
+
+    /**
+     * @param value    number to convert
+     * @param defValue default value if value is null or not a number (default is 0)
+     * @return the converted value or the default value if the conversion fails
+     * @see Strings#toDouble(CharSequence, int, int, double)
+     */
+    public static double toDouble(String value, double... defValue) {
+        double def = defValue.length > 0 ? defValue[0] : 0;
+        return value != null ? Strings.toDouble(value, 0, value.length(), def) : def;
+    }
 
-        try {
-            return Long.parseLong(Strings.strip(value));
-        } catch (NumberFormatException nfe) {
-            return defValue.length > 0 ? defValue[0] : 0;
+    /**
+     * Decimal notation ({@code [+-]digits[.digits][(e|E)[+-]digits]}), {@code NaN} and
+     * {@code Infinity} are accepted (leading and trailing white spaces ignored). Unlike
+     * {@link Double#parseDouble(String)}, hexadecimal and type suffixes are not, and the failure is
+     * signaled by the default value.
+     *
+     * @param value    sequence holding the number
+     * @param offset   position of the first character
+     * @param length   number of characters
+     * @param defValue default value if the range is blank or not a number
+     * @return the converted value or the default value if the conversion fails
+     * @throws IndexOutOfBoundsException if the range is out of the sequence bounds
+     */
+    public static double toDouble(CharSequence value, int offset, int length, double defValue) {
+        Objects.checkFromIndexSize(offset, length, value.length());
+
+        var scanner = new NumberScanner();
+        return scanner.scan(value, offset, length) ? scanner.toDouble(value) : defValue;
+    }
+
+    /**
+     * @param value    number to convert
+     * @param defValue default value if value is null or not a number (default is 0)
+     * @return the converted value or the default value if the conversion fails
+     * @see Strings#toBigDecimal(CharSequence, int, int, BigDecimal)
+     */
+    public static BigDecimal toBigDecimal(String value, BigDecimal... defValue) {
+        var def = defValue.length > 0 ? defValue[0] : BigDecimal.ZERO;
+        return value != null ? Strings.toBigDecimal(value, 0, value.length(), def) : def;
+    }
+
+    /**
+     * Decimal notation ({@code [+-]digits[.digits][(e|E)[+-]digits]}), leading and trailing white
+     * spaces ignored. Up to 18 significant digits, the value is built from its unscaled long.
+     *
+     * @param value    sequence holding the number
+     * @param offset   position of the first character
+     * @param length   number of characters
+     * @param defValue default value if the range is blank or not a number (may be null)
+     * @return the converted value or the default value if the conversion fails
+     * @throws IndexOutOfBoundsException if the range is out of the sequence bounds
+     */
+    public static BigDecimal toBigDecimal(CharSequence value, int offset, int length,
+            BigDecimal defValue) {
+        Objects.checkFromIndexSize(offset, length, value.length());
+
+        var scanner = new NumberScanner();
+        var number = scanner.scan(value, offset, length) ? scanner.toBigDecimal(value) : null;
+        return number != null ? number : defValue;
+    }
+
+    /**
+     * Accumulates negatively (as {@link Long#parseLong(String)}) to reach the min. value.
+     *
+     * @return the value or the default value if not a number in the [min, max] range
+     */
+    private static long parseLong(CharSequence value, int offset, int length, long min, long max,
+            long defValue) {
+        Objects.checkFromIndexSize(offset, length, value.length());
+        int from = offset;
+        int to = offset + length;
+
+        while (from < to && Character.isWhitespace(value.charAt(from))) {
+            from++;
+        }
+
+        while (to > from && Character.isWhitespace(value.charAt(to - 1))) {
+            to--;
+        }
+
+        if (from == to) {
+            return defValue;
+        }
+
+        boolean negative = false;
+        long limit = -max;
+        char c = value.charAt(from);
+
+        if (c == '-' || c == '+') {
+
+            if (++from == to) {
+                return defValue;
+            }
+
+            negative = c == '-';
+            limit = negative ? min : limit;
+        }
+
+        long multmin = limit / 10;
+        long result = 0;
+
+        for (int i = from; i < to; i++) {
+            int digit = Strings.digit(value.charAt(i));
+
+            if (digit < 0 || result < multmin) {
+                return defValue;
+            }
+
+            result *= 10;
+
+            if (result < limit + digit) {
+                return defValue;
+            }
+
+            result -= digit;
+        }
+
+        return negative ? result : -result;
+    }
+
+    /**
+     * @return the decimal digit value or -1 (non ASCII digits accepted as the JDK parsers do)
+     */
+    private static int digit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : c < 128 ? -1 : Character.digit(c, 10);
+    }
+
+    /**
+     * @return true if the character is a white space of the {@link #REGEX_SPACES} pattern
+     */
+    private static boolean isSpace(char c) {
+        return c <= ' ' && (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f'
+                || c == 0x0B);
+    }
+
+    /**
+     * @return the position of the first character after the white spaces starting at from
+     */
+    private static int endOfSpaces(CharSequence value, int from) {
+        int length = value.length();
+        int end = from;
+
+        while (end < length && Strings.isSpace(value.charAt(end))) {
+            end++;
+        }
+
+        return end;
+    }
+
+    /**
+     * @return the position of the first white spaces run that differs from the replacement or -1
+     */
+    private static int firstReplacement(String value, String replacement) {
+        int length = value.length();
+
+        for (int i = 0; i < length; i++) {
+
+            if (Strings.isSpace(value.charAt(i))) {
+                int end = Strings.endOfSpaces(value, i + 1);
+
+                if (end - i != replacement.length()
+                        || !value.regionMatches(i, replacement, 0, end - i)) {
+                    return i;
+                }
+
+                i = end - 1;
+            }
         }
+
+        return -1;
+    }
+
+    /**
+     * Append the value from the given position replacing each white spaces run.
+     */
+    private static StringBuilder sanitize(CharSequence value, int from, String replacement,
+            StringBuilder out) {
+        int length = value.length();
+        int start = from;
+
+        for (int i = from; i < length; i++) {
+
+            if (Strings.isSpace(value.charAt(i))) {
+                out.append(value, start, i).append(replacement);
+                i = Strings.endOfSpaces(value, i + 1) - 1;
+                start = i + 1;
+            }
+        }
+
+        return out.append(value, start, length);
+    }
+
+    /**
+     * Append the value from the given position replacing each "\n" or "\r\n" with a space.
+     */
+    private static StringBuilder chomp(CharSequence value, int from, StringBuilder out) {
+        int length = value.length();
+        int start = from;
+
+        for (int i = from; i < length; i++) {
+            char c = value.charAt(i);
+
+            if (c == '\n') {
+                out.append(value, start, i).append(' ');
+                start = i + 1;
+            } else if (c == '\r' && i + 1 < length && value.charAt(i + 1) == '\n') {
+                out.append(value, start, i).append(' ');
+                start = i + 2;
+                i++;
+            }
+        }
+
+        return out.append(value, start, length);
     }
 
     /**
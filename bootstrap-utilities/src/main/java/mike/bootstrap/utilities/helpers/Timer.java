@@ -1,25 +1,53 @@
 package mike.bootstrap.utilities.helpers;
 
+import java.text.DecimalFormatSymbols;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
  * Timer allows to evaluate elapsed time between two check-points.
+ * <p>
+ * Facade of a monotonic {@link Stopwatch}: the durations are measured with
+ * {@link System#nanoTime()}, only the start time is read from the wall clock. The
+ * {@code xxxNanos()} methods do not allocate.
  * 
  * @author Mike (2021-02)
  *
  */
 public class Timer {
 
-    private static final String SECONDS_FORMAT = "%.03f second(s)";
+    /** Decimal separator of the last used locale */
+    private static volatile Separator separator = new Separator(null, '.');
 
-    private Instant startTime = Instant.now();
-    private boolean stopped = false;
-    private Duration elapsDuration = Duration.ofMillis(0);
-    private Instant checkPoint = startTime;
-    private Duration checkPointDuration = Duration.ofMillis(0);
+    private final Stopwatch stopwatch;
+    private Instant startTime;
+
+    /**
+     * Starts a new timer
+     */
+    public Timer() {
+        this(Stopwatch.start());
+    }
+
+    /**
+     * Starts a new timer recording its laps (time between checkpoints, up to the stop) in the
+     * given histogram.
+     * 
+     * @param histogram the laps histogram
+     * @throws IllegalArgumentException if the histogram is null
+     * @see Stopwatch#start(LatencyHistogram)
+     */
+    public Timer(LatencyHistogram histogram) {
+        this(Stopwatch.start(histogram));
+    }
+
+    private Timer(Stopwatch stopwatch) {
+        this.stopwatch = stopwatch;
+        this.startTime = Instant.now();
+    }
 
     /**
      * Perform a sleep.
@@ -40,18 +68,22 @@ public class Timer {
      * Reset the timer to the current time
      */
     public void reset() {
+        this.stopwatch.reset();
         this.startTime = Instant.now();
-        this.stopped = false;
-        this.elapsDuration = Duration.ofMillis(0);
-        this.checkPoint = this.startTime;
-        this.checkPointDuration = Duration.ofMillis(0);
+    }
+
+    /**
+     * @return the underlying stopwatch
+     */
+    public Stopwatch stopwatch() {
+        return this.stopwatch;
     }
 
     /**
      * @return true if the timer is stopped (i.e. the method {@link Timer#stop()} has been invoked)
      */
     public boolean isStopped() {
-        return this.stopped;
+        return this.stopwatch.isStopped();
     }
 
     /**
@@ -60,10 +92,7 @@ public class Timer {
      * @return elapsed duration
      */
     public Duration stop() {
-        elaps();
-        split();
-        this.stopped = true;
-        return this.elapsDuration;
+        return Duration.ofNanos(this.stopwatch.stop());
     }
 
     /**
@@ -84,75 +113,111 @@ public class Timer {
      * Reset the last checkpoint
      */
     public void checkPoint() {
-        this.checkPoint = Instant.now();
+        this.stopwatch.checkPoint();
     }
 
     /**
      * @return Elapsed duration since the last checkpoint
      */
     public Duration split() {
+        return Duration.ofNanos(this.stopwatch.splitNanos());
+    }
 
-        if (!this.isStopped()) {
-            this.checkPointDuration = Duration.between(this.checkPoint, Instant.now());
-        }
-
-        return checkPointDuration;
+    /**
+     * @return Elapsed nanoseconds since the last checkpoint
+     */
+    public long splitNanos() {
+        return this.stopwatch.splitNanos();
     }
 
     /**
      * @return Split duration formatted as: 0.000 second(s)
      */
-    public final Supplier<String> splitInSeconds = () ->
-            String.format(SECONDS_FORMAT, this.toSeconds(this.split()));
+    public final Supplier<String> splitInSeconds = () -> Timer.toSeconds(this.splitNanos());
 
     /**
      * @return Cuurent elapsed duration
      */
     public Duration elaps() {
+        return Duration.ofNanos(this.stopwatch.elapsedNanos());
+    }
 
-        if (!this.isStopped()) {
-            this.elapsDuration = Duration.between(this.startTime, Instant.now());
-        }
-
-        return this.elapsDuration;
+    /**
+     * @return Current elapsed nanoseconds
+     */
+    public long elapsNanos() {
+        return this.stopwatch.elapsedNanos();
     }
 
     /**
      * @return current elapsed time formatted as: 0.000 second(s)
      */
-    public final Supplier<String> elapsInSeconds = () ->
-            String.format(SECONDS_FORMAT, this.toSeconds(this.elaps()));
+    public final Supplier<String> elapsInSeconds = () -> Timer.toSeconds(this.elapsNanos());
 
     /**
      * @return elapsed time (format: hh:mm:ss:ms)
      */
     public final Supplier<String> elapsTime = () -> {
-        var millis = this.elaps().toMillis();
-        return String.format("%02d:%02d:%02d",
-                TimeUnit.MILLISECONDS.toHours(millis) % TimeUnit.DAYS.toHours(1),
-                TimeUnit.MILLISECONDS.toMinutes(millis) % TimeUnit.HOURS.toMinutes(1),
-                TimeUnit.MILLISECONDS.toSeconds(millis) % TimeUnit.MINUTES.toSeconds(1));
+        var millis = TimeUnit.NANOSECONDS.toMillis(this.elapsNanos());
+        var out = new StringBuilder(8);
+
+        Timer.pad(out, TimeUnit.MILLISECONDS.toHours(millis) % TimeUnit.DAYS.toHours(1))
+                .append(':');
+        Timer.pad(out, TimeUnit.MILLISECONDS.toMinutes(millis) % TimeUnit.HOURS.toMinutes(1))
+                .append(':');
+        return Timer.pad(out, TimeUnit.MILLISECONDS.toSeconds(millis) % TimeUnit.MINUTES
+                .toSeconds(1)).toString();
     };
 
     /**
      * @return elapsed time (format: days, hours, min., sec.)
      */
     public final Supplier<String> upTime = () -> {
-        var millis = this.elaps().toMillis();
+        var millis = TimeUnit.NANOSECONDS.toMillis(this.elapsNanos());
 
-        return String.format("%d day(s), %d hour(s), %d min., %d sec.",
-                TimeUnit.MILLISECONDS.toDays(millis),
-                TimeUnit.MILLISECONDS.toHours(millis) % TimeUnit.DAYS.toHours(1),
-                TimeUnit.MILLISECONDS.toMinutes(millis) % TimeUnit.HOURS.toMinutes(1),
-                TimeUnit.MILLISECONDS.toSeconds(millis) % TimeUnit.MINUTES.toSeconds(1));
+        return TimeUnit.MILLISECONDS.toDays(millis) + " day(s), "
+                + TimeUnit.MILLISECONDS.toHours(millis) % TimeUnit.DAYS.toHours(1) + " hour(s), "
+                + TimeUnit.MILLISECONDS.toMinutes(millis) % TimeUnit.HOURS.toMinutes(1) + " min., "
+                + TimeUnit.MILLISECONDS.toSeconds(millis) % TimeUnit.MINUTES.toSeconds(1) + " sec.";
     };
 
     /* ****************************** PRIVATE METHODS ****************************** */
 
     /**
-     * @return elapsed time in seconds.
+     * @return elapsed time in seconds as '0.000 second(s)' (decimal separator of the default
+     *         locale)
      */
-    private double toSeconds(Duration time) {
-        return time.toMillis() / 1000.;
+    private static String toSeconds(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        long fraction = millis % 1000;
+        var out = new StringBuilder(24).append(millis / 1000).append(Timer.decimalSeparator());
+
+        if (fraction < 100) {
+            out.append(fraction < 10 ? "00" : "0");
+        }
+
+        return out.append(fraction).append(" second(s)").toString();
     }
+
+    /**
+     * @return the decimal separator of the default locale (cached until the locale changes)
+     */
+    private static char decimalSeparator() {
+        var locale = Locale.getDefault(Locale.Category.FORMAT);
+        var cached = separator;
+
+        if (cached.locale != locale) {
+            cached = new Separator(locale, DecimalFormatSymbols.getInstance(locale)
+                    .getDecimalSeparator());
+            separator = cached;
+        }
+
+        return cached.value;
+    }
+
+    private static StringBuilder pad(StringBuilder out, long value) {
+        return (value < 10 ? out.append('0') : out).append(value);
+    }
+
+    private record Separator(Locale locale, char value) {}
 }
@@ -0,0 +1,182 @@
+package mike.bootstrap.utilities.helpers;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Caching timestamp formatter, for the hot paths (logs, console) formatting the current time on
+ * every call.
+ * <p>
+ * The text of the current second is formatted once by the {@link DateTimeFormatter} and cached,
+ * the milliseconds are then patched in the cached text. When the pattern does not print the
+ * milliseconds as 3 digits ('SSS'), the text is cached per millisecond.
+ * <p>
+ * Thread-safe without lock: the cache is an immutable entry published through a volatile field
+ * (concurrent threads may format the same second twice, the last one wins).
+ *
+ * @author Mike (2026-10)
+ */
+public final class TimestampFormatter {
+
+    private static final long PROBE_SECOND = 1_600_000_000L;
+
+    /** Printer description of the 'SSS' pattern */
+    private static final String MILLIS_PRINTER = "Fraction\\(NanoOfSecond,3,3\\)";
+
+    private final DateTimeFormatter formatter;
+
+    /** Position of the milliseconds in the formatted text (-1 if cached per millisecond) */
+    private final int millisIndex;
+
+    private volatile Entry cached = new Entry(Long.MIN_VALUE, null);
+
+    /**
+     * @param formatter zoned formatter
+     */
+    private TimestampFormatter(DateTimeFormatter formatter) {
+        this.formatter = formatter;
+        this.millisIndex = TimestampFormatter.millisIndex(formatter);
+    }
+
+    /**
+     * @param pattern the date time pattern (i.e. 'yyyy-MM-dd HH:mm:ss.SSS')
+     * @return a new formatter in the system default zone
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static TimestampFormatter of(String pattern) {
+        PreConditions.notBlank(pattern, "The pattern cannot be blank");
+        return TimestampFormatter.of(DateTimeFormatter.ofPattern(pattern));
+    }
+
+    /**
+     * @param formatter the formatter (its zone is used if any, otherwise the system default zone)
+     * @return a new formatter
+     * @throws IllegalArgumentException if the formatter is null
+     */
+    public static TimestampFormatter of(DateTimeFormatter formatter) {
+        PreConditions.notNull(formatter, "The formatter cannot be null");
+
+        return new TimestampFormatter(formatter.getZone() != null ? formatter
+                : formatter.withZone(ZoneId.systemDefault()));
+    }
+
+    /**
+     * @return the underlying (zoned) formatter
+     */
+    public DateTimeFormatter formatter() {
+        return this.formatter;
+    }
+
+    /**
+     * @return the current time formatted
+     */
+    public String now() {
+        return this.format(System.currentTimeMillis());
+    }
+
+    /**
+     * @param epochMillis number of milliseconds from the epoch of 1970-01-01T00:00:00Z
+     * @return the formatted time
+     */
+    public String format(long epochMillis) {
+
+        if (this.millisIndex < 0) {
+            return this.entry(epochMillis, epochMillis).text;
+        }
+
+        var entry = this.entry(Math.floorDiv(epochMillis, 1000), epochMillis);
+        var chars = entry.text.toCharArray();
+        TimestampFormatter.putMillis(chars, this.millisIndex, epochMillis);
+
+        return new String(chars);
+    }
+
+    /**
+     * @param epochMillis number of milliseconds from the epoch of 1970-01-01T00:00:00Z
+     * @param out         the output to append the formatted time to
+     * @return the output
+     */
+    public StringBuilder formatTo(long epochMillis, StringBuilder out) {
+
+        if (this.millisIndex < 0) {
+            return out.append(this.entry(epochMillis, epochMillis).text);
+        }
+
+        var text = this.entry(Math.floorDiv(epochMillis, 1000), epochMillis).text;
+        int millis = Math.floorMod(epochMillis, 1000);
+
+        return out.append(text, 0, this.millisIndex).append((char) ('0' + millis / 100))
+                .append((char) ('0' + millis / 10 % 10)).append((char) ('0' + millis % 10))
+                .append(text, this.millisIndex + 3, text.length());
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    /**
+     * @param key         the cache key (epoch second or millisecond)
+     * @param epochMillis the time to format on cache miss
+     * @return the cached entry of the key
+     */
+    private Entry entry(long key, long epochMillis) {
+        var entry = this.cached;
+
+        if (entry.key != key) {
+            entry = new Entry(key, this.formatter.format(Instant.ofEpochMilli(epochMillis)));
+            this.cached = entry;
+        }
+
+        return entry;
+    }
+
+    /**
+     * Locates the milliseconds by formatting probes only differing by their milliseconds. The
+     * printer must hold a single 3 digits fraction of second ('SSS') and no other sub-second field
+     * (i.e. 'A' milli-of-day, variable length).
+     *
+     * @return the position of the 3 milliseconds digits or -1 if not printed as such
+     */
+    private static int millisIndex(DateTimeFormatter formatter) {
+        var printer = formatter.toString().replaceFirst(MILLIS_PRINTER, "");
+
+        if (printer.length() == formatter.toString().length()
+                || printer.matches(".*(Nano|Micro|Milli|Instant).*")) {
+            return -1;
+        }
+
+        var base = PROBE_SECOND * 1000;
+        var zero = formatter.format(Instant.ofEpochMilli(base));
+        var probe = formatter.format(Instant.ofEpochMilli(base + 987));
+        int index = zero.length() == probe.length() ? probe.indexOf("987") : -1;
+
+        if (index < 0 || !zero.startsWith("000", index)) {
+            return -1;
+        }
+
+        // Nothing else may change with the milliseconds
+        var chars = zero.toCharArray();
+        TimestampFormatter.putMillis(chars, index, 987);
+
+        if (!probe.equals(new String(chars))) {
+            return -1;
+        }
+
+        var other = formatter.format(Instant.ofEpochMilli(base + 123)).toCharArray();
+        TimestampFormatter.putMillis(other, index, 0);
+
+        return zero.equals(new String(other)) ? index : -1;
+    }
+
+    private static void putMillis(char[] chars, int index, long epochMillis) {
+        int millis = Math.floorMod(epochMillis, 1000);
+
+        chars[index] = (char) ('0' + millis / 100);
+        chars[index + 1] = (char) ('0' + millis / 10 % 10);
+        chars[index + 2] = (char) ('0' + millis % 10);
+    }
+
+    /**
+     * Cached formatted text (when patched, its milliseconds digits are overwritten)
+     */
+    private record Entry(long key, String text) {}
+}
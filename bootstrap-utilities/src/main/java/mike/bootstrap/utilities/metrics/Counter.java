@@ -0,0 +1,63 @@
+package mike.bootstrap.utilities.metrics;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import mike.bootstrap.utilities.helpers.PreConditions;
+import mike.bootstrap.utilities.metrics.MetricsSnapshot.Sample;
+import mike.bootstrap.utilities.metrics.MetricsSnapshot.Type;
+
+/**
+ * Monotonic counter (striped {@link LongAdder}, no contention between the writers).
+ *
+ * @author Mike (2026-10)
+ */
+public final class Counter implements Metric {
+
+    private final String name;
+    private final Map<String, String> labels;
+    private final LongAdder count = new LongAdder();
+
+    Counter(String name, Map<String, String> labels) {
+        this.name = name;
+        this.labels = labels;
+    }
+
+    @Override
+    public String name() {
+        return this.name;
+    }
+
+    @Override
+    public Map<String, String> labels() {
+        return this.labels;
+    }
+
+    /**
+     * Increments the counter by one.
+     */
+    public void increment() {
+        this.count.increment();
+    }
+
+    /**
+     * @param amount the amount to add (must be positive)
+     * @throws IllegalArgumentException if the amount is negative
+     */
+    public void add(long amount) {
+        PreConditions.test(amount >= 0, "Counter::add: negative amount: %s", amount);
+        this.count.add(amount);
+    }
+
+    /**
+     * @return the current count
+     */
+    public long count() {
+        return this.count.sum();
+    }
+
+    @Override
+    public Sample sample() {
+        return new Sample(this.name, this.labels, Type.COUNTER, this.count.sum(), null);
+    }
+}
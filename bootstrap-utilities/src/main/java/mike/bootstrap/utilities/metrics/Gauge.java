@@ -0,0 +1,52 @@
+package mike.bootstrap.utilities.metrics;
+
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+
+import mike.bootstrap.utilities.metrics.MetricsSnapshot.Sample;
+import mike.bootstrap.utilities.metrics.MetricsSnapshot.Type;
+
+/**
+ * Gauge: value read from its supplier when a snapshot is taken (i.e. queue size, uptime).
+ *
+ * @author Mike (2026-10)
+ */
+public final class Gauge implements Metric {
+
+    private final String name;
+    private final Map<String, String> labels;
+    private final DoubleSupplier supplier;
+
+    Gauge(String name, Map<String, String> labels, DoubleSupplier supplier) {
+        this.name = name;
+        this.labels = labels;
+        this.supplier = supplier;
+    }
+
+    @Override
+    public String name() {
+        return this.name;
+    }
+
+    @Override
+    public Map<String, String> labels() {
+        return this.labels;
+    }
+
+    /**
+     * @return the current value (NaN if the supplier fails)
+     */
+    public double value() {
+
+        try {
+            return this.supplier.getAsDouble();
+        } catch (RuntimeException re) {
+            return Double.NaN;
+        }
+    }
+
+    @Override
+    public Sample sample() {
+        return new Sample(this.name, this.labels, Type.GAUGE, this.value(), null);
+    }
+}
@@ -0,0 +1,26 @@
+package mike.bootstrap.utilities.metrics;
+
+import java.util.Map;
+
+/**
+ * Named metric of a {@link MetricsRegistry}, identified by its name and labels.
+ *
+ * @author Mike (2026-10)
+ */
+public sealed interface Metric permits Counter, Gauge, TimerMetric {
+
+    /**
+     * @return the metric name (i.e. 'http_server_requests_seconds')
+     */
+    String name();
+
+    /**
+     * @return the metric labels (ordered as registered)
+     */
+    Map<String, String> labels();
+
+    /**
+     * @return the current value of the metric (taken without blocking the writers)
+     */
+    MetricsSnapshot.Sample sample();
+}
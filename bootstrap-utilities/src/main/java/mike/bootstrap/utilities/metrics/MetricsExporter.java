@@ -0,0 +1,17 @@
+package mike.bootstrap.utilities.metrics;
+
+/**
+ * Receives the periodic snapshots of a registry (log, push gateway, file ...).
+ *
+ * @author Mike (2026-10)
+ * @see MetricsRegistry#schedule(MetricsExporter, java.time.Duration)
+ */
+@FunctionalInterface
+public interface MetricsExporter {
+
+    /**
+     * @param snapshot the metric values
+     * @throws Exception any failure (logged, the next snapshots are still exported)
+     */
+    void export(MetricsSnapshot snapshot) throws Exception;
+}
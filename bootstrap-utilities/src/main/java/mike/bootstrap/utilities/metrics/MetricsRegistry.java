@@ -0,0 +1,240 @@
+package mike.bootstrap.utilities.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import mike.bootstrap.utilities.helpers.PreConditions;
+
+/**
+ * Registry of named metrics (counters, gauges and timers).
+ *
+ * <p>
+ * The writers never lock: counters are {@link java.util.concurrent.atomic.LongAdder}s and timers
+ * record in lock-free histograms. A {@link #snapshot()} reads the current values without stopping
+ * them, and can be exported periodically with {@link #schedule(MetricsExporter, Duration)}.
+ * </p>
+ *
+ * <pre>
+ * var requests = MetricsRegistry.global().timer("http_server_requests_seconds", "uri", "/users");
+ * var stopwatch = requests.start();
+ * ...
+ * stopwatch.stop();
+ * </pre>
+ *
+ * <p>
+ * Lookup by name allocates its key: keep a reference on the metric for the hot paths.
+ * </p>
+ *
+ * @author Mike (2026-10)
+ */
+public final class MetricsRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(MetricsRegistry.class);
+
+    private static final Pattern NAME = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+    private static final Pattern LABEL = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+
+    private static final Comparator<Metric> ORDER = Comparator.comparing(Metric::name)
+            .thenComparing(metric -> metric.labels().toString());
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final Map<Key, Metric> metrics = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> types = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+    private volatile MetricsSnapshot lastSnapshot;
+
+    private MetricsRegistry() {}
+
+    /**
+     * @return a new empty registry
+     */
+    public static MetricsRegistry of() {
+        return new MetricsRegistry();
+    }
+
+    /**
+     * @return the registry shared by the application (bootstrap phases, web requests ...)
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * @param name   the metric name
+     * @param labels the label names and values (name1, value1, name2, value2 ...)
+     * @return the existing counter or a new one
+     * @throws IllegalArgumentException if the name or labels are invalid, or if the name is used
+     *                                  by another type of metric
+     */
+    public Counter counter(String name, String... labels) {
+        return this.register(Counter.class, name, labels, key -> new Counter(key.name, key.labels));
+    }
+
+    /**
+     * @param name     the metric name
+     * @param supplier the value supplier (called at each snapshot)
+     * @param labels   the label names and values (name1, value1, name2, value2 ...)
+     * @return the existing gauge (supplier unchanged) or a new one
+     * @throws IllegalArgumentException if the name or labels are invalid, or if the name is used
+     *                                  by another type of metric
+     */
+    public Gauge gauge(String name, DoubleSupplier supplier, String... labels) {
+        PreConditions.notNull(supplier, "Metrics::gauge: supplier is required");
+        return this.register(Gauge.class, name, labels,
+                key -> new Gauge(key.name, key.labels, supplier));
+    }
+
+    /**
+     * @param name   the metric name
+     * @param labels the label names and values (name1, value1, name2, value2 ...)
+     * @return the existing timer or a new one
+     * @throws IllegalArgumentException if the name or labels are invalid, or if the name is used
+     *                                  by another type of metric
+     */
+    public TimerMetric timer(String name, String... labels) {
+        return this.register(TimerMetric.class, name, labels,
+                key -> new TimerMetric(key.name, key.labels));
+    }
+
+    /**
+     * @param name   the metric name
+     * @param labels the label names and values (name1, value1, name2, value2 ...)
+     * @return true if the metric has been removed (the name remains bound to its type)
+     */
+    public boolean remove(String name, String... labels) {
+        return this.metrics.remove(Key.of(name, labels)) != null;
+    }
+
+    /**
+     * @return the registered metrics (sorted by name and labels)
+     */
+    public List<Metric> metrics() {
+        var list = new ArrayList<>(this.metrics.values());
+        list.sort(ORDER);
+        return list;
+    }
+
+    /**
+     * Reads the current values (writers are not stopped, values recorded during the snapshot may
+     * or may not be included).
+     *
+     * @return the metric values
+     */
+    public MetricsSnapshot snapshot() {
+        var list = this.metrics();
+        var samples = new ArrayList<MetricsSnapshot.Sample>(list.size());
+
+        for (Metric metric : list) {
+            samples.add(metric.sample());
+        }
+
+        return new MetricsSnapshot(System.currentTimeMillis(), samples);
+    }
+
+    /**
+     * @return the last snapshot taken for the scheduled exporters (null if none)
+     */
+    public MetricsSnapshot lastSnapshot() {
+        return this.lastSnapshot;
+    }
+
+    /**
+     * Exports periodically the snapshots (daemon thread, shared by the exporters of the registry).
+     *
+     * @param exporter the exporter (failures are logged)
+     * @param interval the export interval
+     * @return the scheduled task (to cancel the export)
+     * @throws IllegalArgumentException if the exporter is null or the interval is not positive
+     */
+    public ScheduledFuture<?> schedule(MetricsExporter exporter, Duration interval) {
+        PreConditions.notNull(exporter, "Metrics::schedule: exporter is required");
+        PreConditions.test(interval != null && interval.toMillis() > 0,
+                "Metrics::schedule: invalid interval: %s", interval);
+
+        long millis = interval.toMillis();
+        return this.scheduler().scheduleAtFixedRate(() -> this.export(exporter), millis, millis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private <T extends Metric> T register(Class<T> type, String name, String[] labels,
+            Function<Key, Metric> factory) {
+
+        var key = Key.of(name, labels);
+
+        // Single type per name, whatever the labels (one TYPE line per name when exported)
+        var registered = this.types.computeIfAbsent(key.name, n -> type);
+
+        PreConditions.test(registered == type, "Metrics::register: %s already registered as %s",
+                name, registered.getSimpleName());
+
+        return type.cast(this.metrics.computeIfAbsent(key, factory));
+    }
+
+    private synchronized ScheduledExecutorService scheduler() {
+
+        if (this.scheduler == null) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("metrics-exporter").daemon().factory());
+        }
+
+        return this.scheduler;
+    }
+
+    private void export(MetricsExporter exporter) {
+
+        try {
+            var snapshot = this.snapshot();
+            this.lastSnapshot = snapshot;
+            exporter.export(snapshot);
+        } catch (Exception e) {
+            log.error("Metrics::export: {} - causedBy:", e.getMessage(), e);
+        }
+    }
+
+    private record Key(String name, Map<String, String> labels) {
+
+        static Key of(String name, String[] labels) {
+            PreConditions.match(name, NAME, "Metrics::register: invalid name: %s", name);
+            PreConditions.test(labels != null && labels.length % 2 == 0,
+                    "Metrics::register: labels must be name/value pairs: %s",
+                    labels == null ? null : Arrays.toString(labels));
+
+            if (labels.length == 0) {
+                return new Key(name, Map.of());
+            }
+
+            var map = new LinkedHashMap<String, String>();
+
+            for (int i = 0; i < labels.length; i += 2) {
+                PreConditions.match(labels[i], LABEL, "Metrics::register: invalid label: %s",
+                        labels[i]);
+                PreConditions.notNull(labels[i + 1], "Metrics::register: %s value is null",
+                        labels[i]);
+                map.put(labels[i], labels[i + 1]);
+            }
+
+            return new Key(name, Collections.unmodifiableMap(map));
+        }
+    }
+}
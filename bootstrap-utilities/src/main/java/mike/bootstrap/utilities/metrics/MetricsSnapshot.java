@@ -0,0 +1,55 @@
+package mike.bootstrap.utilities.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+import mike.bootstrap.utilities.helpers.LatencyHistogram;
+
+/**
+ * Values of the metrics of a registry at a given time.
+ *
+ * @author Mike (2026-10)
+ */
+public final class MetricsSnapshot {
+
+    /**
+     * Metric types
+     */
+    public enum Type {
+        COUNTER, GAUGE, TIMER
+    }
+
+    /**
+     * Value of a metric.
+     *
+     * @param name      the metric name
+     * @param labels    the metric labels
+     * @param type      the metric type
+     * @param value     the counter or gauge value (count of recorded durations for a timer)
+     * @param histogram the recorded durations in nanoseconds (timer only, null otherwise)
+     */
+    public record Sample(String name, Map<String, String> labels, Type type, double value,
+            LatencyHistogram.Snapshot histogram) {}
+
+    private final long timestamp;
+    private final List<Sample> samples;
+
+    MetricsSnapshot(long timestamp, List<Sample> samples) {
+        this.timestamp = timestamp;
+        this.samples = List.copyOf(samples);
+    }
+
+    /**
+     * @return the snapshot time (epoch milliseconds)
+     */
+    public long timestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * @return the metric values (sorted by name)
+     */
+    public List<Sample> samples() {
+        return this.samples;
+    }
+}
@@ -0,0 +1,137 @@
+package mike.bootstrap.utilities.metrics;
+
+import java.util.Map;
+
+import mike.bootstrap.utilities.helpers.LatencyHistogram;
+import mike.bootstrap.utilities.metrics.MetricsSnapshot.Sample;
+
+/**
+ * Prometheus text exposition format (version 0.0.4).
+ *
+ * <p>
+ * Counters and gauges are written as is, timers as summaries in seconds (quantiles 0.5, 0.99 and
+ * 0.999, sum and count).
+ * </p>
+ *
+ * @author Mike (2026-10)
+ */
+public final class PrometheusFormat {
+
+    /**
+     * Content type of the exposition format
+     */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double[] QUANTILES = { 0.5, 0.99, 0.999 };
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    /**
+     * Private constructor (Prevent any instantiation)
+     */
+    private PrometheusFormat() {}
+
+    /**
+     * @param snapshot the metric values
+     * @return the exposition text
+     */
+    public static String format(MetricsSnapshot snapshot) {
+        var sb = new StringBuilder(snapshot.samples().size() * 64);
+        formatTo(snapshot, sb);
+        return sb.toString();
+    }
+
+    /**
+     * @param snapshot the metric values (sorted by name, as taken by the registry)
+     * @param sb       the target buffer
+     */
+    public static void formatTo(MetricsSnapshot snapshot, StringBuilder sb) {
+        String current = null;
+
+        for (Sample sample : snapshot.samples()) {
+
+            if (!sample.name().equals(current)) {
+                current = sample.name();
+                sb.append("# TYPE ").append(current).append(' ').append(switch (sample.type()) {
+                    case COUNTER -> "counter";
+                    case GAUGE -> "gauge";
+                    case TIMER -> "summary";
+                }).append('\n');
+            }
+
+            if (sample.histogram() == null) {
+                line(sb, current, "", sample.labels(), null, sample.value());
+            } else {
+                summary(sb, current, sample.labels(), sample.histogram());
+            }
+        }
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private static void summary(StringBuilder sb, String name, Map<String, String> labels,
+            LatencyHistogram.Snapshot histogram) {
+
+        for (double quantile : QUANTILES) {
+            double value = histogram.count() == 0 ? Double.NaN
+                    : histogram.percentile(quantile * 100) / NANOS_PER_SECOND;
+            line(sb, name, "", labels, quantile, value);
+        }
+
+        line(sb, name, "_sum", labels, null, histogram.sum() / NANOS_PER_SECOND);
+        line(sb, name, "_count", labels, null, histogram.count());
+    }
+
+    private static void line(StringBuilder sb, String name, String suffix,
+            Map<String, String> labels, Double quantile, double value) {
+
+        sb.append(name).append(suffix);
+
+        if (!labels.isEmpty() || quantile != null) {
+            char separator = '{';
+
+            for (var label : labels.entrySet()) {
+                sb.append(separator).append(label.getKey()).append("=\"");
+                escape(sb, label.getValue());
+                sb.append('"');
+                separator = ',';
+            }
+
+            if (quantile != null) {
+                sb.append(separator).append("quantile=\"").append(quantile).append('"');
+            }
+
+            sb.append('}');
+        }
+
+        sb.append(' ');
+        number(sb, value);
+        sb.append('\n');
+    }
+
+    private static void number(StringBuilder sb, double value) {
+
+        if (Double.isNaN(value)) {
+            sb.append("NaN");
+        } else if (Double.isInfinite(value)) {
+            sb.append(value > 0 ? "+Inf" : "-Inf");
+        } else if (value == (long) value && Math.abs(value) < 1e15) {
+            sb.append((long) value);
+        } else {
+            sb.append(value);
+        }
+    }
+
+    private static void escape(StringBuilder sb, String value) {
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case '"' -> sb.append("\\\"");
+                case '\n' -> sb.append("\\n");
+                default -> sb.append(c);
+            }
+        }
+    }
+}
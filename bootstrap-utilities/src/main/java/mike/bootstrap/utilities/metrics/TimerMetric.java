@@ -0,0 +1,81 @@
+package mike.bootstrap.utilities.metrics;
+
+import java.util.Map;
+
+import mike.bootstrap.utilities.helpers.LatencyHistogram;
+import mike.bootstrap.utilities.helpers.Stopwatch;
+import mike.bootstrap.utilities.metrics.MetricsSnapshot.Sample;
+import mike.bootstrap.utilities.metrics.MetricsSnapshot.Type;
+
+/**
+ * Timer: durations (nanoseconds) recorded in a lock-free {@link LatencyHistogram}.
+ *
+ * <pre>
+ * var stopwatch = timer.start();
+ * ...
+ * stopwatch.stop(); // recorded
+ * </pre>
+ *
+ * @author Mike (2026-10)
+ */
+public final class TimerMetric implements Metric {
+
+    private final String name;
+    private final Map<String, String> labels;
+    private final LatencyHistogram histogram = LatencyHistogram.of();
+
+    TimerMetric(String name, Map<String, String> labels) {
+        this.name = name;
+        this.labels = labels;
+    }
+
+    @Override
+    public String name() {
+        return this.name;
+    }
+
+    @Override
+    public Map<String, String> labels() {
+        return this.labels;
+    }
+
+    /**
+     * @return a started stopwatch recording its laps in this timer
+     */
+    public Stopwatch start() {
+        return Stopwatch.start(this.histogram);
+    }
+
+    /**
+     * @param nanos the duration to record in nanoseconds
+     */
+    public void record(long nanos) {
+        this.histogram.record(nanos);
+    }
+
+    /**
+     * @param task the task to time
+     */
+    public void time(Runnable task) {
+        long start = System.nanoTime();
+
+        try {
+            task.run();
+        } finally {
+            this.histogram.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return the recorded durations
+     */
+    public LatencyHistogram.Snapshot snapshot() {
+        return this.histogram.snapshot();
+    }
+
+    @Override
+    public Sample sample() {
+        var snapshot = this.histogram.snapshot();
+        return new Sample(this.name, this.labels, Type.TIMER, snapshot.count(), snapshot);
+    }
+}
@@ -0,0 +1,25 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the content of an archive entry.
+ * <p>
+ * The content stream is only valid during the call and must not be closed.
+ *
+ * @param <R> the type of the read result
+ * @author Mike (2026-10)
+ * @see Resource#readEntries(ArchiveEntryReader)
+ */
+@FunctionalInterface
+public interface ArchiveEntryReader<R> {
+
+    /**
+     * @param name    the entry name (path within the archive)
+     * @param content the decompressed entry content
+     * @return the read result
+     * @throws IOException if any IO errors occurs
+     */
+    R read(String name, InputStream content) throws IOException;
+}
@@ -0,0 +1,112 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.io.input.CloseShieldInputStream;
+
+/**
+ * Zip archive entries reader.
+ * <p>
+ * Local archives are opened with random access: entries are read without scanning the whole
+ * archive and can be decompressed in parallel (each entry has its own stream over the shared file
+ * channel). Other archives (classpath, URL) are streamed sequentially. Directory entries are
+ * skipped and nothing is extracted to disk.
+ *
+ * @author Mike (2026-10)
+ */
+final class ArchiveReader {
+
+    /**
+     * Private constructor (Prevent any instantiation)
+     */
+    private ArchiveReader() {}
+
+    /**
+     * @param resource the zip archive
+     * @param reader   the entry reader
+     * @param parallel true to read the entries of a local archive in parallel
+     * @return the read results in the archive order
+     * @throws IOException if any IO errors occurs
+     */
+    static <R> List<R> read(Resource resource, ArchiveEntryReader<R> reader, boolean parallel)
+            throws IOException {
+        var path = resource.localPath();
+
+        if (path == null) {
+            return ArchiveReader.stream(resource, reader);
+        }
+
+        try (var zip = ZipFile.builder().setPath(path).get()) {
+            var entries = Collections.list(zip.getEntriesInPhysicalOrder()).stream()
+                    .filter(e -> !e.isDirectory());
+
+            if (parallel) {
+                entries = entries.parallel();
+            }
+
+            return entries.map(e -> ArchiveReader.read(zip, e, reader)).toList();
+        } catch (UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+    }
+
+    /**
+     * @param resource the zip archive
+     * @return the content of the first file entry (closing the stream closes the archive)
+     * @throws IOException if any IO errors occurs or if the archive has no file entry
+     */
+    static InputStream firstEntry(Resource resource) throws IOException {
+        var zis = new ZipArchiveInputStream(BufferPool.input(resource.getInputStream()));
+
+        try {
+            for (var entry = zis.getNextEntry(); entry != null; entry = zis.getNextEntry()) {
+
+                if (!entry.isDirectory()) {
+                    return zis;
+                }
+            }
+        } catch (IOException ioe) {
+            zis.close();
+            throw ioe;
+        }
+
+        zis.close();
+        throw new IOException("no such file entry in zip archive: " + resource.getName());
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private static <R> R read(ZipFile zip, ZipArchiveEntry entry, ArchiveEntryReader<R> reader) {
+
+        try (var is = BufferPool.input(zip.getInputStream(entry))) {
+            return reader.read(entry.getName(), CloseShieldInputStream.wrap(is));
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private static <R> List<R> stream(Resource resource, ArchiveEntryReader<R> reader)
+            throws IOException {
+        var results = new ArrayList<R>();
+
+        try (var zis = new ZipArchiveInputStream(BufferPool.input(resource.getInputStream()))) {
+
+            for (var entry = zis.getNextEntry(); entry != null; entry = zis.getNextEntry()) {
+
+                if (!entry.isDirectory()) {
+                    results.add(reader.read(entry.getName(), CloseShieldInputStream.wrap(zis)));
+                }
+            }
+        }
+
+        return results;
+    }
+}
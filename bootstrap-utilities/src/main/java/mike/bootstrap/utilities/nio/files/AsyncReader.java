@@ -0,0 +1,162 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Asynchronous resource reads.
+ * <p>
+ * Local files are read with an {@link AsynchronousFileChannel}, other blocking operations (URL
+ * streams, line decoding) run on an executor which defaults to a virtual thread per task.
+ *
+ * @author Mike (2026-10)
+ */
+final class AsyncReader {
+
+    private static volatile Executor defaultExecutor;
+
+    /**
+     * Private constructor (Prevent any instantiation)
+     */
+    private AsyncReader() {}
+
+    /**
+     * Blocking operation returning a result.
+     */
+    @FunctionalInterface
+    interface IOSupplier<T> {
+
+        T get() throws IOException;
+    }
+
+    /**
+     * @return the executor used when none is given (default: a virtual thread per task)
+     */
+    static Executor defaultExecutor() {
+
+        if (defaultExecutor == null) {
+
+            synchronized (AsyncReader.class) {
+
+                if (defaultExecutor == null) {
+                    defaultExecutor = Executors.newVirtualThreadPerTaskExecutor();
+                }
+            }
+        }
+
+        return defaultExecutor;
+    }
+
+    /**
+     * @param executor the executor used when none is given
+     */
+    static void defaultExecutor(Executor executor) {
+        defaultExecutor = executor;
+    }
+
+    /**
+     * @param operation the blocking operation
+     * @param executor  the executor running the operation
+     * @return the operation result (completed exceptionally with the IOException if any)
+     */
+    static <T> CompletableFuture<T> supply(IOSupplier<T> operation, Executor executor) {
+
+        return CompletableFuture.supplyAsync(() -> {
+
+            try {
+                return operation.get();
+            } catch (IOException ioe) {
+                throw new CompletionException(ioe);
+            }
+        }, executor);
+    }
+
+    /**
+     * Read the whole file with an asynchronous file channel.
+     *
+     * @param path     the file to read
+     * @param executor the executor running the completion handlers (if an executor service)
+     * @return the file content
+     */
+    static CompletableFuture<byte[]> readAll(Path path, Executor executor) {
+        var future = new CompletableFuture<byte[]>();
+
+        try {
+            var service = executor instanceof ExecutorService es ? es : null;
+            var channel = AsynchronousFileChannel.open(path, Set.of(StandardOpenOption.READ),
+                    service);
+
+            long size = channel.size();
+
+            if (size > Integer.MAX_VALUE - 8) {
+                channel.close();
+                throw new IOException("file too large to be read in memory: " + path);
+            }
+
+            var buffer = ByteBuffer.allocate((int) size);
+            channel.read(buffer, 0, buffer, new ReadHandler(channel, future));
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    /**
+     * Read the next part of the file until the buffer is full or the end of file is reached.
+     */
+    private static class ReadHandler implements CompletionHandler<Integer, ByteBuffer> {
+
+        private final AsynchronousFileChannel channel;
+        private final CompletableFuture<byte[]> future;
+
+        ReadHandler(AsynchronousFileChannel channel, CompletableFuture<byte[]> future) {
+            this.channel = channel;
+            this.future = future;
+        }
+
+        @Override
+        public void completed(Integer read, ByteBuffer buffer) {
+
+            if (read >= 0 && buffer.hasRemaining()) {
+                this.channel.read(buffer, buffer.position(), buffer, this);
+                return;
+            }
+
+            this.close();
+
+            var content = buffer.array();
+            int length = buffer.position();
+
+            // The file may have been truncated since its size has been read
+            this.future.complete(length == content.length ? content
+                    : Arrays.copyOf(content, length));
+        }
+
+        @Override
+        public void failed(Throwable exc, ByteBuffer buffer) {
+            this.close();
+            this.future.completeExceptionally(exc);
+        }
+
+        private void close() {
+
+            try {
+                this.channel.close();
+            } catch (IOException ioe) {
+                // Ignore: the read is already completed
+            }
+        }
+    }
+}
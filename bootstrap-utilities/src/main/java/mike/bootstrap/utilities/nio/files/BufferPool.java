@@ -0,0 +1,199 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Pool of large byte buffers used by the buffered streams of the (de)compression pipeline.
+ * <p>
+ * Buffers are borrowed when a stream is created and given back when it is closed, so that reading
+ * many compressed resources does not allocate a new 64kb buffer per stream. Direct buffers used
+ * by the file channel writers are pooled the same way (a direct buffer is written to the channel
+ * without an intermediate copy).
+ *
+ * @author Mike (2026-10)
+ */
+final class BufferPool {
+
+    /** Size of the pooled buffers (64kb) */
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int MAX_POOLED_BUFFERS = 64;
+
+    private static final ArrayBlockingQueue<byte[]> buffers = new ArrayBlockingQueue<>(
+            MAX_POOLED_BUFFERS);
+
+    private static final ArrayBlockingQueue<ByteBuffer> directBuffers = new ArrayBlockingQueue<>(
+            MAX_POOLED_BUFFERS);
+
+    /**
+     * Private constructor (Prevent any instantiation)
+     */
+    private BufferPool() {}
+
+    /**
+     * @param is the stream to buffer
+     * @return a buffered input stream using a pooled buffer
+     */
+    static InputStream input(InputStream is) {
+        return new PooledInputStream(is, BufferPool.acquire());
+    }
+
+    /**
+     * @param os the stream to buffer
+     * @return a buffered output stream using a pooled buffer
+     */
+    static OutputStream output(OutputStream os) {
+        return new PooledOutputStream(os, BufferPool.acquire());
+    }
+
+    /**
+     * @return a cleared direct buffer of {@link #BUFFER_SIZE} bytes (to give back with
+     *         {@link #release(ByteBuffer)})
+     */
+    static ByteBuffer direct() {
+        var buffer = directBuffers.poll();
+        return buffer != null ? buffer.clear() : ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    /**
+     * @param buffer a direct buffer borrowed with {@link #direct()} (must no longer be used)
+     */
+    static void release(ByteBuffer buffer) {
+        directBuffers.offer(buffer);
+    }
+
+    /**
+     * @return a heap buffer of {@link #BUFFER_SIZE} bytes (to give back with
+     *         {@link #release(byte[])})
+     */
+    static byte[] acquire() {
+        var buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * @param buffer a heap buffer borrowed with {@link #acquire()} (must no longer be used)
+     */
+    static void release(byte[] buffer) {
+        buffers.offer(buffer);
+    }
+
+    /**
+     * Buffered input stream giving its buffer back to the pool when closed.
+     */
+    private static class PooledInputStream extends BufferedInputStream {
+
+        private byte[] pooled;
+
+        PooledInputStream(InputStream is, byte[] buffer) {
+            super(is, 1);
+            this.buf = buffer;
+            this.pooled = buffer;
+        }
+
+        @Override
+        public void close() throws IOException {
+
+            try {
+                super.close();
+            } finally {
+
+                synchronized (this) {
+
+                    if (this.pooled != null) {
+                        BufferPool.release(this.pooled);
+                        this.pooled = null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Buffered output stream giving its buffer back to the pool when closed.
+     */
+    private static class PooledOutputStream extends OutputStream {
+
+        private final OutputStream os;
+
+        private byte[] buffer;
+        private int count;
+
+        PooledOutputStream(OutputStream os, byte[] buffer) {
+            this.os = os;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+
+            if (this.count == this.buffer().length) {
+                this.flushBuffer();
+            }
+
+            this.buffer[this.count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+
+            if (len >= this.buffer().length) {
+                // Larger than the buffer: written directly
+                this.flushBuffer();
+                this.os.write(b, off, len);
+                return;
+            }
+
+            if (len > this.buffer.length - this.count) {
+                this.flushBuffer();
+            }
+
+            System.arraycopy(b, off, this.buffer, this.count, len);
+            this.count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.flushBuffer();
+            this.os.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+
+            if (this.buffer == null) {
+                return;
+            }
+
+            try {
+                this.flushBuffer();
+            } finally {
+                BufferPool.release(this.buffer);
+                this.buffer = null;
+                this.os.close();
+            }
+        }
+
+        private byte[] buffer() throws IOException {
+
+            if (this.buffer == null) {
+                throw new IOException("stream closed");
+            }
+
+            return this.buffer;
+        }
+
+        private void flushBuffer() throws IOException {
+
+            if (this.count > 0) {
+                this.os.write(this.buffer(), 0, this.count);
+                this.count = 0;
+            }
+        }
+    }
+}
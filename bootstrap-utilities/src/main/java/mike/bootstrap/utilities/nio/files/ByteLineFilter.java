@@ -0,0 +1,120 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import mike.bootstrap.utilities.helpers.PreConditions;
+
+/**
+ * Byte-level line filter evaluated on the raw (not yet decoded) line content.
+ * <p>
+ * A line is decoded to a {@code String} only when the filter accepts it, which avoids the
+ * allocation of lines that are rejected anyway. The line terminator is never part of the range.
+ *
+ * @author Mike (2026-10)
+ */
+@FunctionalInterface
+public interface ByteLineFilter {
+
+    /**
+     * @param buffer the buffer holding the line (must not be modified)
+     * @param offset absolute position of the first byte of the line within the buffer
+     * @param length length of the line in bytes (without line terminator)
+     * @return true if the line must be decoded, otherwise false
+     */
+    boolean test(ByteBuffer buffer, int offset, int length);
+
+    /**
+     * @return a filter that accepts all lines
+     */
+    static ByteLineFilter all() {
+        return (buffer, offset, length) -> true;
+    }
+
+    /**
+     * @return a filter that accepts lines containing at least one non-whitespace (ASCII) byte
+     */
+    static ByteLineFilter notBlank() {
+
+        return (buffer, offset, length) -> {
+
+            for (int i = offset; i < offset + length; i++) {
+                byte b = buffer.get(i);
+
+                if (b != ' ' && b != '\t' && b != '\f' && b != 0x0B) {
+                    return true;
+                }
+            }
+
+            return false;
+        };
+    }
+
+    /**
+     * @param prefix  the expected line prefix
+     * @param charset the charset used to encode the prefix (must match the resource charset)
+     * @return a filter that accepts lines starting with the given prefix
+     */
+    static ByteLineFilter startsWith(String prefix, Charset charset) {
+        final byte[] token = PreConditions.notNull(prefix, "no such prefix").getBytes(charset);
+
+        return (buffer, offset, length) -> length >= token.length
+                && ByteLineFilter.matches(buffer, offset, token);
+    }
+
+    /**
+     * @param value   the expected sequence
+     * @param charset the charset used to encode the value (must match the resource charset)
+     * @return a filter that accepts lines containing the given sequence
+     */
+    static ByteLineFilter contains(String value, Charset charset) {
+        final byte[] token = PreConditions.notNull(value, "no such value").getBytes(charset);
+
+        return (buffer, offset, length) -> {
+
+            for (int i = offset; i <= offset + length - token.length; i++) {
+
+                if (ByteLineFilter.matches(buffer, i, token)) {
+                    return true;
+                }
+            }
+
+            return false;
+        };
+    }
+
+    /**
+     * @return a filter that represents the logical negation of this filter
+     */
+    default ByteLineFilter negate() {
+        return (buffer, offset, length) -> !this.test(buffer, offset, length);
+    }
+
+    /**
+     * @param other a filter that will be logically-ANDed with this filter
+     * @return a composed filter that represents a short-circuiting logical AND
+     */
+    default ByteLineFilter and(ByteLineFilter other) {
+        PreConditions.notNull(other, "no such filter");
+        return (buffer, offset, length) -> this.test(buffer, offset, length)
+                && other.test(buffer, offset, length);
+    }
+
+    /**
+     * @param buffer the buffer to check
+     * @param offset absolute position to start from
+     * @param token  the expected bytes
+     * @return true if the buffer contains the token at the given position
+     */
+    private static boolean matches(ByteBuffer buffer, int offset, byte[] token) {
+
+        for (int j = 0; j < token.length; j++) {
+
+            if (buffer.get(offset + j) != token[j]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
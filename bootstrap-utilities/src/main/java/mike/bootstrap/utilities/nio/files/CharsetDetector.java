@@ -0,0 +1,277 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.io.ByteOrderMark;
+import org.apache.commons.io.input.BOMInputStream;
+
+import mike.bootstrap.utilities.helpers.PreConditions;
+
+/**
+ * Resource charset detection from the first bytes of the content.
+ * <p>
+ * The detection first looks for a byte order mark (UTF-8, UTF-16, UTF-32). Without BOM, the
+ * sample is checked for UTF-16 (zero bytes at even or odd positions) then validated as UTF-8. If
+ * nothing matches (or the sample is pure ASCII), the fallback charset is returned.
+ *
+ * @author Mike (2026-10)
+ */
+public class CharsetDetector {
+
+    /** Number of bytes read to detect the charset (8kb) */
+    public static final int SAMPLE_SIZE = 8 * 1024;
+
+    private static final Charset UTF_32BE = Charset.forName("UTF-32BE");
+    private static final Charset UTF_32LE = Charset.forName("UTF-32LE");
+
+    private static final Map<Charset, Boolean> asciiCompatibles = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor (Prevent any instantiation)
+     */
+    private CharsetDetector() {}
+
+    /**
+     * Detect the charset of the resource from its first {@link #SAMPLE_SIZE} bytes (decompressed).
+     *
+     * @param resource the resource to check
+     * @param fallback the charset returned when no charset can be detected
+     * @return the detected charset or the fallback charset
+     * @throws IOException if any IO errors occurs
+     */
+    public static Charset detect(Resource resource, Charset fallback) throws IOException {
+
+        try (var is = resource.getContentStream()) {
+            var sample = is.readNBytes(SAMPLE_SIZE);
+            return CharsetDetector.detect(sample, sample.length, fallback);
+        }
+    }
+
+    /**
+     * @param sample   the first bytes of the content
+     * @param length   number of bytes of the sample
+     * @param fallback the charset returned when no charset can be detected
+     * @return the detected charset or the fallback charset
+     */
+    public static Charset detect(byte[] sample, int length, Charset fallback) {
+        PreConditions.notNull(fallback, "no such fallback charset");
+
+        var bom = CharsetDetector.bom(sample, length);
+
+        if (bom != null) {
+            return bom;
+        }
+
+        int evenZeros = 0;
+        int oddZeros = 0;
+
+        for (int i = 0; i < length; i++) {
+
+            if (sample[i] == 0) {
+
+                if ((i & 1) == 0) {
+                    evenZeros++;
+                } else {
+                    oddZeros++;
+                }
+            }
+        }
+
+        // UTF-16 text (mostly latin) has a zero byte for almost each character
+        int pairs = length / 2;
+
+        if (pairs > 0 && evenZeros > pairs * 0.3 && oddZeros < pairs * 0.05) {
+            return StandardCharsets.UTF_16BE;
+        }
+
+        if (pairs > 0 && oddZeros > pairs * 0.3 && evenZeros < pairs * 0.05) {
+            return StandardCharsets.UTF_16LE;
+        }
+
+        return CharsetDetector.isUtf8(sample, length) ? StandardCharsets.UTF_8 : fallback;
+    }
+
+    /**
+     * @param sample the first bytes of the content
+     * @param length number of bytes of the sample
+     * @return the charset of the byte order mark or null if the sample does not start with a BOM
+     */
+    public static Charset bom(byte[] sample, int length) {
+
+        if (startsWith(sample, length, 0x00, 0x00, 0xFE, 0xFF)) {
+            return UTF_32BE;
+        } else if (startsWith(sample, length, 0xFF, 0xFE, 0x00, 0x00)) {
+            return UTF_32LE;
+        } else if (startsWith(sample, length, 0xEF, 0xBB, 0xBF)) {
+            return StandardCharsets.UTF_8;
+        } else if (startsWith(sample, length, 0xFE, 0xFF)) {
+            return StandardCharsets.UTF_16BE;
+        } else if (startsWith(sample, length, 0xFF, 0xFE)) {
+            return StandardCharsets.UTF_16LE;
+        }
+
+        return null;
+    }
+
+    /**
+     * @param charset the charset to check
+     * @return true if the ASCII characters are encoded as single bytes with the same value and
+     *         a byte lower than 0x80 is always an ASCII character (outside a multi-bytes sequence)
+     */
+    static boolean isAsciiCompatible(Charset charset) {
+
+        return asciiCompatibles.computeIfAbsent(charset, cs -> {
+
+            if (!cs.canEncode() || cs.newEncoder().maxBytesPerChar() > 4) {
+                // Stateful encodings (ISO-2022) switch modes through ASCII escape sequences
+                return false;
+            }
+
+            var ascii = new byte[128];
+
+            for (int i = 0; i < ascii.length; i++) {
+                ascii[i] = (byte) i;
+            }
+
+            var decoded = new String(ascii, cs);
+
+            if (decoded.length() != ascii.length) {
+                return false;
+            }
+
+            for (int i = 0; i < ascii.length; i++) {
+
+                if (decoded.charAt(i) != i) {
+                    return false;
+                }
+            }
+
+            return true;
+        });
+    }
+
+    /**
+     * @param channel the file channel
+     * @param charset the file charset
+     * @return the length of the BOM to skip at the beginning of the file (0 if none)
+     * @throws IOException if any IO errors occurs
+     */
+    static int bomLength(FileChannel channel, Charset charset) throws IOException {
+
+        if (!StandardCharsets.UTF_8.equals(charset)) {
+            // Only UTF-8 is read through a mapped file
+            return 0;
+        }
+
+        var head = ByteBuffer.allocate(3);
+        channel.read(head, 0);
+
+        return charset.equals(bom(head.array(), head.position())) ? 3 : 0;
+    }
+
+    /**
+     * @param is      the resource input stream
+     * @param charset the resource charset
+     * @return an input stream that skips the BOM of the charset if present
+     * @throws IOException if any IO errors occurs
+     */
+    static InputStream skipBom(InputStream is, Charset charset) throws IOException {
+        var bom = CharsetDetector.byteOrderMark(charset);
+
+        if (bom == null) {
+            return is;
+        }
+
+        return BOMInputStream.builder().setInputStream(is).setByteOrderMarks(bom)
+                .setInclude(false).get();
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    /**
+     * @return the BOM to skip for the given charset or null if the BOM is part of the decoding
+     *         (i.e. UTF-16 with byte order detection) or if the charset has no BOM.
+     */
+    private static ByteOrderMark byteOrderMark(Charset charset) {
+
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            return ByteOrderMark.UTF_8;
+        } else if (StandardCharsets.UTF_16LE.equals(charset)) {
+            return ByteOrderMark.UTF_16LE;
+        } else if (StandardCharsets.UTF_16BE.equals(charset)) {
+            return ByteOrderMark.UTF_16BE;
+        } else if (UTF_32LE.equals(charset)) {
+            return ByteOrderMark.UTF_32LE;
+        } else if (UTF_32BE.equals(charset)) {
+            return ByteOrderMark.UTF_32BE;
+        }
+
+        return null;
+    }
+
+    /**
+     * @return true if the sample contains at least one valid multi-bytes UTF-8 sequence and no
+     *         invalid sequence (a sequence truncated at the end of the sample is ignored)
+     */
+    private static boolean isUtf8(byte[] sample, int length) {
+        boolean multiBytes = false;
+        int i = 0;
+
+        while (i < length) {
+            int b = sample[i] & 0xFF;
+            int trailing;
+
+            if (b < 0x80) {
+                i++;
+                continue;
+            } else if (b >= 0xC2 && b <= 0xDF) {
+                trailing = 1;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                trailing = 2;
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                trailing = 3;
+            } else {
+                return false;
+            }
+
+            for (int j = 1; j <= trailing; j++) {
+
+                if (i + j >= length) {
+                    return multiBytes;
+                }
+
+                if ((sample[i + j] & 0xC0) != 0x80) {
+                    return false;
+                }
+            }
+
+            multiBytes = true;
+            i += trailing + 1;
+        }
+
+        return multiBytes;
+    }
+
+    private static boolean startsWith(byte[] sample, int length, int... bom) {
+
+        if (length < bom.length) {
+            return false;
+        }
+
+        for (int i = 0; i < bom.length; i++) {
+
+            if ((sample[i] & 0xFF) != bom[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
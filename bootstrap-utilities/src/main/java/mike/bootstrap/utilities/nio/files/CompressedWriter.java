@@ -0,0 +1,194 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+
+import mike.bootstrap.utilities.helpers.PreConditions;
+
+/**
+ * Compressed file writer, counterpart of the {@link Resource} transparent decompression.
+ * <p>
+ * Gzip, bzip2 and zstd files are written as a single compressed stream through a pooled buffer.
+ * Zip archives are written entry by entry: each {@link #entry(String)} call starts a new entry
+ * and closes the previous one.
+ *
+ * <pre>
+ * try (var writer = CompressedWriter.of(Path.of("export.zip"))) {
+ *     writer.entry("clients.csv").writeLines(clients, StandardCharsets.UTF_8);
+ *     writer.entry("orders.csv").writeLines(orders, StandardCharsets.UTF_8);
+ * }
+ * </pre>
+ *
+ * @author Mike (2026-10)
+ */
+public class CompressedWriter implements Closeable {
+
+    private static final byte[] EOL = System.lineSeparator().getBytes();
+
+    private final Path file;
+    private final Compression compression;
+
+    private OutputStream output;
+    private ZipArchiveOutputStream archive;
+    private boolean entryOpened;
+
+    /**
+     * @param file the file to write (the compression is deduced from the file extension)
+     * @return a new writer
+     * @throws IOException if the file cannot be created
+     * @see Compression#ofFilename(String)
+     */
+    public static CompressedWriter of(Path file) throws IOException {
+        PreConditions.notNull(file, "no such file provided");
+        return CompressedWriter.of(file, Compression.ofFilename(file.toString()));
+    }
+
+    /**
+     * @param file        the file to write
+     * @param compression the compression of the file content
+     * @return a new writer
+     * @throws IOException if the file cannot be created
+     */
+    public static CompressedWriter of(Path file, Compression compression) throws IOException {
+        PreConditions.notNull(file, "no such file provided");
+        PreConditions.notNull(compression, "no such compression provided");
+
+        return new CompressedWriter(file, compression);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @see CompressedWriter#of(Path, Compression)
+     */
+    private CompressedWriter(Path file, Compression compression) throws IOException {
+        this.file = file;
+        this.compression = compression;
+
+        if (compression == Compression.ZIP) {
+            this.archive = new ZipArchiveOutputStream(file);
+        } else {
+            this.output = compression.compress(Files.newOutputStream(file));
+        }
+    }
+
+    /**
+     * @return the compression of the written file
+     */
+    public Compression compression() {
+        return this.compression;
+    }
+
+    /**
+     * Start a new zip entry (the previous entry is closed).
+     *
+     * @param name the entry name (path within the archive)
+     * @return this writer
+     * @throws IOException if any IO errors occurs
+     * @throws IllegalStateException if the file is not a zip archive
+     */
+    public CompressedWriter entry(String name) throws IOException {
+        PreConditions.notBlank(name, "no such entry name provided");
+        this.checkOpen();
+
+        if (this.archive == null) {
+            throw new IllegalStateException("entries are only supported by zip archives: " + file);
+        }
+
+        this.closeEntry();
+        this.archive.putArchiveEntry(new ZipArchiveEntry(name));
+        this.output = BufferPool.output(CloseShieldOutputStream.wrap(this.archive));
+        this.entryOpened = true;
+
+        return this;
+    }
+
+    /**
+     * @return the stream of the compressed content (or of the current zip entry), must not be
+     *         closed
+     */
+    public OutputStream stream() {
+        this.checkOpen();
+
+        if (this.output == null) {
+            throw new IllegalStateException("no such zip entry started: " + file);
+        }
+
+        return CloseShieldOutputStream.wrap(this.output);
+    }
+
+    /**
+     * @param bytes the bytes to write
+     * @return this writer
+     * @throws IOException if any IO errors occurs
+     */
+    public CompressedWriter write(byte[] bytes) throws IOException {
+        this.stream().write(bytes);
+        return this;
+    }
+
+    /**
+     * @param lines   the lines to write (each line is followed by the system line separator)
+     * @param charset the lines charset
+     * @return this writer
+     * @throws IOException if any IO errors occurs
+     */
+    public CompressedWriter writeLines(Iterable<? extends CharSequence> lines, Charset charset)
+            throws IOException {
+        var os = this.stream();
+
+        for (CharSequence line : lines) {
+            os.write(line.toString().getBytes(charset));
+            os.write(EOL);
+        }
+
+        return this;
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        if (this.archive != null) {
+
+            try (var zip = this.archive) {
+                this.closeEntry();
+                zip.finish();
+            } finally {
+                this.archive = null;
+            }
+        } else if (this.output != null) {
+
+            try {
+                // Flush and finish the compressed stream
+                this.output.close();
+            } finally {
+                this.output = null;
+            }
+        }
+    }
+
+    private void checkOpen() {
+
+        if (this.archive == null && this.output == null) {
+            throw new IllegalStateException("writer already closed: " + file);
+        }
+    }
+
+    private void closeEntry() throws IOException {
+
+        if (this.entryOpened) {
+            this.output.close();
+            this.output = null;
+            this.archive.closeArchiveEntry();
+            this.entryOpened = false;
+        }
+    }
+}
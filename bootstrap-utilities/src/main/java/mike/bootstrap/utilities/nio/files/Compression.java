@@ -0,0 +1,176 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.commons.compress.compressors.CompressorException;
+import org.apache.commons.compress.compressors.CompressorStreamFactory;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+
+/**
+ * Compression format of a resource content.
+ * <p>
+ * The format is detected from the first bytes of the content (signature). Gzip and bzip2 are
+ * supported out of the box, zstd requires the {@code com.github.luben:zstd-jni} library on the
+ * classpath. Zip is an archive format: its entries are read with
+ * {@link Resource#readEntries(ArchiveEntryReader)}.
+ *
+ * @author Mike (2026-10)
+ */
+public enum Compression {
+
+    NONE(MimeType.UNKOWN, ""),
+    GZIP(MimeType.GZIP, "gz"),
+    BZIP2(MimeType.BZIP2, "bz2"),
+    ZSTD(MimeType.UNKOWN, "zst"),
+    ZIP(MimeType.ZIP, "zip");
+
+    /** Number of bytes required to detect the compression */
+    static final int SIGNATURE_SIZE = 4;
+
+    private final MimeType mimeType;
+    private final String extension;
+
+    private Compression(MimeType mimeType, String extension) {
+        this.mimeType = mimeType;
+        this.extension = extension;
+    }
+
+    /**
+     * @return the mime type of the compressed content (<i>UNKNOWN</i> if not declared)
+     */
+    public MimeType mimeType() {
+        return this.mimeType;
+    }
+
+    /**
+     * @return the usual file name extension (without dot, empty if none)
+     */
+    public String extension() {
+        return this.extension;
+    }
+
+    /**
+     * Detect the compression of the resource from its first bytes.
+     *
+     * @param resource the resource to check
+     * @return the resource compression or {@link #NONE}
+     * @throws IOException if any IO errors occurs
+     */
+    public static Compression of(Resource resource) throws IOException {
+        var head = ByteBuffer.allocate(SIGNATURE_SIZE);
+        var path = resource.localPath();
+
+        if (path != null) {
+
+            try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+                while (head.hasRemaining() && channel.read(head) > 0) {
+                    // Read up to SIGNATURE_SIZE bytes
+                }
+            }
+        } else {
+
+            try (var is = resource.getInputStream()) {
+                head.put(is.readNBytes(SIGNATURE_SIZE));
+            }
+        }
+
+        return Compression.detect(head.flip());
+    }
+
+    /**
+     * @param filename a file name
+     * @return the compression matching the file name extension or {@link #NONE}
+     */
+    public static Compression ofFilename(String filename) {
+        int dot = filename.lastIndexOf('.');
+
+        if (dot >= 0) {
+            var extension = filename.substring(dot + 1);
+
+            for (Compression compression : Compression.values()) {
+
+                if (compression != NONE && compression.extension.equalsIgnoreCase(extension)) {
+                    return compression;
+                }
+            }
+        }
+
+        return NONE;
+    }
+
+    /**
+     * @param head the first bytes of the content (from position to limit)
+     * @return the compression matching the signature or {@link #NONE}
+     */
+    static Compression detect(ByteBuffer head) {
+        int remaining = head.remaining();
+        int p = head.position();
+
+        if (remaining >= 2 && head.get(p) == 0x1F && head.get(p + 1) == (byte) 0x8B) {
+            return GZIP;
+        } else if (remaining >= 3 && head.get(p) == 'B' && head.get(p + 1) == 'Z'
+                && head.get(p + 2) == 'h') {
+            return BZIP2;
+        } else if (remaining >= 4 && head.getInt(p) == 0x28B52FFD) {
+            return ZSTD;
+        } else if (remaining >= 4 && head.get(p) == 'P' && head.get(p + 1) == 'K'
+                && (head.get(p + 2) == 3 || head.get(p + 2) == 5)) {
+            return ZIP;
+        }
+
+        return NONE;
+    }
+
+    /**
+     * @param is the compressed stream (closed with the returned stream)
+     * @return the decompressed stream
+     * @throws IOException if the stream cannot be decompressed
+     */
+    InputStream decompress(InputStream is) throws IOException {
+        var buffered = BufferPool.input(is);
+
+        try {
+            return switch (this) {
+                case NONE -> buffered;
+                case GZIP -> new GzipCompressorInputStream(buffered, true);
+                case BZIP2 -> new BZip2CompressorInputStream(buffered, true);
+                case ZSTD -> CompressorStreamFactory.getSingleton()
+                        .createCompressorInputStream(CompressorStreamFactory.ZSTANDARD, buffered);
+                case ZIP -> throw new IOException("zip archive: use the archive entries");
+            };
+        } catch (IOException | CompressorException e) {
+            buffered.close();
+            throw e instanceof IOException ioe ? ioe : new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param os the target stream (closed with the returned stream)
+     * @return the compressing stream
+     * @throws IOException if the compressing stream cannot be created
+     */
+    OutputStream compress(OutputStream os) throws IOException {
+
+        try {
+            return switch (this) {
+                case NONE -> BufferPool.output(os);
+                case GZIP -> BufferPool.output(new GzipCompressorOutputStream(os));
+                case BZIP2 -> BufferPool.output(new BZip2CompressorOutputStream(os));
+                case ZSTD -> BufferPool.output(CompressorStreamFactory.getSingleton()
+                        .createCompressorOutputStream(CompressorStreamFactory.ZSTANDARD, os));
+                case ZIP -> throw new IOException("zip archive: use the archive entries");
+            };
+        } catch (CompressorException ce) {
+            throw new IOException(ce.getMessage(), ce);
+        }
+    }
+}
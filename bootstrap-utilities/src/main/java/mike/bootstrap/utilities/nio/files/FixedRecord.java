@@ -0,0 +1,506 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import mike.bootstrap.utilities.helpers.Strings;
+
+/**
+ * Fixed-width record: a view over the bytes of a record described by a {@link RecordLayout}.
+ * <p>
+ * The fields are decoded lazily, only when accessed. The numeric and date accessors parse the
+ * field bytes directly (no intermediate string) when the layout charset is ASCII compatible,
+ * otherwise (i.e. EBCDIC) the field is decoded first.
+ * <p>
+ * A field beyond the end of the record is clipped (the missing bytes are considered blank).
+ * <p>
+ * The records delivered by {@link RecordLayout#forEach(Resource, java.util.function.Consumer)}
+ * are reused from one record to the next and are not thread-safe: use {@link #copy()} to keep a
+ * record.
+ *
+ * @author Mike (2026-10)
+ */
+public final class FixedRecord {
+
+    /** Max. number of digits parsed without overflow check */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private final RecordLayout layout;
+    private final Charset charset;
+    private final boolean ascii;
+
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    private byte[] scratch = new byte[64];
+
+    // Result of the last numeric parsing
+    private long unscaled;
+    private int fraction;
+    private int digits;
+
+    /**
+     * @param layout the record layout
+     */
+    FixedRecord(RecordLayout layout) {
+        this.layout = layout;
+        this.charset = layout.charset();
+        this.ascii = CharsetDetector.isAsciiCompatible(this.charset);
+    }
+
+    /**
+     * @param buffer the buffer holding the record
+     * @param offset absolute position of the record within the buffer
+     * @param length record length in bytes
+     * @return this record
+     */
+    FixedRecord reset(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    /**
+     * @return the record layout
+     */
+    public RecordLayout layout() {
+        return layout;
+    }
+
+    /**
+     * @return the record length in bytes
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @param name the field name
+     * @return the decoded field value without leading and trailing spaces
+     * @throws IllegalArgumentException if the field is unknown
+     */
+    public String get(String name) {
+        return this.get(this.layout.index(name));
+    }
+
+    /**
+     * @param index the field index
+     * @return the decoded field value without leading and trailing spaces
+     */
+    public String get(int index) {
+
+        if (!this.ascii) {
+            return this.decode(index).strip();
+        }
+
+        int start = this.start(index);
+        int end = this.end(index);
+
+        while (start < end && this.buffer.get(start) == ' ') {
+            start++;
+        }
+
+        while (end > start && this.buffer.get(end - 1) == ' ') {
+            end--;
+        }
+
+        return this.decode(start, end);
+    }
+
+    /**
+     * @param name the field name
+     * @return the decoded field value (spaces included)
+     * @throws IllegalArgumentException if the field is unknown
+     */
+    public String getRaw(String name) {
+        return this.getRaw(this.layout.index(name));
+    }
+
+    /**
+     * @param index the field index
+     * @return the decoded field value (spaces included)
+     */
+    public String getRaw(int index) {
+        return this.decode(index);
+    }
+
+    /**
+     * @param name the field name
+     * @return true if the field holds only spaces or is beyond the end of the record
+     * @throws IllegalArgumentException if the field is unknown
+     */
+    public boolean isBlank(String name) {
+        return this.isBlank(this.layout.index(name));
+    }
+
+    /**
+     * @param index the field index
+     * @return true if the field holds only spaces or is beyond the end of the record
+     */
+    public boolean isBlank(int index) {
+
+        if (!this.ascii) {
+            return this.decode(index).isBlank();
+        }
+
+        for (int i = this.start(index), end = this.end(index); i < end; i++) {
+
+            if (this.buffer.get(i) != ' ') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Leading and trailing spaces are ignored, the sign may be leading or trailing (i.e. "-12" or
+     * "12-").
+     *
+     * @param name     the field name
+     * @param defValue default value if the field is blank or not a number (default is 0)
+     * @return the field value
+     * @throws IllegalArgumentException if the field is unknown
+     */
+    public int getInt(String name, int... defValue) {
+        return this.getInt(this.layout.index(name), defValue);
+    }
+
+    /**
+     * @param index    the field index
+     * @param defValue default value if the field is blank or not a number (default is 0)
+     * @return the field value
+     * @see #getInt(String, int...)
+     */
+    public int getInt(int index, int... defValue) {
+
+        if (this.parse(index, false) && this.unscaled >= Integer.MIN_VALUE
+                && this.unscaled <= Integer.MAX_VALUE) {
+            return (int) this.unscaled;
+        }
+
+        return defValue.length > 0 ? defValue[0] : 0;
+    }
+
+    /**
+     * Leading and trailing spaces are ignored, the sign may be leading or trailing (i.e. "-12" or
+     * "12-").
+     *
+     * @param name     the field name
+     * @param defValue default value if the field is blank or not a number (default is 0)
+     * @return the field value
+     * @throws IllegalArgumentException if the field is unknown
+     */
+    public long getLong(String name, long... defValue) {
+        return this.getLong(this.layout.index(name), defValue);
+    }
+
+    /**
+     * @param index    the field index
+     * @param defValue default value if the field is blank or not a number (default is 0)
+     * @return the field value
+     * @see #getLong(String, long...)
+     */
+    public long getLong(int index, long... defValue) {
+
+        if (this.parse(index, false)) {
+            return this.unscaled;
+        }
+
+        if (this.digits > MAX_LONG_DIGITS) {
+            // Possible overflow (or trailing fraction zeros)
+            var value = this.toPlain(index);
+            var number = Strings.toBigDecimal(value, 0, value.length(), null);
+
+            if (number != null) {
+
+                try {
+                    return number.longValueExact();
+                } catch (ArithmeticException ae) {
+                    // Not a long
+                }
+            }
+        }
+
+        return defValue.length > 0 ? defValue[0] : 0;
+    }
+
+    /**
+     * Decimal with implied decimal point (i.e. "012345" with scale 2 is 123.45). If the field
+     * holds an explicit decimal point ('.'), its own scale is used.
+     *
+     * @param name  the field name
+     * @param scale number of implied decimal digits
+     * @return the field value or null if the field is blank or not a number
+     * @throws IllegalArgumentException if the field is unknown
+     */
+    public BigDecimal getDecimal(String name, int scale) {
+        return this.getDecimal(this.layout.index(name), scale);
+    }
+
+    /**
+     * @param index the field index
+     * @param scale number of implied decimal digits
+     * @return the field value or null if the field is blank or not a number
+     * @see #getDecimal(String, int)
+     */
+    public BigDecimal getDecimal(int index, int scale) {
+
+        if (this.parse(index, true)) {
+            return BigDecimal.valueOf(this.unscaled, this.fraction >= 0 ? this.fraction : scale);
+        }
+
+        if (this.digits > MAX_LONG_DIGITS) {
+
+            var value = this.toPlain(index);
+            var number = Strings.toBigDecimal(value, 0, value.length(), null);
+
+            if (number != null) {
+                return value.indexOf('.') >= 0 ? number : number.movePointLeft(scale);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @param name the field name
+     * @return the field value (formatted as yyyyMMdd) or null if blank or not a valid date
+     * @throws IllegalArgumentException if the field is unknown
+     */
+    public LocalDate getDate(String name) {
+        return this.getDate(this.layout.index(name));
+    }
+
+    /**
+     * @param index the field index
+     * @return the field value (formatted as yyyyMMdd) or null if blank or not a valid date
+     */
+    public LocalDate getDate(int index) {
+
+        if (!this.parse(index, false) || this.digits != 8 || this.unscaled < 0) {
+            return null;
+        }
+
+        int year = (int) (this.unscaled / 10000);
+        int month = (int) (this.unscaled / 100 % 100);
+        int day = (int) (this.unscaled % 100);
+
+        if (month < 1 || month > 12 || day < 1
+                || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * @param name      the field name
+     * @param formatter the date formatter
+     * @return the field value or null if blank or not a valid date
+     * @throws IllegalArgumentException if the field is unknown
+     */
+    public LocalDate getDate(String name, DateTimeFormatter formatter) {
+        return this.getDate(this.layout.index(name), formatter);
+    }
+
+    /**
+     * @param index     the field index
+     * @param formatter the date formatter
+     * @return the field value or null if blank or not a valid date
+     */
+    public LocalDate getDate(int index, DateTimeFormatter formatter) {
+        var value = this.get(index);
+
+        try {
+            return value.isEmpty() ? null : LocalDate.parse(value, formatter);
+        } catch (DateTimeParseException dtpe) {
+            return null;
+        }
+    }
+
+    /**
+     * @return a detached copy of this record (safe to keep after the record has moved on)
+     */
+    public FixedRecord copy() {
+        var bytes = new byte[this.length];
+        this.buffer.get(this.offset, bytes, 0, this.length);
+
+        return new FixedRecord(this.layout).reset(ByteBuffer.wrap(bytes), 0, this.length);
+    }
+
+    /**
+     * @return the decoded field values (without leading and trailing spaces) by field name
+     */
+    public Map<String, String> toMap() {
+        var names = this.layout.names();
+        var map = new LinkedHashMap<String, String>(names.size() * 2);
+
+        for (int i = 0; i < names.size(); i++) {
+            map.put(names.get(i), this.get(i));
+        }
+
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "FixedRecord " + this.toMap();
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private int start(int index) {
+        return this.offset + Math.min(this.layout.offset(index).startAt(), this.length);
+    }
+
+    private int end(int index) {
+        return this.offset + Math.min(this.layout.offset(index).endAt(), this.length);
+    }
+
+    private String decode(int index) {
+        return this.decode(this.start(index), this.end(index));
+    }
+
+    private String decode(int start, int end) {
+        int len = end - start;
+
+        if (len <= 0) {
+            return "";
+        }
+
+        var bytes = this.scratch(len);
+        this.buffer.get(start, bytes, 0, len);
+
+        return new String(bytes, 0, len, this.charset);
+    }
+
+    /**
+     * @return the field bytes in the scratch buffer as ASCII characters (the field is decoded if
+     *         the charset is not ASCII compatible) and the number of bytes
+     */
+    private int load(int index) {
+        int start = this.start(index);
+        int len = this.end(index) - start;
+
+        if (len <= 0) {
+            return 0;
+        }
+
+        if (this.ascii) {
+            this.buffer.get(start, this.scratch(len), 0, len);
+            return len;
+        }
+
+        var value = this.decode(start, start + len);
+        var bytes = this.scratch(value.length());
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            bytes[i] = c < 0x80 ? (byte) c : (byte) '?';
+        }
+
+        return value.length();
+    }
+
+    /**
+     * Parse the field as a signed number into {@link #unscaled}, {@link #fraction} (number of
+     * digits after the decimal point, -1 if none) and {@link #digits}.
+     *
+     * @return true if the field is a number of at most {@link #MAX_LONG_DIGITS} digits
+     */
+    private boolean parse(int index, boolean decimal) {
+        int len = this.load(index);
+        var bytes = this.scratch;
+
+        this.unscaled = 0;
+        this.fraction = -1;
+        this.digits = 0;
+
+        int from = 0;
+        int to = len;
+
+        while (from < to && bytes[from] == ' ') {
+            from++;
+        }
+
+        while (to > from && bytes[to - 1] == ' ') {
+            to--;
+        }
+
+        if (from == to) {
+            return false;
+        }
+
+        boolean negative = false;
+
+        if (bytes[from] == '-' || bytes[from] == '+') {
+            negative = bytes[from++] == '-';
+        } else if (bytes[to - 1] == '-' || bytes[to - 1] == '+') {
+            negative = bytes[--to] == '-';
+        }
+
+        long value = 0;
+
+        for (int i = from; i < to; i++) {
+            byte b = bytes[i];
+
+            if (b >= '0' && b <= '9') {
+                value = value * 10 + (b - '0');
+                this.digits++;
+
+                if (this.fraction >= 0) {
+                    this.fraction++;
+                }
+            } else if (b == '.' && decimal && this.fraction < 0) {
+                this.fraction = 0;
+            } else {
+                this.digits = 0;
+                return false;
+            }
+
+            if (this.digits > MAX_LONG_DIGITS) {
+                return false;
+            }
+        }
+
+        if (this.digits == 0) {
+            return false;
+        }
+
+        this.unscaled = negative ? -value : value;
+        return true;
+    }
+
+    /**
+     * @return the field as a plain number (trailing sign moved in front)
+     */
+    private String toPlain(int index) {
+        var value = this.get(index);
+
+        if (value.endsWith("-") || value.endsWith("+")) {
+            return value.charAt(value.length() - 1) + value.substring(0, value.length() - 1);
+        }
+
+        return value;
+    }
+
+    private byte[] scratch(int length) {
+
+        if (this.scratch.length < length) {
+            this.scratch = new byte[Math.max(length, this.scratch.length * 2)];
+        }
+
+        return this.scratch;
+    }
+}
@@ -0,0 +1,158 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Mutable character sequence holding the current line of a resource.
+ * <p>
+ * The same instance is reused (overwritten) for each line, thus a consumer must copy the content
+ * (i.e. {@link LineBuffer#toString()}) to keep it beyond the current line.
+ *
+ * @author Mike (2026-10)
+ */
+final class LineBuffer implements CharSequence {
+
+    private final boolean latin1;
+    private final boolean ascii;
+    private final CharsetDecoder decoder;
+
+    private char[] chars = new char[256];
+    private int length;
+
+    private CharBuffer output = CharBuffer.wrap(chars);
+    private ByteBuffer source;
+    private ByteBuffer view;
+
+    /**
+     * @param charset the charset used to decode bytes
+     */
+    LineBuffer(Charset charset) {
+        this.latin1 = StandardCharsets.ISO_8859_1.equals(charset);
+        this.ascii = CharsetDetector.isAsciiCompatible(charset);
+        this.decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Reset the line content.
+     */
+    void clear() {
+        this.length = 0;
+    }
+
+    /**
+     * Append characters to the line.
+     */
+    void append(char[] src, int offset, int len) {
+        this.ensureCapacity(this.length + len);
+        System.arraycopy(src, offset, this.chars, this.length, len);
+        this.length += len;
+    }
+
+    /**
+     * Replace the line content with the decoded bytes.
+     *
+     * @param buffer the buffer holding the encoded line
+     * @param offset absolute position of the first byte
+     * @param len    number of bytes to decode
+     */
+    void decode(ByteBuffer buffer, int offset, int len) {
+
+        if (this.latin1) {
+            this.ensureCapacity(len);
+
+            for (int i = 0; i < len; i++) {
+                this.chars[i] = (char) (buffer.get(offset + i) & 0xFF);
+            }
+
+            this.length = len;
+            return;
+        }
+
+        // ASCII prefix widened without decoder work (the whole line in most cases)
+        int prefix = this.ascii ? this.widenAscii(buffer, offset, len) : 0;
+
+        if (prefix == len) {
+            this.length = len;
+            return;
+        }
+
+        int remaining = len - prefix;
+        this.ensureCapacity(prefix
+                + (int) Math.ceil(remaining * (double) this.decoder.maxCharsPerByte()));
+
+        if (this.source != buffer) {
+            this.source = buffer;
+            this.view = buffer.duplicate();
+        }
+
+        this.view.clear().limit(offset + len).position(offset + prefix);
+        this.output.clear().position(prefix);
+
+        this.decoder.reset();
+        this.decoder.decode(this.view, this.output, true);
+        this.decoder.flush(this.output);
+
+        this.length = this.output.position();
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        return this.chars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return this.toString().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return new String(this.chars, 0, this.length);
+    }
+
+    /**
+     * Copy the bytes as characters while they are ASCII.
+     *
+     * @return the number of leading ASCII bytes copied
+     */
+    private int widenAscii(ByteBuffer buffer, int offset, int len) {
+        this.ensureCapacity(len);
+
+        for (int i = 0; i < len; i++) {
+            byte b = buffer.get(offset + i);
+
+            if (b < 0) {
+                return i;
+            }
+
+            this.chars[i] = (char) b;
+        }
+
+        return len;
+    }
+
+    private void ensureCapacity(int capacity) {
+
+        if (this.chars.length < capacity) {
+            this.chars = Arrays.copyOf(this.chars, Math.max(capacity, this.chars.length * 2));
+            this.output = CharBuffer.wrap(this.chars);
+        }
+    }
+}
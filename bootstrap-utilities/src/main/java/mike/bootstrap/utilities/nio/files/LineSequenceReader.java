@@ -0,0 +1,146 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Line reader that decodes each line into the same {@link LineBuffer}.
+ * <p>
+ * Local files are read through a {@link MappedLineCursor}, other resources through a reader with
+ * a reusable characters buffer, so that a whole pass over a resource does not allocate per line.
+ *
+ * @author Mike (2026-10)
+ */
+final class LineSequenceReader implements Closeable {
+
+    private final LineBuffer line;
+
+    private FileChannel channel;
+    private MappedLineCursor cursor;
+
+    private Reader reader;
+    private char[] chars;
+    private int position;
+    private int limit;
+    private boolean skipLf;
+
+    /**
+     * Open the resource.
+     *
+     * @param resource the resource to read
+     * @param charset  the resource charset
+     * @throws IOException if any IO errors occurs
+     */
+    LineSequenceReader(Resource resource, Charset charset) throws IOException {
+        this.line = new LineBuffer(charset);
+
+        var path = resource.localPath();
+
+        if (resource.isMappable() && MappedStreamReader.supports(charset)) {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.cursor = new MappedLineCursor(channel,
+                    CharsetDetector.bomLength(channel, charset), channel.size(),
+                    MappedLineCursor.DEFAULT_REGION_SIZE);
+        } else {
+            var is = CharsetDetector.skipBom(resource.getContentStream(), charset);
+            this.reader = new InputStreamReader(is, charset);
+            this.chars = new char[8192];
+        }
+    }
+
+    /**
+     * @return the current line (the instance is reused for each line)
+     */
+    CharSequence line() {
+        return this.line;
+    }
+
+    /**
+     * Move to the next line.
+     *
+     * @return true if a line is available, otherwise false
+     * @throws IOException if any IO errors occurs
+     */
+    boolean next() throws IOException {
+
+        if (this.cursor != null) {
+
+            if (this.cursor.next()) {
+                this.line.decode(cursor.buffer(), cursor.offset(), cursor.length());
+                return true;
+            }
+
+            return false;
+        }
+
+        return this.read();
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        if (this.cursor != null) {
+            this.cursor.release();
+        }
+
+        if (this.channel != null) {
+            this.channel.close();
+        }
+
+        if (this.reader != null) {
+            this.reader.close();
+        }
+    }
+
+    /**
+     * Read the next line from the reader (line terminators: '\n', '\r' or "\r\n").
+     */
+    private boolean read() throws IOException {
+        boolean pending = false;
+        this.line.clear();
+
+        while (true) {
+
+            if (this.position >= this.limit) {
+                this.limit = this.reader.read(this.chars, 0, this.chars.length);
+                this.position = 0;
+
+                if (this.limit <= 0) {
+                    this.limit = 0;
+                    return pending;
+                }
+            }
+
+            if (this.skipLf) {
+                this.skipLf = false;
+
+                if (this.chars[this.position] == '\n') {
+                    this.position++;
+                    continue;
+                }
+            }
+
+            int start = this.position;
+
+            while (this.position < this.limit && this.chars[this.position] != '\n'
+                    && this.chars[this.position] != '\r') {
+                this.position++;
+            }
+
+            this.line.append(this.chars, start, this.position - start);
+
+            if (this.position < this.limit) {
+                this.skipLf = this.chars[this.position] == '\r';
+                this.position++;
+                return true;
+            }
+
+            pending = pending || this.position > start;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Media type detection from the file signature (magic bytes).
+ * <p>
+ * Only the first {@link #HEAD_SIZE} bytes are read, into a buffer reused by the calling thread,
+ * and matched against the signatures of the most common formats without any allocation.
+ * {@link MimeType#UNKOWN} is returned when no signature matches, the caller then falls back
+ * to a complete detection.
+ * <p>
+ * Text formats have no real signature (a log line may start with '[', an XML declaration may
+ * start a SVG or XHTML document): JSON and XML are matched only for files without extension or
+ * with the format extension.
+ *
+ * @author Mike (2026-10)
+ */
+final class MagicBytes {
+
+    /** Number of bytes read from the file head */
+    static final int HEAD_SIZE = 64;
+
+    private static final byte[] ZIP = { 'P', 'K', 3, 4 };
+    private static final byte[] ZIP_EMPTY = { 'P', 'K', 5, 6 };
+    private static final byte[] GZIP = { 0x1F, (byte) 0x8B, 8 };
+    private static final byte[] BZIP2 = { 'B', 'Z', 'h' };
+    private static final byte[] PDF = { '%', 'P', 'D', 'F', '-' };
+    private static final byte[] PNG = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+    private static final byte[] JPEG = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF };
+    private static final byte[] GIF87 = { 'G', 'I', 'F', '8', '7', 'a' };
+    private static final byte[] GIF89 = { 'G', 'I', 'F', '8', '9', 'a' };
+    private static final byte[] XML = { '<', '?', 'x', 'm', 'l' };
+    private static final byte[] UTF8_BOM = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+
+    private static final ThreadLocal<ByteBuffer> heads = ThreadLocal
+            .withInitial(() -> ByteBuffer.allocate(HEAD_SIZE));
+
+    /**
+     * Private constructor (Prevent any instantiation)
+     */
+    private MagicBytes() {}
+
+    /**
+     * @param path the file to check
+     * @return the mime type matching the file signature or {@link MimeType#UNKOWN}
+     * @throws IOException if any IO errors occurs
+     */
+    static MimeType sniff(Path path) throws IOException {
+        var head = heads.get().clear();
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+            while (head.hasRemaining() && channel.read(head) > 0) {
+                // Read up to HEAD_SIZE bytes
+            }
+        }
+
+        var filename = path.getFileName();
+        return MagicBytes.match(head.flip(), filename != null ? filename.toString() : "");
+    }
+
+    /**
+     * @param head     the first bytes of the content (from position to limit)
+     * @param filename the file name (used to tell zip files from zip based containers, and the
+     *                 text formats from the formats sharing their syntax)
+     * @return the mime type matching the signature or {@link MimeType#UNKOWN}
+     */
+    static MimeType match(ByteBuffer head, String filename) {
+
+        if (startsWith(head, 0, ZIP) || startsWith(head, 0, ZIP_EMPTY)) {
+            // Zip based containers (jar, docx, odt ...) are left to the complete detection
+            return hasExtension(filename, ".zip") ? MimeType.ZIP : MimeType.UNKOWN;
+        } else if (startsWith(head, 0, GZIP)) {
+            return MimeType.GZIP;
+        } else if (startsWith(head, 0, PDF)) {
+            return MimeType.PDF;
+        } else if (startsWith(head, 0, PNG)) {
+            return MimeType.PNG;
+        } else if (startsWith(head, 0, JPEG)) {
+            return MimeType.JPEG;
+        } else if (startsWith(head, 0, GIF87) || startsWith(head, 0, GIF89)) {
+            return MimeType.GIF;
+        } else if (startsWith(head, 0, BZIP2)) {
+            return MimeType.BZIP2;
+        }
+
+        int start = startsWith(head, 0, UTF8_BOM) ? UTF8_BOM.length : 0;
+
+        if (hasExtension(filename, ".xml") && startsWith(head, start, XML)) {
+            return MimeType.XML;
+        } else if (hasExtension(filename, ".json") && isJson(head, start)) {
+            return MimeType.JSON;
+        }
+
+        return MimeType.UNKOWN;
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    /**
+     * @return true if the head starts with an object or an array followed by a JSON token
+     */
+    private static boolean isJson(ByteBuffer head, int start) {
+        int i = skipWhitespaces(head, head.position() + start);
+
+        if (i >= head.limit()) {
+            return false;
+        }
+
+        byte open = head.get(i);
+
+        if (open != '{' && open != '[') {
+            return false;
+        }
+
+        i = skipWhitespaces(head, i + 1);
+
+        if (i >= head.limit()) {
+            // Only whitespaces after the opening character within the head
+            return true;
+        }
+
+        byte next = head.get(i);
+
+        if (open == '{') {
+            return next == '"' || next == '}';
+        }
+
+        return next == '{' || next == '[' || next == '"' || next == ']' || next == '-'
+                || (next >= '0' && next <= '9') || next == 't' || next == 'f' || next == 'n';
+    }
+
+    private static int skipWhitespaces(ByteBuffer head, int from) {
+        int i = from;
+
+        while (i < head.limit()) {
+            byte b = head.get(i);
+
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                break;
+            }
+
+            i++;
+        }
+
+        return i;
+    }
+
+    private static boolean startsWith(ByteBuffer head, int offset, byte[] signature) {
+        int from = head.position() + offset;
+
+        if (head.limit() - from < signature.length) {
+            return false;
+        }
+
+        for (int i = 0; i < signature.length; i++) {
+
+            if (head.get(from + i) != signature[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return true if the file name has no extension or the given extension (ignoring case)
+     */
+    private static boolean hasExtension(String filename, String extension) {
+        int dot = filename.lastIndexOf('.');
+        return dot < 0 || filename.length() == dot + extension.length()
+                && filename.regionMatches(true, dot, extension, 0, extension.length());
+    }
+}
@@ -0,0 +1,224 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+
+/**
+ * Line cursor over a byte range of a file channel.
+ * <p>
+ * The range is mapped in memory by regions and line breaks ('\n', '\r' or "\r\n") are searched
+ * directly in the mapped buffer. A line is never copied unless it is decoded with
+ * {@link MappedLineCursor#decode(Charset)}.
+ * <p>
+ * The range end is expected to be at a line boundary (i.e. the end of the file or the first byte
+ * of a line).
+ *
+ * @author Mike (2026-10)
+ */
+final class MappedLineCursor {
+
+    /** Default size of a mapped region (64mb) */
+    static final int DEFAULT_REGION_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * Memory-mapped readers enabled (-Dcontainer.resource.mapped=true|false).
+     * <p>
+     * A mapped region is unmapped only when it is garbage collected. On Windows, the file cannot be
+     * deleted or renamed until then (i.e. the {@link ResourceWriter} atomic replace fails), so the
+     * mapped readers are disabled by default on this platform.
+     */
+    static final boolean ENABLED = Boolean.parseBoolean(System.getProperty(
+            "container.resource.mapped",
+            String.valueOf(!System.getProperty("os.name", "").startsWith("Windows"))));
+
+    private static final int MAX_REGION_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final long LF_WORD = 0x0A0A0A0A0A0A0A0AL;
+    private static final long CR_WORD = 0x0D0D0D0D0D0D0D0DL;
+
+    private final FileChannel channel;
+    private final long end;
+
+    private int regionSize;
+    private long regionStart;
+    private int regionLength;
+    private MappedByteBuffer region;
+
+    private long position;
+    private int offset;
+    private int length;
+
+    private byte[] scratch = new byte[256];
+
+    /**
+     * @param channel    the file channel to read (opened for reading)
+     * @param start      position of the first byte of the range (inclusive)
+     * @param end        position of the last byte of the range (exclusive)
+     * @param regionSize size of the mapped regions
+     */
+    MappedLineCursor(FileChannel channel, long start, long end, int regionSize) {
+        this.channel = channel;
+        this.position = start;
+        this.end = end;
+        this.regionSize = regionSize;
+        this.regionStart = start;
+    }
+
+    /**
+     * Move the cursor to the next line.
+     *
+     * @return true if a line is available, otherwise false (end of range)
+     * @throws IOException if the file cannot be mapped
+     */
+    boolean next() throws IOException {
+
+        if (this.position >= this.end) {
+            return false;
+        }
+
+        if (this.region == null || this.position >= this.regionStart + this.regionLength) {
+            this.map(this.position);
+        }
+
+        while (true) {
+            int from = (int) (this.position - this.regionStart);
+
+            for (int i = this.skipWords(from); i < this.regionLength; i++) {
+                byte b = this.region.get(i);
+
+                if (b == '\n' || b == '\r') {
+
+                    if (b == '\r' && i + 1 == this.regionLength && !this.endOfRange()) {
+                        // '\r' at the end of the region: the next byte may be '\n'
+                        break;
+                    }
+
+                    int skip = b == '\r' && i + 1 < this.regionLength
+                            && this.region.get(i + 1) == '\n' ? 2 : 1;
+
+                    this.offset = from;
+                    this.length = i - from;
+                    this.position = this.regionStart + i + skip;
+                    return true;
+                }
+            }
+
+            if (this.endOfRange()) {
+                // Last line without terminator
+                this.offset = from;
+                this.length = this.regionLength - from;
+                this.position = this.end;
+                return true;
+            }
+
+            if (from == 0) {
+                // The line does not fit in a single region
+                if (this.regionSize >= MAX_REGION_SIZE) {
+                    throw new IOException("line exceeds the max. mapped region size at position: "
+                            + this.position);
+                }
+
+                this.regionSize = (int) Math.min(MAX_REGION_SIZE, this.regionSize * 2L);
+            }
+
+            this.map(this.position);
+        }
+    }
+
+    /**
+     * @return the mapped region holding the current line
+     */
+    MappedByteBuffer buffer() {
+        return this.region;
+    }
+
+    /**
+     * @return absolute position of the current line within the {@link #buffer()}
+     */
+    int offset() {
+        return this.offset;
+    }
+
+    /**
+     * @return length in bytes of the current line (without line terminator)
+     */
+    int length() {
+        return this.length;
+    }
+
+    /**
+     * Decode the current line.
+     *
+     * @param charset the charset of the file
+     * @return the current line
+     */
+    String decode(Charset charset) {
+
+        if (this.scratch.length < this.length) {
+            this.scratch = new byte[Math.max(this.length, this.scratch.length * 2)];
+        }
+
+        this.region.get(this.offset, this.scratch, 0, this.length);
+        return new String(this.scratch, 0, this.length, charset);
+    }
+
+    /**
+     * Skip the 8-bytes words that do not contain any line terminator.
+     *
+     * @param from position to start from
+     * @return the position of the first word that may contain a line terminator
+     */
+    private int skipWords(int from) {
+        int i = from;
+
+        while (i + Long.BYTES <= this.regionLength) {
+            long word = this.region.getLong(i);
+
+            if (hasByte(word, LF_WORD) || hasByte(word, CR_WORD)) {
+                break;
+            }
+
+            i += Long.BYTES;
+        }
+
+        return i;
+    }
+
+    /**
+     * @return true if one of the bytes of the word is equal to the repeated byte of the pattern
+     */
+    private static boolean hasByte(long word, long pattern) {
+        long value = word ^ pattern;
+        return ((value - 0x0101010101010101L) & ~value & 0x8080808080808080L) != 0;
+    }
+
+    /**
+     * @return true if the current region reaches the end of the range
+     */
+    private boolean endOfRange() {
+        return this.regionStart + this.regionLength >= this.end;
+    }
+
+    /**
+     * Drop the current region (unmapped by the garbage collector, once unreachable).
+     */
+    void release() {
+        this.region = null;
+        this.regionLength = 0;
+    }
+
+    /**
+     * Map a new region starting at the given position.
+     *
+     * @param from the region start position
+     * @throws IOException if any IO errors occurs
+     */
+    private void map(long from) throws IOException {
+        this.regionStart = from;
+        this.regionLength = (int) Math.min(this.regionSize, this.end - from);
+        this.region = this.channel.map(MapMode.READ_ONLY, from, this.regionLength);
+    }
+}
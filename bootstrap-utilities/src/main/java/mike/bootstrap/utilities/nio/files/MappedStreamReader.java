@@ -0,0 +1,124 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Memory-mapped stream reader for local files.
+ * <p>
+ * Line breaks are searched in the mapped file and a line is decoded only if the byte-level
+ * pre-filter accepts it. Only charsets encoding the line terminators as single ASCII bytes are
+ * supported (see {@link MappedStreamReader#supports(Charset)}).
+ *
+ * @author Mike (2026-10)
+ */
+class MappedStreamReader implements StreamReader {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedStreamReader.class);
+
+    private static final byte[] CRLF = { '\r', '\n' };
+
+    private final Path path;
+    private final ByteLineFilter preFilter;
+    private final Predicate<String> filter;
+    private final Charset charset;
+
+    private FileChannel channel;
+    private MappedLineCursor cursor;
+
+    MappedStreamReader(Path path, ByteLineFilter preFilter, Predicate<String> filter,
+            Charset charset) {
+        this.path = path;
+        this.preFilter = preFilter;
+        this.filter = filter;
+        this.charset = charset;
+    }
+
+    /**
+     * @param charset the charset to check
+     * @return true if the line terminators can be searched at byte level for this charset
+     */
+    static boolean supports(Charset charset) {
+        return Arrays.equals("\r\n".getBytes(charset), CRLF);
+    }
+
+    @Override
+    public Stream<String> lines() throws IOException {
+
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+
+            var start = CharsetDetector.bomLength(channel, charset);
+            this.cursor = new MappedLineCursor(channel, start, channel.size(),
+                    MappedLineCursor.DEFAULT_REGION_SIZE);
+
+            return StreamSupport.stream(new LineSpliterator(cursor), false).filter(filter);
+        } catch (IOException ioe) {
+            log.error("Resource::mapped: {}", ioe.getMessage());
+            this.close();
+            throw ioe;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        log.debug("Resource::close: closing mapped resources ...");
+
+        if (this.cursor != null) {
+            this.cursor.release();
+        }
+
+        if (this.channel != null) {
+            try {
+                this.channel.close();
+            } catch (IOException ioe) {
+                log.warn("Resource::close: fileChannel: {} - causedBy:", ioe.getMessage(), ioe);
+            }
+        }
+    }
+
+    /**
+     * Decode the lines accepted by the pre-filter.
+     */
+    private class LineSpliterator extends Spliterators.AbstractSpliterator<String> {
+
+        private final MappedLineCursor cursor;
+
+        LineSpliterator(MappedLineCursor cursor) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+
+            try {
+                while (cursor.next()) {
+
+                    if (preFilter.test(cursor.buffer(), cursor.offset(), cursor.length())) {
+                        action.accept(cursor.decode(charset));
+                        return true;
+                    }
+                }
+
+                return false;
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+    }
+}
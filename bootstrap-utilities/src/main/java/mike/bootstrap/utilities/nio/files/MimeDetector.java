@@ -0,0 +1,253 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.tika.Tika;
+
+import mike.bootstrap.utilities.helpers.PreConditions;
+
+/**
+ * Media type detector for large batches of files.
+ * <p>
+ * The media type of a local file is first detected from its signature (zip, gzip, pdf, png ...),
+ * Tika is used only if no signature matches.
+ * <p>
+ * All detectors share the same {@link Tika} instance (thread-safe) which is created once, and each
+ * detector keeps a bounded cache of the detected media types keyed by the file path, modification
+ * time and size: a file is detected again only if it has been modified. The least recently used
+ * entries are evicted first.
+ *
+ * <pre>
+ * var detector = MimeDetector.of();
+ * Map&lt;Path, String&gt; medias = detector.resolveAll(uploadedFiles);
+ * </pre>
+ *
+ * @author Mike (2026-10)
+ * @see MimeType#resolve(Resource)
+ */
+public class MimeDetector {
+
+    /** Default max. number of cached entries */
+    public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    private static final Tika TIKA = new Tika();
+
+    private final int maxEntries;
+    private final int concurrency;
+
+    /* *** Guarded by this *** */
+    private final LinkedHashMap<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @return a new detector with the default max. number of entries and a concurrency equal to
+     *         the number of available processors
+     */
+    public static MimeDetector of() {
+        return MimeDetector.of(DEFAULT_MAX_ENTRIES, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param maxEntries  max. number of cached entries
+     * @param concurrency max. number of concurrent detections of {@link #resolveAll(Collection)}
+     * @return a new detector
+     */
+    public static MimeDetector of(int maxEntries, int concurrency) {
+        return new MimeDetector(maxEntries, concurrency);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @see MimeDetector#of(int, int)
+     */
+    private MimeDetector(int maxEntries, int concurrency) {
+        PreConditions.test(maxEntries > 0, "max. entries must be a positive number");
+        PreConditions.test(concurrency > 0, "concurrency must be a positive number");
+
+        this.maxEntries = maxEntries;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Detect the media type of a resource from the file signature (local files) or with the
+     * shared Tika instance (not cached).
+     *
+     * @param resource the resource to check
+     * @return the detected media type or <i>application/unknown</i> if the media cannot by
+     *         detected.
+     * @see MimeType#resolve(Resource)
+     */
+    static String detect(Resource resource) {
+        String mime = null;
+
+        var path = resource.localPath();
+
+        if (path != null) {
+
+            try {
+                var type = MagicBytes.sniff(path);
+
+                if (type != MimeType.UNKOWN) {
+                    // Known signature: no Tika detection
+                    return type.media();
+                }
+            } catch (IOException ioe) {
+                // Ignore
+            }
+        }
+
+        if (resource.exists()) {
+
+            // Detection from the content and the name (cheaper than Tika#detect(URL))
+            try (var is = new BufferedInputStream(resource.getInputStream())) {
+                mime = TIKA.detect(is, resource.fileName());
+            } catch (IOException ioe) {
+                // Ignore
+            }
+        }
+
+        if (mime == null) {
+            String filename = resource.exists() ? resource.getURI().toString() : resource.getName();
+            mime = MimeType.resolve(filename);
+        }
+
+        return mime != null ? mime : MimeType.UNKOWN.media();
+    }
+
+    /**
+     * @param path the file path
+     * @return the cached or detected media type or <i>application/unknown</i> if the media cannot
+     *         by detected.
+     */
+    public String resolve(Path path) {
+        PreConditions.notNull(path, "no such path provided");
+
+        BasicFileAttributes attributes;
+
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException ioe) {
+            // Not readable: nothing to cache
+            return detect(Resource.of(path));
+        }
+
+        var key = path.toAbsolutePath().normalize();
+        var entry = this.lookup(key);
+
+        if (entry != null && entry.matches(attributes)) {
+            this.hits.increment();
+            return entry.media();
+        }
+
+        this.misses.increment();
+
+        var media = detect(Resource.of(path));
+        this.put(key, new Entry(attributes.lastModifiedTime(), attributes.size(), media));
+
+        return media;
+    }
+
+    /**
+     * Detect the media types of the files in parallel, with at most {@code concurrency} concurrent
+     * detections.
+     *
+     * @param paths the files to check
+     * @return the media type of each file (in the iteration order of the given paths)
+     */
+    public Map<Path, String> resolveAll(Collection<Path> paths) {
+        PreConditions.notNull(paths, "no such paths provided");
+
+        var futures = new ArrayList<Future<String>>(paths.size());
+
+        try (var executor = Executors.newFixedThreadPool(this.concurrency,
+                Thread.ofVirtual().name("mime-detector-", 0).factory())) {
+
+            for (Path path : paths) {
+                futures.add(executor.submit(() -> this.resolve(path)));
+            }
+
+            var medias = new LinkedHashMap<Path, String>(paths.size() * 2);
+            var iterator = futures.iterator();
+
+            for (Path path : paths) {
+                medias.put(path, iterator.next().get());
+            }
+
+            return medias;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("media types detection interrupted", ie);
+        } catch (ExecutionException ee) {
+            throw new IllegalStateException("media types detection failed", ee.getCause());
+        }
+    }
+
+    /**
+     * Remove all entries from the cache.
+     */
+    public synchronized void invalidateAll() {
+        this.entries.clear();
+    }
+
+    /**
+     * @return the cache statistics
+     */
+    public synchronized Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), entries.size());
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private synchronized Entry lookup(Path key) {
+        return this.entries.get(key);
+    }
+
+    private synchronized void put(Path key, Entry entry) {
+        this.entries.put(key, entry);
+
+        if (this.entries.size() > this.maxEntries) {
+            var eldest = this.entries.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Cached media type of a file.
+     */
+    private record Entry(FileTime modified, long size, String media) {
+
+        /**
+         * @return true if the file has not been modified since the detection
+         */
+        boolean matches(BasicFileAttributes attributes) {
+            return this.size == attributes.size()
+                    && this.modified.equals(attributes.lastModifiedTime());
+        }
+    }
+
+    /**
+     * Detector counters.
+     *
+     * @param hits    number of media types found in the cache
+     * @param misses  number of media types detected
+     * @param entries number of cached entries
+     */
+    public record Stats(long hits, long misses, int entries) {}
+}
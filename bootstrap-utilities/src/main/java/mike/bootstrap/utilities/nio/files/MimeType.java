@@ -19,6 +19,12 @@ public enum MimeType {
     GZIP("application/gzip"),
     TEXT("text/plain"),
     JSON("application/json"),
+    XML("application/xml"),
+    PDF("application/pdf"),
+    BZIP2("application/x-bzip2"),
+    PNG("image/png"),
+    JPEG("image/jpeg"),
+    GIF("image/gif"),
     UNKOWN("application/unknown");
 
     private final String media;
@@ -58,6 +64,45 @@ public enum MimeType {
         }
     }
 
+    /**
+     * @param media a standard media type (ex.: text/plain, application/zip ...)
+     * @return the mime type declaring the media or <i>UNKNOWN</i> if the media does not match any
+     *         declared MimeType.
+     */
+    public static MimeType ofMedia(String media) {
+
+        for (MimeType type : MimeType.values()) {
+
+            if (type.media.equals(media)) {
+                return type;
+            }
+        }
+
+        return UNKOWN;
+    }
+
+    /**
+     * Detect the mime type of the file from its signature (first bytes), then fallback to the
+     * method {@link MimeType#resolve(Path)} if no signature matches.
+     * 
+     * @param path the file path
+     * @return the detected mime type or <i>UNKNOWN</i> if the media is not a declared MimeType.
+     */
+    public static MimeType detect(Path path) {
+
+        try {
+            var type = MagicBytes.sniff(path);
+
+            if (type != UNKOWN) {
+                return type;
+            }
+        } catch (IOException ioe) {
+            // Ignore: resolved from the file name
+        }
+
+        return MimeType.ofMedia(MimeType.resolve(path));
+    }
+
     /**
      * Tries to detect the media type of the file.
      * 
@@ -74,7 +119,8 @@ public enum MimeType {
      * document.
      * <p>
      * The method first tries to detect the media using {@link Tika#detect(java.net.URL)}, then
-     * fallback to the method {@link MimeType#resolve(String)} if the the first attempt fails.
+     * fallback to the method {@link MimeType#resolve(String)} if the the first attempt fails. The
+     * Tika instance is shared, use a {@link MimeDetector} to cache the results of many files.
      * 
      * @param resource the resource to check
      * @return the detected media type or <i>application/unknown</i> if the media cannot by
@@ -83,21 +129,7 @@ public enum MimeType {
      * @see MimeType#resolve(String)
      */
     public static String resolve(Resource resource) {
-        Tika tika = new Tika();
-        String mime = null;
-
-        try {
-            mime = tika.detect(resource.getURL());
-        } catch (IOException ioe) {
-            // Ignore
-        }
-
-        if (mime == null) {
-            String filename = resource.getURI().toString();
-            mime = resolve(filename);
-        }
-
-        return mime != null ? mime : UNKOWN.media();
+        return MimeDetector.detect(resource);
     }
 
     /**
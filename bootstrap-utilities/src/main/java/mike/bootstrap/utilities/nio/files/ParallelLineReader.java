@@ -0,0 +1,528 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collector.Characteristics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import mike.bootstrap.utilities.helpers.PreConditions;
+
+/**
+ * Parallel line reader for local file resources.
+ * <p>
+ * The file is split into byte ranges aligned on line boundaries (chunks) which are processed by a
+ * fork-join pool (default: {@link ForkJoinPool#commonPool()}). Lines are either delivered in the
+ * file order (default) or as soon as they are read (unordered).
+ * <p>
+ * Resources that cannot be memory-mapped (classpath, URL) are read sequentially.
+ *
+ * <pre>
+ * long count = Resource.of(path).parallelReader().unordered()
+ *         .preFilter(ByteLineFilter.startsWith("DTL", charset))
+ *         .collect(Collectors.counting());
+ * </pre>
+ *
+ * @author Mike (2026-10)
+ */
+public final class ParallelLineReader {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelLineReader.class);
+
+    /** Minimal chunk size (1mb) when the chunk size is computed */
+    private static final long MIN_CHUNK_SIZE = 1024 * 1024L;
+
+    private final Resource resource;
+    private final Charset charset;
+
+    private ByteLineFilter preFilter = ByteLineFilter.all();
+    private Predicate<String> filter = s -> true;
+    private boolean ordered = true;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private long chunkSize = 0;
+
+    /**
+     * @param resource the resource to read
+     * @param charset  the resource charset
+     */
+    ParallelLineReader(Resource resource, Charset charset) {
+        this.resource = resource;
+        this.charset = charset;
+    }
+
+    /**
+     * @param preFilter byte-level line filter (evaluated before decoding)
+     * @return this reader
+     */
+    public ParallelLineReader preFilter(ByteLineFilter preFilter) {
+        this.preFilter = PreConditions.notNull(preFilter, "no such pre-filter");
+        return this;
+    }
+
+    /**
+     * @param filter line filter (evaluated after decoding)
+     * @return this reader
+     */
+    public ParallelLineReader filter(Predicate<String> filter) {
+        this.filter = PreConditions.notNull(filter, "no such filter");
+        return this;
+    }
+
+    /**
+     * Lines are delivered in the file order (default).
+     *
+     * @return this reader
+     */
+    public ParallelLineReader ordered() {
+        this.ordered = true;
+        return this;
+    }
+
+    /**
+     * Lines are delivered as soon as they are read, in any order.
+     *
+     * @return this reader
+     */
+    public ParallelLineReader unordered() {
+        this.ordered = false;
+        return this;
+    }
+
+    /**
+     * @param pool the fork-join pool processing the chunks
+     * @return this reader
+     */
+    public ParallelLineReader pool(ForkJoinPool pool) {
+        this.pool = PreConditions.notNull(pool, "no such fork-join pool");
+        return this;
+    }
+
+    /**
+     * @param bytes the chunk size in bytes (default: file size divided by 4 times the pool
+     *              parallelism, min. 1mb)
+     * @return this reader
+     */
+    public ParallelLineReader chunkSize(long bytes) {
+        PreConditions.test(bytes > 0, "chunk size must be a positive number");
+        this.chunkSize = bytes;
+        return this;
+    }
+
+    /**
+     * Perform the action for each line.
+     * <p>
+     * When ordered, the action is invoked by the calling thread in the file order. When unordered,
+     * the action is invoked concurrently by the pool threads and must be thread-safe.
+     *
+     * @param action the line consumer
+     * @throws IOException if any IO errors occurs
+     */
+    public void forEach(Consumer<String> action) throws IOException {
+        PreConditions.notNull(action, "no such line consumer");
+
+        if (!this.isMappable()) {
+
+            try (var reader = this.resource.streamReader(this.preFilter, this.filter)) {
+                reader.lines().forEach(action);
+            }
+
+            return;
+        }
+
+        try (var channel = FileChannel.open(this.resource.localPath(), StandardOpenOption.READ)) {
+            long[] chunks = this.split(channel);
+
+            if (this.ordered) {
+                this.forEachOrdered(channel, chunks, action);
+            } else {
+                this.invoke(new ChunkAction(channel, chunks, 0, chunks.length - 1, action));
+            }
+        }
+    }
+
+    /**
+     * Perform a reduction on the lines.
+     * <p>
+     * Each chunk is accumulated in its own container and the containers are combined in the file
+     * order. When unordered with a {@link Characteristics#CONCURRENT concurrent} collector, all
+     * chunks are accumulated in a single shared container.
+     *
+     * @param <A>       the mutable accumulation type of the reduction operation
+     * @param <R>       the result type of the reduction operation
+     * @param collector the line collector
+     * @return the result of the reduction
+     * @throws IOException if any IO errors occurs
+     */
+    public <A, R> R collect(Collector<String, A, R> collector) throws IOException {
+        PreConditions.notNull(collector, "no such line collector");
+
+        if (!this.isMappable()) {
+
+            try (var reader = this.resource.streamReader(this.preFilter, this.filter)) {
+                return reader.lines().collect(collector);
+            }
+        }
+
+        try (var channel = FileChannel.open(this.resource.localPath(), StandardOpenOption.READ)) {
+            long[] chunks = this.split(channel);
+            A container;
+
+            if (!this.ordered && collector.characteristics().contains(Characteristics.CONCURRENT)) {
+                final A shared = collector.supplier().get();
+                final var accumulator = collector.accumulator();
+
+                this.invoke(new ChunkAction(channel, chunks, 0, chunks.length - 1,
+                        line -> accumulator.accept(shared, line)));
+                container = shared;
+            } else {
+                var supplier = collector.supplier();
+                var accumulator = collector.accumulator();
+
+                container = this.invoke(new ChunkTask<A>(chunks, 0, chunks.length - 1,
+                        (start, end) -> {
+                            A chunk = supplier.get();
+                            this.scan(channel, start, end, line -> accumulator.accept(chunk, line));
+                            return chunk;
+                        }, collector.combiner()));
+            }
+
+            return this.finish(collector, container);
+        }
+    }
+
+    /**
+     * @return true if the resource is a local file with a charset supported by the mapped reader
+     * @throws IOException if the resource cannot be read
+     */
+    boolean isMappable() throws IOException {
+        return this.resource.isMappable() && MappedStreamReader.supports(this.charset);
+    }
+
+    /**
+     * Raw line accumulator: the line is not decoded.
+     */
+    @FunctionalInterface
+    interface RawLineAccumulator<A> {
+
+        /**
+         * @param container the chunk container
+         * @param buffer    the buffer holding the line (must not be modified or kept)
+         * @param offset    absolute position of the first byte of the line within the buffer
+         * @param length    length of the line in bytes (without line terminator)
+         */
+        void accept(A container, ByteBuffer buffer, int offset, int length);
+    }
+
+    /**
+     * Perform a reduction on the raw lines of a local file: the lines accepted by the pre-filter
+     * are not decoded (the decoded line filter is ignored). Each chunk is accumulated in its own
+     * container and the containers are combined in the file order.
+     *
+     * @param supplier    the chunk container supplier
+     * @param accumulator the raw line accumulator
+     * @param combiner    the containers combiner
+     * @return the result of the reduction
+     * @throws IOException if any IO errors occurs
+     * @throws IllegalStateException if the resource cannot be memory-mapped (see
+     *         {@link #isMappable()})
+     */
+    <A> A reduceRaw(Supplier<A> supplier, RawLineAccumulator<A> accumulator,
+            BinaryOperator<A> combiner) throws IOException {
+
+        if (!this.isMappable()) {
+            throw new IllegalStateException("resource cannot be mapped: " + resource);
+        }
+
+        try (var channel = FileChannel.open(this.resource.localPath(), StandardOpenOption.READ)) {
+            long[] chunks = this.split(channel);
+
+            return this.invoke(new ChunkTask<A>(chunks, 0, chunks.length - 1, (start, end) -> {
+                A container = supplier.get();
+
+                try {
+                    var cursor = new MappedLineCursor(channel, start, end,
+                            MappedLineCursor.DEFAULT_REGION_SIZE);
+
+                    while (cursor.next()) {
+
+                        if (this.preFilter.test(cursor.buffer(), cursor.offset(),
+                                cursor.length())) {
+                            accumulator.accept(container, cursor.buffer(), cursor.offset(),
+                                    cursor.length());
+                        }
+                    }
+                } catch (IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+
+                return container;
+            }, combiner));
+        }
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    /**
+     * Process the chunks in the pool and consume them in the file order from the calling thread.
+     * The number of chunks read in advance is limited to twice the pool parallelism.
+     */
+    private void forEachOrdered(FileChannel channel, long[] chunks, Consumer<String> action)
+            throws IOException {
+
+        var window = new ArrayDeque<ForkJoinTask<List<String>>>();
+        int ahead = Math.max(2, this.pool.getParallelism() * 2);
+        int next = 0;
+
+        try {
+            while (next < chunks.length - 1 || !window.isEmpty()) {
+
+                while (next < chunks.length - 1 && window.size() < ahead) {
+                    final int chunk = next++;
+
+                    window.add(this.pool.submit(() -> {
+                        var lines = new ArrayList<String>();
+                        this.scan(channel, chunks[chunk], chunks[chunk + 1], lines::add);
+                        return lines;
+                    }));
+                }
+
+                window.poll().join().forEach(action);
+            }
+        } catch (RuntimeException re) {
+            window.forEach(task -> task.cancel(true));
+            throw this.unwrap(re);
+        }
+    }
+
+    /**
+     * Scan a chunk and perform the action on the lines accepted by the filters.
+     */
+    private void scan(FileChannel channel, long start, long end, Consumer<String> action) {
+
+        try {
+            var cursor = new MappedLineCursor(channel, start, end,
+                    MappedLineCursor.DEFAULT_REGION_SIZE);
+
+            while (cursor.next()) {
+
+                if (this.preFilter.test(cursor.buffer(), cursor.offset(), cursor.length())) {
+                    var line = cursor.decode(this.charset);
+
+                    if (this.filter.test(line)) {
+                        action.accept(line);
+                    }
+                }
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    /**
+     * Split the file into chunks aligned on line boundaries.
+     *
+     * @return the chunk boundaries (chunk i is [bounds[i], bounds[i+1]))
+     */
+    private long[] split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long target = this.chunkSize > 0 ? this.chunkSize
+                : Math.max(MIN_CHUNK_SIZE, size / (this.pool.getParallelism() * 4L));
+
+        long previous = CharsetDetector.bomLength(channel, this.charset);
+
+        var bounds = new ArrayList<Long>();
+        bounds.add(previous);
+
+        while (previous + target < size) {
+            long bound = this.lineStart(channel, previous + target, size);
+
+            if (bound >= size) {
+                break;
+            }
+
+            bounds.add(bound);
+            previous = bound;
+        }
+
+        bounds.add(size);
+
+        log.debug("Resource::parallel: {} split into {} chunk(s) of ~{} byte(s)", resource,
+                bounds.size() - 1, target);
+
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * @param from a position in the file (greater than 0)
+     * @return the position of the first line starting at or after the given position
+     */
+    private long lineStart(FileChannel channel, long from, long size) throws IOException {
+        var buffer = ByteBuffer.allocate(8192);
+        long position = from - 1;
+        boolean cr = false;
+
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+
+            if (read <= 0) {
+                break;
+            }
+
+            for (int i = 0; i < read; i++) {
+                byte b = buffer.get(i);
+
+                if (cr) {
+                    return b == '\n' ? position + i + 1 : position + i;
+                }
+
+                if (b == '\n') {
+                    return position + i + 1;
+                }
+
+                cr = b == '\r';
+            }
+
+            position += read;
+        }
+
+        return size;
+    }
+
+    private <T> T invoke(ForkJoinTask<T> task) throws IOException {
+
+        try {
+            return this.pool.invoke(task);
+        } catch (RuntimeException re) {
+            throw this.unwrap(re);
+        }
+    }
+
+    /**
+     * @return the IO exception at the origin of the runtime exception
+     * @throws RuntimeException the given exception if not caused by an IO exception
+     */
+    private IOException unwrap(RuntimeException re) {
+
+        for (Throwable cause = re; cause != null; cause = cause.getCause()) {
+
+            if (cause instanceof IOException ioe) {
+                return ioe;
+            }
+        }
+
+        throw re;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <A, R> R finish(Collector<String, A, R> collector, A container) {
+
+        if (collector.characteristics().contains(Characteristics.IDENTITY_FINISH)) {
+            return (R) container;
+        }
+
+        return collector.finisher().apply(container);
+    }
+
+    /**
+     * Perform an action on the lines of a range of chunks.
+     */
+    private class ChunkAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient FileChannel channel;
+        private final long[] chunks;
+        private final int from;
+        private final int to;
+        private final transient Consumer<String> action;
+
+        ChunkAction(FileChannel channel, long[] chunks, int from, int to,
+                Consumer<String> action) {
+            this.channel = channel;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (this.to - this.from <= 1) {
+                scan(channel, chunks[from], chunks[to], action);
+            } else {
+                int mid = (this.from + this.to) >>> 1;
+                invokeAll(new ChunkAction(channel, chunks, from, mid, action),
+                        new ChunkAction(channel, chunks, mid, to, action));
+            }
+        }
+    }
+
+    /**
+     * Scan of a chunk into a container.
+     */
+    @FunctionalInterface
+    private interface ChunkScanner<A> {
+
+        A scan(long start, long end);
+    }
+
+    /**
+     * Accumulate the lines of a range of chunks and combine the containers in the file order.
+     */
+    private static class ChunkTask<A> extends RecursiveTask<A> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] chunks;
+        private final int from;
+        private final int to;
+        private final transient ChunkScanner<A> scanner;
+        private final transient BinaryOperator<A> combiner;
+
+        ChunkTask(long[] chunks, int from, int to, ChunkScanner<A> scanner,
+                BinaryOperator<A> combiner) {
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.scanner = scanner;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected A compute() {
+
+            if (this.to - this.from <= 1) {
+                return scanner.scan(chunks[from], chunks[to]);
+            }
+
+            int mid = (this.from + this.to) >>> 1;
+            var left = new ChunkTask<>(chunks, from, mid, scanner, combiner);
+            var right = new ChunkTask<>(chunks, mid, to, scanner, combiner);
+
+            left.fork();
+            A rightResult = right.compute();
+            A leftResult = left.join();
+
+            return combiner.apply(leftResult, rightResult);
+        }
+    }
+}
@@ -0,0 +1,609 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import mike.bootstrap.utilities.helpers.PreConditions;
+
+/**
+ * Directory scanner returning the regular files matching name patterns and attribute predicates.
+ * <p>
+ * The attributes of each directory entry are read once (single {@code readAttributes} call) and
+ * shared by the directory test and all the attribute predicates. Excluded directories are not
+ * walked. Sub-directories are walked in parallel by a fork-join pool (default:
+ * {@link ForkJoinPool#commonPool()}) unless the scanner is {@link #sequential()}, and the results
+ * are streamed back lazily: the walk starts with the stream consumption and stops when the stream
+ * is closed.
+ * <p>
+ * Name patterns use the {@link java.nio.file.FileSystem#getPathMatcher(String) path matcher}
+ * syntax ({@code glob:} by default, or {@code regex:}). A pattern containing a '/' is matched
+ * against the path relative to the root directory, otherwise against the file name only.
+ *
+ * <pre>
+ * try (var files = PathUtils.scan(inputs).include("*.csv").exclude("archives")
+ *         .minSize(1).modifiedAfter(yesterday).paths()) {
+ *     files.forEach(this::process);
+ * }
+ * </pre>
+ *
+ * @author Mike (2026-10)
+ */
+public final class PathScanner {
+
+    /** Max. number of results buffered ahead of the stream consumer (parallel walk) */
+    private static final int QUEUE_CAPACITY = 10_000;
+
+    private static final Object END = new Object();
+
+    private static final LinkOption[] NOFOLLOW_LINKS = { LinkOption.NOFOLLOW_LINKS };
+
+    private final Path root;
+
+    private final List<NameMatcher> includes = new ArrayList<>();
+    private final List<NameMatcher> excludes = new ArrayList<>();
+    private Predicate<BasicFileAttributes> attributes = a -> true;
+    private Predicate<Path> content = p -> true;
+    private int maxDepth = Integer.MAX_VALUE;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private boolean parallel = true;
+
+    /**
+     * @param root the directory to scan
+     */
+    PathScanner(Path root) {
+        this.root = PreConditions.notNull(root, "no such root directory provided");
+    }
+
+    /**
+     * Include the files matching the pattern (a file is included if it matches any include
+     * pattern, all files are included if no pattern is given).
+     *
+     * @param pattern a glob (default) or regex pattern (ex.: {@code *.csv},
+     *                {@code regex:.*\.json})
+     * @return this scanner
+     */
+    public PathScanner include(String pattern) {
+        this.includes.add(this.matcher(pattern));
+        return this;
+    }
+
+    /**
+     * Exclude the files and the directories (not walked) matching the pattern.
+     *
+     * @param pattern a glob (default) or regex pattern (ex.: {@code .git}, {@code tmp/**})
+     * @return this scanner
+     */
+    public PathScanner exclude(String pattern) {
+        this.excludes.add(this.matcher(pattern));
+        return this;
+    }
+
+    /**
+     * @param depth max. number of directory levels to visit (1: only the files of the root
+     *              directory)
+     * @return this scanner
+     */
+    public PathScanner maxDepth(int depth) {
+        PreConditions.test(depth >= 0, "max. depth must be a positive number or zero");
+        this.maxDepth = depth;
+        return this;
+    }
+
+    /**
+     * @param predicate file attributes predicate (combined with the previous predicates)
+     * @return this scanner
+     */
+    public PathScanner filter(Predicate<BasicFileAttributes> predicate) {
+        PreConditions.notNull(predicate, "no such attributes predicate");
+        this.attributes = this.attributes.and(predicate);
+        return this;
+    }
+
+    /**
+     * @param bytes min. file size in bytes (inclusive)
+     * @return this scanner
+     */
+    public PathScanner minSize(long bytes) {
+        return this.filter(a -> a.size() >= bytes);
+    }
+
+    /**
+     * @param bytes max. file size in bytes (inclusive)
+     * @return this scanner
+     */
+    public PathScanner maxSize(long bytes) {
+        return this.filter(a -> a.size() <= bytes);
+    }
+
+    /**
+     * @param instant the files modified after this instant (exclusive) are accepted
+     * @return this scanner
+     */
+    public PathScanner modifiedAfter(Instant instant) {
+        PreConditions.notNull(instant, "no such instant provided");
+        return this.filter(a -> a.lastModifiedTime().toInstant().isAfter(instant));
+    }
+
+    /**
+     * @param instant the files modified before this instant (exclusive) are accepted
+     * @return this scanner
+     */
+    public PathScanner modifiedBefore(Instant instant) {
+        PreConditions.notNull(instant, "no such instant provided");
+        return this.filter(a -> a.lastModifiedTime().toInstant().isBefore(instant));
+    }
+
+    /**
+     * Accept the files of the given mime types. The detection reads the file content and is
+     * evaluated after all the other predicates.
+     *
+     * @param types the accepted mime types
+     * @return this scanner
+     * @see MimeType#detect(Path)
+     */
+    public PathScanner mimeType(MimeType... types) {
+        var accepted = Set.of(PreConditions.notNull(types, "no such mime types provided"));
+        this.content = this.content.and(p -> accepted.contains(MimeType.detect(p)));
+        return this;
+    }
+
+    /**
+     * @param pool the fork-join pool walking the directories
+     * @return this scanner
+     */
+    public PathScanner pool(ForkJoinPool pool) {
+        this.pool = PreConditions.notNull(pool, "no such fork-join pool");
+        this.parallel = true;
+        return this;
+    }
+
+    /**
+     * Walk the directories in the calling thread, depth-first.
+     *
+     * @return this scanner
+     */
+    public PathScanner sequential() {
+        this.parallel = false;
+        return this;
+    }
+
+    /**
+     * The stream must be closed to stop the walk if it is not fully consumed.
+     *
+     * @return the matching files with their attributes (in any order when parallel)
+     * @throws IOException if the root is not a readable directory, IO errors during the walk are
+     *                     thrown as {@link UncheckedIOException} by the stream and the
+     *                     predicate errors are rethrown as is (parallel walk included)
+     */
+    public Stream<Entry> stream() throws IOException {
+
+        if (!Files.readAttributes(root, BasicFileAttributes.class).isDirectory()) {
+            throw new NotDirectoryException(root.toString());
+        }
+
+        if (!this.parallel) {
+            var walk = new SequentialWalk(root);
+            return StreamSupport.stream(walk, false).onClose(walk::close);
+        }
+
+        var walk = new ParallelWalk();
+        return StreamSupport.stream(walk, false).onClose(walk::stop);
+    }
+
+    /**
+     * @return the matching files (in any order when parallel)
+     * @throws IOException if the root is not a readable directory
+     * @see PathScanner#stream()
+     */
+    public Stream<Path> paths() throws IOException {
+        return this.stream().map(Entry::path);
+    }
+
+    /**
+     * Sequential walk of a sub-directory of the root (the patterns remain relative to the root
+     * and the max. depth is counted from the sub-directory).
+     *
+     * @param directory the directory to walk
+     * @return the matching files of the directory (must be closed)
+     */
+    Stream<Entry> walk(Path directory) {
+        var walk = new SequentialWalk(directory);
+        return StreamSupport.stream(walk, false).onClose(walk::close);
+    }
+
+    /**
+     * @param file  a regular file under the root directory
+     * @param attrs the file attributes
+     * @return true if the file matches the patterns and the predicates
+     */
+    boolean matches(Path file, BasicFileAttributes attrs) {
+        return this.accept(file, attrs);
+    }
+
+    /**
+     * @param directory a directory under the root directory
+     * @return true if the directory is excluded from the walk
+     */
+    boolean prunes(Path directory) {
+        return this.excluded(directory);
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private NameMatcher matcher(String pattern) {
+        PreConditions.notBlank(pattern, "no such pattern provided");
+
+        var syntax = pattern.startsWith("glob:") || pattern.startsWith("regex:") ? pattern
+                : "glob:" + pattern;
+
+        return new NameMatcher(FileSystems.getDefault().getPathMatcher(syntax),
+                !pattern.contains("/"));
+    }
+
+    private boolean excluded(Path path) {
+        return !excludes.isEmpty() && this.matches(excludes, path);
+    }
+
+    private boolean matches(List<NameMatcher> matchers, Path path) {
+        Path relative = null;
+
+        for (NameMatcher matcher : matchers) {
+
+            if (matcher.nameOnly()) {
+
+                if (matcher.matcher().matches(path.getFileName())) {
+                    return true;
+                }
+            } else {
+
+                if (relative == null) {
+                    relative = root.relativize(path);
+                }
+
+                if (matcher.matcher().matches(relative)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return true if the regular file matches the patterns and the predicates
+     */
+    private boolean accept(Path file, BasicFileAttributes attrs) {
+        return (includes.isEmpty() || this.matches(includes, file)) && !this.excluded(file)
+                && this.attributes.test(attrs) && this.content.test(file);
+    }
+
+    /**
+     * @return the attributes of the directory entry (single system call) or null if the entry
+     *         has been removed since the directory listing
+     */
+    private static BasicFileAttributes attributes(Path path) throws IOException {
+
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class, NOFOLLOW_LINKS);
+        } catch (NoSuchFileException nsfe) {
+            return null;
+        }
+    }
+
+    /**
+     * Scanned file.
+     *
+     * @param path       the file path
+     * @param attributes the file attributes read during the walk
+     */
+    public record Entry(Path path, BasicFileAttributes attributes) {
+
+        /**
+         * @return the file size in bytes
+         */
+        public long size() {
+            return this.attributes.size();
+        }
+
+        /**
+         * @return the file last modification time
+         */
+        public Instant lastModified() {
+            return this.attributes.lastModifiedTime().toInstant();
+        }
+    }
+
+    private record NameMatcher(PathMatcher matcher, boolean nameOnly) {}
+
+    /**
+     * Depth-first walk in the consumer thread: a directory is opened only when the stream needs
+     * the next file.
+     */
+    private class SequentialWalk extends Spliterators.AbstractSpliterator<Entry> {
+
+        private final Deque<DirectoryStream<Path>> streams = new ArrayDeque<>();
+        private final Deque<Iterator<Path>> iterators = new ArrayDeque<>();
+        private boolean started;
+
+        private final Path start;
+
+        SequentialWalk(Path start) {
+            super(Long.MAX_VALUE, Spliterator.NONNULL | Spliterator.DISTINCT);
+            this.start = start;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Entry> action) {
+
+            try {
+                if (!this.started) {
+                    this.started = true;
+
+                    if (maxDepth > 0) {
+                        this.open(this.start);
+                    }
+                }
+
+                while (!this.iterators.isEmpty()) {
+                    var iterator = this.iterators.peek();
+
+                    if (!iterator.hasNext()) {
+                        this.iterators.pop();
+                        this.streams.pop().close();
+                        continue;
+                    }
+
+                    var path = iterator.next();
+                    var attrs = attributes(path);
+
+                    if (attrs == null) {
+                        // Removed since the listing
+                        continue;
+                    } else if (attrs.isDirectory()) {
+
+                        // Depth of the sub-directory entries: number of opened directories + 1
+                        if (this.iterators.size() < maxDepth && !excluded(path)) {
+                            this.openSubdirectory(path);
+                        }
+                    } else if (attrs.isRegularFile() && accept(path, attrs)) {
+                        action.accept(new Entry(path, attrs));
+                        return true;
+                    }
+                }
+
+                return false;
+            } catch (IOException ioe) {
+                this.close();
+                throw new UncheckedIOException(ioe);
+            } catch (DirectoryIteratorException die) {
+                this.close();
+                throw new UncheckedIOException(die.getCause());
+            }
+        }
+
+        private void open(Path directory) throws IOException {
+            var stream = Files.newDirectoryStream(directory);
+            this.streams.push(stream);
+            this.iterators.push(stream.iterator());
+        }
+
+        private void openSubdirectory(Path directory) throws IOException {
+
+            try {
+                this.open(directory);
+            } catch (NoSuchFileException nsfe) {
+                // Removed since the listing
+            }
+        }
+
+        void close() {
+
+            for (DirectoryStream<Path> stream : this.streams) {
+                try {
+                    stream.close();
+                } catch (IOException ioe) {
+                    // Ignore
+                }
+            }
+
+            this.streams.clear();
+            this.iterators.clear();
+        }
+    }
+
+    /**
+     * Parallel walk: each directory is listed by a fork-join task and the matching files are
+     * pushed to a bounded queue consumed by the stream.
+     */
+    private class ParallelWalk extends Spliterators.AbstractSpliterator<Entry> {
+
+        private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private boolean started;
+        private boolean done;
+
+        ParallelWalk() {
+            super(Long.MAX_VALUE, Spliterator.NONNULL | Spliterator.DISTINCT);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Entry> action) {
+
+            if (this.done) {
+                return false;
+            }
+
+            if (!this.started) {
+                this.started = true;
+                pool.execute(ForkJoinTask.adapt(() -> {
+                    try {
+                        new DirectoryWalk(root, 0).invoke();
+                    } catch (RuntimeException e) {
+                        // i.e. predicate error, rethrown by the consumer
+                        this.publish(e);
+                        this.stop();
+                    } finally {
+                        this.publish(END);
+                    }
+                }));
+            }
+
+            try {
+                var item = this.queue.take();
+
+                if (item instanceof Entry entry) {
+                    action.accept(entry);
+                    return true;
+                }
+
+                this.done = true;
+                this.stop();
+
+                if (item instanceof IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                } else if (item instanceof RuntimeException re) {
+                    throw re;
+                }
+
+                return false;
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                this.stop();
+                throw new IllegalStateException("directory scan interrupted", ie);
+            }
+        }
+
+        void stop() {
+            this.cancelled.set(true);
+        }
+
+        /**
+         * Push an item to the queue, the pool is compensated while the queue is full.
+         */
+        private void publish(Object item) {
+
+            try {
+                ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+
+                    @Override
+                    public boolean block() throws InterruptedException {
+
+                        while (!cancelled.get()
+                                && !queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                            // Wait for the consumer or the cancellation
+                        }
+
+                        return true;
+                    }
+
+                    @Override
+                    public boolean isReleasable() {
+                        return cancelled.get() || queue.offer(item);
+                    }
+                });
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                this.stop();
+            }
+        }
+
+        /**
+         * List a directory and fork the walk of its sub-directories.
+         */
+        private class DirectoryWalk extends RecursiveAction {
+
+            private static final long serialVersionUID = 1L;
+
+            private final transient Path directory;
+            private final int depth;
+
+            DirectoryWalk(Path directory, int depth) {
+                this.directory = directory;
+                this.depth = depth;
+            }
+
+            @Override
+            protected void compute() {
+
+                if (cancelled.get() || this.depth >= maxDepth) {
+                    return;
+                }
+
+                var subdirectories = new ArrayList<DirectoryWalk>();
+
+                try (var entries = Files.newDirectoryStream(this.directory)) {
+
+                    for (Path path : entries) {
+
+                        if (cancelled.get()) {
+                            return;
+                        }
+
+                        var attrs = attributes(path);
+
+                        if (attrs == null) {
+                            // Removed since the listing
+                            continue;
+                        } else if (attrs.isDirectory()) {
+
+                            if (!excluded(path)) {
+                                subdirectories.add(new DirectoryWalk(path, this.depth + 1));
+                            }
+                        } else if (attrs.isRegularFile() && accept(path, attrs)) {
+                            publish(new Entry(path, attrs));
+                        }
+                    }
+                } catch (NoSuchFileException nsfe) {
+
+                    if (this.depth == 0) {
+                        publish(nsfe);
+                        ParallelWalk.this.stop();
+                    }
+
+                    // Otherwise removed since the parent listing
+                    return;
+                } catch (IOException ioe) {
+                    publish(ioe);
+                    ParallelWalk.this.stop();
+                    return;
+                } catch (DirectoryIteratorException die) {
+                    publish(die.getCause());
+                    ParallelWalk.this.stop();
+                    return;
+                }
+
+                ForkJoinTask.invokeAll(subdirectories);
+            }
+        }
+    }
+}
@@ -98,6 +98,17 @@ public class PathUtils {
         return PathUtils.of(first, others);
     }
 
+    /**
+     * Scan a directory tree for the files matching patterns and attribute predicates.
+     * 
+     * @param root the directory to scan
+     * @return a new scanner on the directory
+     * @see PathScanner
+     */
+    public static PathScanner scan(Path root) {
+        return new PathScanner(root);
+    }
+
     /**
      * Substitute all backslashes with slash for a Windows path.<br>
      * The substitution is only done for Windows OS. In all cases, the result is the String
@@ -0,0 +1,480 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import mike.bootstrap.utilities.helpers.Offset;
+import mike.bootstrap.utilities.helpers.PreConditions;
+
+/**
+ * Layout of fixed-width records: named fields at a given {@link Offset} of the record.
+ * <p>
+ * The records are either lines (default) or blocks of {@link #recordLength(int) fixed length}
+ * without terminator. The fields are extracted straight from the bytes of the resource (memory
+ * mapped for a local file, pooled buffers otherwise) and only decoded when accessed.
+ *
+ * <pre>
+ * var layout = RecordLayout.of(StandardCharsets.ISO_8859_1)
+ *         .field("type", 1, 3)
+ *         .field("account", Offset.of(4, 10))
+ *         .field("amount", 14, 12)
+ *         .field("date", 26, 8);
+ *
+ * layout.forEach(resource, record -&gt; {
+ *     if ("DTL".equals(record.get("type"))) {
+ *         total.add(record.getDecimal("amount", 2));
+ *     }
+ * });
+ *
+ * List&lt;Operation&gt; operations = layout.map(resource, Operation::of); // parallel
+ * </pre>
+ *
+ * @author Mike (2026-10)
+ */
+public final class RecordLayout {
+
+    private static final Logger log = LoggerFactory.getLogger(RecordLayout.class);
+
+    /** Min. size of a chunk of fixed-length records parsed in parallel (1mb) */
+    private static final long MIN_CHUNK_SIZE = 1024 * 1024L;
+
+    /** Max. size of a chunk of fixed-length records (single mapped buffer) */
+    private static final long MAX_CHUNK_SIZE = Integer.MAX_VALUE - 8L;
+
+    private final Charset charset;
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private Offset[] offsets = new Offset[0];
+
+    private int recordLength;
+    private int maxEndAt;
+    private long chunkSize = 0;
+
+    /**
+     * @param charset the records charset
+     * @return an empty layout
+     */
+    public static RecordLayout of(Charset charset) {
+        return new RecordLayout(PreConditions.notNull(charset, "no such charset"));
+    }
+
+    /**
+     * Constructor.
+     */
+    private RecordLayout(Charset charset) {
+        this.charset = charset;
+    }
+
+    /**
+     * @param name   the field name (unique)
+     * @param offset the field offset within the record
+     * @return this layout
+     */
+    public RecordLayout field(String name, Offset offset) {
+        PreConditions.notBlank(name, "no such field name");
+        PreConditions.notNull(offset, "no such field offset");
+        PreConditions.test(!this.indexes.containsKey(name), "duplicate field: " + name);
+        PreConditions.test(this.recordLength == 0 || offset.endAt() <= this.recordLength,
+                "field " + name + " exceeds the record length: " + offset);
+
+        this.indexes.put(name, this.names.size());
+        this.names.add(name);
+        this.offsets = Arrays.copyOf(this.offsets, this.offsets.length + 1);
+        this.offsets[this.offsets.length - 1] = offset;
+        this.maxEndAt = Math.max(this.maxEndAt, offset.endAt());
+
+        return this;
+    }
+
+    /**
+     * @param name     the field name (unique)
+     * @param position the field position (starts at 1)
+     * @param length   the field length
+     * @return this layout
+     */
+    public RecordLayout field(String name, int position, int length) {
+        return this.field(name, Offset.of(position, length));
+    }
+
+    /**
+     * Records are blocks of the given length without line terminator (i.e. mainframe files).
+     *
+     * @param length the record length in bytes (at least the end of the last field)
+     * @return this layout
+     */
+    public RecordLayout recordLength(int length) {
+        PreConditions.test(length > 0, "record length must be a positive number");
+        PreConditions.test(length >= this.maxEndAt,
+                "record length is lower than the end of the fields: " + this.maxEndAt);
+
+        this.recordLength = length;
+        return this;
+    }
+
+    /**
+     * @param bytes the size in bytes of the chunks of fixed-length records mapped in parallel,
+     *              rounded down to whole records (default: file size divided by 4 times the
+     *              available processors, min. 1mb, max. 2gb)
+     * @return this layout
+     */
+    public RecordLayout chunkSize(long bytes) {
+        PreConditions.test(bytes > 0, "chunk size must be a positive number");
+        this.chunkSize = bytes;
+        return this;
+    }
+
+    /**
+     * @return the records charset
+     */
+    public Charset charset() {
+        return charset;
+    }
+
+    /**
+     * @return the record length in bytes or 0 if the records are lines
+     */
+    public int recordLength() {
+        return recordLength;
+    }
+
+    /**
+     * @return the field names in declaration order
+     */
+    public List<String> names() {
+        return List.copyOf(this.names);
+    }
+
+    /**
+     * @param name the field name
+     * @return the field index
+     * @throws IllegalArgumentException if the field is unknown
+     */
+    public int index(String name) {
+        var index = this.indexes.get(name);
+        PreConditions.test(index != null, "unknown field: " + name);
+
+        return index;
+    }
+
+    /**
+     * @param index the field index
+     * @return the field offset
+     */
+    public Offset offset(int index) {
+        return this.offsets[index];
+    }
+
+    /**
+     * @param record the record bytes
+     * @return a record view over the given bytes
+     */
+    public FixedRecord wrap(byte[] record) {
+        return this.wrap(ByteBuffer.wrap(record), 0, record.length);
+    }
+
+    /**
+     * @param buffer the buffer holding the record (not modified)
+     * @param offset absolute position of the record within the buffer
+     * @param length record length in bytes
+     * @return a record view over the given buffer range
+     */
+    public FixedRecord wrap(ByteBuffer buffer, int offset, int length) {
+        PreConditions.test(offset >= 0 && length >= 0 && offset + length <= buffer.limit(),
+                "record out of the buffer bounds");
+
+        return new FixedRecord(this).reset(buffer, offset, length);
+    }
+
+    /**
+     * Read the records sequentially (empty lines are skipped).
+     * <p>
+     * The record given to the action is reused from one record to the next (see
+     * {@link FixedRecord#copy()}).
+     *
+     * @param resource the resource to read
+     * @param action   the record consumer
+     * @throws IOException if any IO errors occurs
+     */
+    public void forEach(Resource resource, Consumer<? super FixedRecord> action) throws IOException {
+        PreConditions.notNull(resource, "no such resource");
+        PreConditions.notNull(action, "no such record consumer");
+
+        var record = new FixedRecord(this);
+
+        if (this.recordLength > 0) {
+            this.readBlocks(resource, record, action);
+        } else if (this.isMappable(resource)) {
+            this.readMapped(resource, record, action);
+        } else if (MappedStreamReader.supports(this.charset)) {
+            this.readLines(resource, record, action);
+        } else {
+            // Line breaks are not single bytes (i.e. UTF-16, EBCDIC): decode the lines
+            try (var reader = resource.withCharset(this.charset).streamReader()) {
+                reader.lines().filter(line -> !line.isEmpty()).forEach(line -> {
+                    var bytes = line.getBytes(this.charset);
+                    action.accept(record.reset(ByteBuffer.wrap(bytes), 0, bytes.length));
+                });
+            }
+        }
+    }
+
+    /**
+     * Map the records in parallel when the resource is a local uncompressed file (sequentially
+     * otherwise).
+     *
+     * @param resource the resource to read
+     * @param mapper   the record mapper (must not keep the record, see {@link FixedRecord#copy()})
+     * @return the mapped records in the resource order
+     * @throws IOException if any IO errors occurs
+     */
+    public <R> List<R> map(Resource resource, Function<? super FixedRecord, ? extends R> mapper)
+            throws IOException {
+        PreConditions.notNull(resource, "no such resource");
+        PreConditions.notNull(mapper, "no such record mapper");
+
+        if (this.recordLength > 0 && resource.isMappable()) {
+            return this.mapBlocks(resource, mapper);
+        }
+
+        if (this.recordLength == 0 && this.isMappable(resource)) {
+            return resource.withCharset(this.charset).parallelReader().reduceRaw(
+                    () -> new Chunk<R>(new FixedRecord(this), mapper),
+                    Chunk::accept, Chunk::combine).results;
+        }
+
+        var results = new ArrayList<R>();
+        this.forEach(resource, record -> results.add(mapper.apply(record)));
+
+        return results;
+    }
+
+    @Override
+    public String toString() {
+        var fields = new StringBuilder();
+
+        for (int i = 0; i < this.offsets.length; i++) {
+            fields.append(i > 0 ? ", " : "").append(this.names.get(i)).append('(')
+                    .append(this.offsets[i].position()).append(':')
+                    .append(this.offsets[i].length()).append(')');
+        }
+
+        return String.format("RecordLayout [charset=%s, recordLength=%d, fields=[%s]]", charset,
+                recordLength, fields);
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private boolean isMappable(Resource resource) throws IOException {
+        return resource.isMappable() && MappedStreamReader.supports(this.charset);
+    }
+
+    /**
+     * Read the lines of a local file through a mapped line cursor.
+     */
+    private void readMapped(Resource resource, FixedRecord record,
+            Consumer<? super FixedRecord> action) throws IOException {
+
+        try (var channel = FileChannel.open(resource.localPath(), StandardOpenOption.READ)) {
+            var cursor = new MappedLineCursor(channel, CharsetDetector.bomLength(channel,
+                    this.charset), channel.size(), MappedLineCursor.DEFAULT_REGION_SIZE);
+
+            while (cursor.next()) {
+
+                if (cursor.length() > 0) {
+                    action.accept(record.reset(cursor.buffer(), cursor.offset(), cursor.length()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Split the content stream into lines ('\n', '\r' or "\r\n") within a pooled buffer.
+     */
+    private void readLines(Resource resource, FixedRecord record,
+            Consumer<? super FixedRecord> action) throws IOException {
+        var pooled = BufferPool.acquire();
+        var bytes = pooled;
+
+        try (var is = CharsetDetector.skipBom(resource.getContentStream(), this.charset)) {
+            var buffer = ByteBuffer.wrap(bytes);
+            int start = 0;
+            int limit = 0;
+            int scan = 0;
+            boolean skipLf = false;
+
+            while (true) {
+
+                for (; scan < limit; scan++) {
+                    byte b = bytes[scan];
+
+                    if (b == '\n' && skipLf) {
+                        // Second byte of "\r\n"
+                        start = scan + 1;
+                        skipLf = false;
+                    } else if (b == '\n' || b == '\r') {
+
+                        if (scan > start) {
+                            action.accept(record.reset(buffer, start, scan - start));
+                        }
+
+                        start = scan + 1;
+                        skipLf = b == '\r';
+                    } else {
+                        skipLf = false;
+                    }
+                }
+
+                if (start > 0) {
+                    // Move the pending line at the beginning of the buffer
+                    System.arraycopy(bytes, start, bytes, 0, limit - start);
+                    limit -= start;
+                    scan = limit;
+                    start = 0;
+                } else if (limit == bytes.length) {
+                    // The line does not fit in the buffer
+                    bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                    buffer = ByteBuffer.wrap(bytes);
+                }
+
+                int read = is.read(bytes, limit, bytes.length - limit);
+
+                if (read < 0) {
+
+                    if (limit > 0) {
+                        // Last line without terminator
+                        action.accept(record.reset(buffer, 0, limit));
+                    }
+
+                    return;
+                }
+
+                limit += read;
+            }
+        } finally {
+            BufferPool.release(pooled);
+        }
+    }
+
+    /**
+     * Read blocks of fixed-length records from the content stream.
+     */
+    private void readBlocks(Resource resource, FixedRecord record,
+            Consumer<? super FixedRecord> action) throws IOException {
+        int count = Math.max(1, BufferPool.BUFFER_SIZE / this.recordLength);
+        boolean pooled = count > 1;
+        var bytes = pooled ? BufferPool.acquire() : new byte[this.recordLength];
+        var buffer = ByteBuffer.wrap(bytes);
+        int blockLength = count * this.recordLength;
+
+        try (InputStream is = resource.getContentStream()) {
+            int read;
+
+            while ((read = is.readNBytes(bytes, 0, blockLength)) > 0) {
+
+                for (int offset = 0; offset < read; offset += this.recordLength) {
+                    // The last record may be truncated
+                    action.accept(record.reset(buffer, offset,
+                            Math.min(this.recordLength, read - offset)));
+                }
+
+                if (read < blockLength) {
+                    return;
+                }
+            }
+        } finally {
+
+            if (pooled) {
+                BufferPool.release(bytes);
+            }
+        }
+    }
+
+    /**
+     * Map the fixed-length records of a local file by chunks aligned on the records.
+     */
+    private <R> List<R> mapBlocks(Resource resource,
+            Function<? super FixedRecord, ? extends R> mapper) throws IOException {
+
+        try (var channel = FileChannel.open(resource.localPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long records = (size + this.recordLength - 1) / this.recordLength;
+            long bytes = this.chunkSize > 0 ? this.chunkSize
+                    : Math.max(MIN_CHUNK_SIZE,
+                            size / (Runtime.getRuntime().availableProcessors() * 4L));
+            long perChunk = Math.max(1, Math.min(bytes, MAX_CHUNK_SIZE) / this.recordLength);
+            int chunks = (int) ((records + perChunk - 1) / perChunk);
+
+            log.debug("Resource::records: {} split into {} chunk(s) of {} record(s)", resource,
+                    chunks, perChunk);
+
+            try {
+                return IntStream.range(0, chunks).parallel().mapToObj(chunk -> {
+                    long start = chunk * perChunk * this.recordLength;
+                    int length = (int) Math.min(perChunk * this.recordLength, size - start);
+
+                    try {
+                        var buffer = channel.map(MapMode.READ_ONLY, start, length);
+                        var record = new FixedRecord(this);
+                        var results = new ArrayList<R>((length + this.recordLength - 1)
+                                / this.recordLength);
+
+                        for (int offset = 0; offset < length; offset += this.recordLength) {
+                            results.add(mapper.apply(record.reset(buffer, offset,
+                                    Math.min(this.recordLength, length - offset))));
+                        }
+
+                        return results;
+                    } catch (IOException ioe) {
+                        throw new UncheckedIOException(ioe);
+                    }
+                }).flatMap(List::stream).toList();
+            } catch (UncheckedIOException uioe) {
+                throw uioe.getCause();
+            }
+        }
+    }
+
+    /**
+     * Records mapped from a chunk of lines.
+     */
+    private static class Chunk<R> {
+
+        private final FixedRecord record;
+        private final Function<? super FixedRecord, ? extends R> mapper;
+        private final List<R> results = new ArrayList<>();
+
+        Chunk(FixedRecord record, Function<? super FixedRecord, ? extends R> mapper) {
+            this.record = record;
+            this.mapper = mapper;
+        }
+
+        void accept(ByteBuffer buffer, int offset, int length) {
+
+            if (length > 0) {
+                this.results.add(this.mapper.apply(this.record.reset(buffer, offset, length)));
+            }
+        }
+
+        Chunk<R> combine(Chunk<R> other) {
+            this.results.addAll(other.results);
+            return this;
+        }
+    }
+}
@@ -7,12 +7,21 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 import mike.bootstrap.utilities.helpers.PreConditions;
 import mike.bootstrap.utilities.helpers.Strings;
@@ -29,6 +38,9 @@ public class Resource {
     private final URL url;
     private final boolean localResource;
     private final boolean exists;
+    private final Charset charset;
+
+    private volatile Compression compression;
 
     /**
      * @param file resource file path
@@ -44,17 +56,28 @@ public class Resource {
      * @return Resource instance
      */
     public static Resource of(String name) {
-        return new Resource(name);
+        return new Resource(name, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @param resoure resource name (FileSystem, Classpath or URL)
+     * @param charset resource charset used to decode the lines
+     * @return Resource instance
+     */
+    public static Resource of(String name, Charset charset) {
+        return new Resource(name, PreConditions.notNull(charset, "no such charset provided"));
     }
 
     /**
      * Private Constructor.
      * 
      * @param resoure resource target location (FileSystem, Classpath or URL)
+     * @param charset resource charset
      */
-    private Resource(String name) {
+    private Resource(String name, Charset charset) {
 
         this.name = PreConditions.notBlank(name, "no such resource provided").strip();
+        this.charset = charset;
 
         var path = Path.of(this.name);
         this.localResource = Files.isReadable(path);
@@ -73,6 +96,21 @@ public class Resource {
         }
     }
 
+    /**
+     * Private Constructor (same resource with another charset).
+     * 
+     * @param resource the resource to copy
+     * @param charset  resource charset
+     */
+    private Resource(Resource resource, Charset charset) {
+        this.name = resource.name;
+        this.url = resource.url;
+        this.localResource = resource.localResource;
+        this.exists = resource.exists;
+        this.charset = charset;
+        this.compression = resource.compression;
+    }
+
     /**
      * @return true if the resource exists
      */
@@ -94,6 +132,34 @@ public class Resource {
         return this.name;
     }
 
+    /**
+     * @return the charset used to decode the resource lines (default: ISO-8859-1)
+     */
+    public Charset getCharset() {
+        return this.charset;
+    }
+
+    /**
+     * @param charset the resource charset
+     * @return the same resource decoded with the given charset
+     */
+    public Resource withCharset(Charset charset) {
+        PreConditions.notNull(charset, "no such charset provided");
+        return charset.equals(this.charset) ? this : new Resource(this, charset);
+    }
+
+    /**
+     * Detect the resource charset from its first bytes (BOM, UTF-16 or UTF-8 heuristic), the
+     * current charset is kept if nothing is detected.
+     * 
+     * @return the same resource decoded with the detected charset
+     * @throws IOException if any IO errors occurs
+     * @see CharsetDetector
+     */
+    public Resource withDetectedCharset() throws IOException {
+        return this.withCharset(CharsetDetector.detect(this, this.charset));
+    }
+
     /**
      * @return the resource URL or null if the resource does not exists
      */
@@ -130,12 +196,110 @@ public class Resource {
         }
     }
 
+    /**
+     * @return the compression of the resource content (detected once from its first bytes)
+     * @throws IOException if any IO errors occurs
+     * @see Compression#of(Resource)
+     */
+    public Compression getCompression() throws IOException {
+
+        if (this.compression == null) {
+            this.compression = Compression.of(this);
+        }
+
+        return this.compression;
+    }
+
+    /**
+     * The resource content is transparently decompressed (gzip, bzip2, zstd). For a zip archive,
+     * the stream is the content of the first file entry (see
+     * {@link #readEntries(ArchiveEntryReader)} to read all the entries).
+     * 
+     * @return the decompressed resource input stream
+     * @throws IOException if any IO errors occurs
+     */
+    public InputStream getContentStream() throws IOException {
+        var type = this.getCompression();
+
+        if (type == Compression.ZIP) {
+            return ArchiveReader.firstEntry(this);
+        }
+
+        return type.decompress(this.getInputStream());
+    }
+
+    /**
+     * Read the file entries of a zip archive in the archive order, without extracting them to
+     * disk. A resource which is not a zip archive is read as a single entry (named after the
+     * resource) with its decompressed content.
+     * 
+     * @param <R>    the type of the read result
+     * @param reader the entry reader
+     * @return the read result of each entry
+     * @throws IOException if any IO errors occurs
+     */
+    public <R> List<R> readEntries(ArchiveEntryReader<R> reader) throws IOException {
+        return this.readEntries(reader, false);
+    }
+
+    /**
+     * Same as {@link #readEntries(ArchiveEntryReader)} but the entries of a local zip archive are
+     * decompressed in parallel (the reader must be thread-safe). Results keep the archive order.
+     * 
+     * @param <R>    the type of the read result
+     * @param reader the entry reader
+     * @return the read result of each entry
+     * @throws IOException if any IO errors occurs
+     */
+    public <R> List<R> readEntriesParallel(ArchiveEntryReader<R> reader) throws IOException {
+        return this.readEntries(reader, true);
+    }
+
+    /**
+     * @return the raw resource content (not decompressed)
+     * @throws IOException if any IO errors occurs
+     */
+    public byte[] readAllBytes() throws IOException {
+
+        if (this.localResource) {
+            return Files.readAllBytes(this.localPath());
+        }
+
+        try (var is = this.getInputStream()) {
+            return is.readAllBytes();
+        }
+    }
+
     public StreamReader streamReader() {
         return this.streamReader(s -> true);
     }
 
     public StreamReader streamReader(Predicate<String> filter) {
-        return new ResourceStreamReader(this, filter, StandardCharsets.ISO_8859_1);
+        return this.newStreamReader(null, filter);
+    }
+
+    /**
+     * Local file resources are read through a memory-mapped reader and a line is decoded only if
+     * the byte-level pre-filter accepts it. Other resources (classpath, URL) are read through a
+     * buffered reader and the pre-filter is evaluated on the encoded line.
+     * 
+     * @param preFilter byte-level line filter (evaluated before decoding)
+     * @param filter    line filter (evaluated after decoding)
+     * @return the resource stream reader
+     */
+    public StreamReader streamReader(ByteLineFilter preFilter, Predicate<String> filter) {
+        return this.newStreamReader(PreConditions.notNull(preFilter, "no such pre-filter"), filter);
+    }
+
+    /**
+     * Local file resources are split into chunks aligned on line boundaries which are processed
+     * in parallel. Other resources (classpath, URL) are read sequentially.
+     * 
+     * @return a parallel line reader on the resource
+     * @see ParallelLineReader
+     */
+    public ParallelLineReader parallelReader() {
+        return new ParallelLineReader(this, this.charset);
     }
 
     public List<String> readContent() throws IOException {
@@ -149,6 +313,95 @@ public class Resource {
         }
     }
 
+    /**
+     * @param preFilter byte-level line filter (evaluated before decoding)
+     * @param filter    line filter (evaluated after decoding)
+     * @return resource content
+     * @throws IOException if any IO errors occurs
+     * @see Resource#streamReader(ByteLineFilter, Predicate)
+     */
+    public List<String> readContent(ByteLineFilter preFilter, Predicate<String> filter)
+            throws IOException {
+
+        try (var reader = this.streamReader(preFilter, filter)) {
+            return reader.lines().toList();
+        }
+    }
+
+    /**
+     * Perform the action for each line of the resource without materializing the content.
+     * <p>
+     * The same {@code CharSequence} instance is reused (overwritten) for each line: the action must
+     * copy it (i.e. {@code line.toString()}) to keep the line beyond the call.
+     * 
+     * @param action the line consumer
+     * @throws IOException if any IO errors occurs
+     */
+    public void forEachLine(Consumer<? super CharSequence> action) throws IOException {
+        PreConditions.notNull(action, "no such line consumer");
+
+        try (var reader = new LineSequenceReader(this, this.charset)) {
+
+            while (reader.next()) {
+                action.accept(reader.line());
+            }
+        }
+    }
+
+    /**
+     * Fold the lines of the resource into a single result.
+     * <p>
+     * The same {@code CharSequence} instance is reused (overwritten) for each line.
+     * 
+     * <pre>
+     * long chars = resource.fold(0L, (count, line) -> count + line.length());
+     * </pre>
+     * 
+     * @param <R>         the result type
+     * @param identity    the initial result
+     * @param accumulator function combining the current result with a line
+     * @return the final result
+     * @throws IOException if any IO errors occurs
+     */
+    public <R> R fold(R identity, BiFunction<R, ? super CharSequence, R> accumulator)
+            throws IOException {
+        PreConditions.notNull(accumulator, "no such accumulator");
+
+        var result = identity;
+
+        try (var reader = new LineSequenceReader(this, this.charset)) {
+
+            while (reader.next()) {
+                result = accumulator.apply(result, reader.line());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Perform a reduction on the lines of the resource.
+     * <p>
+     * The same {@code CharSequence} instance is reused (overwritten) for each line: the collector
+     * must not retain it.
+     * 
+     * @param <A>       the mutable accumulation type of the reduction operation
+     * @param <R>       the result type of the reduction operation
+     * @param collector the line collector
+     * @return the result of the reduction
+     * @throws IOException if any IO errors occurs
+     */
+    public <A, R> R collect(Collector<? super CharSequence, A, R> collector) throws IOException {
+        PreConditions.notNull(collector, "no such line collector");
+
+        A container = collector.supplier().get();
+        var accumulator = collector.accumulator();
+
+        this.forEachLine(line -> accumulator.accept(container, line));
+
+        return collector.finisher().apply(container);
+    }
+
     /**
      * @return resource as properties object. the resource must be a properties file.
      * @throws IOException if any IO errors occurs
@@ -167,6 +420,180 @@ public class Resource {
         return properties;
     }
 
+    /**
+     * Set the executor of the asynchronous methods called without executor.
+     * 
+     * @param executor the default executor (by default: a new virtual thread per task)
+     */
+    public static void setAsyncExecutor(Executor executor) {
+        AsyncReader.defaultExecutor(PreConditions.notNull(executor, "no such executor provided"));
+    }
+
+    /**
+     * @return the raw resource content (not decompressed)
+     * @see Resource#readAllAsync(Executor)
+     */
+    public CompletableFuture<byte[]> readAllAsync() {
+        return this.readAllAsync(AsyncReader.defaultExecutor());
+    }
+
+    /**
+     * Local files are read with an {@link AsynchronousFileChannel} (the completion handlers run on
+     * the executor if it is an {@link ExecutorService}), other resources are read on the executor.
+     * 
+     * @param executor the executor performing the blocking operations
+     * @return the raw resource content (not decompressed), the future is completed exceptionally
+     *         with the {@link IOException} if the resource cannot be read
+     */
+    public CompletableFuture<byte[]> readAllAsync(Executor executor) {
+        PreConditions.notNull(executor, "no such executor provided");
+
+        if (this.localResource) {
+            return AsyncReader.readAll(this.localPath(), executor);
+        }
+
+        return AsyncReader.supply(this::readAllBytes, executor);
+    }
+
+    /**
+     * @param filter line filter
+     * @return resource content
+     * @see Resource#readContentAsync(Predicate, Executor)
+     */
+    public CompletableFuture<List<String>> readContentAsync(Predicate<String> filter) {
+        return this.readContentAsync(filter, AsyncReader.defaultExecutor());
+    }
+
+    /**
+     * @param filter   line filter
+     * @param executor the executor reading the lines
+     * @return resource content, the future is completed exceptionally with the
+     *         {@link IOException} if the resource cannot be read
+     * @see Resource#readContent(Predicate)
+     */
+    public CompletableFuture<List<String>> readContentAsync(Predicate<String> filter,
+            Executor executor) {
+        PreConditions.notNull(executor, "no such executor provided");
+        return AsyncReader.supply(() -> this.readContent(filter), executor);
+    }
+
+    /**
+     * @return resource as properties object
+     * @see Resource#getPropertiesAsync(Executor)
+     */
+    public CompletableFuture<Properties> getPropertiesAsync() {
+        return this.getPropertiesAsync(AsyncReader.defaultExecutor());
+    }
+
+    /**
+     * @param executor the executor loading the properties
+     * @return resource as properties object, the future is completed exceptionally with the
+     *         {@link IOException} if the resource cannot be read
+     * @see Resource#getProperties()
+     */
+    public CompletableFuture<Properties> getPropertiesAsync(Executor executor) {
+        PreConditions.notNull(executor, "no such executor provided");
+        return AsyncReader.supply(this::getProperties, executor);
+    }
+
+    /**
+     * @return the local file path or null if the resource is not a local file
+     */
+    Path localPath() {
+        return this.localResource ? Path.of(this.name) : null;
+    }
+
+    /**
+     * @return true if the resource content is compressed
+     * @throws IOException if the resource cannot be read
+     */
+    boolean isCompressed() throws IOException {
+        return this.getCompression() != Compression.NONE;
+    }
+
+    /**
+     * @return true if the resource is an uncompressed local file and the memory-mapped readers are
+     *         enabled (see {@link MappedLineCursor#ENABLED})
+     * @throws IOException if the resource cannot be read
+     */
+    boolean isMappable() throws IOException {
+        return this.localResource && MappedLineCursor.ENABLED && !this.isCompressed();
+    }
+
+    private <R> List<R> readEntries(ArchiveEntryReader<R> reader, boolean parallel)
+            throws IOException {
+        PreConditions.notNull(reader, "no such entry reader");
+
+        if (this.getCompression() == Compression.ZIP) {
+            return ArchiveReader.read(this, reader, parallel);
+        }
+
+        try (var is = this.getContentStream()) {
+            return List.of(reader.read(this.fileName(), is));
+        }
+    }
+
+    /**
+     * @return the file name of the resource (decoded) or its name if none
+     */
+    String fileName() {
+        var local = this.localPath();
+
+        if (local != null) {
+            var filename = local.getFileName();
+            return filename != null ? filename.toString() : this.name;
+        }
+
+        // Classpath resource: 'file:' or 'jar:file:/.../app.jar!/' URI
+        var uri = this.getURI();
+        var path = uri.isOpaque() ? uri.getSchemeSpecificPart() : uri.getPath();
+        var filename = path != null ? path.substring(path.lastIndexOf('/') + 1) : "";
+
+        return filename.isEmpty() ? this.name : filename;
+    }
+
+    /**
+     * @param preFilter optional byte-level line filter (may be null)
+     * @param filter    line filter
+     * @return memory-mapped reader for local files otherwise the default resource reader (chosen
+     *         when the lines are read, so the compression detection errors are thrown by
+     *         {@link StreamReader#lines()})
+     */
+    private StreamReader newStreamReader(ByteLineFilter preFilter, Predicate<String> filter) {
+
+        if (!this.localResource || !MappedStreamReader.supports(this.charset)) {
+            return new ResourceStreamReader(this, preFilter, filter, this.charset);
+        }
+
+        return new StreamReader() {
+
+            private StreamReader reader;
+
+            @Override
+            public Stream<String> lines() throws IOException {
+
+                if (Resource.this.isMappable()) {
+                    var lineFilter = preFilter != null ? preFilter : ByteLineFilter.all();
+                    this.reader = new MappedStreamReader(Resource.this.localPath(), lineFilter,
+                            filter, Resource.this.charset);
+                } else {
+                    this.reader = new ResourceStreamReader(Resource.this, preFilter, filter,
+                            Resource.this.charset);
+                }
+
+                return this.reader.lines();
+            }
+
+            @Override
+            public void close() throws IOException {
+
+                if (this.reader != null) {
+                    this.reader.close();
+                }
+            }
+        };
+    }
+
     @Override
     public String toString() {
         return this.getName();
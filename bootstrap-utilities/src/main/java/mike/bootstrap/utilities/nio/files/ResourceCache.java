@@ -0,0 +1,488 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import mike.bootstrap.utilities.helpers.ByteUnit;
+import mike.bootstrap.utilities.helpers.PreConditions;
+
+/**
+ * Bounded cache of resolved resources and of their content.
+ * <p>
+ * For each resource name, the cache keeps the resolved {@link Resource} (URL and existence), its
+ * size and optionally its content. The cache is bounded by a max. number of entries and a max.
+ * content size in bytes, the least recently used entries are evicted first.
+ * <p>
+ * Local file entries are validated on each access by comparing the file modification time and
+ * size, unless the cache {@link ResourceCache#watch() watches} the file directory: the entries are
+ * then invalidated by the {@link WatchService} events. Classpath and URL entries are never
+ * invalidated. Non-existing resources are not cached.
+ *
+ * <pre>
+ * var cache = ResourceCache.of("64mb").watch();
+ * byte[] template = cache.content("templates/mail.html");
+ * </pre>
+ *
+ * @author Mike (2026-10)
+ */
+public class ResourceCache implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ResourceCache.class);
+
+    /** Default max. number of entries */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final long maxBytes;
+    private final int maxEntries;
+
+    /* *** Guarded by this *** */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Path, WatchKey> watchedDirectories = new HashMap<>();
+    private long bytes;
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private WatchService watcher;
+    private Thread watcherThread;
+
+    /**
+     * @param maxSize max. content size (ex.: 64mb)
+     * @return a new cache with the default max. number of entries
+     * @see ByteUnit#from(String)
+     */
+    public static ResourceCache of(String maxSize) {
+        return ResourceCache.of(ByteUnit.from(maxSize), DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxBytes   max. content size in bytes
+     * @param maxEntries max. number of entries
+     * @return a new cache
+     */
+    public static ResourceCache of(long maxBytes, int maxEntries) {
+        return new ResourceCache(maxBytes, maxEntries);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @see ResourceCache#of(long, int)
+     */
+    private ResourceCache(long maxBytes, int maxEntries) {
+        PreConditions.test(maxBytes >= 0, "max. bytes must be a positive number or zero");
+        PreConditions.test(maxEntries > 0, "max. entries must be a positive number");
+
+        this.maxBytes = maxBytes;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Invalidate local file entries with the {@link WatchService} events instead of checking the
+     * file attributes on each access. Directories that cannot be watched keep the attributes
+     * check.
+     *
+     * @return this cache
+     * @throws IOException if the watch service cannot be created
+     */
+    public synchronized ResourceCache watch() throws IOException {
+
+        if (this.watcher == null) {
+            this.watcher = FileSystems.getDefault().newWatchService();
+            this.watcherThread = Thread.ofPlatform().daemon().name("resource-cache-watcher")
+                    .start(this::watchEvents);
+
+            this.entries.values().stream().map(Entry::path).filter(Objects::nonNull)
+                    .map(Path::getParent).distinct().forEach(this::register);
+
+            // Changes between the last attributes check and the registration are not notified
+            this.remove(e -> e.getValue().path() != null && !unchanged(e.getValue()));
+        }
+
+        return this;
+    }
+
+    /**
+     * @param name resource name (FileSystem, Classpath or URL)
+     * @return the cached resource or a new resolved resource
+     */
+    public Resource resource(String name) {
+        var entry = this.lookup(name);
+
+        if (entry != null) {
+            this.hits.increment();
+            return entry.resource();
+        }
+
+        this.misses.increment();
+        return this.load(name).resource();
+    }
+
+    /**
+     * @param name resource name (FileSystem, Classpath or URL)
+     * @return true if the resource exists
+     */
+    public boolean exists(String name) {
+        return this.resource(name).exists();
+    }
+
+    /**
+     * @param name resource name (FileSystem, Classpath or URL)
+     * @return the resource size in bytes
+     * @throws IOException if the resource does not exist or cannot be read
+     */
+    public long size(String name) throws IOException {
+        var entry = this.lookup(name);
+
+        if (entry != null && entry.size() >= 0) {
+            this.hits.increment();
+            return entry.size();
+        }
+
+        return this.content(name).length;
+    }
+
+    /**
+     * @param name resource name (FileSystem, Classpath or URL)
+     * @return a copy of the resource content
+     * @throws IOException if the resource does not exist or cannot be read
+     */
+    public byte[] content(String name) throws IOException {
+        var content = this.cachedContent(name);
+        return Arrays.copyOf(content, content.length);
+    }
+
+    /**
+     * @param name resource name (FileSystem, Classpath or URL)
+     * @return a read-only view of the cached resource content (no copy)
+     * @throws IOException if the resource does not exist or cannot be read
+     */
+    public ByteBuffer buffer(String name) throws IOException {
+        return ByteBuffer.wrap(this.cachedContent(name)).asReadOnlyBuffer();
+    }
+
+    /**
+     * @param name resource name to remove from the cache
+     */
+    public synchronized void invalidate(String name) {
+        this.remove(e -> e.getKey().equals(name));
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public synchronized void invalidateAll() {
+        this.remove(e -> true);
+    }
+
+    /**
+     * @return the cache counters
+     */
+    public synchronized Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), bytes);
+    }
+
+    @Override
+    public void close() throws IOException {
+        WatchService service;
+
+        synchronized (this) {
+            service = this.watcher;
+            this.watcher = null;
+            this.watchedDirectories.clear();
+            this.invalidateAll();
+        }
+
+        if (service != null) {
+            service.close();
+            this.watcherThread.interrupt();
+        }
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    /**
+     * @return the valid cached entry or null if not cached or no longer valid
+     */
+    private Entry lookup(String name) {
+        PreConditions.notBlank(name, "no such resource provided");
+
+        Entry entry;
+        boolean checkAttributes;
+
+        synchronized (this) {
+            entry = this.entries.get(name);
+
+            if (entry == null) {
+                return null;
+            }
+
+            checkAttributes = entry.path() != null
+                    && !this.watchedDirectories.containsKey(entry.path().getParent());
+        }
+
+        if (checkAttributes && !unchanged(entry)) {
+
+            synchronized (this) {
+                this.remove(e -> e.getValue() == entry);
+            }
+
+            return null;
+        }
+
+        return entry;
+    }
+
+    /**
+     * @return true if the file attributes are those of the cached entry
+     */
+    private static boolean unchanged(Entry entry) {
+        var attributes = attributes(entry.path());
+
+        return attributes != null && attributes.lastModifiedTime().equals(entry.modified())
+                && attributes.size() == entry.size();
+    }
+
+    /**
+     * @return the cached content or the content read from the resource
+     */
+    private byte[] cachedContent(String name) throws IOException {
+        var entry = this.lookup(name);
+
+        if (entry != null && entry.content() != null) {
+            this.hits.increment();
+            return entry.content();
+        }
+
+        this.misses.increment();
+
+        long loadGeneration;
+
+        synchronized (this) {
+            loadGeneration = this.generation;
+        }
+
+        var loaded = entry != null ? entry : this.resolve(name);
+        var content = loaded.resource().readAllBytes();
+
+        if (loaded.path() != null && content.length != loaded.size()) {
+            // Modified between the attributes and the content reading
+            return content;
+        }
+
+        if (loaded.resource().exists() && content.length <= this.maxBytes) {
+            this.put(name, new Entry(loaded.resource(), loaded.path(), loaded.modified(),
+                    content.length, content), loadGeneration);
+        }
+
+        return content;
+    }
+
+    /**
+     * Resolve the resource and cache its metadata.
+     */
+    private Entry load(String name) {
+        long loadGeneration;
+
+        synchronized (this) {
+            loadGeneration = this.generation;
+        }
+
+        var entry = this.resolve(name);
+
+        if (entry.resource().exists()) {
+            this.put(name, entry, loadGeneration);
+        }
+
+        return entry;
+    }
+
+    private Entry resolve(String name) {
+        var resource = Resource.of(name);
+        var local = resource.localPath();
+
+        if (local == null) {
+            return new Entry(resource, null, null, -1, null);
+        }
+
+        var path = local.toAbsolutePath().normalize();
+
+        synchronized (this) {
+            // Watched before the attributes and the content reading: a later change invalidates
+            // the loading generation
+            if (this.watcher != null) {
+                this.register(path.getParent());
+            }
+        }
+
+        var attributes = attributes(path);
+
+        if (attributes == null) {
+            // Removed since the resolution: resolve again (classpath or not existing)
+            return new Entry(Resource.of(name), null, null, -1, null);
+        }
+
+        return new Entry(resource, path, attributes.lastModifiedTime(), attributes.size(), null);
+    }
+
+    /**
+     * Add the entry unless an invalidation occurred since the entry has been loaded.
+     */
+    private synchronized void put(String name, Entry entry, long loadGeneration) {
+
+        if (loadGeneration != this.generation) {
+            return;
+        }
+
+        var previous = this.entries.put(name, entry);
+
+        this.bytes += entry.length() - (previous != null ? previous.length() : 0);
+
+        var iterator = this.entries.entrySet().iterator();
+
+        while ((this.bytes > this.maxBytes || this.entries.size() > this.maxEntries)
+                && iterator.hasNext()) {
+            var eldest = iterator.next();
+            iterator.remove();
+
+            this.bytes -= eldest.getValue().length();
+            this.evictions.increment();
+        }
+    }
+
+    /**
+     * Remove the matching entries (guarded by this).
+     */
+    private void remove(Predicate<Map.Entry<String, Entry>> filter) {
+        var iterator = this.entries.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+
+            if (filter.test(entry)) {
+                iterator.remove();
+                this.bytes -= entry.getValue().length();
+            }
+        }
+
+        this.generation++;
+    }
+
+    /**
+     * Register the directory to the watch service (guarded by this).
+     */
+    private void register(Path directory) {
+
+        if (directory != null && !this.watchedDirectories.containsKey(directory)) {
+
+            try {
+                this.watchedDirectories.put(directory,
+                        directory.register(this.watcher, StandardWatchEventKinds.ENTRY_CREATE,
+                                StandardWatchEventKinds.ENTRY_MODIFY,
+                                StandardWatchEventKinds.ENTRY_DELETE));
+            } catch (IOException | ClosedWatchServiceException ex) {
+                log.warn("ResourceCache::watch: {} - {} (attributes check kept)", directory,
+                        ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Invalidate the entries of the files modified in the watched directories.
+     */
+    private void watchEvents() {
+        var service = this.watcher;
+
+        try {
+            while (true) {
+                var key = service.take();
+                var directory = (Path) key.watchable();
+
+                for (var event : key.pollEvents()) {
+
+                    synchronized (this) {
+
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            this.remove(e -> directory.equals(e.getValue().parent()));
+                        } else {
+                            var file = directory.resolve((Path) event.context());
+                            this.remove(e -> file.equals(e.getValue().path()));
+                        }
+                    }
+                }
+
+                if (!key.reset()) {
+
+                    synchronized (this) {
+                        this.watchedDirectories.remove(directory);
+                        this.remove(e -> directory.equals(e.getValue().parent()));
+                    }
+                }
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException cwse) {
+            log.debug("ResourceCache::watch: watch service closed");
+        }
+    }
+
+    /**
+     * @return the file attributes or null if not readable
+     */
+    private static BasicFileAttributes attributes(Path path) {
+
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException ioe) {
+            return null;
+        }
+    }
+
+    /**
+     * Cached resource (path, modified and size are only set for local files).
+     */
+    private record Entry(Resource resource, Path path, FileTime modified, long size,
+            byte[] content) {
+
+        long length() {
+            return content != null ? content.length : 0;
+        }
+
+        Path parent() {
+            return path != null ? path.getParent() : null;
+        }
+    }
+
+    /**
+     * Cache counters.
+     *
+     * @param hits      number of lookups served by the cache
+     * @param misses    number of lookups that required a resolution or a read
+     * @param evictions number of entries evicted to respect the cache bounds
+     * @param entries   number of cached entries
+     * @param bytes     size of the cached content
+     */
+    public record Stats(long hits, long misses, long evictions, int entries, long bytes) {}
+}
@@ -4,6 +4,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.function.Predicate;
@@ -17,6 +18,7 @@ class ResourceStreamReader implements StreamReader {
     private static final Logger log = LoggerFactory.getLogger(ResourceStreamReader.class);
     
     private final Resource resource;
+    private final ByteLineFilter preFilter;
     private final Predicate<String> filter;
     private final Charset charset;
     
@@ -25,7 +27,13 @@ class ResourceStreamReader implements StreamReader {
     private BufferedReader reader;
     
     ResourceStreamReader(Resource resource, Predicate<String> filter, Charset... charset) {
+	this(resource, null, filter, charset);
+    }
+    
+    ResourceStreamReader(Resource resource, ByteLineFilter preFilter, Predicate<String> filter,
+	    Charset... charset) {
 	this.resource = resource;
+	this.preFilter = preFilter;
 	this.filter = filter;
 	this.charset = charset.length > 0 ? charset[0] : StandardCharsets.ISO_8859_1;
     }
@@ -33,11 +41,21 @@ class ResourceStreamReader implements StreamReader {
     @Override
     public Stream<String> lines() throws IOException {
 	try {
-	    this.is = resource.getInputStream();
+	    this.is = CharsetDetector.skipBom(resource.getContentStream(), charset);
 	    this.isr = new InputStreamReader(is, charset);
 	    this.reader = new BufferedReader(isr);
 	    
-	    return reader.lines().filter(filter);
+	    var lines = reader.lines();
+	    
+	    if (preFilter != null) {
+		// Pre-filter applied on the re-encoded line (no byte access before decoding)
+		lines = lines.filter(l -> {
+		    var bytes = l.getBytes(charset);
+		    return preFilter.test(ByteBuffer.wrap(bytes), 0, bytes.length);
+		});
+	    }
+	    
+	    return lines.filter(filter);
 	} catch (IOException ioe) {
 	    log.error("Resource::read: ");
 	    this.close();
@@ -0,0 +1,740 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import mike.bootstrap.utilities.helpers.PreConditions;
+
+/**
+ * Directory watcher delivering batches of file changes to listeners.
+ * <p>
+ * Directories are watched with the file system {@link WatchService} (inotify on Linux). Remote
+ * file systems (NFS, CIFS, ...), which do not notify the changes made by other hosts, and the
+ * directories that cannot be registered (watch limit reached, file system without watch service)
+ * are polled instead: each poll lists the directories once and compares the modification time
+ * and size of the files with the previous snapshot, one attribute read per file.
+ * <p>
+ * Changes are debounced: a batch is delivered when no change occurred during the debounce delay
+ * (or at the latest after ten debounce delays), and the changes of a file within a batch are
+ * coalesced (ex.: created then modified is reported as created, created then deleted is not
+ * reported). An event overflow triggers a rescan of the directory against its snapshot so that no
+ * change is lost. Batches are delivered in order on a dedicated executor (default: a single
+ * daemon thread).
+ *
+ * <pre>
+ * var watcher = ResourceWatcher.of(inputs).include("*.csv").recursive()
+ *         .listener(changes -&gt; changes.forEach(this::process)).start();
+ * ...
+ * watcher.close();
+ * </pre>
+ *
+ * @author Mike (2026-10)
+ */
+public class ResourceWatcher implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ResourceWatcher.class);
+
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(500);
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(5);
+
+    /** Max. delay of a batch, in number of debounce delays, when changes keep coming */
+    private static final int MAX_DELAY_FACTOR = 10;
+
+    /** File systems without (reliable) change notification */
+    private static final Set<String> REMOTE_FILE_STORES = Set.of("nfs", "nfs4", "cifs", "smb",
+            "smbfs", "smb2", "smb3", "afs", "9p", "fuse.sshfs", "fuse.s3fs", "fuse.gcsfuse");
+
+    private static final LinkOption[] NOFOLLOW_LINKS = { LinkOption.NOFOLLOW_LINKS };
+
+    private final List<Path> directories;
+    private final List<String> includes = new ArrayList<>();
+    private final List<String> excludes = new ArrayList<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private boolean recursive;
+    private boolean polling;
+    private Duration debounce = DEFAULT_DEBOUNCE;
+    private Duration pollInterval = DEFAULT_POLL_INTERVAL;
+    private Executor executor;
+    private ExecutorService ownedExecutor;
+
+    /* *** Watch state (owned by the watcher thread once started) *** */
+    private final List<Watched> watched = new ArrayList<>();
+    private final Map<WatchKey, Registration> keys = new HashMap<>();
+    private final Map<Path, Change.Kind> pending = new LinkedHashMap<>();
+    private WatchService watchService;
+    private long firstChange;
+    private long lastChange;
+
+    private volatile Thread thread;
+    private volatile boolean running;
+
+    /**
+     * @param directories the directories to watch
+     * @return a new watcher (not started)
+     */
+    public static ResourceWatcher of(Path... directories) {
+        PreConditions.notNull(directories, "no such directories provided");
+        PreConditions.test(directories.length > 0, "no such directories provided");
+
+        for (Path directory : directories) {
+            PreConditions.notNull(directory, "no such directory provided");
+        }
+
+        return new ResourceWatcher(List.of(directories));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @see ResourceWatcher#of(Path...)
+     */
+    private ResourceWatcher(List<Path> directories) {
+        this.directories = directories.stream().map(p -> p.toAbsolutePath().normalize()).toList();
+    }
+
+    /**
+     * Changes listener.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * @param changes the coalesced changes of the batch (one change per file, in the order of
+         *                the first change of each file)
+         */
+        void onChanges(List<Change> changes);
+    }
+
+    /**
+     * File change.
+     *
+     * @param path the changed file
+     * @param kind the change kind
+     */
+    public record Change(Path path, Kind kind) {
+
+        public enum Kind {
+            CREATED, MODIFIED, DELETED
+        }
+
+        /**
+         * @return the changed file as resource
+         */
+        public Resource resource() {
+            return Resource.of(this.path);
+        }
+    }
+
+    /**
+     * @param pattern a glob (default) or regex pattern of the watched files (ex.: {@code *.csv})
+     * @return this watcher
+     * @see PathScanner#include(String)
+     */
+    public ResourceWatcher include(String pattern) {
+        PreConditions.notBlank(pattern, "no such pattern provided");
+        this.checkNotStarted();
+        this.includes.add(pattern);
+        return this;
+    }
+
+    /**
+     * @param pattern a glob (default) or regex pattern of the ignored files and directories
+     * @return this watcher
+     * @see PathScanner#exclude(String)
+     */
+    public ResourceWatcher exclude(String pattern) {
+        PreConditions.notBlank(pattern, "no such pattern provided");
+        this.checkNotStarted();
+        this.excludes.add(pattern);
+        return this;
+    }
+
+    /**
+     * Watch the sub-directories too (default: only the files of the given directories).
+     *
+     * @return this watcher
+     */
+    public ResourceWatcher recursive() {
+        this.checkNotStarted();
+        this.recursive = true;
+        return this;
+    }
+
+    /**
+     * Poll all the directories, even those supporting the watch service.
+     *
+     * @return this watcher
+     */
+    public ResourceWatcher polling() {
+        this.checkNotStarted();
+        this.polling = true;
+        return this;
+    }
+
+    /**
+     * @param delay quiet delay before a batch of changes is delivered (default: 500ms)
+     * @return this watcher
+     */
+    public ResourceWatcher debounce(Duration delay) {
+        PreConditions.notNull(delay, "no such debounce delay provided");
+        PreConditions.test(!delay.isNegative(), "debounce delay must be positive or zero");
+        this.checkNotStarted();
+        this.debounce = delay;
+        return this;
+    }
+
+    /**
+     * @param interval interval between two polls of the polled directories (default: 5s)
+     * @return this watcher
+     */
+    public ResourceWatcher pollInterval(Duration interval) {
+        PreConditions.notNull(interval, "no such poll interval provided");
+        PreConditions.test(interval.toMillis() > 0, "poll interval must be positive");
+        this.checkNotStarted();
+        this.pollInterval = interval;
+        return this;
+    }
+
+    /**
+     * @param executor the executor calling the listeners (batches are submitted in order, a
+     *                 single thread executor preserves this order)
+     * @return this watcher
+     */
+    public ResourceWatcher executor(Executor executor) {
+        PreConditions.notNull(executor, "no such executor provided");
+        this.checkNotStarted();
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * @param listener a changes listener (can be added after the start)
+     * @return this watcher
+     */
+    public ResourceWatcher listener(Listener listener) {
+        this.listeners.add(PreConditions.notNull(listener, "no such listener provided"));
+        return this;
+    }
+
+    /**
+     * Take the snapshot of the directories (existing files are not reported) and start watching.
+     *
+     * @return this watcher
+     * @throws IOException if a directory cannot be read
+     */
+    public synchronized ResourceWatcher start() throws IOException {
+        this.checkNotStarted();
+
+        if (this.executor == null) {
+            this.ownedExecutor = Executors.newSingleThreadExecutor(
+                    Thread.ofPlatform().name("resource-watcher-events").daemon().factory());
+            this.executor = this.ownedExecutor;
+        }
+
+        try {
+            for (Path directory : this.directories) {
+
+                if (!Files.isDirectory(directory)) {
+                    throw new NotDirectoryException(directory.toString());
+                }
+
+                var scanner = PathUtils.scan(directory).sequential()
+                        .maxDepth(this.recursive ? Integer.MAX_VALUE : 1);
+                this.includes.forEach(scanner::include);
+                this.excludes.forEach(scanner::exclude);
+
+                var target = new Watched(directory, scanner);
+                target.polled = !this.register(target);
+                target.snapshot(directory, false);
+                this.watched.add(target);
+
+                log.info("Resource::watch: {} ({})", directory,
+                        target.polled ? "polling every " + pollInterval : "watch service");
+            }
+        } catch (IOException | RuntimeException e) {
+            this.release();
+            throw e;
+        }
+
+        this.running = true;
+        this.thread = Thread.ofPlatform().name("resource-watcher").daemon().start(this::run);
+
+        return this;
+    }
+
+    /**
+     * @return true if the watcher is started and not closed
+     */
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * @param directory a watched directory
+     * @return true if the directory is polled, false if it is watched by the watch service
+     * @throws IllegalArgumentException if the directory is not watched
+     */
+    public synchronized boolean isPolled(Path directory) {
+        var normalized = directory.toAbsolutePath().normalize();
+
+        for (Watched target : this.watched) {
+
+            if (target.directory.equals(normalized)) {
+                return target.polled;
+            }
+        }
+
+        throw new IllegalArgumentException("directory not watched: " + directory);
+    }
+
+    /**
+     * Stop watching: the pending changes are delivered, then the default executor is shut down.
+     */
+    @Override
+    public synchronized void close() {
+        var watcher = this.thread;
+
+        if (watcher == null) {
+            return;
+        }
+
+        this.running = false;
+        this.thread = null;
+
+        this.closeWatchService();
+        watcher.interrupt();
+
+        try {
+            watcher.join();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+
+        this.release();
+        log.info("Resource::watch: closed {}", this.directories);
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private void checkNotStarted() {
+
+        if (this.thread != null || this.running) {
+            throw new IllegalStateException("watcher already started: " + directories);
+        }
+    }
+
+    /**
+     * Watcher thread loop.
+     */
+    private void run() {
+        long pollNanos = this.pollInterval.toNanos();
+        long nextPoll = System.nanoTime() + pollNanos;
+
+        while (this.running) {
+
+            try {
+                boolean polled = this.watched.stream().anyMatch(w -> w.polled);
+                long now = System.nanoTime();
+                long wait = polled ? nextPoll - now : Long.MAX_VALUE;
+
+                if (!this.pending.isEmpty()) {
+                    wait = Math.min(wait, this.flushDeadline() - now);
+                }
+
+                this.await(Math.max(0, wait));
+
+                now = System.nanoTime();
+
+                if (polled && now - nextPoll >= 0) {
+                    this.poll();
+                    nextPoll = now + pollNanos;
+                }
+
+                if (!this.pending.isEmpty() && now - this.flushDeadline() >= 0) {
+                    this.flush();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                break;
+            } catch (RuntimeException re) {
+                log.error("Resource::watch: {} - causedBy:", re.getMessage(), re);
+            }
+        }
+
+        this.flush();
+    }
+
+    /**
+     * Wait for the next watch events (processed on arrival) or for the given delay.
+     */
+    private void await(long nanos) throws InterruptedException {
+
+        if (this.watchService == null) {
+            Thread.sleep(Duration.ofNanos(nanos));
+            return;
+        }
+
+        var key = nanos == Long.MAX_VALUE ? this.watchService.take()
+                : this.watchService.poll(nanos, TimeUnit.NANOSECONDS);
+
+        var overflows = new HashSet<Watched>();
+
+        // Drain all the available keys
+        for (; key != null; key = this.watchService.poll()) {
+            this.process(key, overflows);
+        }
+
+        for (Watched target : overflows) {
+            log.warn("Resource::watch: events overflow, rescanning {}", target.directory);
+            target.snapshot(target.directory, true);
+        }
+    }
+
+    private void process(WatchKey key, Set<Watched> overflows) {
+        var registration = this.keys.get(key);
+
+        if (registration == null) {
+            key.cancel();
+            return;
+        }
+
+        var target = registration.target();
+
+        for (var event : key.pollEvents()) {
+
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                overflows.add(target);
+            } else if (!overflows.contains(target)) {
+                target.changed(registration.directory().resolve((Path) event.context()),
+                        event.kind() == StandardWatchEventKinds.ENTRY_CREATE);
+            }
+        }
+
+        if (!key.reset()) {
+            this.keys.remove(key);
+
+            // The parent directory reports the deletion, except for the watched directory itself
+            if (registration.directory().equals(target.directory)) {
+                log.warn("Resource::watch: {} no longer watchable, switched to polling",
+                        target.directory);
+                target.removed(target.directory);
+                target.polled = true;
+            }
+        }
+    }
+
+    private void poll() {
+
+        for (Watched target : this.watched) {
+
+            if (target.polled) {
+                target.snapshot(target.directory, true);
+            }
+        }
+    }
+
+    /**
+     * Coalesce the change with the pending change of the same file.
+     */
+    private void record(Path path, Change.Kind kind) {
+        var previous = this.pending.get(path);
+        Change.Kind merged;
+
+        if (previous == null) {
+            merged = kind;
+        } else if (previous == Change.Kind.CREATED) {
+            merged = kind == Change.Kind.DELETED ? null : Change.Kind.CREATED;
+        } else {
+            merged = kind == Change.Kind.DELETED ? kind : Change.Kind.MODIFIED;
+        }
+
+        long now = System.nanoTime();
+
+        if (this.pending.isEmpty()) {
+            this.firstChange = now;
+        }
+
+        this.lastChange = now;
+
+        if (merged == null) {
+            this.pending.remove(path);
+        } else {
+            this.pending.put(path, merged);
+        }
+    }
+
+    private long flushDeadline() {
+        long delay = this.debounce.toNanos();
+        return Math.min(this.lastChange + delay, this.firstChange + delay * MAX_DELAY_FACTOR);
+    }
+
+    private void flush() {
+
+        if (this.pending.isEmpty()) {
+            return;
+        }
+
+        var changes = this.pending.entrySet().stream()
+                .map(e -> new Change(e.getKey(), e.getValue())).toList();
+        this.pending.clear();
+
+        try {
+            this.executor.execute(() -> this.deliver(changes));
+        } catch (RejectedExecutionException ree) {
+            log.warn("Resource::watch: {} changes not delivered (executor shut down)",
+                    changes.size());
+        }
+    }
+
+    private void deliver(List<Change> changes) {
+
+        for (Listener listener : this.listeners) {
+
+            try {
+                listener.onChanges(changes);
+            } catch (RuntimeException re) {
+                log.error("Resource::watch: listener failure: {} - causedBy:", re.getMessage(), re);
+            }
+        }
+    }
+
+    /**
+     * Register the directory tree to the watch service.
+     *
+     * @return false if the directory must be polled
+     */
+    private boolean register(Watched target) {
+
+        if (this.polling || target.directory.getFileSystem() != FileSystems.getDefault()) {
+            return false;
+        }
+
+        try {
+            var store = Files.getFileStore(target.directory).type();
+
+            if (REMOTE_FILE_STORES.contains(store.toLowerCase())) {
+                log.info("Resource::watch: remote file system ({}): {}", store, target.directory);
+                return false;
+            }
+
+            if (this.watchService == null) {
+                this.watchService = FileSystems.getDefault().newWatchService();
+            }
+
+            this.registerTree(target, target.directory);
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            log.warn("Resource::watch: watch service not available for {}: {}", target.directory,
+                    e.getMessage());
+
+            this.keys.entrySet().removeIf(k -> {
+
+                if (k.getValue().target() == target) {
+                    k.getKey().cancel();
+                    return true;
+                }
+
+                return false;
+            });
+
+            return false;
+        }
+    }
+
+    private void registerTree(Watched target, Path directory) throws IOException {
+        var key = directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.keys.put(key, new Registration(target, directory));
+
+        if (this.recursive) {
+
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory,
+                    p -> Files.isDirectory(p, NOFOLLOW_LINKS))) {
+
+                for (Path subdirectory : entries) {
+
+                    if (!target.scanner.prunes(subdirectory)) {
+                        this.registerTree(target, subdirectory);
+                    }
+                }
+            }
+        }
+    }
+
+    private void closeWatchService() {
+
+        if (this.watchService != null) {
+
+            try {
+                this.watchService.close();
+            } catch (IOException ioe) {
+                log.warn("Resource::close: watch service: {} - causedBy:", ioe.getMessage(), ioe);
+            }
+        }
+    }
+
+    private void release() {
+        this.closeWatchService();
+        this.watchService = null;
+        this.keys.clear();
+        this.watched.clear();
+
+        if (this.ownedExecutor != null) {
+            this.ownedExecutor.shutdown();
+            this.ownedExecutor = null;
+            this.executor = null;
+        }
+    }
+
+    private record Registration(Watched target, Path directory) {}
+
+    private record FileState(FileTime modified, long size) {}
+
+    /**
+     * Watched directory with the snapshot of its matching files.
+     */
+    private final class Watched {
+
+        private final Path directory;
+        private final PathScanner scanner;
+        private final Map<Path, FileState> files = new HashMap<>();
+        private volatile boolean polled;
+
+        Watched(Path directory, PathScanner scanner) {
+            this.directory = directory;
+            this.scanner = scanner;
+        }
+
+        /**
+         * Compare the files of the (sub-)directory with the snapshot.
+         *
+         * @param from   the directory to scan
+         * @param notify false to take the initial snapshot
+         */
+        void snapshot(Path from, boolean notify) {
+            var seen = new HashSet<Path>();
+
+            try (var entries = this.scanner.walk(from)) {
+                entries.forEach(e -> {
+                    seen.add(e.path());
+                    this.update(e.path(), e.attributes(), notify);
+                });
+            } catch (UncheckedIOException uioe) {
+
+                if (!notify || !(uioe.getCause() instanceof NoSuchFileException)
+                        || Files.exists(from, NOFOLLOW_LINKS)) {
+                    // Keep the snapshot as is: a read error (or a file removed during the scan,
+                    // notified by its own event) is not a deletion of the unseen files
+                    log.warn("Resource::watch: cannot scan {}: {}", from, uioe.getMessage());
+                    return;
+                }
+            }
+
+            this.files.keySet().removeIf(p -> {
+
+                if (p.startsWith(from) && !seen.contains(p)) {
+                    record(p, Change.Kind.DELETED);
+                    return true;
+                }
+
+                return false;
+            });
+        }
+
+        /**
+         * Watch event on a directory entry.
+         *
+         * @param path    the directory entry
+         * @param created true if the entry has been created
+         */
+        void changed(Path path, boolean created) {
+            BasicFileAttributes attrs;
+
+            try {
+                attrs = Files.readAttributes(path, BasicFileAttributes.class, NOFOLLOW_LINKS);
+            } catch (IOException ioe) {
+                this.removed(path);
+                return;
+            }
+
+            if (attrs.isDirectory()) {
+
+                if (created && recursive && !this.scanner.prunes(path) && !this.polled) {
+
+                    try {
+                        registerTree(this, path);
+                    } catch (IOException ioe) {
+                        log.warn("Resource::watch: cannot watch {}: {}", path, ioe.getMessage());
+                    }
+
+                    // Files created before the registration
+                    this.snapshot(path, true);
+                }
+            } else if (attrs.isRegularFile() && this.scanner.matches(path, attrs)) {
+                this.update(path, attrs, true);
+            }
+        }
+
+        /**
+         * Deleted file or directory.
+         */
+        void removed(Path path) {
+
+            if (this.files.remove(path) != null) {
+                record(path, Change.Kind.DELETED);
+                return;
+            }
+
+            this.files.keySet().removeIf(p -> {
+
+                if (p.startsWith(path)) {
+                    record(p, Change.Kind.DELETED);
+                    return true;
+                }
+
+                return false;
+            });
+        }
+
+        private void update(Path path, BasicFileAttributes attrs, boolean notify) {
+            var state = new FileState(attrs.lastModifiedTime(), attrs.size());
+            var previous = this.files.put(path, state);
+
+            if (notify && previous == null) {
+                record(path, Change.Kind.CREATED);
+            } else if (notify && !previous.equals(state)) {
+                record(path, Change.Kind.MODIFIED);
+            }
+        }
+    }
+}
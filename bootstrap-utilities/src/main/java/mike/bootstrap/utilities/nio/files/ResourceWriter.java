@@ -0,0 +1,589 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import mike.bootstrap.utilities.helpers.PreConditions;
+
+/**
+ * File writer with atomic replacement and configurable durability.
+ * <p>
+ * Appends are staged in a pooled direct buffer and written to the file channel when the buffer is
+ * full: small appends cost a memory copy, large ones are written with a single gathering write
+ * (staged bytes + appended buffers) without copy. A writer can be shared by several threads, each
+ * append is written as a whole.
+ * <ul>
+ * <li>{@link #atomic(Path)}: the content is written to a temporary file of the target directory
+ * and renamed to the target by {@link #commit()}. Readers see either the previous content or the
+ * new one, never a partial file. Closing a writer which is not committed discards the temporary
+ * file, so that a failure within a try-with-resources block keeps the previous content.</li>
+ * <li>{@link #append(Path)}: the content is appended to the file.</li>
+ * </ul>
+ * The {@link Sync} policy tells when the content is forced to the storage device (fsync).
+ *
+ * <pre>
+ * try (var writer = ResourceWriter.atomic(Path.of("clients.csv"))) {
+ *     for (var client : clients) {
+ *         writer.appendLine(client.toCsv(), StandardCharsets.UTF_8);
+ *     }
+ *
+ *     writer.commit();
+ * }
+ * </pre>
+ *
+ * @author Mike (2026-10)
+ */
+public class ResourceWriter implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ResourceWriter.class);
+
+    private static final String EOL = System.lineSeparator();
+    private static final Map<Charset, byte[]> EOLS = new ConcurrentHashMap<>();
+
+    /**
+     * Durability policy.
+     */
+    public enum Sync {
+
+        /** Never forced: the operating system writes the content back (not crash-safe) */
+        NONE,
+
+        /** Forced once on commit or close (and the directory after a rename or a creation) */
+        ON_CLOSE,
+
+        /**
+         * Each append returns once it is forced. Concurrent appends share the same fsync: while a
+         * thread forces the file, the other threads stage their appends, which are forced together
+         * by the next fsync.
+         */
+        GROUP_COMMIT
+    }
+
+    private final Path file;
+    private final Path temp;
+    private final Sync sync;
+    private final FileChannel channel;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private ByteBuffer buffer;
+    private long appended;
+    private long size;
+    private boolean committed;
+
+    /* *** Group commit *** */
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = syncLock.newCondition();
+    private long durable;
+    private boolean syncing;
+
+    /**
+     * @param file the file to write (replaced on commit)
+     * @return a new atomic writer, forced on commit ({@link Sync#ON_CLOSE})
+     * @throws IOException if the temporary file cannot be created
+     */
+    public static ResourceWriter atomic(Path file) throws IOException {
+        return ResourceWriter.atomic(file, Sync.ON_CLOSE);
+    }
+
+    /**
+     * @param file the file to write (replaced on commit)
+     * @param sync the durability policy
+     * @return a new atomic writer
+     * @throws IOException if the temporary file cannot be created
+     */
+    public static ResourceWriter atomic(Path file, Sync sync) throws IOException {
+        PreConditions.notNull(file, "no such file provided");
+        PreConditions.notNull(sync, "no such sync policy provided");
+
+        var target = file.toAbsolutePath();
+        var temp = target.resolveSibling("." + target.getFileName() + "."
+                + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+
+        // Created with the default permissions (umask), kept by the rename
+        var channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE);
+
+        return new ResourceWriter(target, temp, sync, channel);
+    }
+
+    /**
+     * @param file the file to append to (created if it does not exist)
+     * @return a new append writer, never forced ({@link Sync#NONE})
+     * @throws IOException if the file cannot be opened
+     */
+    public static ResourceWriter append(Path file) throws IOException {
+        return ResourceWriter.append(file, Sync.NONE);
+    }
+
+    /**
+     * @param file the file to append to (created if it does not exist)
+     * @param sync the durability policy
+     * @return a new append writer
+     * @throws IOException if the file cannot be opened
+     */
+    public static ResourceWriter append(Path file, Sync sync) throws IOException {
+        PreConditions.notNull(file, "no such file provided");
+        PreConditions.notNull(sync, "no such sync policy provided");
+
+        var target = file.toAbsolutePath();
+        boolean created = Files.notExists(target);
+
+        var channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+
+        if (created && sync != Sync.NONE) {
+            ResourceWriter.syncDirectory(target.getParent());
+        }
+
+        return new ResourceWriter(target, null, sync, channel);
+    }
+
+    /**
+     * Atomically replace the file content.
+     *
+     * @param file    the file to write
+     * @param content the file content
+     * @throws IOException if any IO errors occurs (the previous content is kept)
+     */
+    public static void write(Path file, byte[] content) throws IOException {
+
+        try (var writer = ResourceWriter.atomic(file)) {
+            writer.append(content).commit();
+        }
+    }
+
+    /**
+     * Atomically replace the file content.
+     *
+     * @param file    the file to write
+     * @param lines   the lines to write (each line is followed by the system line separator)
+     * @param charset the lines charset
+     * @throws IOException if any IO errors occurs (the previous content is kept)
+     */
+    public static void write(Path file, Iterable<? extends CharSequence> lines, Charset charset)
+            throws IOException {
+
+        try (var writer = ResourceWriter.atomic(file)) {
+
+            for (CharSequence line : lines) {
+                writer.appendLine(line, charset);
+            }
+
+            writer.commit();
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @see ResourceWriter#atomic(Path, Sync)
+     * @see ResourceWriter#append(Path, Sync)
+     */
+    private ResourceWriter(Path file, Path temp, Sync sync, FileChannel channel) {
+        this.file = file;
+        this.temp = temp;
+        this.sync = sync;
+        this.channel = channel;
+        this.buffer = BufferPool.direct();
+    }
+
+    /**
+     * @return the written file (target of the rename for an atomic writer)
+     */
+    public Path path() {
+        return this.file;
+    }
+
+    /**
+     * @return the durability policy
+     */
+    public Sync syncPolicy() {
+        return this.sync;
+    }
+
+    /**
+     * @return the number of bytes appended by this writer
+     */
+    public long size() {
+        this.lock.lock();
+
+        try {
+            return this.size;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @param bytes the bytes to append
+     * @return this writer
+     * @throws IOException if any IO errors occurs
+     */
+    public ResourceWriter append(byte[] bytes) throws IOException {
+        return this.append(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * @param bytes  the bytes to append
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     * @return this writer
+     * @throws IOException if any IO errors occurs
+     */
+    public ResourceWriter append(byte[] bytes, int offset, int length) throws IOException {
+        return this.append(ByteBuffer.wrap(bytes, offset, length));
+    }
+
+    /**
+     * Append the remaining bytes of the buffers as a whole (not interleaved with the appends of
+     * other threads). The buffers are consumed.
+     *
+     * @param buffers the buffers to append
+     * @return this writer
+     * @throws IOException if any IO errors occurs
+     */
+    public ResourceWriter append(ByteBuffer... buffers) throws IOException {
+        long sequence;
+
+        this.lock.lock();
+
+        try {
+            var staging = this.buffer();
+            long length = 0;
+
+            for (ByteBuffer src : buffers) {
+                length += src.remaining();
+            }
+
+            if (length <= staging.remaining()) {
+
+                for (ByteBuffer src : buffers) {
+                    staging.put(src);
+                }
+            } else if (length < staging.capacity()) {
+                this.drain();
+
+                for (ByteBuffer src : buffers) {
+                    staging.put(src);
+                }
+            } else {
+                // Single gathering write of the staged bytes and the appended buffers
+                var srcs = new ByteBuffer[buffers.length + 1];
+                srcs[0] = staging.flip();
+                System.arraycopy(buffers, 0, srcs, 1, buffers.length);
+
+                this.writeFully(srcs, staging.remaining() + length);
+                staging.clear();
+            }
+
+            this.size += length;
+            sequence = ++this.appended;
+        } finally {
+            this.lock.unlock();
+        }
+
+        if (this.sync == Sync.GROUP_COMMIT) {
+            this.awaitDurable(sequence);
+        }
+
+        return this;
+    }
+
+    /**
+     * @param text    the text to append
+     * @param charset the text charset
+     * @return this writer
+     * @throws IOException if any IO errors occurs
+     */
+    public ResourceWriter append(CharSequence text, Charset charset) throws IOException {
+        return this.append(ByteBuffer.wrap(encode(text, charset)));
+    }
+
+    /**
+     * @param line    the line to append (followed by the system line separator)
+     * @param charset the line charset
+     * @return this writer
+     * @throws IOException if any IO errors occurs
+     */
+    public ResourceWriter appendLine(CharSequence line, Charset charset) throws IOException {
+        return this.append(ByteBuffer.wrap(encode(line, charset)),
+                ByteBuffer.wrap(lineSeparator(charset)));
+    }
+
+    /**
+     * Encode a text without byte order mark: the UTF-16 encoder writes one on each call, the
+     * text is encoded in UTF-16BE instead (the UTF-16 decoders default byte order).
+     *
+     * @param text    the text to encode
+     * @param charset the text charset
+     * @return the encoded text
+     */
+    static byte[] encode(CharSequence text, Charset charset) {
+        return text.toString().getBytes(withoutBom(charset));
+    }
+
+    /**
+     * @param charset the line charset
+     * @return the system line separator encoded with the charset (shared, must not be modified)
+     */
+    static byte[] lineSeparator(Charset charset) {
+        return EOLS.computeIfAbsent(withoutBom(charset), c -> EOL.getBytes(c));
+    }
+
+    /**
+     * Write the staged bytes to the file (without forcing them to the storage device).
+     *
+     * @throws IOException if any IO errors occurs
+     */
+    public void flush() throws IOException {
+        this.lock.lock();
+
+        try {
+            this.buffer();
+            this.drain();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Write the staged bytes and force the file content to the storage device, whatever the
+     * policy.
+     *
+     * @throws IOException if any IO errors occurs
+     */
+    public void sync() throws IOException {
+        this.flush();
+        this.channel.force(false);
+    }
+
+    /**
+     * Replace the target file by the written content (atomic writer only). The writer is closed.
+     *
+     * @throws IOException if any IO errors occurs (the temporary file is deleted and the target
+     *                     file is left unchanged)
+     * @throws IllegalStateException if the writer is an append writer
+     */
+    public void commit() throws IOException {
+
+        if (this.temp == null) {
+            throw new IllegalStateException("not an atomic writer: " + file);
+        }
+
+        this.lock.lock();
+
+        try {
+            this.buffer();
+            this.drain();
+
+            if (this.sync != Sync.NONE) {
+                this.channel.force(false);
+            }
+
+            this.release();
+            this.move();
+
+            if (this.sync != Sync.NONE) {
+                ResourceWriter.syncDirectory(this.file.getParent());
+            }
+
+            this.committed = true;
+        } catch (IOException ioe) {
+            this.release();
+            Files.deleteIfExists(this.temp);
+            throw ioe;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Close the writer: an append writer writes the staged bytes (forced unless the policy is
+     * {@link Sync#NONE}), an atomic writer which is not committed discards its content.
+     */
+    @Override
+    public void close() throws IOException {
+        this.lock.lock();
+
+        try {
+            if (this.buffer == null) {
+                return;
+            }
+
+            if (this.temp != null) {
+                this.release();
+                Files.deleteIfExists(this.temp);
+                log.debug("Resource::write: {} not committed, content discarded", file);
+                return;
+            }
+
+            try {
+                this.drain();
+
+                if (this.sync != Sync.NONE) {
+                    this.channel.force(false);
+                }
+            } finally {
+                this.release();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @return true if the content of an atomic writer has replaced the target file
+     */
+    public boolean isCommitted() {
+        return this.committed;
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private static Charset withoutBom(Charset charset) {
+        return StandardCharsets.UTF_16.equals(charset) ? StandardCharsets.UTF_16BE : charset;
+    }
+
+    private ByteBuffer buffer() throws IOException {
+
+        if (this.buffer == null) {
+            throw new IOException("writer already closed: " + file);
+        }
+
+        return this.buffer;
+    }
+
+    /**
+     * Write the staged bytes to the channel (lock held).
+     */
+    private void drain() throws IOException {
+        var staging = this.buffer.flip();
+
+        try {
+            while (staging.hasRemaining()) {
+                this.channel.write(staging);
+            }
+        } finally {
+            staging.clear();
+        }
+    }
+
+    private void writeFully(ByteBuffer[] srcs, long length) throws IOException {
+
+        for (long written = 0; written < length;) {
+            written += this.channel.write(srcs);
+        }
+    }
+
+    /**
+     * Close the channel and give the buffer back (lock held).
+     */
+    private void release() throws IOException {
+
+        if (this.buffer != null) {
+            BufferPool.release(this.buffer);
+            this.buffer = null;
+            this.channel.close();
+        }
+    }
+
+    private void move() throws IOException {
+
+        try {
+            Files.move(this.temp, this.file, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            log.warn("Resource::write: atomic move not supported, replacing {}", file);
+            Files.move(this.temp, this.file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Wait until the append of the given sequence is forced, forcing the file if no other thread
+     * does it.
+     */
+    private void awaitDurable(long sequence) throws IOException {
+        this.syncLock.lock();
+
+        try {
+            while (this.durable < sequence) {
+
+                if (this.syncing) {
+                    this.synced.awaitUninterruptibly();
+                    continue;
+                }
+
+                this.syncing = true;
+                this.syncLock.unlock();
+
+                long forced = -1;
+
+                try {
+                    forced = this.forceStaged();
+                } finally {
+                    this.syncLock.lock();
+                    this.syncing = false;
+                    this.durable = Math.max(this.durable, forced);
+                    this.synced.signalAll();
+                }
+            }
+        } finally {
+            this.syncLock.unlock();
+        }
+    }
+
+    /**
+     * @return the sequence of the last forced append
+     */
+    private long forceStaged() throws IOException {
+        long sequence;
+
+        this.lock.lock();
+
+        try {
+            if (this.buffer == null) {
+                // Closed: the appends have been forced by the close
+                return this.appended;
+            }
+
+            this.drain();
+            sequence = this.appended;
+        } finally {
+            this.lock.unlock();
+        }
+
+        // Appends of other threads are staged meanwhile
+        this.channel.force(false);
+
+        return sequence;
+    }
+
+    /**
+     * Force the directory entries (rename, creation), not supported by all platforms.
+     */
+    private static void syncDirectory(Path directory) {
+
+        try (var dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException ioe) {
+            log.debug("Resource::write: cannot sync directory {}: {}", directory, ioe.getMessage());
+        }
+    }
+}
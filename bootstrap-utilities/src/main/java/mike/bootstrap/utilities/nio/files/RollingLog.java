@@ -0,0 +1,617 @@
+package mike.bootstrap.utilities.nio.files;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import mike.bootstrap.utilities.helpers.ByteUnit;
+import mike.bootstrap.utilities.helpers.Dates;
+import mike.bootstrap.utilities.helpers.PreConditions;
+
+/**
+ * Append log split into segments rotated on size and/or on time boundaries.
+ * <p>
+ * Segments are named {@code <name>.<date>.<sequence>.log} (ex.: {@code audit.20261018.000042.log},
+ * the date being {@link Dates#dIso()} formatted, with the hour for an hourly rollover). The active
+ * segment is written with a {@link ResourceWriter}; once rotated, a segment is sealed: it is
+ * compressed (default: gzip) and the retention limits are applied by a background thread, so that
+ * writers never wait for the compression.
+ * <p>
+ * Appends of several threads run concurrently (each append is written as a whole), a rotation
+ * waits for the appends in progress. The sealed segments are published as an immutable list:
+ * {@link #segments()} never blocks. A segment of the list may be compressed or deleted by the
+ * retention after the list has been read (the next {@link #segments()} call returns the new
+ * paths).
+ * <p>
+ * On open, the segments of a previous run are recovered as sealed segments (interrupted
+ * compressions are resumed) and a new segment is started.
+ *
+ * <pre>
+ * try (var audit = RollingLog.of(directory, "audit").maxSize("512mb").daily().maxSegments(30)
+ *         .open()) {
+ *     audit.appendLine(event, StandardCharsets.UTF_8);
+ * }
+ * </pre>
+ *
+ * @author Mike (2026-10)
+ */
+public class RollingLog implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(RollingLog.class);
+
+    private static final String EXTENSION = ".log";
+
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    /**
+     * Time boundaries of the segments.
+     */
+    public enum Rollover {
+
+        NONE(null, DateTimeFormatter.BASIC_ISO_DATE),
+        HOURLY(ChronoUnit.HOURS, DateTimeFormatter.ofPattern("yyyyMMdd'T'HH")),
+        DAILY(ChronoUnit.DAYS, DateTimeFormatter.BASIC_ISO_DATE);
+
+        private final ChronoUnit unit;
+        private final DateTimeFormatter formatter;
+
+        private Rollover(ChronoUnit unit, DateTimeFormatter formatter) {
+            this.unit = unit;
+            this.formatter = formatter;
+        }
+
+        /**
+         * @return the epoch millis of the next boundary ({@link Long#MAX_VALUE} if none)
+         */
+        long next(Clock clock) {
+
+            if (this.unit == null) {
+                return Long.MAX_VALUE;
+            }
+
+            return ZonedDateTime.now(clock).truncatedTo(this.unit).plus(1, this.unit).toInstant()
+                    .toEpochMilli();
+        }
+    }
+
+    /**
+     * Sealed segment.
+     *
+     * @param path       the segment file
+     * @param sequence   the segment sequence number (chronological order)
+     * @param size       the file size in bytes
+     * @param compressed true if the segment has been compressed
+     */
+    public record Segment(Path path, long sequence, long size, boolean compressed) {
+
+        /**
+         * @return the segment as resource (decompressed on read)
+         */
+        public Resource resource() {
+            return Resource.of(this.path);
+        }
+    }
+
+    /**
+     * Segment being written.
+     */
+    private record Active(Path path, long sequence, ResourceWriter writer, AtomicLong size) {}
+
+    private final Path directory;
+    private final String name;
+    private final Pattern segmentPattern;
+
+    private long maxSize = Long.MAX_VALUE;
+    private Rollover rollover = Rollover.NONE;
+    private Compression compression = Compression.GZIP;
+    private int maxSegments = Integer.MAX_VALUE;
+    private long maxTotalSize = Long.MAX_VALUE;
+    private ResourceWriter.Sync sync = ResourceWriter.Sync.NONE;
+    private Clock clock = Clock.systemDefaultZone();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicReference<List<Segment>> sealed = new AtomicReference<>(List.of());
+    private volatile Active active;
+    private volatile long nextRollover;
+    private long nextSequence;
+    private ExecutorService sealer;
+
+    /**
+     * @param directory the segments directory (created if it does not exist)
+     * @param name      the log name, prefix of the segment files
+     * @return a new rolling log (to open)
+     */
+    public static RollingLog of(Path directory, String name) {
+        PreConditions.notNull(directory, "no such directory provided");
+        PreConditions.notBlank(name, "no such log name provided");
+
+        return new RollingLog(directory, name);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @see RollingLog#of(Path, String)
+     */
+    private RollingLog(Path directory, String name) {
+        this.directory = directory.toAbsolutePath();
+        this.name = name;
+        this.segmentPattern = Pattern.compile(
+                Pattern.quote(name) + "\\.(\\d{8}(?:T\\d{2})?)\\.(\\d+)\\.log(\\.[a-z0-9]+)?");
+    }
+
+    /**
+     * @param sizeWithUnit max. size of a segment (ex.: 512mb)
+     * @return this log
+     * @see ByteUnit#from(String)
+     */
+    public RollingLog maxSize(String sizeWithUnit) {
+        long bytes = ByteUnit.from(sizeWithUnit);
+        PreConditions.test(bytes > 0, "segment max. size must be positive");
+        this.checkNotOpened();
+        this.maxSize = bytes;
+        return this;
+    }
+
+    /**
+     * @param rollover the time boundaries of the segments (default: none)
+     * @return this log
+     */
+    public RollingLog rollover(Rollover rollover) {
+        this.checkNotOpened();
+        this.rollover = PreConditions.notNull(rollover, "no such rollover provided");
+        return this;
+    }
+
+    /**
+     * @return this log, with a segment per day (at most)
+     */
+    public RollingLog daily() {
+        return this.rollover(Rollover.DAILY);
+    }
+
+    /**
+     * @return this log, with a segment per hour (at most)
+     */
+    public RollingLog hourly() {
+        return this.rollover(Rollover.HOURLY);
+    }
+
+    /**
+     * @param compression the compression of the sealed segments (default: gzip, NONE to keep them
+     *                    as is)
+     * @return this log
+     */
+    public RollingLog compression(Compression compression) {
+        PreConditions.notNull(compression, "no such compression provided");
+        PreConditions.test(compression != Compression.ZIP, "zip archives are not supported");
+        this.checkNotOpened();
+        this.compression = compression;
+        return this;
+    }
+
+    /**
+     * @param segments max. number of sealed segments kept (the oldest are deleted)
+     * @return this log
+     */
+    public RollingLog maxSegments(int segments) {
+        PreConditions.test(segments >= 0, "max. segments must be a positive number or zero");
+        this.checkNotOpened();
+        this.maxSegments = segments;
+        return this;
+    }
+
+    /**
+     * @param sizeWithUnit max. total size of the sealed segments (the oldest are deleted)
+     * @return this log
+     * @see ByteUnit#from(String)
+     */
+    public RollingLog maxTotalSize(String sizeWithUnit) {
+        long bytes = ByteUnit.from(sizeWithUnit);
+        this.checkNotOpened();
+        this.maxTotalSize = bytes;
+        return this;
+    }
+
+    /**
+     * @param sync the durability policy of the active segment (default: NONE)
+     * @return this log
+     */
+    public RollingLog sync(ResourceWriter.Sync sync) {
+        this.checkNotOpened();
+        this.sync = PreConditions.notNull(sync, "no such sync policy provided");
+        return this;
+    }
+
+    /**
+     * @param clock the clock of the time rollover
+     * @return this log
+     */
+    public RollingLog clock(Clock clock) {
+        this.checkNotOpened();
+        this.clock = PreConditions.notNull(clock, "no such clock provided");
+        return this;
+    }
+
+    /**
+     * Recover the segments of a previous run and start a new segment.
+     *
+     * @return this log
+     * @throws IOException if the directory or the segment cannot be created
+     */
+    public RollingLog open() throws IOException {
+        this.lock.writeLock().lock();
+
+        try {
+            this.checkNotOpened();
+
+            Files.createDirectories(this.directory);
+
+            this.sealer = Executors.newSingleThreadExecutor(Thread.ofPlatform()
+                    .name("rolling-log-" + this.name).daemon().priority(Thread.MIN_PRIORITY)
+                    .factory());
+
+            this.recover();
+            this.active = this.start();
+            this.nextRollover = this.rollover.next(this.clock);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        return this;
+    }
+
+    /**
+     * @param bytes the bytes to append
+     * @throws IOException if any IO errors occurs
+     */
+    public void append(byte[] bytes) throws IOException {
+        this.write(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * @param line    the line to append (followed by the system line separator)
+     * @param charset the line charset
+     * @throws IOException if any IO errors occurs
+     */
+    public void appendLine(CharSequence line, Charset charset) throws IOException {
+        // Encoded as the resource writer lines (separator in the line charset, no BOM)
+        this.write(ByteBuffer.wrap(ResourceWriter.encode(line, charset)),
+                ByteBuffer.wrap(ResourceWriter.lineSeparator(charset)));
+    }
+
+    /**
+     * Seal the active segment and start a new one.
+     *
+     * @throws IOException if any IO errors occurs
+     */
+    public void rotate() throws IOException {
+        this.roll(this.active);
+    }
+
+    /**
+     * @return the active segment file
+     * @throws IllegalStateException if the log is not opened
+     */
+    public Path activePath() {
+        var current = this.active;
+
+        if (current == null) {
+            throw new IllegalStateException("rolling log not opened: " + name);
+        }
+
+        return current.path();
+    }
+
+    /**
+     * @return the sealed segments, oldest first (immutable snapshot)
+     */
+    public List<Segment> segments() {
+        return this.sealed.get();
+    }
+
+    /**
+     * Seal the active segment and wait for the background compression.
+     */
+    @Override
+    public void close() throws IOException {
+        this.lock.writeLock().lock();
+
+        try {
+            var current = this.active;
+
+            if (current == null) {
+                return;
+            }
+
+            this.active = null;
+            this.seal(current);
+        } finally {
+            this.lock.writeLock().unlock();
+
+            if (this.sealer != null) {
+                this.sealer.close();
+                this.sealer = null;
+            }
+        }
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private void checkNotOpened() {
+
+        if (this.sealer != null) {
+            throw new IllegalStateException("rolling log already opened: " + name);
+        }
+    }
+
+    private void write(ByteBuffer... buffers) throws IOException {
+        long length = 0;
+
+        for (ByteBuffer buffer : buffers) {
+            length += buffer.remaining();
+        }
+
+        while (true) {
+            Active current;
+
+            this.lock.readLock().lock();
+
+            try {
+                current = this.active;
+
+                if (current == null) {
+                    throw new IOException("rolling log closed: " + name);
+                }
+
+                if (this.clock.millis() < this.nextRollover) {
+                    long end = current.size().addAndGet(length);
+
+                    // A record larger than the max. size is written alone in a segment
+                    if (end <= this.maxSize || end == length) {
+                        current.writer().append(buffers);
+                        return;
+                    }
+
+                    current.size().addAndGet(-length);
+                }
+            } finally {
+                this.lock.readLock().unlock();
+            }
+
+            this.roll(current);
+        }
+    }
+
+    /**
+     * Rotate the segment unless another thread already did it.
+     */
+    private void roll(Active expected) throws IOException {
+        this.lock.writeLock().lock();
+
+        try {
+            if (this.active == null || this.active != expected) {
+                return;
+            }
+
+            this.active = null;
+            this.seal(expected);
+            this.active = this.start();
+            this.nextRollover = this.rollover.next(this.clock);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return a new active segment (write lock held)
+     */
+    private Active start() throws IOException {
+        long sequence = this.nextSequence++;
+        var date = Dates.format(LocalDateTime.now(this.clock), this.rollover.formatter);
+        var path = this.directory.resolve(String.format("%s.%s.%06d%s", name, date, sequence,
+                EXTENSION));
+
+        return new Active(path, sequence, ResourceWriter.append(path, this.sync),
+                new AtomicLong(Files.size(path)));
+    }
+
+    /**
+     * Close the segment and hand it over to the background thread (write lock held).
+     */
+    private void seal(Active segment) throws IOException {
+        segment.writer().close();
+
+        if (segment.size().get() == 0) {
+            Files.deleteIfExists(segment.path());
+            return;
+        }
+
+        var sealedSegment = new Segment(segment.path(), segment.sequence(), segment.size().get(),
+                false);
+
+        this.publish(sealedSegment, false);
+        this.sealer.execute(() -> this.compress(sealedSegment));
+    }
+
+    /**
+     * Add (or replace) the segment in the sealed segments and apply the retention.
+     *
+     * @param segment the segment to publish
+     * @param replace true to publish the segment only if it replaces a segment of the same
+     *                sequence (not deleted by the retention)
+     * @return true if the segment has been published
+     */
+    private boolean publish(Segment segment, boolean replace) {
+        var removed = new ArrayList<Segment>();
+        var published = new boolean[1];
+
+        this.sealed.updateAndGet(segments -> {
+            removed.clear();
+            published[0] = !replace
+                    || segments.stream().anyMatch(s -> s.sequence() == segment.sequence());
+
+            if (!published[0]) {
+                return segments;
+            }
+
+            var updated = new ArrayList<Segment>(segments.size() + 1);
+
+            for (Segment s : segments) {
+
+                if (s.sequence() != segment.sequence()) {
+                    updated.add(s);
+                }
+            }
+
+            updated.add(segment);
+            updated.sort(Comparator.comparingLong(Segment::sequence));
+
+            long total = updated.stream().mapToLong(Segment::size).sum();
+
+            while (!updated.isEmpty()
+                    && (updated.size() > this.maxSegments || total > this.maxTotalSize)) {
+                var oldest = updated.remove(0);
+                total -= oldest.size();
+                removed.add(oldest);
+            }
+
+            return List.copyOf(updated);
+        });
+
+        for (Segment oldest : removed) {
+            this.sealer.execute(() -> this.delete(oldest));
+        }
+
+        return published[0];
+    }
+
+    /**
+     * Compress the sealed segment (background thread): the compressed file is written aside and
+     * renamed once complete, then the segment is deleted.
+     */
+    private void compress(Segment segment) {
+
+        if (this.compression == Compression.NONE || !Files.exists(segment.path())) {
+            return;
+        }
+
+        var target = segment.path().resolveSibling(
+                segment.path().getFileName() + "." + this.compression.extension());
+        var temp = target.resolveSibling(target.getFileName() + TEMP_EXTENSION);
+
+        try {
+            try (var os = this.compression.compress(Files.newOutputStream(temp))) {
+                Files.copy(segment.path(), os);
+            }
+
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+
+            var compressed = new Segment(target, segment.sequence(), Files.size(target), true);
+
+            // Unless deleted by the retention meanwhile
+            if (!this.publish(compressed, true)) {
+                this.delete(compressed);
+            }
+
+            Files.deleteIfExists(segment.path());
+        } catch (IOException ioe) {
+            log.warn("Resource::compress: {}: {} - causedBy:", segment.path(), ioe.getMessage(),
+                    ioe);
+
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                // Ignore: removed on next open
+            }
+        }
+    }
+
+    private void delete(Segment segment) {
+
+        try {
+            Files.deleteIfExists(segment.path());
+        } catch (IOException ioe) {
+            log.warn("Resource::delete: {}: {}", segment.path(), ioe.getMessage());
+        }
+    }
+
+    /**
+     * Register the segments of a previous run as sealed segments (write lock held).
+     */
+    private void recover() throws IOException {
+        var segments = new ArrayList<Segment>();
+
+        try (var entries = Files.newDirectoryStream(this.directory, this.name + ".*")) {
+
+            for (Path path : entries) {
+                var filename = path.getFileName().toString();
+
+                if (filename.endsWith(TEMP_EXTENSION)) {
+                    // Interrupted compression
+                    Files.deleteIfExists(path);
+                    continue;
+                }
+
+                var matcher = this.segmentPattern.matcher(filename);
+
+                if (matcher.matches()) {
+                    long sequence = Long.parseLong(matcher.group(2));
+                    segments.add(new Segment(path, sequence, Files.size(path),
+                            matcher.group(3) != null));
+                    this.nextSequence = Math.max(this.nextSequence, sequence + 1);
+                }
+            }
+        }
+
+        segments.sort(Comparator.comparingLong(Segment::sequence)
+                .thenComparing(Segment::compressed, Comparator.reverseOrder()));
+
+        long previous = -1;
+
+        for (Segment segment : segments) {
+
+            if (segment.sequence() == previous) {
+                // Compressed before the crash, but not deleted
+                Files.deleteIfExists(segment.path());
+            } else if (segment.size() == 0 && !segment.compressed()) {
+                Files.deleteIfExists(segment.path());
+            } else {
+                this.publish(segment, false);
+
+                if (!segment.compressed()) {
+                    this.sealer.execute(() -> this.compress(segment));
+                }
+            }
+
+            previous = segment.sequence();
+        }
+
+        if (!segments.isEmpty()) {
+            log.info("Resource::recover: {} segments of {} in {}", segments.size(), name,
+                    directory);
+        }
+    }
+}
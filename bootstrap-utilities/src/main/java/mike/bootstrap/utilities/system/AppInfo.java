@@ -1,20 +1,28 @@
 package mike.bootstrap.utilities.system;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.stream.Stream;
 
 import mike.bootstrap.utilities.helpers.Dates;
 import mike.bootstrap.utilities.helpers.Print;
-import mike.bootstrap.utilities.helpers.StringValue;
+import mike.bootstrap.utilities.helpers.Strings;
 import mike.bootstrap.utilities.helpers.Timer;
 import mike.bootstrap.utilities.nio.files.Resource;
 
 /**
  * Provide general information the application (name, version, runtime-directory ...)
  * <p>
- * Application informations are read from "META-INF/build-info.properties". If you are using MAVEN,
- * the properties <i>application.name</i> and <i>organization.name</i> should be set in your POM.
+ * Application informations are read from "META-INF/build-info.compact" (generated by the build, see
+ * {@link #BUILD_INFO_COMPACT}) or else from "META-INF/build-info.properties". If you are using
+ * MAVEN, the properties <i>application.name</i> and <i>organization.name</i> should be set in your
+ * POM.
+ * <p>
+ * Each group of informations (node, build) is loaded on its first access: reading the node does
+ * not load the build informations.
  * 
  * @author Mike (2021-02)
  * @since 15
@@ -28,15 +36,15 @@ public class AppInfo {
                                                                             // directory
     public static final String KW_APP_BUILD_INFO = "build.info.properties.file";
 
-    /* *** Application info *** */
-    private static String node = "local";
-    private static String name = "WhiteApp";
-    private static String module = "MyModule";
-    private static String version = "x.x";
-    private static String company = "My World Company";
-    private static String release = Dates.zNow();
-
-    private static String runtimeBaseDirectory = "./run/local";
+    /**
+     * Build informations generated by the build (classpath resource): a header line followed by
+     * the application name, module, version, organization and build time, one per line (UTF-8).
+     * <p>
+     * The file of an executable jar is read from its application classes. Otherwise the file is
+     * trusted only if it is the single one of the classpath (a dependency may ship its own).
+     */
+    public static final String BUILD_INFO_COMPACT = "META-INF/build-info.compact";
+    static final String BUILD_INFO_HEADER = "bootstrap-build-info/1";
 
     private static Timer tm = new Timer();
 
@@ -45,37 +53,9 @@ public class AppInfo {
      */
     private AppInfo() {}
 
-    /* ***** Populate variables ***** */
     static {
-
         // Set JVM Locale to English
         Locale.setDefault(Locale.ENGLISH);
-
-        node = StringValue.of(System.getProperty(KW_APP_NODE, "local")).sanitize("-").value()
-                .toLowerCase();
-        runtimeBaseDirectory = System.getProperty(KW_APP_RUNDIR, String.format("./run/%s", node));
-
-        /*
-         * *** Get application informations from Maven "built-info properties" file within the JAR
-         */
-        final String buildInfoFile = System.getProperty(KW_APP_BUILD_INFO,
-                "BOOT-INF/classes/build-info.properties");
-
-        Stream.of(buildInfoFile, "META-INF/build-info.properties").map(Resource::of)
-                .filter(Resource::exists).findFirst().ifPresentOrElse(res -> {
-
-                    try {
-                        var infos = res.getProperties();
-                        release = infos.getProperty("build.time", release);
-                        name = infos.getProperty("build.application.name", name);
-                        module = infos.getProperty("build.module.name", module);
-                        version = infos.getProperty("build.version", version);
-                        company = infos.getProperty("build.organization.name", company);
-                    } catch (IOException e) {
-                        Print.warn("AppInfo: cannot access to resource: %s. continuing ...",
-                                buildInfoFile);
-                    }
-                }, AppInfo::setMainClassName);
     }
 
     /* ***** Getter methods ***** */
@@ -83,42 +63,42 @@ public class AppInfo {
      * @return application name
      */
     public static String name() {
-        return name;
+        return BuildInfo.INSTANCE.name;
     }
 
     /**
      * @return application module
      */
     public static String module() {
-        return module;
+        return BuildInfo.INSTANCE.module;
     }
 
     /**
      * @return version of the application
      */
     public static String version() {
-        return version;
+        return BuildInfo.INSTANCE.version;
     }
 
     /**
      * @return application node (system variable: container.node) or 'local' if not set
      */
     public static String node() {
-        return node;
+        return NodeInfo.INSTANCE.node;
     }
 
     /**
      * @return ISO_DATE_TIME compile timestamp
      */
     public static String releaseDttm() {
-        return release;
+        return BuildInfo.INSTANCE.release;
     }
 
     /**
      * @return company name
      */
     public static String company() {
-        return company;
+        return BuildInfo.INSTANCE.company;
     }
 
     /**
@@ -135,14 +115,14 @@ public class AppInfo {
      * @return application runtime root directory
      */
     public static String runtimeDirectory() {
-        return runtimeBaseDirectory;
+        return NodeInfo.INSTANCE.runtimeDirectory;
     }
 
     /**
      * @return process as 'name':'pid'@'machine'
      */
     public static String process() {
-        return name + ":" + SysInfo.pid() + "@" + SysInfo.machine();
+        return name() + ":" + SysInfo.pid() + "@" + SysInfo.machine();
     }
 
     /**
@@ -150,7 +130,7 @@ public class AppInfo {
      */
     public static String banner() {
         return String.format("%s - %s %s (copyrights: %s) - released: %s", name(), module(),
-                version(), company, release);
+                version(), company(), releaseDttm());
     }
 
     /**
@@ -183,14 +163,157 @@ public class AppInfo {
      */
 
     /**
-     * Try to extract the application name from the command line
+     * Node informations (system properties), loaded on first access
+     */
+    private record NodeInfo(String node, String runtimeDirectory) {
+
+        static final NodeInfo INSTANCE = NodeInfo.load();
+
+        private static NodeInfo load() {
+            String node = Strings.sanitize(System.getProperty(KW_APP_NODE, "local"), "-")
+                    .toLowerCase();
+
+            return new NodeInfo(node,
+                    System.getProperty(KW_APP_RUNDIR, String.format("./run/%s", node)));
+        }
+    }
+
+    /**
+     * Build informations, loaded on first access
      */
-    private static void setMainClassName() {
+    private record BuildInfo(String name, String module, String version, String company,
+            String release) {
+
+        private static final BuildInfo DEFAULT = new BuildInfo("WhiteApp", "MyModule", "x.x",
+                "My World Company", null);
+
+        static final BuildInfo INSTANCE = BuildInfo.load();
+
+        private static BuildInfo load() {
+            var info = System.getProperty(KW_APP_BUILD_INFO) == null ? BuildInfo.compact() : null;
+
+            if (info == null) {
+                info = BuildInfo.properties();
+            }
+
+            if (info == null) {
+                info = DEFAULT.withName(BuildInfo.mainClassName());
+            }
+
+            return info.release != null ? info
+                    : new BuildInfo(info.name, info.module, info.version, info.company,
+                            Dates.zNow());
+        }
+
+        /**
+         * @return informations generated by the build (no properties parsing) or null if none
+         */
+        private static BuildInfo compact() {
+
+            try {
+                var url = BuildInfo.compactResource();
+
+                if (url == null) {
+                    return null;
+                }
+
+                try (InputStream in = url.openStream()) {
+                    String[] lines = new String(in.readAllBytes(), StandardCharsets.UTF_8)
+                            .split("\r?\n", -1);
+
+                    // Generated by the build of a module (header and module name)
+                    if (lines.length >= 6 && BUILD_INFO_HEADER.equals(lines[0])
+                            && !lines[2].isBlank()) {
+                        return new BuildInfo(value(lines[1], DEFAULT.name), lines[2].strip(),
+                                value(lines[3], DEFAULT.version), value(lines[4], DEFAULT.company),
+                                value(lines[5], null));
+                    }
+
+                    Print.warn("AppInfo: invalid resource: %s. continuing ...", url);
+                }
+            } catch (IOException e) {
+                Print.warn("AppInfo: cannot access to resource: %s. continuing ...",
+                        BUILD_INFO_COMPACT);
+            }
+
+            return null;
+        }
+
+        /**
+         * @return the compact file of the application or null if none (or not the only one)
+         */
+        private static URL compactResource() throws IOException {
+            // Executable jar: application classes only (the nested jars are not searched)
+            var url = ClassLoader.getSystemResource("BOOT-INF/classes/" + BUILD_INFO_COMPACT);
+
+            if (url != null) {
+                return url;
+            }
+
+            var loader = AppInfo.class.getClassLoader();
+            var urls = loader != null ? loader.getResources(BUILD_INFO_COMPACT)
+                    : ClassLoader.getSystemResources(BUILD_INFO_COMPACT);
+
+            url = urls.hasMoreElements() ? urls.nextElement() : null;
+
+            if (url != null && urls.hasMoreElements()) {
+                // The first one may be the file of a dependency
+                Print.warn("AppInfo: several resources %s found (%s, %s ...). continuing ...",
+                        BUILD_INFO_COMPACT, url, urls.nextElement());
+                return null;
+            }
+
+            return url;
+        }
+
+        /**
+         * @return informations from the Maven "built-info properties" file or null if none
+         */
+        private static BuildInfo properties() {
+            final String buildInfoFile = System.getProperty(KW_APP_BUILD_INFO,
+                    "BOOT-INF/classes/build-info.properties");
+
+            var resource = Stream.of(buildInfoFile, "META-INF/build-info.properties")
+                    .map(Resource::of).filter(Resource::exists).findFirst();
+
+            if (resource.isEmpty()) {
+                return null;
+            }
+
+            try {
+                var infos = resource.get().getProperties();
+
+                return new BuildInfo(infos.getProperty("build.application.name", DEFAULT.name),
+                        infos.getProperty("build.module.name", DEFAULT.module),
+                        infos.getProperty("build.version", DEFAULT.version),
+                        infos.getProperty("build.organization.name", DEFAULT.company),
+                        infos.getProperty("build.time"));
+            } catch (IOException e) {
+                Print.warn("AppInfo: cannot access to resource: %s. continuing ...",
+                        buildInfoFile);
+                return DEFAULT;
+            }
+        }
+
+        /**
+         * Try to extract the application name from the command line
+         */
+        private static String mainClassName() {
+
+            try {
+                String[] command = System.getProperty("sun.java.command", DEFAULT.name).split(" ");
+                return Class.forName(command[0]).getSimpleName();
+            } catch (ClassNotFoundException e) {
+                return DEFAULT.name;
+            }
+        }
+
+        private static String value(String line, String defaultValue) {
+            return line.isBlank() ? defaultValue : line.strip();
+        }
 
-        try {
-            String[] command = System.getProperty("sun.java.command", name).split(" ");
-            name = Class.forName(command[0]).getSimpleName();
-        } catch (ClassNotFoundException e) {
-            /* Ignore */ }
+        private BuildInfo withName(String name) {
+            return new BuildInfo(name, this.module, this.version, this.company, this.release);
+        }
     }
 }
@@ -0,0 +1,267 @@
+package mike.bootstrap.utilities.system;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import mike.bootstrap.utilities.helpers.PreConditions;
+
+/**
+ * Startup phases profiler (monotonic clock).
+ *
+ * <pre>
+ * try (var phase = StartupProfiler.global().start("ssl_configuration")) {
+ *     SSLCertificateConfiguration.configure();
+ * }
+ * ...
+ * log.info(StartupProfiler.global().report(StartupProfiler.BOOTSTRAP, 0));
+ * </pre>
+ *
+ * <p>
+ * The phases can be written as a trace file (Chrome trace event format, readable by
+ * chrome://tracing or https://ui.perfetto.dev).
+ * </p>
+ *
+ * @author Mike (2026-10)
+ */
+public final class StartupProfiler {
+
+    /**
+     * Category of the application bootstrap phases
+     */
+    public static final String BOOTSTRAP = "bootstrap";
+
+    private static final StartupProfiler GLOBAL = new StartupProfiler();
+
+    private final long origin = System.nanoTime();
+    private final long processStart;
+    private final List<Phase> phases = new ArrayList<>();
+
+    /**
+     * Timed phase.
+     *
+     * @param name     the phase name
+     * @param category the phase category (i.e. 'bootstrap', 'bean')
+     * @param start    the start time (nanoseconds since the process start)
+     * @param duration the duration (nanoseconds)
+     */
+    public record Phase(String name, String category, long start, long duration) {}
+
+    /**
+     * Running phase, recorded when closed.
+     */
+    public final class Step implements AutoCloseable {
+
+        private final String name;
+        private final String category;
+        private final long start = System.nanoTime();
+        private boolean closed;
+
+        private Step(String name, String category) {
+            this.name = name;
+            this.category = category;
+        }
+
+        /**
+         * Records the phase (once).
+         */
+        @Override
+        public void close() {
+
+            if (!this.closed) {
+                this.closed = true;
+                StartupProfiler.this.record(this.name, this.category, this.start,
+                        System.nanoTime() - this.start);
+            }
+        }
+    }
+
+    private StartupProfiler() {
+        // Time spent by the JVM before the first phase (milliseconds precision)
+        long startMillis = ProcessHandle.current().info().startInstant().map(Instant::toEpochMilli)
+                .orElse(System.currentTimeMillis());
+        this.processStart = Math.max(0,
+                TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - startMillis));
+        this.phases.add(new Phase("jvm_startup", BOOTSTRAP, 0, this.processStart));
+    }
+
+    /**
+     * @return a new profiler (only the JVM startup phase recorded)
+     */
+    public static StartupProfiler of() {
+        return new StartupProfiler();
+    }
+
+    /**
+     * @return the profiler of the application startup
+     */
+    public static StartupProfiler global() {
+        return GLOBAL;
+    }
+
+    /**
+     * @param name the phase name
+     * @return the started phase of the {@link #BOOTSTRAP} category
+     */
+    public Step start(String name) {
+        return this.start(name, BOOTSTRAP);
+    }
+
+    /**
+     * @param name     the phase name
+     * @param category the phase category
+     * @return the started phase
+     */
+    public Step start(String name, String category) {
+        PreConditions.notBlank(name, "StartupProfiler::start: name is required");
+        PreConditions.notBlank(category, "StartupProfiler::start: category is required");
+        return new Step(name, category);
+    }
+
+    /**
+     * @param <T>      the result type
+     * @param name     the phase name
+     * @param supplier the phase
+     * @return the phase result
+     */
+    public <T> T time(String name, Supplier<T> supplier) {
+        var step = this.start(name);
+
+        try {
+            return supplier.get();
+        } finally {
+            step.close();
+        }
+    }
+
+    /**
+     * @param name      the phase name
+     * @param category  the phase category
+     * @param startNano the start time ({@link System#nanoTime()})
+     * @param duration  the duration (nanoseconds)
+     */
+    public synchronized void record(String name, String category, long startNano, long duration) {
+        this.phases.add(new Phase(name, category, this.processStart + startNano - this.origin,
+                duration));
+    }
+
+    /**
+     * @return the nanoseconds elapsed since the process start
+     */
+    public long uptimeNanos() {
+        return this.processStart + System.nanoTime() - this.origin;
+    }
+
+    /**
+     * @return the recorded phases (recording order)
+     */
+    public synchronized List<Phase> phases() {
+        return List.copyOf(this.phases);
+    }
+
+    /**
+     * @param category the phases category
+     * @return the recorded phases of the category (recording order)
+     */
+    public synchronized List<Phase> phases(String category) {
+        return this.phases.stream().filter(p -> p.category.equals(category)).toList();
+    }
+
+    /**
+     * Removes the recorded phases (including the JVM startup).
+     */
+    public synchronized void clear() {
+        this.phases.clear();
+    }
+
+    /**
+     * Phases report, slowest first:
+     *
+     * <pre>
+     *    3.201s  38.0%  spring_context
+     *    1.022s  12.1%  sys_info
+     * </pre>
+     *
+     * @param category the phases category
+     * @param limit    the maximum number of phases (0: all)
+     * @return the report (percentages of the process uptime)
+     */
+    public String report(String category, int limit) {
+        double uptime = this.uptimeNanos();
+        var sorted = this.phases(category).stream()
+                .sorted(Comparator.comparingLong(Phase::duration).reversed())
+                .limit(limit > 0 ? limit : Long.MAX_VALUE).toList();
+
+        var out = new StringBuilder(sorted.size() * 48).append(String.format(Locale.ROOT,
+                "Startup profile (%s, uptime %.3fs):", category, uptime / 1e9));
+
+        for (Phase phase : sorted) {
+            out.append(String.format(Locale.ROOT, "%n %9.3fs %5.1f%%  %s", phase.duration / 1e9,
+                    phase.duration * 100 / uptime, phase.name));
+        }
+
+        return out.toString();
+    }
+
+    /**
+     * Writes the phases in the Chrome trace event format (one thread per category).
+     *
+     * @param file the target file (replaced if exists)
+     * @throws IOException if the file cannot be written
+     */
+    public void writeTrace(Path file) throws IOException {
+        var categories = new ArrayList<String>();
+        long pid = ProcessHandle.current().pid();
+
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("{\"traceEvents\":[");
+            String separator = "\n";
+
+            for (Phase phase : this.phases()) {
+
+                if (!categories.contains(phase.category)) {
+                    categories.add(phase.category);
+                }
+
+                writer.write(separator);
+                writer.write(String.format(Locale.ROOT,
+                        "{\"name\":\"%s\",\"cat\":\"%s\",\"ph\":\"X\",\"ts\":%.3f,\"dur\":%.3f,"
+                                + "\"pid\":%d,\"tid\":%d}",
+                        escape(phase.name), escape(phase.category), phase.start / 1e3,
+                        phase.duration / 1e3, pid, categories.indexOf(phase.category) + 1));
+                separator = ",\n";
+            }
+
+            writer.write("\n]}\n");
+        }
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private static String escape(String value) {
+        var out = new StringBuilder(value.length());
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c < 0x20) {
+                out.append(String.format("\\u%04x", (int) c));
+            } else {
+                out.append(c);
+            }
+        }
+
+        return out.toString();
+    }
+}
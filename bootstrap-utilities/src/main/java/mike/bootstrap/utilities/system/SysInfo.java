@@ -1,20 +1,31 @@
 package mike.bootstrap.utilities.system;
 
 import java.io.IOException;
-import java.lang.management.ManagementFactory;
 import java.net.InetAddress;
 import java.net.ServerSocket;
 import java.net.UnknownHostException;
+import java.time.Duration;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Stream;
 
 import mike.bootstrap.utilities.exceptions.ApplicationErrorException;
+import mike.bootstrap.utilities.helpers.PreConditions;
 import mike.bootstrap.utilities.helpers.Strings;
 import mike.bootstrap.utilities.helpers.Utils;
 
 /**
  * Provides general informations about the system (pid, hostname ...) and shortcuts for the JVM
  * properties.
+ * <p>
+ * The host informations are resolved in background when the class is loaded (a misconfigured DNS
+ * does not block the startup): the accessors return the fallback values (loopback address, local
+ * host name) until the resolution completes. Use {@link #awaitHost()} to wait for them.
  * 
  * @author Mike (2021-02)
  * @since 1.8
@@ -31,30 +42,51 @@ public class SysInfo {
     public static final String FILE_SEP = System.getProperty("file.separator");
     public static final String LINE_FEED = System.getProperty("line.separator");
 
+    /* *** System properties keywords *** */
+    public static final String KW_HOST_TIMEOUT = "container.host.resolve-timeout"; // Duration
+
+    private static final Duration DEFAULT_HOST_TIMEOUT = Duration.ofSeconds(2);
+
     /* ***** System info ***** */
     private static Class<?> mainClazz;
-    private static String hostIP = "0.0.0.0";
-    private static String hostname = "unknown";
-    private static String machine = "unknown";
-    private static String localhost = "localhost";
-    private static String pid = "0";
+    private static final String PID = String.valueOf(ProcessHandle.current().pid());
+    private static final String LOCALHOST = InetAddress.getLoopbackAddress().getHostAddress();
+
+    private static volatile HostInfo host = HostInfo.fallback();
+    private static volatile CompletableFuture<String> resolution;
+    private static int generation;
 
     static {
         // Set default locale
         Locale.setDefault(Locale.ENGLISH);
 
-        /* *** Process informations *** */
-        String[] runtime = ManagementFactory.getRuntimeMXBean().getName().split("@", 2);
-        pid = runtime.length >= 1 ? runtime[0] : "0";
+        /* *** Host informations (background) *** */
+        SysInfo.resolveHost(HostResolver.DNS);
+    }
 
-        try {
-            InetAddress address = InetAddress.getLocalHost();
-            hostname = address.getCanonicalHostName();
-            hostIP = address.getHostAddress();
-            localhost = InetAddress.getByName(null).getHostAddress();
-            machine = hostname.contains(".") ? hostname.split("\\.")[0] : hostname;
-        } catch (UnknownHostException e) {
-            /* Ignore */ }
+    /**
+     * Host name resolution (stubbed by the tests).
+     */
+    public interface HostResolver {
+
+        /**
+         * Resolver based on the system configuration (hosts file, DNS).
+         */
+        HostResolver DNS = InetAddress::getLocalHost;
+
+        /**
+         * @return the local host address
+         * @throws UnknownHostException if the local host name cannot be resolved
+         */
+        InetAddress localHost() throws UnknownHostException;
+
+        /**
+         * @param address the local host address
+         * @return the fully qualified host name (reverse lookup)
+         */
+        default String canonicalHostName(InetAddress address) {
+            return address.getCanonicalHostName();
+        }
     }
 
     private SysInfo() {}
@@ -143,35 +175,106 @@ public class SysInfo {
      * @return PID of the process (JVM)
      */
     public static String pid() {
-        return pid;
+        return PID;
     }
 
     /**
-     * @return canonical host name
+     * @return canonical host name (local host name until resolved)
      */
     public static String hostname() {
-        return hostname;
+        return host.hostname;
     }
 
     /**
-     * @return host address
+     * @return host address (loopback address until resolved)
      */
     public static String hostIP() {
-        return hostIP;
+        return host.hostIP;
     }
 
     /**
      * @return local host address (127.0.0.1)
      */
     public static String localhost() {
-        return localhost;
+        return LOCALHOST;
     }
 
     /**
-     * @return host short name
+     * @return host short name (local host name until resolved)
      */
     public static String machine() {
-        return machine;
+        return host.machine;
+    }
+
+    /**
+     * Waits for the host resolution, at most the timeout set by the system property
+     * {@value #KW_HOST_TIMEOUT} (ISO-8601 duration, default: 2 seconds).
+     * 
+     * @return true if the host informations are resolved, false if the fallback values are used
+     */
+    public static boolean awaitHost() {
+        var timeout = DEFAULT_HOST_TIMEOUT;
+        var property = System.getProperty(KW_HOST_TIMEOUT, "");
+
+        if (!property.isBlank()) {
+
+            try {
+                timeout = Duration.parse(property.strip());
+            } catch (RuntimeException re) {
+                /* Default timeout */ }
+        }
+
+        return SysInfo.awaitHost(timeout);
+    }
+
+    /**
+     * @param timeout maximum waiting time
+     * @return true if the host informations are resolved, false if the fallback values are used
+     */
+    public static boolean awaitHost(Duration timeout) {
+
+        try {
+            resolution.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Resolves again the host informations in background (daemon threads). The current values are
+     * kept until the new ones are resolved; the local host address is published before the reverse
+     * lookup of its canonical name.
+     * 
+     * @param resolver host name resolver
+     * @return the canonical host name
+     */
+    public static synchronized CompletableFuture<String> resolveHost(HostResolver resolver) {
+        PreConditions.notNull(resolver, "SysInfo::resolveHost: resolver is required");
+
+        final int current = ++generation;
+        final Executor executor = task -> Thread.ofPlatform().name("sysinfo-resolver").daemon()
+                .start(task);
+
+        resolution = CompletableFuture.supplyAsync(() -> {
+
+            try {
+                var address = resolver.localHost();
+                SysInfo.publish(current, address.getHostName(), address.getHostAddress());
+                return address;
+            } catch (UnknownHostException uhe) {
+                throw new CompletionException(uhe);
+            }
+        }, executor).thenApplyAsync(address -> {
+            var canonical = resolver.canonicalHostName(address);
+            SysInfo.publish(current, canonical, address.getHostAddress());
+            return canonical;
+        }, executor);
+
+        return resolution;
     }
 
     /**
@@ -198,4 +301,27 @@ public class SysInfo {
                     hostname, port, ioe.getMessage());
         }
     }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private static synchronized void publish(int resolved, String hostname, String hostIP) {
+
+        // Ignore the late answers of a previous resolution
+        if (resolved == generation) {
+            host = new HostInfo(hostname, hostIP, hostname.split("\\.", 2)[0]);
+        }
+    }
+
+    private record HostInfo(String hostname, String hostIP, String machine) {
+
+        /**
+         * @return the local host name from the environment (no name resolution)
+         */
+        static HostInfo fallback() {
+            String name = Stream.of(System.getenv("HOSTNAME"), System.getenv("COMPUTERNAME"))
+                    .filter(n -> n != null && !n.isBlank()).findFirst().orElse("localhost");
+
+            return new HostInfo(name, LOCALHOST, name.split("\\.", 2)[0]);
+        }
+    }
 }
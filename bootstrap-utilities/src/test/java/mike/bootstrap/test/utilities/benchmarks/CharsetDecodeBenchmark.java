@@ -0,0 +1,105 @@
+package mike.bootstrap.test.utilities.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import mike.bootstrap.utilities.nio.files.Resource;
+
+/**
+ * Compares the decoding throughput of a local file for each charset, with pure ASCII lines and
+ * with accented lines.
+ * <p>
+ * Run from the module directory after a test-compile:
+ * 
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=mike.bootstrap.test.utilities.benchmarks.CharsetDecodeBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CharsetDecodeBenchmark {
+
+    @Param({ "ISO-8859-1", "UTF-8", "UTF-16LE" })
+    private String charsetName;
+
+    @Param({ "ascii", "accented" })
+    private String content;
+
+    @Param({ "500000" })
+    private int lines;
+
+    private Path file;
+    private Resource resource;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CharsetDecodeBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        var charset = Charset.forName(charsetName);
+        var city = "ascii".equals(content) ? "PARIS" : "ÉVRY-COURCOURONNES";
+
+        this.file = Files.createTempFile("bench-charset", ".dat");
+
+        try (var writer = Files.newBufferedWriter(file, charset)) {
+
+            for (int i = 0; i < lines; i++) {
+                writer.write(String.format("REC;%010d;ACME CORPORATION;EUR;%012d;%s", i, i * 7L,
+                        city));
+                writer.newLine();
+            }
+        }
+
+        this.resource = Resource.of(file.toString(), charset);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long bufferedReaderLines() throws IOException {
+
+        try (var reader = Files.newBufferedReader(file, resource.getCharset())) {
+            return reader.lines().mapToLong(String::length).sum();
+        }
+    }
+
+    @Benchmark
+    public long readContent() throws IOException {
+        return resource.readContent().stream().mapToLong(String::length).sum();
+    }
+
+    @Benchmark
+    public long forEachLine() throws IOException {
+        return resource.fold(0L, (count, line) -> count + line.length());
+    }
+}
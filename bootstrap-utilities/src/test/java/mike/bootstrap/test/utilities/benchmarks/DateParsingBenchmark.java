@@ -0,0 +1,141 @@
+package mike.bootstrap.test.utilities.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import mike.bootstrap.utilities.helpers.Dates;
+
+/**
+ * Compares the ISO parsing of {@link Dates} with the {@link DateTimeFormatter} parsing, on
+ * clean values (all valid) and on dirty ones (a third of them are blank or invalid, as read from
+ * a flat file).
+ * <p>
+ * Run from the module directory after a test-compile:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=mike.bootstrap.test.utilities.benchmarks.DateParsingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DateParsingBenchmark {
+
+    @Param({ "clean", "dirty" })
+    private String content;
+
+    private String[] dateTimes;
+    private String[] dates;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DateParsingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    @Setup
+    public void setup() {
+
+        if ("clean".equals(content)) {
+            dateTimes = new String[] { "2026-10-18T15:34:56.345", "2026-10-18T15:35",
+                    "2026-10-19T08:00:00", "2026-10-19T08:00:00.123456", "2026-10-20T23:59:59.999",
+                    "2026-10-21T00:00:00" };
+            dates = new String[] { "20261018", "20261019", "20261020", "20261021", "20261022",
+                    "20261023" };
+        } else {
+            dateTimes = new String[] { "2026-10-18T15:34:56.345", "", "2026-10-19T08:00:00",
+                    "2026-10-19 08:00:00", "2026-10-20T23:59:59.999", "2026-02-30T00:00:00" };
+            dates = new String[] { "20261018", "        ", "20261020", "20261321", "20261022",
+                    "N/A" };
+        }
+    }
+
+    @Benchmark
+    public long dateTimeFormatter() {
+        long sum = 0;
+
+        for (var value : dateTimes) {
+
+            try {
+                sum += LocalDateTime.parse(value).atZone(ZoneId.systemDefault()).toInstant()
+                        .toEpochMilli();
+            } catch (DateTimeParseException e) {
+                sum--;
+            }
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long dateTimeParser() {
+        long sum = 0;
+
+        for (var value : dateTimes) {
+            sum += Dates.toEpochMillis(value, 0, value.length(), -1);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long dateFormatter() {
+        long sum = 0;
+
+        for (var value : dates) {
+
+            try {
+                sum += LocalDate.parse(value, DateTimeFormatter.BASIC_ISO_DATE).getDayOfMonth();
+            } catch (DateTimeParseException e) {
+                sum--;
+            }
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long dateParser() {
+        long sum = 0;
+
+        for (var value : dates) {
+            int date = Dates.toPackedDate(value, 0, value.length());
+            sum += date >= 0 ? date % 100 : -1;
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public int isValid() {
+        int valid = 0;
+
+        for (var value : dateTimes) {
+            valid += Dates.isValid(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME) ? 1 : 0;
+        }
+
+        return valid;
+    }
+}
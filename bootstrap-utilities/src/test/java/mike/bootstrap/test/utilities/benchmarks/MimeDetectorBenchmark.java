@@ -0,0 +1,149 @@
+package mike.bootstrap.test.utilities.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.tika.Tika;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import mike.bootstrap.utilities.nio.files.MimeDetector;
+import mike.bootstrap.utilities.nio.files.MimeType;
+
+/**
+ * Compares the media type detection of a batch of files with a new {@link Tika} per file (former
+ * {@code MimeType.resolve}), the signature detection with the shared Tika instance as fallback and
+ * the cached {@link MimeDetector}.
+ * <p>
+ * Run from the module directory after a test-compile:
+ * 
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=mike.bootstrap.test.utilities.benchmarks.MimeDetectorBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MimeDetectorBenchmark {
+
+    /** Number of files of the batch (zip, gzip, json and text files) */
+    @Param({ "200" })
+    private int files;
+
+    private Path directory;
+    private List<Path> paths;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MimeDetectorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("bench-mime");
+        this.paths = new ArrayList<>(files);
+
+        for (int i = 0; i < files; i++) {
+            Path file;
+
+            switch (i % 4) {
+                case 0 -> file = Files.writeString(directory.resolve("data-" + i + ".json"),
+                        "{\"id\": " + i + "}");
+                case 1 -> file = Files.writeString(directory.resolve("data-" + i + ".txt"),
+                        "line " + i);
+                default -> {
+                    file = directory.resolve("data-" + i + ".gz");
+
+                    try (var os = new GZIPOutputStream(Files.newOutputStream(file))) {
+                        os.write(("line " + i).getBytes());
+                    }
+                }
+            }
+
+            paths.add(file);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+
+        for (Path path : paths) {
+            Files.deleteIfExists(path);
+        }
+
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public int newTikaPerFile() throws IOException {
+        int count = 0;
+
+        for (Path path : paths) {
+            count += new Tika().detect(path.toUri().toURL()).length();
+        }
+
+        return count;
+    }
+
+    @Benchmark
+    public int mimeTypeResolve() {
+        int count = 0;
+
+        for (Path path : paths) {
+            count += MimeType.resolve(path).length();
+        }
+
+        return count;
+    }
+
+    @Benchmark
+    public int mimeTypeDetect() {
+        int count = 0;
+
+        for (Path path : paths) {
+            count += MimeType.detect(path).ordinal();
+        }
+
+        return count;
+    }
+
+    @Benchmark
+    public int detectorResolveAll() {
+        // New detector: no cached entry
+        return MimeDetector.of().resolveAll(paths).size();
+    }
+
+    @Benchmark
+    public int detectorCached(CachedDetector state) {
+        return state.detector.resolveAll(paths).size();
+    }
+
+    @State(Scope.Benchmark)
+    public static class CachedDetector {
+
+        private final MimeDetector detector = MimeDetector.of();
+    }
+}
@@ -0,0 +1,147 @@
+package mike.bootstrap.test.utilities.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import mike.bootstrap.utilities.helpers.Strings;
+
+/**
+ * Compares the number conversions of {@link Strings} with the JDK parsers guarded by a
+ * try/catch (the previous implementation), on clean values (all numbers) and on dirty ones (a
+ * third of them are blank or not numbers, as read from a flat file).
+ * <p>
+ * Run from the module directory after a test-compile:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=mike.bootstrap.test.utilities.benchmarks.NumberParsingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NumberParsingBenchmark {
+
+    @Param({ "clean", "dirty" })
+    private String content;
+
+    private String[] integers;
+    private String[] decimals;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(NumberParsingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    @Setup
+    public void setup() {
+
+        if ("clean".equals(content)) {
+            integers = new String[] { "75002", "12", "-4096", "2147483647", " 42 ", "0" };
+            decimals = new String[] { "12.50", "-0.125", "1999.99", "3.14159", " 42 ", "1e-3" };
+        } else {
+            integers = new String[] { "75002", "", "-4096", "N/A", " 42 ", "2A" };
+            decimals = new String[] { "12.50", " ", "1999.99", "n/a", " 42 ", "1,5" };
+        }
+    }
+
+    @Benchmark
+    public long integerJdk() {
+        long sum = 0;
+
+        for (var value : integers) {
+
+            try {
+                sum += Integer.parseInt(Strings.strip(value));
+            } catch (NumberFormatException nfe) {
+                sum--;
+            }
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long integerScan() {
+        long sum = 0;
+
+        for (var value : integers) {
+            sum += Strings.toInteger(value, -1);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public double doubleJdk() {
+        double sum = 0;
+
+        for (var value : decimals) {
+
+            try {
+                sum += Double.parseDouble(Strings.strip(value));
+            } catch (NumberFormatException nfe) {
+                sum--;
+            }
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public double doubleScan() {
+        double sum = 0;
+
+        for (var value : decimals) {
+            sum += Strings.toDouble(value, -1);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public int decimalJdk() {
+        int scale = 0;
+
+        for (var value : decimals) {
+
+            try {
+                scale += new BigDecimal(Strings.strip(value)).scale();
+            } catch (NumberFormatException nfe) {
+                scale--;
+            }
+        }
+
+        return scale;
+    }
+
+    @Benchmark
+    public int decimalScan() {
+        int scale = 0;
+
+        for (var value : decimals) {
+            var number = Strings.toBigDecimal(value, 0, value.length(), null);
+            scale += number != null ? number.scale() : -1;
+        }
+
+        return scale;
+    }
+}
@@ -0,0 +1,112 @@
+package mike.bootstrap.test.utilities.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import mike.bootstrap.utilities.nio.files.ByteLineFilter;
+import mike.bootstrap.utilities.nio.files.Resource;
+
+/**
+ * Compares the line filtering of a local file through {@code BufferedReader.lines()} with the
+ * mapped and parallel readers of {@link Resource}.
+ * <p>
+ * Run from the module directory after a test-compile:
+ * 
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=mike.bootstrap.test.utilities.benchmarks.ResourceLinesBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ResourceLinesBenchmark {
+
+    /** Number of lines of the generated file (1 detail line out of 10) */
+    @Param({ "1000000" })
+    private int lines;
+
+    private Path file;
+    private Resource resource;
+    private ByteLineFilter preFilter;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ResourceLinesBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.file = Files.createTempFile("bench-lines", ".dat");
+
+        try (var writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+
+            for (int i = 0; i < lines; i++) {
+                writer.write(i % 10 == 0 ? "DTL;" : "REC;");
+                writer.write(String.format("%010d;ACME CORPORATION;EUR;%012d;PARIS", i, i * 7L));
+                writer.newLine();
+            }
+        }
+
+        this.resource = Resource.of(file);
+        this.preFilter = ByteLineFilter.startsWith("DTL;", StandardCharsets.ISO_8859_1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long bufferedReaderLines() throws IOException {
+
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.ISO_8859_1)) {
+            return reader.lines().filter(l -> l.startsWith("DTL;")).count();
+        }
+    }
+
+    @Benchmark
+    public long mappedReadContent() throws IOException {
+        return resource.readContent(l -> l.startsWith("DTL;")).size();
+    }
+
+    @Benchmark
+    public long mappedPreFilter() throws IOException {
+        return resource.readContent(preFilter, l -> true).size();
+    }
+
+    @Benchmark
+    public long parallelOrdered() throws IOException {
+        return resource.parallelReader().preFilter(preFilter).collect(Collectors.counting());
+    }
+
+    @Benchmark
+    public long parallelUnordered() throws IOException {
+        return resource.parallelReader().unordered().preFilter(preFilter)
+                .collect(Collectors.counting());
+    }
+}
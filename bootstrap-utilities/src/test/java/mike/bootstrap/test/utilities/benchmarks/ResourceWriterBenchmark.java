@@ -0,0 +1,114 @@
+package mike.bootstrap.test.utilities.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import mike.bootstrap.utilities.nio.files.ResourceWriter;
+import mike.bootstrap.utilities.nio.files.ResourceWriter.Sync;
+
+/**
+ * Compares concurrent small appends (audit lines) to a shared file: one {@code Files.write} per
+ * line (open, write, close), a {@link ResourceWriter} without fsync, an fsync per append and the
+ * {@link ResourceWriter} group commit.
+ * <p>
+ * Run from the module directory after a test-compile:
+ * 
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=mike.bootstrap.test.utilities.benchmarks.ResourceWriterBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Threads(4)
+@Fork(1)
+public class ResourceWriterBenchmark {
+
+    private static final byte[] LINE = "2026-10-18T10:15:30.123 INFO user=mike action=login\n"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    private Path directory;
+    private Path file;
+    private ResourceWriter unsynced;
+    private ResourceWriter grouped;
+    private FileChannel channel;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ResourceWriterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("bench-writer");
+        this.file = directory.resolve("audit.log");
+        this.unsynced = ResourceWriter.append(directory.resolve("unsynced.log"), Sync.NONE);
+        this.grouped = ResourceWriter.append(directory.resolve("grouped.log"), Sync.GROUP_COMMIT);
+        this.channel = FileChannel.open(directory.resolve("synced.log"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        this.unsynced.close();
+        this.grouped.close();
+        this.channel.close();
+
+        try (var paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void filesWritePerLine() throws IOException {
+        Files.write(file, LINE, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Benchmark
+    public void writerUnsynced() throws IOException {
+        this.unsynced.append(LINE);
+    }
+
+    @Benchmark
+    public void fsyncPerAppend() throws IOException {
+
+        synchronized (this.channel) {
+            this.channel.write(ByteBuffer.wrap(LINE));
+            this.channel.force(false);
+        }
+    }
+
+    @Benchmark
+    public void writerGroupCommit() throws IOException {
+        this.grouped.append(LINE);
+    }
+}
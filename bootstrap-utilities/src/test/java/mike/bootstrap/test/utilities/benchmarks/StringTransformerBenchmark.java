@@ -0,0 +1,108 @@
+package mike.bootstrap.test.utilities.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import mike.bootstrap.utilities.helpers.StringTransformer;
+import mike.bootstrap.utilities.helpers.StringTransformer.Template;
+
+/**
+ * Compares the throughput of the output file names generation for a batch of files, with the
+ * regular expression API and with a compiled template (values by key, positional values, and
+ * two names rendered for the same file with the match cache).
+ * <p>
+ * Run from the module directory after a test-compile:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=mike.bootstrap.test.utilities.benchmarks.StringTransformerBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StringTransformerBenchmark {
+
+    private static final Pattern NAME_PATTERN = Pattern.compile(
+            "([A-Z0-9\\-]{1,15})?(?<prefix>[A-Z]{2,3})(?<name>_\\w{10,64})(?<ext>\\.[a-zA-Z\\.]{3,8})$");
+
+    private static final String EXPRESSION = "%type%${name}_%id%${ext}";
+
+    private static final Map<String, String> KEYS = Map.of("type", "FOO", "id", "01");
+
+    private String[] names;
+    private StringTransformer transformer;
+    private Template template;
+    private Template archive;
+    private int next;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(StringTransformerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    @Setup
+    public void setup() {
+        names = IntStream.range(0, 1024)
+                .mapToObj(i -> String.format("%03d-PFX_BAR_DATA_2022%04d.DAT.gz", i % 1000, i))
+                .toArray(String[]::new);
+
+        transformer = StringTransformer.of(NAME_PATTERN).cache(16);
+        template = transformer.template(EXPRESSION, "type", "id");
+        archive = transformer.template("archive/${prefix}/%id%${name}${ext}", "id");
+    }
+
+    private String name() {
+        return names[next++ & (names.length - 1)];
+    }
+
+    @Benchmark
+    public String expression() {
+        return transformer.expression(name(), EXPRESSION).replace(KEYS).get();
+    }
+
+    @Benchmark
+    public String templateMap() {
+        return template.render(name(), KEYS);
+    }
+
+    @Benchmark
+    public String templatePositional() {
+        return template.render(name(), "FOO", "01");
+    }
+
+    @Benchmark
+    public int expressionTwoNames() {
+        var name = name();
+
+        return transformer.expression(name, EXPRESSION).replace(KEYS).get().length()
+                + transformer.expression(name, "archive/${prefix}/%id%${name}${ext}")
+                        .replace("id", "01").get().length();
+    }
+
+    @Benchmark
+    public int templateTwoNames() {
+        var name = name();
+
+        return template.render(name, "FOO", "01").length() + archive.render(name, "01").length();
+    }
+}
@@ -0,0 +1,180 @@
+package mike.bootstrap.test.utilities.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import mike.bootstrap.utilities.helpers.StringNormalizer;
+import mike.bootstrap.utilities.helpers.StringValue;
+import mike.bootstrap.utilities.helpers.Strings;
+
+/**
+ * Compares the scanning implementation of {@link Strings#sanitize(String)},
+ * {@link Strings#shrink(String)} and {@link Strings#chomp(String)} with the regular expression
+ * replacement, on clean values (nothing to replace) and on dirty ones. The strip/chomp/sanitize
+ * pipeline is compared step by step, through {@link StringValue} and with a shared
+ * {@link StringNormalizer}.
+ * <p>
+ * Run from the module directory after a test-compile:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=mike.bootstrap.test.utilities.benchmarks.StringsBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StringsBenchmark {
+
+    @Param({ "clean", "dirty" })
+    private String content;
+
+    private String[] values;
+    private final StringBuilder out = new StringBuilder(256);
+    private final StringNormalizer normalizer = StringNormalizer.of().strip().chomp().sanitize();
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(StringsBenchmark.class.getSimpleName()).build())
+                .run();
+    }
+
+    @Setup
+    public void setup() {
+
+        if ("clean".equals(content)) {
+            values = new String[] { "ACME CORPORATION", "12 rue de la Paix", "75002",
+                    "Paris", "Customer account opened on 2026-10-18 by the back office" };
+        } else {
+            values = new String[] { "  ACME\tCORPORATION  ", "12  rue de  la Paix\r\n", " 75002 ",
+                    "Paris\n", "Customer account opened\non 2026-10-18\r\nby the   back office" };
+        }
+    }
+
+    @Benchmark
+    public int sanitizeRegex() {
+        int length = 0;
+
+        for (var value : values) {
+            length += Strings.REGEX_SPACES.matcher(value).replaceAll(" ").length();
+        }
+
+        return length;
+    }
+
+    @Benchmark
+    public int sanitizeScan() {
+        int length = 0;
+
+        for (var value : values) {
+            length += Strings.sanitize(value).length();
+        }
+
+        return length;
+    }
+
+    @Benchmark
+    public int sanitizeBuilder() {
+        int length = 0;
+
+        for (var value : values) {
+            out.setLength(0);
+            length += Strings.sanitize(value, " ", out).length();
+        }
+
+        return length;
+    }
+
+    @Benchmark
+    public int shrinkRegex() {
+        int length = 0;
+
+        for (var value : values) {
+            length += Strings.REGEX_SPACES.matcher(value).replaceAll("").length();
+        }
+
+        return length;
+    }
+
+    @Benchmark
+    public int shrinkScan() {
+        int length = 0;
+
+        for (var value : values) {
+            length += Strings.shrink(value).length();
+        }
+
+        return length;
+    }
+
+    @Benchmark
+    public int chompRegex() {
+        int length = 0;
+
+        for (var value : values) {
+            length += Strings.REGEX_LINE_FEED.matcher(value).replaceAll(" ").length();
+        }
+
+        return length;
+    }
+
+    @Benchmark
+    public int chompScan() {
+        int length = 0;
+
+        for (var value : values) {
+            length += Strings.chomp(value).length();
+        }
+
+        return length;
+    }
+
+    @Benchmark
+    public int pipelineSteps() {
+        int length = 0;
+
+        for (var value : values) {
+            length += Strings.sanitize(Strings.chomp(Strings.strip(value))).length();
+        }
+
+        return length;
+    }
+
+    @Benchmark
+    public int pipelineStringValue() {
+        int length = 0;
+
+        for (var value : values) {
+            length += StringValue.of(value).strip().chomp().sanitize().value().length();
+        }
+
+        return length;
+    }
+
+    @Benchmark
+    public int pipelineNormalizer() {
+        int length = 0;
+
+        for (var value : values) {
+            length += normalizer.normalize(value).length();
+        }
+
+        return length;
+    }
+}
@@ -0,0 +1,89 @@
+package mike.bootstrap.test.utilities.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import mike.bootstrap.utilities.helpers.LatencyHistogram;
+import mike.bootstrap.utilities.helpers.Stopwatch;
+import mike.bootstrap.utilities.helpers.Timer;
+
+/**
+ * Measures the overhead of timing a task: wall clock {@link Instant}/{@link Duration} (the
+ * previous {@link Timer} implementation), {@link Timer} facade and {@link Stopwatch} with and
+ * without histogram recording. Run with {@code -prof gc} to compare the allocations.
+ * <p>
+ * Run from the module directory after a test-compile:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=mike.bootstrap.test.utilities.benchmarks.TimerBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TimerBenchmark {
+
+    private final Instant start = Instant.now();
+    private final Timer timer = new Timer();
+    private final Stopwatch stopwatch = Stopwatch.start();
+    private final Stopwatch recorder = Stopwatch.start(LatencyHistogram.of());
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TimerBenchmark.class.getSimpleName()).build())
+                .run();
+    }
+
+    @Benchmark
+    public long splitWallClock() {
+        return Duration.between(start, Instant.now()).toNanos();
+    }
+
+    @Benchmark
+    public long splitTimer() {
+        return timer.split().toNanos();
+    }
+
+    @Benchmark
+    public long splitTimerNanos() {
+        return timer.splitNanos();
+    }
+
+    @Benchmark
+    public long splitStopwatch() {
+        return stopwatch.splitNanos();
+    }
+
+    @Benchmark
+    public long lapRecorded() {
+        return recorder.lap();
+    }
+
+    @Benchmark
+    public String elapsInSeconds() {
+        return timer.elapsInSeconds.get();
+    }
+
+    @Benchmark
+    public String elapsInSecondsFormat() {
+        return String.format("%.03f second(s)", Duration.between(start, Instant.now()).toMillis()
+                / 1000.);
+    }
+}
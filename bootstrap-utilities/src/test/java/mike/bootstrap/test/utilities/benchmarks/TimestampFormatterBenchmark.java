@@ -0,0 +1,79 @@
+package mike.bootstrap.test.utilities.benchmarks;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import mike.bootstrap.utilities.helpers.Dates;
+import mike.bootstrap.utilities.helpers.TimestampFormatter;
+
+/**
+ * Compares the current time formatting of {@link Dates} (cached {@link TimestampFormatter})
+ * with the {@link java.time.format.DateTimeFormatter} calls they replace, from several threads
+ * as logs do.
+ * <p>
+ * Run from the module directory after a test-compile:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=mike.bootstrap.test.utilities.benchmarks.TimestampFormatterBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Threads(4)
+@Fork(1)
+public class TimestampFormatterBenchmark {
+
+    private final TimestampFormatter timestamps = TimestampFormatter.of(Dates.LOG_DTTM_NANO);
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TimestampFormatterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    @Benchmark
+    public String zNowFormatter() {
+        return ZonedDateTime.now().format(Dates.ISO_DTTM_NANO_OFFSET);
+    }
+
+    @Benchmark
+    public String zNowCached() {
+        return Dates.zNow();
+    }
+
+    @Benchmark
+    public String epochFormatter() {
+        return Dates.ISO_DTTM_NANO_OFFSET.withZone(ZoneId.systemDefault())
+                .format(Instant.ofEpochMilli(System.currentTimeMillis()));
+    }
+
+    @Benchmark
+    public String epochCached() {
+        return Dates.format(System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public int logPrefixCached() {
+        var out = new StringBuilder(64);
+        return timestamps.formatTo(System.currentTimeMillis(), out).append(" - INFO").length();
+    }
+}
@@ -10,12 +10,14 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Date;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import mike.bootstrap.utilities.helpers.Dates;
 
@@ -137,4 +139,98 @@ class DatesTest {
             boolean expected) {
         assertThat(Dates.isValid(dateValue, defaultDateTimeFormatter)).isEqualTo(expected);
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "2026-10-18", "20261018", "2024-02-29", "2026-02-29", "2026-13-01",
+            "2026-1-01", "0000-01-01", "+12026-10-18", "20261018Z", "20261018+0200",
+            "2026-10-18T15:34", "2026-10-18t15:34:56", "2026-10-18T15:34:56.", "2026-10-18T24:00",
+            "2026-10-18T15:60", "2026-10-18T15:34:60", "2026-10-18T15:34:56.123456789",
+            "2026-10-18T15:34:56.1234567891", "2026-10-18T15:34:56.345+02:00",
+            "2026-10-18T15:34:56.345Z", "2026-10-18T15:34:56.345z", "2026-10-18T15:34:56.345+0200",
+            "2026-10-18T15:34:56.345+02:00:30", "2026-10-18T15:34:56.345+19:00",
+            "2026-10-18T24:00:00.000Z", "2026-10-18T15:34:56Z", "2026-10-18 15:34",
+            "0000-01-01T10:00:00.000+01:00", "2026-02-30T10:00:00.000+01:00",
+            "2026-04-31T10:00:00.000Z", "2026-02-32T10:00:00.000Z", "2026-13-30T10:00:00.000Z",
+            "+12026-10-18T15:34:56.345Z", "", "foo" })
+    void isValid_should_return_formatter_result_when_iso_value(String value) {
+
+        for (var formatter : new DateTimeFormatter[] { DateTimeFormatter.ISO_LOCAL_DATE,
+                DateTimeFormatter.BASIC_ISO_DATE, DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+                Dates.ISO_DTTM_NANO_OFFSET, defaultDateTimeFormatter }) {
+
+            assertThat(Dates.isValid(value, formatter)).as("%s with %s", value, formatter)
+                    .isEqualTo(DatesTest.isParsed(value, formatter));
+        }
+
+        assertThat(Dates.isValid(null, DateTimeFormatter.ISO_LOCAL_DATE)).isFalse();
+    }
+
+    @Test
+    void isValid_should_follow_pattern_resolution_when_offset_date_time() {
+
+        assertThat(Dates.isValid("0000-01-01T10:00:00.000+01:00", Dates.ISO_DTTM_NANO_OFFSET))
+                .isFalse();
+        var clamped = "2026-02-30T10:00:00.000+01:00";
+
+        assertThat(Dates.isValid(clamped, Dates.ISO_DTTM_NANO_OFFSET)).isTrue();
+        assertThat(LocalDate.from(Dates.ISO_DTTM_NANO_OFFSET.parse(clamped)))
+                .isEqualTo(LocalDate.of(2026, 2, 28));
+        assertThat(Dates.isValid("2026-02-32T10:00:00.000+01:00", Dates.ISO_DTTM_NANO_OFFSET))
+                .isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "2026-10-18T15:34:56.345", "2026-10-18T15:34", "2026-03-29T02:30",
+            "2026-03-29T01:59:59.999", "2026-10-25T02:30", "2026-10-25T03:00:00.001",
+            "1969-12-31T23:59:59.999", "0001-01-01T00:00", "9999-12-31T23:59:59.999999999",
+            "+12026-10-18T15:34" })
+    void toEpochMillis_should_return_jdk_result_when_local_date_time(String value) {
+        long expected = LocalDateTime.parse(value).atZone(ZoneId.systemDefault()).toInstant()
+                .toEpochMilli();
+
+        assertThat(Dates.toEpochMillis(value, 0, value.length(), -1)).isEqualTo(expected);
+        assertThat(Dates.toEpochMillis(("[" + value + "]").getBytes(), 1, value.length(), -1))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void toEpochMillis_should_return_instant_when_offset_date_time() {
+        var value = "2026-10-18T15:34:56.345+02:00";
+        var instant = Instant.parse("2026-10-18T13:34:56.345Z").toEpochMilli();
+
+        assertThat(Dates.toEpochMillis(value, 0, value.length(), -1)).isEqualTo(instant);
+        assertThat(Dates.toEpochMillis("2026-10-18T13:34:56.345Z", 0, 24, -1)).isEqualTo(instant);
+        assertThat(Dates.toEpochMillis("2026-10-18T13:34:56.345+00:00:00", 0, 32, -1))
+                .isEqualTo(instant);
+        assertThat(Dates.toEpochMillis("2026-10-18T15:34+02:00", 0, 22, -1))
+                .isEqualTo(instant - 56_345);
+        assertThat(Dates.toEpochMillis("20261018", 0, 8, -1)).isEqualTo(LocalDate.of(2026, 10, 18)
+                .atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        assertThat(Dates.toEpochMillis("2026-10-18T25:00", 0, 16, -1)).isEqualTo(-1);
+        assertThat(Dates.toEpochMillis("not a date", 0, 10, -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void toPackedDate_should_return_packed_date_when_iso_date() {
+
+        assertThat(Dates.toPackedDate("2026-10-18", 0, 10)).isEqualTo(20261018);
+        assertThat(Dates.toPackedDate("x20261018x".getBytes(), 1, 8)).isEqualTo(20261018);
+        assertThat(Dates.toPackedDate("20261018+0200", 0, 13)).isEqualTo(20261018);
+        assertThat(Dates.toPackedDate("+12026-10-18", 0, 12)).isEqualTo(120261018);
+        assertThat(Dates.toPackedDate("2026-02-29", 0, 10)).isEqualTo(-1);
+        assertThat(Dates.toPackedDate("2026/10/18", 0, 10)).isEqualTo(-1);
+        assertThat(Dates.toLocalDate(20261018)).isEqualTo(LocalDate.of(2026, 10, 18));
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private static boolean isParsed(String value, DateTimeFormatter formatter) {
+
+        try {
+            formatter.parse(value);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,110 @@
+package mike.bootstrap.test.utilities.helpers;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import mike.bootstrap.utilities.helpers.LatencyHistogram;
+import mike.bootstrap.utilities.helpers.Stopwatch;
+
+@DisplayName("Helpers::LatencyHistogram")
+class LatencyHistogramTest {
+
+    @Test
+    void should_return_percentiles_within_precision_when_recorded() {
+        var histogram = LatencyHistogram.of();
+        var random = new Random(42);
+        var values = new long[100_000];
+
+        for (int i = 0; i < values.length; i++) {
+            // Log-normal like latencies from ~1 µs to ~100 ms
+            values[i] = (long) Math.exp(7 + random.nextGaussian() * 2);
+            histogram.record(values[i]);
+        }
+
+        Arrays.sort(values);
+        var snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(values.length);
+        assertThat(snapshot.min()).isEqualTo(values[0]);
+        assertThat(snapshot.max()).isEqualTo(values[values.length - 1]);
+        assertThat(snapshot.sum()).isEqualTo(Arrays.stream(values).sum());
+
+        for (double percentile : new double[] { 50, 90, 99, 99.9 }) {
+            long expected = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+
+            assertThat(snapshot.percentile(percentile)).as("p%s", percentile)
+                    .isBetween(expected, expected + expected / 128 + 1);
+        }
+
+        assertThat(snapshot.p999()).isGreaterThanOrEqualTo(snapshot.p99())
+                .isGreaterThanOrEqualTo(snapshot.p50());
+    }
+
+    @Test
+    void should_merge_snapshots_when_same_precision() {
+        var first = LatencyHistogram.of(6);
+        var second = LatencyHistogram.of(6);
+
+        IntStream.rangeClosed(1, 100).forEach(first::record);
+        IntStream.rangeClosed(101, 200).forEach(second::record);
+        second.record(-5);
+
+        var merged = first.snapshot().merge(second.snapshot());
+
+        assertThat(merged.count()).isEqualTo(201);
+        assertThat(merged.min()).isZero();
+        assertThat(merged.max()).isEqualTo(200);
+        assertThat(merged.p50()).isBetween(100L, 100L + 100 / 32);
+        assertThat(LatencyHistogram.of(6).snapshot().merge(merged)).isSameAs(merged);
+        assertThat(LatencyHistogram.of(6).snapshot().p99()).isZero();
+        assertThatThrownBy(() -> merged.merge(LatencyHistogram.of().snapshot()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LatencyHistogram.of(1))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        first.reset();
+        assertThat(first.snapshot().count()).isZero();
+    }
+
+    @Test
+    void should_record_laps_when_stopwatch() {
+        var histogram = LatencyHistogram.of();
+        var stopwatch = Stopwatch.start(histogram);
+
+        var lap = stopwatch.lap();
+        stopwatch.checkPoint();
+        var elapsed = stopwatch.stop();
+
+        assertThat(stopwatch.isStopped()).isTrue();
+        assertThat(stopwatch.lap()).isZero();
+        assertThat(stopwatch.stop()).isEqualTo(elapsed).isEqualTo(stopwatch.elapsedNanos())
+                .isGreaterThanOrEqualTo(lap);
+        assertThat(histogram.snapshot().count()).isEqualTo(2);
+        assertThat(stopwatch.reset().isStopped()).isFalse();
+    }
+
+    @Test
+    void should_record_concurrently_when_shared() throws Exception {
+        var histogram = LatencyHistogram.of();
+
+        try (var executor = Executors.newFixedThreadPool(4)) {
+
+            for (int t = 0; t < 8; t++) {
+                executor.submit(() -> IntStream.range(0, 10_000).forEach(histogram::record));
+            }
+        }
+
+        var snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(80_000);
+        assertThat(snapshot.max()).isEqualTo(9_999);
+        assertThat(snapshot.mean()).isEqualTo(4_999.5);
+    }
+}
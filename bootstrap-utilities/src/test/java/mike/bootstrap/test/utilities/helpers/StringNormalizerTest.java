@@ -0,0 +1,95 @@
+package mike.bootstrap.test.utilities.helpers;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import mike.bootstrap.utilities.helpers.StringNormalizer;
+import mike.bootstrap.utilities.helpers.StringValue;
+import mike.bootstrap.utilities.helpers.Strings;
+
+@DisplayName("Helpers::StringNormalizer")
+class StringNormalizerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "   ", "foo", "My Value", "  My   Value    ", "\tMy\t\tValue\n",
+            "a\r\nb\nc\rd", "\r\n", " \r\n x \r", "x\u000B\fy", "\u2003x \u2003\ty\u2003" })
+    void should_return_sequential_result_when_fused(String value) {
+
+        assertThat(StringNormalizer.of().strip().chomp().sanitize().normalize(value))
+                .isEqualTo(Strings.sanitize(Strings.chomp(Strings.strip(value))));
+        assertThat(StringNormalizer.of().chomp().strip().shrink().normalize(value))
+                .isEqualTo(Strings.shrink(Strings.strip(Strings.chomp(value))));
+        assertThat(StringNormalizer.of().sanitize("-").strip().normalize(value))
+                .isEqualTo(Strings.strip(Strings.sanitize(value, "-")));
+        assertThat(StringValue.of(value).strip().chomp().sanitize().value())
+                .isEqualTo(Strings.sanitize(Strings.chomp(Strings.strip(value))));
+        assertThat(StringNormalizer.of().chomp().normalize(value, new StringBuilder(">")))
+                .hasToString(">" + Strings.chomp(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "foo", "My Value", "a b c" })
+    void should_return_same_instance_when_unchanged(String value) {
+        var normalizer = StringNormalizer.of().strip().chomp().sanitize();
+
+        assertThat(normalizer.normalize(value)).isSameAs(value);
+        assertThat(StringValue.of(value).strip().sanitize().value()).isSameAs(value);
+    }
+
+    @Test
+    void should_apply_operations_in_order_when_not_fusible() {
+
+        var normalizer = StringNormalizer.of().strip().blankAs("n/a").sanitize(Pattern.compile(
+                "[aeiou]"), "*").sanitize("$0$0");
+
+        assertThat(normalizer.normalize("   ")).isEqualTo("n/*");
+        assertThat(normalizer.normalize(" My  Value ")).isEqualTo("My    V*l**");
+        assertThat(normalizer.normalize(null)).isEqualTo("n/*");
+        assertThat(normalizer.normalize("x", new StringBuilder("> "))).hasToString("> x");
+
+        assertThat(StringValue.of("  ").strip().blankAs("default").value()).isEqualTo("default");
+        assertThat(StringValue.of(" a b ").strip().sanitize("_").shrink().value())
+                .isEqualTo("a_b");
+    }
+
+    @Test
+    void should_cache_value_when_computed() {
+        var value = StringValue.of("  My   Value ").strip().sanitize();
+
+        assertThat(value.value()).isEqualTo("My Value").isSameAs(value.value());
+        assertThat(value.shrink().value()).isEqualTo("MyValue");
+        assertThat(StringNormalizer.of().isEmpty()).isTrue();
+    }
+
+    @Test
+    void should_normalize_concurrently_when_shared() throws Exception {
+        var normalizer = StringNormalizer.of().strip().chomp().sanitize();
+
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            var futures = IntStream.range(0, 8).mapToObj(t -> executor.submit(() -> {
+
+                for (int i = 0; i < 10_000; i++) {
+                    var value = " field\r\n  " + i + "  ";
+
+                    if (!("field " + i).equals(normalizer.normalize(value))) {
+                        return false;
+                    }
+                }
+
+                return true;
+            })).toList();
+
+            for (var future : futures) {
+                assertThat(future.get()).isTrue();
+            }
+        }
+    }
+}
@@ -60,4 +60,48 @@ class StringTransformerTest {
 
         assertThat(newName).matches("FOO_BAR_DATA_20220612_01\\.DAT(\\.gz)?");
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "PFX_BAR_DATA_20220612.DAT.gz", "777-PFX_BAR_DATA_20220612.DAT.gz",
+            "100-530-000-PFX_BAR_DATA_20220612.DAT" })
+    void should_return_expression_result_when_template(String value) {
+        var transformer = StringTransformer.of(namePattern).cache(16);
+        var template = transformer.template("%type%${name}_%id%${ext}");
+        var expected = transformer.expression(value, "%type%${name}_%id%${ext}")
+                .replace(Map.of("type", "FOO", "id", "01")).get();
+
+        assertThat(template.keys()).containsExactly("type", "id");
+        assertThat(template.render(value, Map.of("type", "FOO", "id", "01"))).isEqualTo(expected);
+        assertThat(template.render(value, "FOO", "01")).isEqualTo(expected);
+        assertThat(transformer.template("%id%-%type%$2\\$", "type", "id").render(value, "A", "1"))
+                .isEqualTo(namePattern.matcher(value).replaceAll("1-A$2\\$"));
+    }
+
+    @Test
+    void should_throw_IllegalArgumentException_when_template_invalid() {
+        var transformer = StringTransformer.of(namePattern);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> transformer.template("%type%${name}_%id%", "type"))
+                .withMessage("undeclared key: id");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> transformer.template("%type%${unknown}"))
+                .withMessage("no group with name {unknown}");
+        assertThatIllegalArgumentException().isThrownBy(() -> transformer.template("%type${ext}"));
+        assertThatIllegalArgumentException().isThrownBy(() -> transformer.template("${name"));
+    }
+
+    @Test
+    void should_throw_exception_when_template_values_invalid() {
+        var template = StringTransformer.of(namePattern).template("%type%${name}%id%${ext}");
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> template.render("PFX_FOO_DATA_20220612.DAT", Map.of("id", "1")))
+                .withMessageStartingWith("remaining unresolved key(s): type");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> template.render("PFX_FOO_DATA_20220612.DAT", "FOO"));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> template.render("FOO", "FOO", "01"))
+                .withMessageStartingWith("value does not match pattern:");
+    }
 }
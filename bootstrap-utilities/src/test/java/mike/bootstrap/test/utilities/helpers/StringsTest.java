@@ -2,6 +2,9 @@ package mike.bootstrap.test.utilities.helpers;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.math.BigDecimal;
+import java.util.regex.Pattern;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -72,4 +75,123 @@ class StringsTest {
         assertThat(Strings.toLong(String.valueOf(val))).isEqualTo(val);
         assertThat(Strings.toLong(String.valueOf(val), -1)).isEqualTo(val);
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0", "-0", "+7", " 42 ", "\t-2147483648\n", "2147483647", "2147483648",
+            "-2147483649", "9223372036854775807", "-9223372036854775808", "9223372036854775808",
+            "-", "+", "1-", "1 2", "0x10", "1.0", "\u0661\u0662", "" })
+    void method_toLong_should_return_jdk_result_when_value(String value) {
+
+        assertThat(Strings.toLong(value, -1)).isEqualTo(StringsTest.jdkLong(value, -1));
+        assertThat(Strings.toInteger(value, -1)).isEqualTo((int) StringsTest.jdkInteger(value, -1));
+        assertThat(Strings.toLong("[" + value + "]", 1, value.length(), -1))
+                .isEqualTo(StringsTest.jdkLong(value, -1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0", "-0", "1", "-1.5", " 3.14159 ", "1.", ".5", "+.5e1", "1e-5",
+            "123456789012345", "1234567890123456789", "0.1", "1e22", "1e23", "4.9e-324", "1e400",
+            "NaN", "-Infinity", "1e", "e1", ".", "1..2", "1e+", "0x1p3", "1d", "" })
+    void method_toDouble_should_return_jdk_result_when_value(String value) {
+        Double parsed = StringsTest.jdkDouble(value);
+
+        assertThat((Double) Strings.toDouble(value, -1)).isEqualTo(parsed);
+        assertThat((Double) Strings.toDouble("<" + value + ">", 1, value.length(), -1))
+                .isEqualTo(parsed);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0", "-0.00", "12.50", " -3.14159 ", "1.", ".5", "+1.5e3", "1e-5",
+            "123456789012345678", "12345678901234567890.123", "1e99999999999", "NaN", "1e", "" })
+    void method_toBigDecimal_should_return_jdk_result_when_value(String value) {
+        var parsed = StringsTest.jdkDecimal(value);
+
+        assertThat(Strings.toBigDecimal(value, 0, value.length(), null)).isEqualTo(parsed);
+        assertThat(Strings.toBigDecimal(value)).isEqualTo(parsed != null ? parsed : BigDecimal.ZERO);
+    }
+
+    @Test
+    void method_toDouble_should_return_default_value_when_not_double() {
+
+        assertThat(Strings.toDouble(null)).isZero();
+        assertThat(Strings.toDouble(" ", -1)).isEqualTo(-1);
+        assertThat(Strings.toBigDecimal(null, BigDecimal.ONE)).isEqualTo(BigDecimal.ONE);
+        assertThatThrownBy(() -> Strings.toDouble("1", 1, 2, 0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", " ", "foo", "My Value", "  My   Value    ", "\tMy\t\tValue\n",
+            "a\r\nb\nc\rd", "\r\n", "x\u000B\fy", " a b c " })
+    void method_sanitize_should_return_regex_result_when_value(String value) {
+
+        assertThat(Strings.sanitize(value)).isEqualTo(value.replaceAll("\\s+", " "));
+        assertThat(Strings.sanitize(value, "-")).isEqualTo(value.replaceAll("\\s+", "-"));
+        assertThat(Strings.sanitize(value, "$0$0")).isEqualTo(value.replaceAll("\\s+", "$0$0"));
+        assertThat(Strings.shrink(value)).isEqualTo(value.replaceAll("\\s+", ""));
+        assertThat(Strings.chomp(value)).isEqualTo(value.replaceAll("\\r?\\n", " "));
+        assertThat(Strings.sanitize(value, Pattern.compile("\\s+"), "_"))
+                .isEqualTo(Strings.sanitize(value, Strings.REGEX_SPACES, "_"));
+
+        var out = new StringBuilder("> ");
+
+        assertThat(Strings.sanitize(value, " ", out)).hasToString("> " + Strings.sanitize(value));
+        assertThat(Strings.shrink(value, out.delete(0, out.length()))).hasToString(
+                Strings.shrink(value));
+        assertThat(Strings.chomp(value, out.delete(0, out.length()))).hasToString(
+                Strings.chomp(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "foo", "My Value", "a b c" })
+    void method_sanitize_should_return_same_instance_when_nothing_to_replace(String value) {
+        assertThat(Strings.sanitize(value)).isSameAs(value);
+        assertThat(Strings.chomp(value)).isSameAs(value);
+
+        var shrunk = value.replace(" ", "");
+        var doubled = value.replace(" ", "  ");
+
+        assertThat(Strings.shrink(shrunk)).isSameAs(shrunk);
+        assertThat(Strings.sanitize(doubled, "  ")).isSameAs(doubled);
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private static long jdkLong(String value, long defValue) {
+
+        try {
+            return Long.parseLong(value.strip());
+        } catch (NumberFormatException nfe) {
+            return defValue;
+        }
+    }
+
+    private static long jdkInteger(String value, int defValue) {
+
+        try {
+            return Integer.parseInt(value.strip());
+        } catch (NumberFormatException nfe) {
+            return defValue;
+        }
+    }
+
+    private static double jdkDouble(String value) {
+
+        try {
+            var strip = value.strip();
+            // Hexadecimal and type suffixes are not supported
+            return strip.matches(".*[xXpPdDfF]$|.*[xXpP].*") ? -1 : Double.parseDouble(strip);
+        } catch (NumberFormatException nfe) {
+            return -1;
+        }
+    }
+
+    private static BigDecimal jdkDecimal(String value) {
+
+        try {
+            return new BigDecimal(value.strip());
+        } catch (NumberFormatException nfe) {
+            return null;
+        }
+    }
 }
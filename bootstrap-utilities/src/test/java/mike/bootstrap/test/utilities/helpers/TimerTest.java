@@ -2,6 +2,7 @@ package mike.bootstrap.test.utilities.helpers;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
 import java.util.Locale;
 import java.util.regex.Pattern;
 
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import mike.bootstrap.utilities.helpers.LatencyHistogram;
 import mike.bootstrap.utilities.helpers.Timer;
 
 @DisplayName("Helpers::Timer")
@@ -62,4 +64,17 @@ class TimerTest {
         assertThat(tm.splitInSeconds.get()).matches(ELAPSED_PATTERN)
                 .startsWith(String.valueOf(split.getSeconds()));
     }
+
+    @Test
+    void should_record_duration_when_histogram() {
+        var histogram = LatencyHistogram.of();
+
+        for (int i = 0; i < 3; i++) {
+            var tm = new Timer(histogram);
+            assertThat(tm.stop()).isEqualTo(Duration.ofNanos(tm.elapsNanos()));
+        }
+
+        assertThat(histogram.snapshot().count()).isEqualTo(3);
+        assertThat(new Timer().elapsTime.get()).isEqualTo("00:00:00");
+    }
 }
@@ -0,0 +1,83 @@
+package mike.bootstrap.test.utilities.helpers;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import mike.bootstrap.utilities.helpers.Dates;
+import mike.bootstrap.utilities.helpers.TimestampFormatter;
+
+@DisplayName("Helpers::TimestampFormatter")
+class TimestampFormatterTest {
+
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+    @ParameterizedTest
+    @ValueSource(strings = { "yyyy-MM-dd HH:mm:ss.SSS", "yyyy-MM-dd'T'HH:mm:ss.SSSXXXXX",
+            "HH:mm:ss", "HH:mm:ss.SS", "SSS ss", "yyyyMMddHHmmssSSSSSS", "A" })
+    void should_return_formatter_result_when_time(String pattern) {
+        var formatter = DateTimeFormatter.ofPattern(pattern).withZone(PARIS);
+        var timestamps = TimestampFormatter.of(formatter);
+        // DST change (2026-10-25 03:00 CEST), epoch and before
+        var start = ZonedDateTime.of(2026, 10, 25, 2, 59, 58, 0, PARIS).toInstant().toEpochMilli();
+        var out = new StringBuilder();
+
+        for (long millis : new long[] { start, start + 999, start + 1000, start + 1001,
+                start + 3_600_999, start + 3_601_000, 0, -1, -999, -1001 }) {
+            var expected = formatter.format(Instant.ofEpochMilli(millis));
+
+            assertThat(timestamps.format(millis)).isEqualTo(expected);
+            assertThat(timestamps.formatTo(millis, out.delete(0, out.length()))).hasToString(expected);
+        }
+    }
+
+    @Test
+    void should_use_system_default_zone_when_not_zoned() {
+        var timestamps = TimestampFormatter.of("yyyy-MM-dd HH:mm:ss.SSS");
+        var millis = 1_760_000_000_123L;
+
+        assertThat(timestamps.formatter().getZone()).isEqualTo(ZoneId.systemDefault());
+        assertThat(timestamps.format(millis)).isEqualTo(Dates.LOG_DTTM_NANO.format(Instant
+                .ofEpochMilli(millis).atZone(ZoneId.systemDefault())));
+        assertThat(Dates.format(millis)).isEqualTo(Dates.format(Instant.ofEpochMilli(millis).atZone(
+                ZoneId.systemDefault())));
+        assertThat(timestamps.now()).hasSize(23);
+        assertThatThrownBy(() -> TimestampFormatter.of(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_format_concurrently_when_shared() throws Exception {
+        var formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(PARIS);
+        var timestamps = TimestampFormatter.of(formatter);
+
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            var futures = IntStream.range(0, 8).mapToObj(t -> executor.submit(() -> {
+
+                for (long millis = t * 1_000_003L; millis < t * 1_000_003L + 20_000; millis += 7) {
+
+                    if (!formatter.format(Instant.ofEpochMilli(millis))
+                            .equals(timestamps.format(millis))) {
+                        return false;
+                    }
+                }
+
+                return true;
+            })).toList();
+
+            for (var future : futures) {
+                assertThat(future.get()).isTrue();
+            }
+        }
+    }
+}
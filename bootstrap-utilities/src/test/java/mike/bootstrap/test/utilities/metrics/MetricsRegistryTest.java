@@ -0,0 +1,147 @@
+package mike.bootstrap.test.utilities.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import mike.bootstrap.utilities.metrics.MetricsRegistry;
+import mike.bootstrap.utilities.metrics.MetricsSnapshot;
+import mike.bootstrap.utilities.metrics.MetricsSnapshot.Type;
+import mike.bootstrap.utilities.metrics.PrometheusFormat;
+
+@DisplayName("Metrics::MetricsRegistry")
+class MetricsRegistryTest {
+
+    @Test
+    void should_return_same_metric_when_same_name_and_labels() {
+        var registry = MetricsRegistry.of();
+
+        var counter = registry.counter("jobs_total", "queue", "a", "kind", "x");
+
+        assertThat(registry.counter("jobs_total", "kind", "x", "queue", "a")).isSameAs(counter);
+        assertThat(registry.counter("jobs_total", "queue", "b", "kind", "x")).isNotSameAs(counter);
+        assertThat(registry.metrics()).hasSize(2);
+        assertThat(registry.remove("jobs_total", "queue", "b", "kind", "x")).isTrue();
+        assertThat(registry.metrics()).containsExactly(counter);
+    }
+
+    @Test
+    void should_throw_exception_when_invalid_registration() {
+        var registry = MetricsRegistry.of();
+        registry.counter("jobs_total");
+
+        assertThatIllegalArgumentException().isThrownBy(() -> registry.timer("jobs_total"));
+        assertThatIllegalArgumentException().isThrownBy(() -> registry.counter("jobs-total"));
+        assertThatIllegalArgumentException().isThrownBy(() -> registry.counter("jobs", "queue"));
+        assertThatIllegalArgumentException().isThrownBy(() -> registry.counter("jobs", "1q", "a"));
+        assertThatIllegalArgumentException().isThrownBy(() -> registry.counter("jobs", "q", null));
+        assertThatIllegalArgumentException().isThrownBy(() -> registry.counter("jobs_total").add(-1));
+        assertThatIllegalArgumentException().isThrownBy(() -> registry.gauge("size", null));
+    }
+
+    @Test
+    void should_throw_exception_when_name_used_by_another_type_with_other_labels() {
+        var registry = MetricsRegistry.of();
+        registry.counter("jobs_total");
+        registry.timer("jobs_seconds", "queue", "a");
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> registry.timer("jobs_total", "queue", "a"))
+                .withMessageContaining("jobs_total already registered as Counter");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> registry.gauge("jobs_total", () -> 1, "queue", "b"));
+        assertThatIllegalArgumentException().isThrownBy(() -> registry.counter("jobs_seconds"));
+
+        assertThat(registry.timer("jobs_seconds", "queue", "b")).isNotNull();
+        assertThat(registry.metrics()).hasSize(3);
+    }
+
+    @Test
+    void should_return_all_increments_when_concurrent_writers() throws Exception {
+        var registry = MetricsRegistry.of();
+        var counter = registry.counter("jobs_total");
+        var timer = registry.timer("jobs_seconds");
+
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            IntStream.range(0, 4).forEach(t -> executor.submit(() -> {
+                for (int i = 1; i <= 10_000; i++) {
+                    counter.increment();
+                    timer.record(i);
+                }
+            }));
+        }
+
+        var snapshot = registry.snapshot();
+
+        assertThat(snapshot.samples()).extracting(MetricsSnapshot.Sample::name)
+                .containsExactly("jobs_seconds", "jobs_total");
+        assertThat(snapshot.samples().get(1).value()).isEqualTo(40_000);
+        assertThat(snapshot.samples().get(0).type()).isEqualTo(Type.TIMER);
+        assertThat(snapshot.samples().get(0).histogram().count()).isEqualTo(40_000);
+        assertThat(snapshot.samples().get(0).histogram().max()).isEqualTo(10_000);
+    }
+
+    @Test
+    void should_return_prometheus_text_when_formatted() {
+        var registry = MetricsRegistry.of();
+        registry.counter("jobs_total", "queue", "a\"b\\c\nd").add(3);
+        registry.gauge("queue_size", () -> 1.5);
+        registry.gauge("broken", () -> {
+            throw new IllegalStateException();
+        });
+        var timer = registry.timer("jobs_seconds", "queue", "a");
+        timer.record(2_000_000_000L);
+        timer.record(2_000_000_000L);
+
+        var text = PrometheusFormat.format(registry.snapshot());
+
+        assertThat(text).isEqualTo("""
+                # TYPE broken gauge
+                broken NaN
+                # TYPE jobs_seconds summary
+                jobs_seconds{queue="a",quantile="0.5"} 2
+                jobs_seconds{queue="a",quantile="0.99"} 2
+                jobs_seconds{queue="a",quantile="0.999"} 2
+                jobs_seconds_sum{queue="a"} 4
+                jobs_seconds_count{queue="a"} 2
+                # TYPE jobs_total counter
+                jobs_total{queue="a\\"b\\\\c\\nd"} 3
+                # TYPE queue_size gauge
+                queue_size 1.5
+                """);
+    }
+
+    @Test
+    void should_export_snapshots_when_scheduled() throws Exception {
+        var registry = MetricsRegistry.of();
+        registry.counter("jobs_total").increment();
+        var latch = new CountDownLatch(2);
+        var exported = new AtomicReference<MetricsSnapshot>();
+
+        var future = registry.schedule(snapshot -> {
+            exported.set(snapshot);
+            latch.countDown();
+
+            if (latch.getCount() == 1) {
+                throw new IllegalStateException("export failure");
+            }
+        }, Duration.ofMillis(10));
+
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            future.cancel(false);
+        }
+
+        assertThat(exported.get().samples()).hasSize(1);
+        assertThat(registry.lastSnapshot()).isNotNull();
+    }
+}
@@ -0,0 +1,74 @@
+package mike.bootstrap.test.utilities.nio;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import mike.bootstrap.utilities.nio.files.CharsetDetector;
+
+@DisplayName("Nio::CharsetDetector")
+class CharsetDetectorTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "UTF-8", "UTF-16LE", "UTF-16BE", "UTF-32LE", "UTF-32BE" })
+    void should_return_bom_charset_when_sample_starts_with_bom(String charsetName) {
+
+        var charset = Charset.forName(charsetName);
+        var sample = "\uFEFFplain".getBytes(charset);
+
+        assertThat(CharsetDetector.bom(sample, sample.length)).isEqualTo(charset);
+        assertThat(CharsetDetector.detect(sample, sample.length, StandardCharsets.ISO_8859_1))
+                .isEqualTo(charset);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "UTF-16LE", "UTF-16BE" })
+    void should_return_utf16_when_sample_without_bom(String charsetName) {
+
+        var charset = Charset.forName(charsetName);
+        var sample = "REC;0001;ACME;Été".getBytes(charset);
+
+        assertThat(CharsetDetector.bom(sample, sample.length)).isNull();
+        assertThat(CharsetDetector.detect(sample, sample.length, StandardCharsets.ISO_8859_1))
+                .isEqualTo(charset);
+    }
+
+    @Test
+    void should_return_utf8_when_valid_multi_bytes_sequences() {
+
+        var sample = "café crème".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(CharsetDetector.detect(sample, sample.length, StandardCharsets.ISO_8859_1))
+                .isEqualTo(StandardCharsets.UTF_8);
+
+        // Sample truncated in the middle of the last sequence
+        var truncated = Arrays.copyOf(sample, sample.length - 1);
+
+        assertThat(CharsetDetector.detect(truncated, truncated.length, StandardCharsets.US_ASCII))
+                .isEqualTo(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void should_return_fallback_when_ascii_or_latin1_sample() {
+
+        var ascii = "plain ascii".getBytes(StandardCharsets.US_ASCII);
+        var latin1 = "café crème".getBytes(StandardCharsets.ISO_8859_1);
+        var empty = new byte[0];
+
+        assertThat(CharsetDetector.detect(ascii, ascii.length, StandardCharsets.ISO_8859_1))
+                .isEqualTo(StandardCharsets.ISO_8859_1);
+        assertThat(CharsetDetector.detect(latin1, latin1.length, StandardCharsets.ISO_8859_1))
+                .isEqualTo(StandardCharsets.ISO_8859_1);
+        assertThat(CharsetDetector.detect(empty, 0, StandardCharsets.US_ASCII))
+                .isEqualTo(StandardCharsets.US_ASCII);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> CharsetDetector.detect(ascii, ascii.length, null));
+    }
+}
@@ -0,0 +1,135 @@
+package mike.bootstrap.test.utilities.nio;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import mike.bootstrap.utilities.nio.files.CompressedWriter;
+import mike.bootstrap.utilities.nio.files.Compression;
+import mike.bootstrap.utilities.nio.files.Resource;
+
+@DisplayName("Nio::Compression")
+class CompressionTest {
+
+    private static final List<String> LINES = IntStream.range(0, 1000)
+            .mapToObj(i -> "line;" + i + ";café").toList();
+
+    private Path directory;
+
+    @BeforeEach
+    void init() throws IOException {
+        this.directory = Files.createTempDirectory("test-compression");
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+
+        Files.delete(directory);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Compression.class, names = { "NONE", "GZIP", "BZIP2" })
+    void should_read_decompressed_lines_when_compressed_file(Compression compression)
+            throws IOException {
+
+        var file = directory.resolve("data.txt." + compression.extension());
+
+        try (var writer = CompressedWriter.of(file, compression)) {
+            writer.writeLines(LINES, StandardCharsets.UTF_8);
+        }
+
+        var resource = Resource.of(file.toString(), StandardCharsets.UTF_8);
+
+        assertThat(resource.getCompression()).isEqualTo(compression);
+        assertThat(resource.readContent()).isEqualTo(LINES);
+        assertThat(resource.parallelReader().collect(Collectors.toList())).isEqualTo(LINES);
+        assertThat(resource.fold(0, (count, line) -> count + 1)).isEqualTo(LINES.size());
+
+        try (var is = resource.getContentStream()) {
+            assertThat(new String(is.readAllBytes(), StandardCharsets.UTF_8)).startsWith("line;0;");
+        }
+    }
+
+    @Test
+    void should_read_entries_when_zip_archive() throws IOException {
+
+        var file = directory.resolve("export.zip");
+
+        try (var writer = CompressedWriter.of(file)) {
+            assertThat(writer.compression()).isEqualTo(Compression.ZIP);
+            assertThatIllegalStateException().isThrownBy(writer::stream);
+
+            for (int i = 0; i < 10; i++) {
+                writer.entry("data-" + i + ".txt").writeLines(LINES.subList(0, i + 1),
+                        StandardCharsets.UTF_8);
+            }
+        }
+
+        var resource = Resource.of(file.toString(), StandardCharsets.UTF_8);
+        var expected = IntStream.range(0, 10).mapToObj(i -> "data-" + i + ".txt:" + (i + 1))
+                .toList();
+
+        assertThat(resource.getCompression()).isEqualTo(Compression.ZIP);
+        assertThat(resource.readEntries((name, is) -> name + ":" + countLines(is)))
+                .isEqualTo(expected);
+        assertThat(resource.readEntriesParallel((name, is) -> name + ":" + countLines(is)))
+                .isEqualTo(expected);
+
+        // First entry read as the resource content
+        assertThat(resource.readContent()).containsExactly(LINES.get(0));
+    }
+
+    @Test
+    void should_read_single_entry_when_not_an_archive() throws IOException {
+
+        var file = directory.resolve("my data.gz");
+
+        try (var writer = CompressedWriter.of(file)) {
+            writer.write("content".getBytes());
+            assertThatIllegalStateException().isThrownBy(() -> writer.entry("entry"));
+        }
+
+        var names = new ArrayList<String>();
+        var contents = Resource.of(file).readEntries((name, is) -> {
+            names.add(name);
+            return new String(is.readAllBytes());
+        });
+
+        assertThat(names).containsExactly("my data.gz");
+        assertThat(contents).containsExactly("content");
+    }
+
+    @Test
+    void should_return_compression_when_filename() {
+
+        assertThat(Compression.ofFilename("data.json.GZ")).isEqualTo(Compression.GZIP);
+        assertThat(Compression.ofFilename("data.zst")).isEqualTo(Compression.ZSTD);
+        assertThat(Compression.ofFilename("data.json")).isEqualTo(Compression.NONE);
+        assertThat(Compression.ofFilename("data")).isEqualTo(Compression.NONE);
+    }
+
+    private static long countLines(InputStream is) throws IOException {
+        return new String(is.readAllBytes(), StandardCharsets.UTF_8).lines().count();
+    }
+}
@@ -0,0 +1,168 @@
+package mike.bootstrap.test.utilities.nio;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import mike.bootstrap.utilities.nio.files.MimeDetector;
+import mike.bootstrap.utilities.nio.files.MimeType;
+
+@DisplayName("Nio::MimeDetector")
+class MimeDetectorTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void init() throws IOException {
+        this.directory = Files.createTempDirectory("test-mime");
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+
+        Files.delete(directory);
+    }
+
+    @Test
+    void should_return_cached_media_when_file_not_modified() throws IOException {
+
+        var file = Files.writeString(directory.resolve("data.txt"), "plain text");
+        var detector = MimeDetector.of();
+
+        assertThat(detector.resolve(file)).isEqualTo(MimeType.TEXT.media());
+        assertThat(detector.resolve(file)).isEqualTo(MimeType.TEXT.media());
+
+        var stats = detector.stats();
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.entries()).isEqualTo(1);
+    }
+
+    @Test
+    void should_detect_again_when_file_modified() throws IOException {
+
+        var file = directory.resolve("data");
+        Files.writeString(file, "plain text");
+
+        var detector = MimeDetector.of();
+        assertThat(detector.resolve(file)).isEqualTo(MimeType.TEXT.media());
+
+        try (var os = new GZIPOutputStream(Files.newOutputStream(file))) {
+            os.write("compressed text".getBytes());
+        }
+
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(10)));
+
+        assertThat(detector.resolve(file)).isEqualTo(MimeType.GZIP.media());
+        assertThat(detector.stats().misses()).isEqualTo(2);
+    }
+
+    @Test
+    void should_return_media_of_each_file_when_resolve_all() throws IOException {
+
+        var files = new ArrayList<Path>();
+
+        for (int i = 0; i < 20; i++) {
+            files.add(Files.writeString(directory.resolve("data-" + i + ".json"), "{}"));
+        }
+
+        files.add(directory.resolve("missing.txt"));
+
+        var detector = MimeDetector.of(10, 4);
+        var medias = detector.resolveAll(files);
+
+        assertThat(List.copyOf(medias.keySet())).isEqualTo(files);
+        assertThat(medias.get(files.get(0))).isEqualTo(MimeType.JSON.media());
+        assertThat(medias.get(directory.resolve("missing.txt"))).isEqualTo(MimeType.TEXT.media());
+        assertThat(detector.stats().entries()).isEqualTo(10);
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "'PK\u0003\u0004', archive, ZIP", "'PK\u0003\u0004', archive.zip, ZIP",
+            "%PDF-1.7, doc, PDF", "GIF89a, image, GIF", "BZh91AY, data, BZIP2",
+            "'<?xml version=\"1.0\"?><a/>', data, XML", "'  {\"id\": 1}', data, JSON",
+            "'[1, 2]', data, JSON", "'\uFEFF[\"a\"]', data, JSON" })
+    void should_return_mime_type_when_known_signature(String content, String name,
+            MimeType expected) throws IOException {
+
+        var file = Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(MimeType.detect(file)).isEqualTo(expected);
+        assertThat(MimeType.resolve(file)).isEqualTo(expected.media());
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "'[2026-10-18 12:00:00,123] INFO started', app.log, text/x-log",
+            "'[1] first note', notes.txt, text/plain", "'[\"a\",\"b\"]', data.csv, text/csv",
+            "'[1] first note', my notes.txt, text/plain",
+            "'<?xml version=\"1.0\"?><svg xmlns=\"http://www.w3.org/2000/svg\"/>', logo.svg, "
+                    + "image/svg+xml",
+            "'<?xml version=\"1.0\"?><html xmlns=\"http://www.w3.org/1999/xhtml\"/>', "
+                    + "page.xhtml, application/xhtml+xml",
+            "'{\"id\": 1}', data.json, application/json" })
+    void should_return_extension_media_when_text_signature(String content, String name,
+            String expected) throws IOException {
+
+        var file = Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(MimeType.resolve(file)).isEqualTo(expected);
+        assertThat(MimeDetector.of().resolve(file)).isEqualTo(expected);
+    }
+
+    @Test
+    void should_return_mime_type_when_binary_signature() throws IOException {
+
+        var png = Files.write(directory.resolve("image"),
+                new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0 });
+        var jpeg = Files.write(directory.resolve("photo"),
+                new byte[] { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0x10 });
+        var gzip = directory.resolve("data");
+
+        try (var os = new GZIPOutputStream(Files.newOutputStream(gzip))) {
+            os.write("compressed text".getBytes());
+        }
+
+        assertThat(MimeType.detect(png)).isEqualTo(MimeType.PNG);
+        assertThat(MimeType.detect(jpeg)).isEqualTo(MimeType.JPEG);
+        assertThat(MimeType.detect(gzip)).isEqualTo(MimeType.GZIP);
+    }
+
+    @Test
+    void should_fallback_to_tika_when_no_signature() throws IOException {
+
+        var text = Files.writeString(directory.resolve("data.txt"), "{ not json }");
+        var jar = Files.write(directory.resolve("library.jar"), "PK\u0003\u0004".getBytes());
+
+        assertThat(MimeType.detect(text)).isEqualTo(MimeType.TEXT);
+        assertThat(MimeType.resolve(jar)).isNotEqualTo(MimeType.ZIP.media());
+        assertThat(MimeType.ofMedia("application/x-unknown")).isEqualTo(MimeType.UNKOWN);
+    }
+
+    @Test
+    void should_throw_IllegalArgumentException_when_invalid_bounds() {
+
+        assertThatIllegalArgumentException().isThrownBy(() -> MimeDetector.of(0, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> MimeDetector.of(1, 0));
+    }
+}
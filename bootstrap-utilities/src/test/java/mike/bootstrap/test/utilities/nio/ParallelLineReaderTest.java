@@ -0,0 +1,109 @@
+package mike.bootstrap.test.utilities.nio;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import mike.bootstrap.utilities.nio.files.ByteLineFilter;
+import mike.bootstrap.utilities.nio.files.Resource;
+
+@DisplayName("Nio::ParallelLineReader")
+class ParallelLineReaderTest {
+
+    private static final String[] TERMINATORS = { "\n", "\r\n", "\r" };
+
+    private static Path file;
+    private static List<String> expected;
+
+    @BeforeAll
+    static void init() throws IOException {
+        expected = IntStream.range(0, 5000).mapToObj(i -> (i % 3 == 0 ? "DTL;" : "REC;") + i)
+                .toList();
+
+        var content = new StringBuilder();
+        IntStream.range(0, expected.size())
+                .forEach(i -> content.append(expected.get(i)).append(TERMINATORS[i % 3]));
+
+        file = Files.createTempFile("test-parallel", null);
+        Files.write(file, content.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    @AfterAll
+    static void cleanup() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 7, 64, 1024, 1024 * 1024 })
+    void should_return_lines_in_order_when_ordered(long chunkSize) throws IOException {
+
+        var pool = new ForkJoinPool(4);
+
+        var lines = Resource.of(file).parallelReader().pool(pool).chunkSize(chunkSize)
+                .collect(Collectors.toList());
+
+        assertThat(lines).isEqualTo(expected);
+
+        var consumed = new ArrayList<String>();
+        Resource.of(file).parallelReader().pool(pool).chunkSize(chunkSize).forEach(consumed::add);
+
+        assertThat(consumed).isEqualTo(expected);
+
+        pool.shutdown();
+    }
+
+    @Test
+    void should_return_all_filtered_lines_when_unordered() throws IOException {
+
+        var preFilter = ByteLineFilter.startsWith("DTL;", StandardCharsets.ISO_8859_1);
+        var expectedDetails = expected.stream().filter(l -> l.startsWith("DTL;"))
+                .filter(l -> !l.endsWith("0")).toList();
+
+        var consumed = new ConcurrentLinkedQueue<String>();
+        Resource.of(file).parallelReader().unordered().chunkSize(100).preFilter(preFilter)
+                .filter(l -> !l.endsWith("0")).forEach(consumed::add);
+
+        assertThat(consumed).containsExactlyInAnyOrderElementsOf(expectedDetails);
+
+        var grouped = Resource.of(file).parallelReader().unordered().chunkSize(100)
+                .collect(Collectors.groupingByConcurrent(l -> l.substring(0, 3),
+                        Collectors.counting()));
+
+        assertThat(grouped).containsEntry("DTL", 1667L).containsEntry("REC", 3333L);
+    }
+
+    @Test
+    void should_read_sequentially_when_classpath_resource() throws IOException {
+
+        var lines = Resource.of("data/my-test-properties.txt").parallelReader()
+                .filter(l -> l.startsWith("my.")).collect(Collectors.toList());
+
+        assertThat(lines).hasSize(8);
+    }
+
+    @Test
+    void should_throw_IllegalArgumentException_when_invalid_arguments() {
+
+        var reader = Resource.of(file).parallelReader();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> reader.chunkSize(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> reader.preFilter(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> reader.forEach(null));
+    }
+}
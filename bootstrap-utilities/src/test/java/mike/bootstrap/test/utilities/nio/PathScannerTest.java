@@ -0,0 +1,200 @@
+package mike.bootstrap.test.utilities.nio;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import mike.bootstrap.utilities.nio.files.MimeType;
+import mike.bootstrap.utilities.nio.files.PathScanner;
+import mike.bootstrap.utilities.nio.files.PathUtils;
+
+@DisplayName("Nio::PathScanner")
+class PathScannerTest {
+
+    private Path root;
+
+    @BeforeEach
+    void init() throws IOException {
+        this.root = Files.createTempDirectory("test-scan");
+
+        // root/{a.csv, b.json, sub/{c.csv, d.txt, deep/e.csv}, archives/f.csv}
+        Files.writeString(root.resolve("a.csv"), "a;b");
+        Files.writeString(root.resolve("b.json"), "{\"id\": 1}");
+        Files.createDirectories(root.resolve("sub/deep"));
+        Files.writeString(root.resolve("sub/c.csv"), "c;d;e;f;g;h");
+        Files.writeString(root.resolve("sub/d.txt"), "");
+        Files.writeString(root.resolve("sub/deep/e.csv"), "e");
+        Files.createDirectories(root.resolve("archives"));
+        Files.writeString(root.resolve("archives/f.csv"), "f");
+
+        Files.setLastModifiedTime(root.resolve("sub/c.csv"),
+                FileTime.from(Instant.parse("2020-01-01T00:00:00Z")));
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+
+        try (var paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void should_return_matching_files_when_patterns(boolean parallel) throws IOException {
+
+        assertThat(scan(PathUtils.scan(root), parallel)).containsExactlyInAnyOrder("a.csv",
+                "b.json", "sub/c.csv", "sub/d.txt", "sub/deep/e.csv", "archives/f.csv");
+
+        assertThat(scan(PathUtils.scan(root).include("*.csv").exclude("archives"), parallel))
+                .containsExactlyInAnyOrder("a.csv", "sub/c.csv", "sub/deep/e.csv");
+
+        assertThat(scan(PathUtils.scan(root).include("regex:sub/.*\\.(csv|txt)")
+                .exclude("deep/**"), parallel)).containsExactlyInAnyOrder("sub/c.csv", "sub/d.txt",
+                        "sub/deep/e.csv");
+
+        assertThat(scan(PathUtils.scan(root).include("sub/**").exclude("deep"), parallel))
+                .containsExactlyInAnyOrder("sub/c.csv", "sub/d.txt");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void should_return_files_up_to_max_depth_when_max_depth(boolean parallel) throws IOException {
+
+        assertThat(scan(PathUtils.scan(root).maxDepth(0), parallel)).isEmpty();
+        assertThat(scan(PathUtils.scan(root).maxDepth(1), parallel))
+                .containsExactlyInAnyOrder("a.csv", "b.json");
+        assertThat(scan(PathUtils.scan(root).maxDepth(2).include("*.csv"), parallel))
+                .containsExactlyInAnyOrder("a.csv", "sub/c.csv", "archives/f.csv");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void should_return_files_when_attribute_predicates(boolean parallel) throws IOException {
+
+        assertThat(scan(PathUtils.scan(root).minSize(2).maxSize(5), parallel))
+                .containsExactlyInAnyOrder("a.csv");
+
+        assertThat(scan(PathUtils.scan(root).modifiedBefore(Instant.parse("2021-01-01T00:00:00Z")),
+                parallel)).containsExactly("sub/c.csv");
+
+        assertThat(scan(PathUtils.scan(root).modifiedAfter(Instant.parse("2021-01-01T00:00:00Z"))
+                .include("*.csv"), parallel)).hasSize(3);
+
+        var gzip = root.resolve("sub/data");
+
+        try (var os = new GZIPOutputStream(Files.newOutputStream(gzip))) {
+            os.write("compressed".getBytes());
+        }
+
+        assertThat(scan(PathUtils.scan(root).mimeType(MimeType.GZIP, MimeType.JSON), parallel))
+                .containsExactlyInAnyOrder("b.json", "sub/data");
+    }
+
+    @Test
+    void should_return_attributes_when_stream() throws IOException {
+
+        try (var entries = PathUtils.scan(root).include("c.csv").pool(new ForkJoinPool(2))
+                .stream()) {
+            var entry = entries.findFirst().orElseThrow();
+
+            assertThat(entry.path()).isEqualTo(root.resolve("sub/c.csv"));
+            assertThat(entry.size()).isEqualTo(11);
+            assertThat(entry.lastModified()).isEqualTo(Instant.parse("2020-01-01T00:00:00Z"));
+        }
+    }
+
+    @Test
+    void should_stop_walk_when_stream_closed() throws IOException {
+
+        for (int i = 0; i < 100; i++) {
+            Files.writeString(root.resolve("sub/deep/file-" + i), "x");
+        }
+
+        try (var paths = PathUtils.scan(root).paths()) {
+            assertThat(paths.limit(3)).hasSize(3);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void should_skip_entries_when_removed_during_walk(boolean parallel) throws IOException {
+
+        for (int i = 0; i < 100; i++) {
+            Files.writeString(root.resolve("sub/deep/file-" + i), "x");
+        }
+
+        var removed = new AtomicBoolean();
+        var scanner = PathUtils.scan(root).include("file-*").filter(attrs -> {
+
+            if (removed.compareAndSet(false, true)) {
+                // Removed after the listing of the directories
+                try (var paths = Files.walk(root.resolve("sub"))) {
+                    for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                        Files.delete(path);
+                    }
+                } catch (IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+            }
+
+            return true;
+        });
+
+        assertThat(scan(scanner, parallel)).isNotEmpty().hasSizeLessThan(100);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void should_throw_exception_when_predicate_fails(boolean parallel) {
+        var scanner = PathUtils.scan(root).filter(attrs -> {
+            throw new IllegalStateException("predicate failure");
+        });
+
+        assertThatIllegalStateException().isThrownBy(() -> scan(scanner, parallel))
+                .withMessage("predicate failure");
+    }
+
+    @Test
+    void should_throw_exception_when_invalid_root() {
+
+        assertThatExceptionOfType(NotDirectoryException.class)
+                .isThrownBy(() -> PathUtils.scan(root.resolve("a.csv")).stream());
+        assertThatIOException().isThrownBy(() -> PathUtils.scan(root.resolve("missing")).stream());
+        assertThatIllegalArgumentException().isThrownBy(() -> PathUtils.scan(root).maxDepth(-1));
+        assertThatIllegalArgumentException().isThrownBy(() -> PathUtils.scan(root).include(" "));
+    }
+
+    private List<String> scan(PathScanner scanner, boolean parallel) {
+
+        if (!parallel) {
+            scanner.sequential();
+        }
+
+        try (var paths = scanner.paths()) {
+            return paths.map(p -> PathUtils.toUnixPath(root.relativize(p))).toList();
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+}
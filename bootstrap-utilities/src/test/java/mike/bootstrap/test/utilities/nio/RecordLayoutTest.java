@@ -0,0 +1,238 @@
+package mike.bootstrap.test.utilities.nio;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import mike.bootstrap.utilities.helpers.Offset;
+import mike.bootstrap.utilities.nio.files.FixedRecord;
+import mike.bootstrap.utilities.nio.files.RecordLayout;
+import mike.bootstrap.utilities.nio.files.Resource;
+
+@DisplayName("Nio::RecordLayout")
+class RecordLayoutTest {
+
+    private static final String[] TERMINATORS = { "\n", "\r\n", "\r" };
+
+    private static final int COUNT = 20_000;
+
+    private static Path directory;
+    private static List<String> records;
+
+    @BeforeAll
+    static void init() throws IOException {
+        directory = Files.createTempDirectory("test-records");
+        records = IntStream.range(0, COUNT).mapToObj(RecordLayoutTest::record).toList();
+    }
+
+    @AfterAll
+    static void cleanup() throws IOException {
+
+        try (var files = Files.list(directory)) {
+
+            for (var file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+
+        Files.delete(directory);
+    }
+
+    @Test
+    void should_extract_fields_when_record_wrapped() {
+
+        var record = layout(StandardCharsets.ISO_8859_1)
+                .wrap("DTL0000000042   -1234520261018".getBytes(StandardCharsets.ISO_8859_1));
+
+        assertThat(record.get("type")).isEqualTo("DTL");
+        assertThat(record.getRaw("account")).isEqualTo("0000000042");
+        assertThat(record.getLong("account")).isEqualTo(42L);
+        assertThat(record.getInt("amount")).isEqualTo(-12345);
+        assertThat(record.getDecimal("amount", 2)).isEqualTo(new BigDecimal("-123.45"));
+        assertThat(record.getDate("date")).isEqualTo(LocalDate.of(2026, 10, 18));
+        assertThat(record.getDate("date", DateTimeFormatter.BASIC_ISO_DATE))
+                .isEqualTo(LocalDate.of(2026, 10, 18));
+        assertThat(record.toMap()).containsExactly(entry("type", "DTL"),
+                entry("account", "0000000042"), entry("amount", "-12345"),
+                entry("date", "20261018"));
+    }
+
+    @Test
+    void should_return_default_values_when_fields_blank_or_invalid() {
+
+        var layout = layout(StandardCharsets.UTF_8);
+        var record = layout
+                .wrap("HDR00000000x1   12.5+ 20261332".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(record.getLong("account")).isZero();
+        assertThat(record.getLong("account", -1)).isEqualTo(-1L);
+        assertThat(record.getInt("amount")).isZero();
+        assertThat(record.getDecimal("amount", 2)).isEqualTo(new BigDecimal("12.5"));
+        assertThat(record.getDate("date")).isNull();
+
+        // Truncated record: the missing fields are blank
+        var truncated = layout.wrap("DTL12".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(truncated.get("account")).isEqualTo("12");
+        assertThat(truncated.isBlank("amount")).isTrue();
+        assertThat(truncated.get("amount")).isEmpty();
+        assertThat(truncated.getInt("amount", 7)).isEqualTo(7);
+        assertThat(truncated.getDecimal("amount", 2)).isNull();
+        assertThat(truncated.getDate("date")).isNull();
+    }
+
+    @Test
+    void should_fall_back_on_big_numbers_when_more_than_18_digits() {
+
+        var layout = RecordLayout.of(StandardCharsets.US_ASCII).field("value", 1, 22);
+
+        var big = layout.wrap("  1234567890123456789 ".getBytes(StandardCharsets.US_ASCII));
+        assertThat(big.getLong("value")).isEqualTo(1234567890123456789L);
+        assertThat(big.getDecimal("value", 4)).isEqualTo(new BigDecimal("123456789012345.6789"));
+
+        var overflow = layout.wrap("9999999999999999999999".getBytes(StandardCharsets.US_ASCII));
+        assertThat(overflow.getLong("value", -1)).isEqualTo(-1L);
+    }
+
+    @Test
+    void should_throw_exception_when_layout_invalid() {
+
+        var layout = layout(StandardCharsets.UTF_8);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> layout.field("type", 1, 2));
+        assertThatIllegalArgumentException().isThrownBy(() -> layout.recordLength(10));
+        assertThatIllegalArgumentException().isThrownBy(() -> layout.index("unknown"));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> layout.wrap("DTL".getBytes()).get("unknown"));
+    }
+
+    @Test
+    void should_read_lines_when_local_compressed_or_parallel() throws IOException {
+
+        var layout = layout(StandardCharsets.UTF_8);
+        var file = write("records.txt", StandardCharsets.UTF_8, true, false);
+        var compressed = write("records.txt.gz", StandardCharsets.UTF_8, true, true);
+
+        var expected = IntStream.range(0, COUNT).mapToObj(RecordLayoutTest::amount).toList();
+
+        for (var resource : List.of(Resource.of(file), Resource.of(compressed))) {
+            var amounts = new ArrayList<BigDecimal>();
+            layout.forEach(resource, r -> amounts.add(r.getDecimal("amount", 2)));
+
+            assertThat(amounts).as(resource.getName()).isEqualTo(expected);
+            assertThat(layout.map(resource, r -> r.getDecimal("amount", 2)))
+                    .as(resource.getName()).isEqualTo(expected);
+        }
+
+        var copies = layout.map(Resource.of(file), FixedRecord::copy);
+        assertThat(copies.get(COUNT - 1).getLong("account")).isEqualTo(COUNT - 1L);
+    }
+
+    @Test
+    void should_read_fixed_length_records_when_no_terminator() throws IOException {
+
+        var layout = layout(StandardCharsets.ISO_8859_1).recordLength(30);
+        var file = write("records.dat", StandardCharsets.ISO_8859_1, false, false);
+        var compressed = write("records.dat.gz", StandardCharsets.ISO_8859_1, false, true);
+
+        var expected = IntStream.range(0, COUNT).mapToObj(i -> (long) i).toList();
+
+        for (var resource : List.of(Resource.of(file), Resource.of(compressed))) {
+            var accounts = new ArrayList<Long>();
+            layout.forEach(resource, r -> accounts.add(r.getLong("account")));
+
+            assertThat(accounts).as(resource.getName()).isEqualTo(expected);
+            assertThat(layout.map(resource, r -> r.getLong("account"))).as(resource.getName())
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void should_map_fixed_length_records_when_chunk_size() throws IOException {
+
+        var file = write("chunks.dat", StandardCharsets.ISO_8859_1, false, false);
+        var expected = IntStream.range(0, COUNT).mapToObj(i -> (long) i).toList();
+
+        // Chunks of 1 record, 3 records (not aligned) and the whole file (capped)
+        for (long chunkSize : new long[] { 1, 95, Long.MAX_VALUE }) {
+            var layout = layout(StandardCharsets.ISO_8859_1).recordLength(30).chunkSize(chunkSize);
+
+            assertThat(layout.map(Resource.of(file), r -> r.getLong("account")))
+                    .as("chunk size: %d", chunkSize).isEqualTo(expected);
+        }
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> layout(StandardCharsets.ISO_8859_1).chunkSize(0));
+    }
+
+    @Test
+    void should_decode_fields_when_charset_not_ascii_compatible() throws IOException {
+
+        var ebcdic = Charset.forName("Cp1047");
+        var layout = layout(ebcdic).recordLength(30);
+        var file = write("records.ebcdic", ebcdic, false, false);
+
+        var records = layout.map(Resource.of(file), FixedRecord::copy);
+
+        assertThat(records).hasSize(COUNT);
+        assertThat(records.get(3).get("type")).isEqualTo("DTL");
+        assertThat(records.get(3).getLong("account")).isEqualTo(3L);
+        assertThat(records.get(3).getDecimal("amount", 2)).isEqualTo(amount(3));
+        assertThat(records.get(3).getDate("date")).isEqualTo(LocalDate.of(2026, 1, 4));
+    }
+
+    /* ****************************** PRIVATE METHODS ****************************** */
+
+    private static RecordLayout layout(Charset charset) {
+        return RecordLayout.of(charset).field("type", 1, 3).field("account", Offset.of(4, 10))
+                .field("amount", 14, 9).field("date", 23, 8);
+    }
+
+    private static String record(int i) {
+        var amount = String.format("%8d", Math.abs(i * 37 - 5000)) + (i * 37 < 5000 ? "-" : " ");
+        var date = LocalDate.of(2026, 1, 1).plusDays(i % 365)
+                .format(DateTimeFormatter.BASIC_ISO_DATE);
+
+        return (i % 3 == 0 ? "DTL" : "REC") + String.format("%010d", i) + amount + date;
+    }
+
+    private static BigDecimal amount(int i) {
+        return BigDecimal.valueOf(i * 37L - 5000, 2);
+    }
+
+    private static Path write(String name, Charset charset, boolean lines, boolean gzip)
+            throws IOException {
+        var file = directory.resolve(name);
+
+        try (OutputStream os = gzip ? new GZIPOutputStream(Files.newOutputStream(file))
+                : Files.newOutputStream(file)) {
+
+            for (int i = 0; i < records.size(); i++) {
+                os.write(records.get(i).getBytes(charset));
+
+                if (lines) {
+                    os.write(TERMINATORS[i % 3].getBytes(charset));
+                }
+            }
+        }
+
+        return file;
+    }
+}
@@ -0,0 +1,145 @@
+package mike.bootstrap.test.utilities.nio;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import mike.bootstrap.utilities.helpers.Timer;
+import mike.bootstrap.utilities.nio.files.ResourceCache;
+
+@DisplayName("Nio::ResourceCache")
+class ResourceCacheTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void init() throws IOException {
+        this.directory = Files.createTempDirectory("test-cache");
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+
+        Files.delete(directory);
+    }
+
+    @Test
+    void should_return_cached_content_when_classpath_resource() throws IOException {
+
+        try (var cache = ResourceCache.of("1mb")) {
+            var name = "data/my-test-properties.txt";
+
+            assertThat(cache.exists(name)).isTrue();
+            assertThat(cache.content(name)).isNotEmpty();
+            assertThat(cache.buffer(name).isReadOnly()).isTrue();
+            assertThat(cache.size(name)).isEqualTo(cache.content(name).length);
+
+            var stats = cache.stats();
+            assertThat(stats.misses()).isEqualTo(2);
+            assertThat(stats.hits()).isEqualTo(3);
+            assertThat(stats.entries()).isEqualTo(1);
+            assertThat(stats.bytes()).isEqualTo(cache.size(name));
+        }
+    }
+
+    @Test
+    void should_not_cache_when_resource_not_exists() throws IOException {
+
+        try (var cache = ResourceCache.of("1mb")) {
+            assertThat(cache.exists("./data/no-such-file.txt")).isFalse();
+            assertThatExceptionOfType(FileNotFoundException.class)
+                    .isThrownBy(() -> cache.content("./data/no-such-file.txt"));
+            assertThat(cache.stats().entries()).isZero();
+        }
+    }
+
+    @Test
+    void should_reload_content_when_local_file_modified() throws IOException {
+        var file = this.write("one.txt", "first");
+
+        try (var cache = ResourceCache.of("1mb")) {
+            var name = file.toString();
+
+            assertThat(cache.content(name)).asString().isEqualTo("first");
+            assertThat(cache.content(name)).asString().isEqualTo("first");
+
+            this.write("one.txt", "second");
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+
+            assertThat(cache.content(name)).asString().isEqualTo("second");
+            assertThat(cache.stats().hits()).isEqualTo(1);
+            assertThat(cache.stats().misses()).isEqualTo(2);
+
+            Files.delete(file);
+            assertThat(cache.exists(name)).isFalse();
+        }
+    }
+
+    @Test
+    void should_evict_least_recently_used_when_max_bytes_exceeded() throws IOException {
+        var one = this.write("one.txt", "1234567890").toString();
+        var two = this.write("two.txt", "1234567890").toString();
+        var three = this.write("three.txt", "1234567890").toString();
+
+        try (var cache = ResourceCache.of(25, 10)) {
+            cache.content(one);
+            cache.content(two);
+            cache.content(one);
+            cache.content(three);
+
+            var stats = cache.stats();
+            assertThat(stats.evictions()).isEqualTo(1);
+            assertThat(stats.entries()).isEqualTo(2);
+            assertThat(stats.bytes()).isEqualTo(20);
+
+            cache.content(one);
+            assertThat(cache.stats().hits()).isEqualTo(2);
+
+            cache.invalidateAll();
+            assertThat(cache.stats().entries()).isZero();
+            assertThat(cache.stats().bytes()).isZero();
+        }
+    }
+
+    @Test
+    void should_invalidate_content_when_watched_file_modified() throws IOException {
+        var file = this.write("watched.txt", "first");
+
+        try (var cache = ResourceCache.of("1mb").watch()) {
+            var name = file.toString();
+
+            assertThat(cache.content(name)).asString().isEqualTo("first");
+
+            this.write("watched.txt", "second");
+
+            var tm = new Timer();
+
+            while (cache.stats().entries() > 0 && tm.elaps().toSeconds() < 10) {
+                Thread.onSpinWait();
+            }
+
+            assertThat(cache.content(name)).asString().isEqualTo("second");
+        }
+    }
+
+    private Path write(String basename, String content) throws IOException {
+        return Files.write(directory.resolve(basename), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,16 +2,32 @@ package mike.bootstrap.test.utilities.nio;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import mike.bootstrap.utilities.nio.files.ByteLineFilter;
 import mike.bootstrap.utilities.nio.files.Resource;
 
 @DisplayName("Nio::Resource")
@@ -57,6 +73,33 @@ class ResourceTest {
 
             assertThat(resource).hasToString(name);
         }
+
+        @Test
+        void should_return_filtered_content_when_classpath_resource_with_pre_filter()
+                throws Exception {
+
+            Resource resource = Resource.of("data/my-test-properties.txt");
+
+            var preFilter = ByteLineFilter.startsWith("my.tab", StandardCharsets.ISO_8859_1);
+
+            assertThat(resource.readContent(preFilter, l -> true)).hasSize(3)
+                    .allMatch(l -> l.startsWith("my.tab"));
+        }
+
+        @Test
+        void should_consume_lines_when_classpath_resource() throws Exception {
+
+            Resource resource = Resource.of("data/my-test-properties.txt");
+            var expected = resource.readContent();
+
+            var lines = new ArrayList<String>();
+            resource.forEachLine(l -> lines.add(l.toString()));
+
+            assertThat(lines).isEqualTo(expected);
+            assertThat(resource.fold(0, (count, l) -> count + 1)).isEqualTo(12);
+            assertThat(resource.collect(Collectors.filtering(l -> l.length() > 0
+                    && l.charAt(0) == 'm', Collectors.counting()))).isEqualTo(8);
+        }
     }
 
     @Nested
@@ -94,5 +137,182 @@ class ResourceTest {
             assertThat(resource.getURL()).isNotNull();
             assertThat(resource.getProperties()).isNotEmpty();
         }
+
+        @Test
+        void should_throw_IOException_when_filesystem_resource_deleted_before_read()
+                throws IOException {
+
+            Path tempTestFile = Files.createTempFile("test-file", null);
+            Files.write(tempTestFile, "one\ntwo".getBytes());
+
+            Resource resource = Resource.of(tempTestFile);
+            Files.delete(tempTestFile);
+
+            try (var reader = resource.streamReader(l -> true)) {
+                assertThatThrownBy(reader::lines).isInstanceOf(NoSuchFileException.class);
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "", "\n", "one", "one\n", "one\r\ntwo\rthree\nfour",
+                "\n\none\r\r\n", "one\r", "é à\n\u00ff" })
+        void should_return_same_lines_as_buffered_reader_when_filesystem_resource(String content)
+                throws IOException {
+
+            Path tempTestFile = Files.createTempFile("test-file", null);
+            Files.write(tempTestFile, content.getBytes(StandardCharsets.ISO_8859_1));
+
+            var expected = new BufferedReader(new StringReader(content)).lines().toList();
+
+            assertThat(Resource.of(tempTestFile).readContent()).isEqualTo(expected);
+
+            Files.delete(tempTestFile);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "", "\n", "one", "one\r\ntwo\rthree\nfour", "\n\none\r\r\n",
+                "é à\n\u00ff" })
+        void should_consume_lines_when_filesystem_resource(String content) throws IOException {
+
+            Path tempTestFile = Files.createTempFile("test-file", null);
+            Files.write(tempTestFile, content.getBytes(StandardCharsets.ISO_8859_1));
+
+            var resource = Resource.of(tempTestFile);
+            var expected = new BufferedReader(new StringReader(content)).lines().toList();
+
+            var lines = new ArrayList<String>();
+            var instances = Collections.newSetFromMap(new IdentityHashMap<CharSequence, Boolean>());
+
+            resource.forEachLine(l -> {
+                lines.add(l.toString());
+                instances.add(l);
+            });
+
+            assertThat(lines).isEqualTo(expected);
+            assertThat(instances).hasSizeLessThanOrEqualTo(1);
+
+            assertThat(resource.fold(0, (length, l) -> length + l.length()))
+                    .isEqualTo(expected.stream().mapToInt(String::length).sum());
+
+            assertThat(resource.collect(Collectors.mapping(CharSequence::toString,
+                    Collectors.toList()))).isEqualTo(expected);
+
+            Files.delete(tempTestFile);
+        }
+
+        @Test
+        void should_decode_only_accepted_lines_when_filesystem_resource_with_pre_filter()
+                throws IOException {
+
+            Path tempTestFile = Files.createTempFile("test-file", null);
+            Files.write(tempTestFile,
+                    "HDR;1\nDTL;foo\r\n\n   \nDTL;bar\nTRL;2".getBytes(StandardCharsets.ISO_8859_1));
+
+            var resource = Resource.of(tempTestFile);
+            var charset = StandardCharsets.ISO_8859_1;
+
+            assertThat(resource.readContent(ByteLineFilter.startsWith("DTL;", charset), l -> true))
+                    .containsExactly("DTL;foo", "DTL;bar");
+
+            assertThat(resource.readContent(ByteLineFilter.contains("ar", charset), l -> true))
+                    .containsExactly("DTL;bar");
+
+            assertThat(resource.readContent(ByteLineFilter.notBlank(), l -> !l.startsWith("H")))
+                    .containsExactly("DTL;foo", "DTL;bar", "TRL;2");
+
+            assertThat(resource.readContent(ByteLineFilter.notBlank().negate(), l -> true))
+                    .containsExactly("", "   ");
+
+            Files.delete(tempTestFile);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "UTF-8", "UTF-16LE", "UTF-16BE" })
+        void should_return_decoded_lines_when_filesystem_resource_with_detected_charset(
+                String charsetName) throws IOException {
+
+            var charset = Charset.forName(charsetName);
+            var content = "\uFEFFcafé;crème\r\nÉté\nplain ascii";
+
+            Path tempTestFile = Files.createTempFile("test-file", null);
+            Files.write(tempTestFile, content.getBytes(charset));
+
+            var resource = Resource.of(tempTestFile).withDetectedCharset();
+            var expected = List.of("café;crème", "Été", "plain ascii");
+
+            assertThat(resource.getCharset()).isEqualTo(charset);
+            assertThat(resource.readContent()).isEqualTo(expected);
+            assertThat(resource.parallelReader().collect(Collectors.toList())).isEqualTo(expected);
+            assertThat(resource.collect(Collectors.mapping(CharSequence::toString,
+                    Collectors.toList()))).isEqualTo(expected);
+
+            Files.delete(tempTestFile);
+        }
+
+        @Test
+        void should_keep_same_resource_when_same_charset() throws IOException {
+
+            Path tempTestFile = Files.createTempFile("test-file", null);
+            Files.write(tempTestFile, "plain ascii".getBytes(StandardCharsets.US_ASCII));
+
+            var resource = Resource.of(tempTestFile);
+
+            assertThat(resource.getCharset()).isEqualTo(StandardCharsets.ISO_8859_1);
+            assertThat(resource.withDetectedCharset()).isSameAs(resource);
+            assertThat(resource.withCharset(StandardCharsets.UTF_8).getName())
+                    .isEqualTo(resource.getName());
+            assertThatIllegalArgumentException().isThrownBy(() -> resource.withCharset(null));
+
+            Files.delete(tempTestFile);
+        }
+    }
+
+    @Nested
+    @DisplayName("Async-Resources")
+    class AsyncResources {
+
+        @Test
+        void should_return_content_when_async_classpath_resource() throws Exception {
+
+            var resource = Resource.of("data/my-test-properties.txt");
+            Predicate<String> propFilter = l -> !l.isBlank() && !l.startsWith("#");
+
+            assertThat(resource.readAllAsync().get()).isEqualTo(resource.readAllBytes());
+            assertThat(resource.readContentAsync(propFilter).get()).hasSize(8);
+            assertThat(resource.getPropertiesAsync().get()).hasSize(8);
+        }
+
+        @Test
+        void should_return_content_when_async_filesystem_resource() throws Exception {
+
+            Path tempTestFile = Files.createTempFile("test-file", null);
+            var content = "my.prop=value\n".repeat(10_000).getBytes(StandardCharsets.ISO_8859_1);
+            Files.write(tempTestFile, content);
+
+            var resource = Resource.of(tempTestFile);
+
+            try (var executor = Executors.newFixedThreadPool(2)) {
+                assertThat(resource.readAllAsync(executor).get()).isEqualTo(content);
+                assertThat(resource.readContentAsync(l -> true, executor).get()).hasSize(10_000);
+            }
+
+            assertThat(resource.readAllAsync().get()).isEqualTo(content);
+            assertThat(resource.getPropertiesAsync().get()).containsEntry("my.prop", "value");
+
+            Files.delete(tempTestFile);
+        }
+
+        @Test
+        void should_complete_exceptionally_when_async_resource_not_exists() {
+
+            var resource = Resource.of("not-exists.txt");
+
+            assertThatThrownBy(() -> resource.readAllAsync().get())
+                    .isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IOException.class);
+            assertThatThrownBy(() -> resource.readContentAsync(l -> true).join())
+                    .isInstanceOf(CompletionException.class).hasCauseInstanceOf(IOException.class);
+            assertThat(resource.getPropertiesAsync().join()).isEmpty();
+            assertThatIllegalArgumentException().isThrownBy(() -> resource.readAllAsync(null));
+        }
     }
 }
@@ -0,0 +1,164 @@
+package mike.bootstrap.test.utilities.nio;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import mike.bootstrap.utilities.nio.files.ResourceWatcher;
+import mike.bootstrap.utilities.nio.files.ResourceWatcher.Change;
+import mike.bootstrap.utilities.nio.files.ResourceWatcher.Change.Kind;
+
+@DisplayName("Nio::ResourceWatcher")
+class ResourceWatcherTest {
+
+    private final BlockingQueue<List<Change>> batches = new LinkedBlockingQueue<>();
+
+    private Path root;
+    private ResourceWatcher watcher;
+
+    @BeforeEach
+    void init() throws IOException {
+        this.root = Files.createTempDirectory("test-watch");
+        Files.writeString(root.resolve("existing.csv"), "a;b");
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+
+        if (watcher != null) {
+            watcher.close();
+        }
+
+        try (var paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void should_notify_changes_when_files_changed(boolean polling) throws Exception {
+        this.start(ResourceWatcher.of(root).include("*.csv"), polling);
+
+        assertThat(watcher.isPolled(root)).isEqualTo(polling);
+
+        Files.writeString(root.resolve("new.csv"), "c;d");
+        Files.writeString(root.resolve("ignored.txt"), "e");
+
+        assertThat(this.next()).containsExactly(new Change(root.resolve("new.csv"), Kind.CREATED));
+
+        // Distinct modification time (coarse file system timestamps)
+        Files.writeString(root.resolve("existing.csv"), "a;b;c");
+        Files.setLastModifiedTime(root.resolve("existing.csv"),
+                FileTime.from(Instant.now().plusSeconds(10)));
+        Files.delete(root.resolve("new.csv"));
+
+        assertThat(this.next()).containsExactlyInAnyOrder(
+                new Change(root.resolve("existing.csv"), Kind.MODIFIED),
+                new Change(root.resolve("new.csv"), Kind.DELETED));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void should_coalesce_changes_when_debounced(boolean polling) throws Exception {
+        this.start(ResourceWatcher.of(root).debounce(Duration.ofMillis(300)), polling);
+
+        Files.writeString(root.resolve("temp.csv"), "temporary");
+        Files.delete(root.resolve("temp.csv"));
+        Files.writeString(root.resolve("new.csv"), "c");
+        Files.writeString(root.resolve("new.csv"), "c;d;e");
+
+        var changes = new ArrayList<Change>();
+
+        // A poll may happen between the creation and the update of the file
+        while (changes.isEmpty() || changes.get(changes.size() - 1).kind() != Kind.CREATED) {
+            changes.addAll(this.next());
+        }
+
+        assertThat(changes).containsExactly(new Change(root.resolve("new.csv"), Kind.CREATED));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void should_notify_sub_directory_changes_when_recursive(boolean polling) throws Exception {
+        this.start(ResourceWatcher.of(root).recursive().exclude("archives"), polling);
+
+        Files.createDirectories(root.resolve("sub/deep"));
+        Files.writeString(root.resolve("sub/deep/new.csv"), "c");
+        Files.createDirectories(root.resolve("archives"));
+        Files.writeString(root.resolve("archives/old.csv"), "d");
+
+        assertThat(this.next())
+                .containsExactly(new Change(root.resolve("sub/deep/new.csv"), Kind.CREATED));
+
+        Files.delete(root.resolve("sub/deep/new.csv"));
+        Files.delete(root.resolve("sub/deep"));
+
+        assertThat(this.next())
+                .containsExactly(new Change(root.resolve("sub/deep/new.csv"), Kind.DELETED));
+    }
+
+    @Test
+    void should_deliver_pending_changes_when_closed() throws Exception {
+        this.start(ResourceWatcher.of(root).debounce(Duration.ofMinutes(1)), false);
+
+        Files.writeString(root.resolve("new.csv"), "c");
+        Thread.sleep(200);
+        watcher.close();
+
+        assertThat(this.next()).containsExactly(new Change(root.resolve("new.csv"), Kind.CREATED));
+        assertThat(watcher.isRunning()).isFalse();
+    }
+
+    @Test
+    void should_throw_exception_when_invalid_configuration() throws IOException {
+        assertThatIllegalArgumentException().isThrownBy(() -> ResourceWatcher.of());
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ResourceWatcher.of(root).pollInterval(Duration.ZERO));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ResourceWatcher.of(root).debounce(Duration.ofMillis(-1)));
+        assertThatExceptionOfType(NotDirectoryException.class)
+                .isThrownBy(() -> ResourceWatcher.of(root.resolve("existing.csv")).start());
+
+        this.start(ResourceWatcher.of(root), false);
+
+        assertThatIllegalStateException().isThrownBy(() -> watcher.recursive());
+        assertThatIllegalStateException().isThrownBy(() -> watcher.start());
+    }
+
+    private void start(ResourceWatcher resourceWatcher, boolean polling) throws IOException {
+
+        if (polling) {
+            resourceWatcher.polling();
+        }
+
+        this.watcher = resourceWatcher.pollInterval(Duration.ofMillis(50)).listener(batches::add)
+                .start();
+    }
+
+    private List<Change> next() throws InterruptedException {
+        var changes = batches.poll(10, TimeUnit.SECONDS);
+        assertThat(changes).as("no such changes notified").isNotNull();
+        return changes;
+    }
+}
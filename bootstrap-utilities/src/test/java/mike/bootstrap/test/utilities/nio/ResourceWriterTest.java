@@ -0,0 +1,184 @@
+package mike.bootstrap.test.utilities.nio;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import mike.bootstrap.utilities.nio.files.ResourceWriter;
+import mike.bootstrap.utilities.nio.files.ResourceWriter.Sync;
+
+@DisplayName("Nio::ResourceWriter")
+class ResourceWriterTest {
+
+    private Path directory;
+    private Path file;
+
+    @BeforeEach
+    void init() throws IOException {
+        this.directory = Files.createTempDirectory("test-writer");
+        this.file = directory.resolve("data.csv");
+        Files.writeString(file, "previous");
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+
+        try (var paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Sync.class)
+    void should_replace_content_when_committed(Sync sync) throws IOException {
+
+        try (var writer = ResourceWriter.atomic(file, sync)) {
+            writer.appendLine("a;b", StandardCharsets.UTF_8).append("é", StandardCharsets.UTF_8);
+
+            assertThat(file).hasContent("previous");
+            assertThat(this.files()).hasSize(2);
+
+            writer.commit();
+
+            assertThat(writer.isCommitted()).isTrue();
+            assertThat(writer.size()).isEqualTo(5 + System.lineSeparator().length());
+        }
+
+        assertThat(Files.readString(file)).isEqualTo("a;b" + System.lineSeparator() + "é");
+        assertThat(this.files()).containsExactly(file);
+
+        ResourceWriter.write(file, List.of("c", "d"), StandardCharsets.UTF_8);
+        assertThat(Files.readAllLines(file)).containsExactly("c", "d");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "UTF-16", "UTF-16LE", "UTF-32", "ISO-8859-1" })
+    void should_encode_line_separator_when_charset(String name) throws IOException {
+        var charset = Charset.forName(name);
+
+        try (var writer = ResourceWriter.atomic(file)) {
+            writer.appendLine("a", charset).append("b", charset).append("c", charset);
+            writer.commit();
+        }
+
+        // No byte order mark: big-endian for UTF-16
+        var expected = ("a" + System.lineSeparator() + "bc").getBytes(
+                charset.equals(StandardCharsets.UTF_16) ? StandardCharsets.UTF_16BE : charset);
+
+        assertThat(Files.readAllBytes(file)).isEqualTo(expected);
+        assertThat(Files.readString(file, charset)).isEqualTo("a" + System.lineSeparator() + "bc");
+    }
+
+    @Test
+    void should_keep_previous_content_when_not_committed() throws IOException {
+
+        assertThatIllegalStateException().isThrownBy(() -> {
+            try (var writer = ResourceWriter.atomic(file)) {
+                writer.append("partial".getBytes());
+                throw new IllegalStateException("failure");
+            }
+        });
+
+        assertThat(file).hasContent("previous");
+        assertThat(this.files()).containsExactly(file);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Sync.class)
+    void should_append_content_when_append_writer(Sync sync) throws IOException {
+        var large = new byte[200_000];
+        var header = ByteBuffer.wrap("header".getBytes());
+
+        try (var writer = ResourceWriter.append(file, sync)) {
+            writer.append(";small".getBytes()).append(header, ByteBuffer.wrap(large));
+            writer.append(large, 0, 10);
+            writer.flush();
+
+            assertThat(Files.size(file)).isEqualTo(8 + 6 + 6 + 200_010);
+        }
+
+        var content = Files.readAllBytes(file);
+
+        assertThat(new String(content, 0, 20)).isEqualTo("previous;smallheader");
+        assertThat(content).hasSize(200_030);
+        assertThat(ResourceWriter.append(directory.resolve("new.csv")).path())
+                .exists().hasParent(directory);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Sync.class, names = { "NONE", "GROUP_COMMIT" })
+    void should_not_interleave_lines_when_concurrent_writers(Sync sync) throws Exception {
+        var target = directory.resolve("audit.log");
+        var tasks = new ArrayList<Callable<Void>>();
+
+        try (var writer = ResourceWriter.append(target, sync);
+                var executor = Executors.newFixedThreadPool(8)) {
+
+            for (int t = 0; t < 8; t++) {
+                var line = String.valueOf((char) ('a' + t)).repeat(50);
+
+                tasks.add(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        writer.appendLine(line, StandardCharsets.US_ASCII);
+                    }
+
+                    return null;
+                });
+            }
+
+            for (var future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        }
+
+        var lines = Files.readAllLines(target);
+
+        assertThat(lines).hasSize(4000).allMatch(l -> l.length() == 50 && l.chars().distinct()
+                .count() == 1);
+        assertThat(IntStream.range(0, 8).mapToLong(t -> lines.stream()
+                .filter(l -> l.charAt(0) == 'a' + t).count())).containsOnly(500L);
+    }
+
+    @Test
+    void should_throw_exception_when_invalid_usage() throws IOException {
+        var writer = ResourceWriter.append(file);
+
+        assertThatIllegalStateException().isThrownBy(writer::commit);
+
+        writer.close();
+        writer.close();
+
+        assertThatIOException().isThrownBy(() -> writer.append(new byte[1]));
+        assertThatIllegalArgumentException().isThrownBy(() -> ResourceWriter.atomic(null));
+        assertThatIOException()
+                .isThrownBy(() -> ResourceWriter.atomic(directory.resolve("missing/file")));
+    }
+
+    private List<Path> files() throws IOException {
+
+        try (var paths = Files.list(directory)) {
+            return paths.toList();
+        }
+    }
+}
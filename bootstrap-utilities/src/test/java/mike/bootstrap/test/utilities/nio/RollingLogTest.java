@@ -0,0 +1,258 @@
+package mike.bootstrap.test.utilities.nio;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import mike.bootstrap.utilities.nio.files.Compression;
+import mike.bootstrap.utilities.nio.files.RollingLog;
+import mike.bootstrap.utilities.nio.files.RollingLog.Segment;
+
+@DisplayName("Nio::RollingLog")
+class RollingLogTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void init() throws IOException {
+        this.directory = Files.createTempDirectory("test-rolling");
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+
+        try (var paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    void should_rotate_and_compress_segments_when_max_size_reached() throws Exception {
+        var lines = new ArrayList<String>();
+
+        try (var audit = RollingLog.of(directory, "audit").maxSize("1kb").open()) {
+
+            for (int i = 0; i < 100; i++) {
+                lines.add(String.format("%04d %s", i, "x".repeat(45)));
+                audit.appendLine(lines.get(i), StandardCharsets.UTF_8);
+            }
+
+            assertThat(audit.segments()).hasSizeGreaterThanOrEqualTo(4);
+            assertThat(Files.size(audit.activePath())).isLessThanOrEqualTo(1024);
+        }
+
+        var segments = this.reopen("audit").segments();
+
+        assertThat(segments).allMatch(Segment::compressed)
+                .allMatch(s -> s.path().toString().endsWith(".log.gz"));
+        assertThat(segments).extracting(Segment::sequence).isSorted();
+        assertThat(this.readAll(segments)).isEqualTo(lines);
+    }
+
+    @Test
+    void should_rotate_segments_when_time_boundary_reached() throws Exception {
+        var clock = new MutableClock(Instant.parse("2026-10-18T10:15:00Z"));
+
+        try (var audit = RollingLog.of(directory, "audit").hourly().clock(clock)
+                .compression(Compression.NONE).open()) {
+            audit.appendLine("first", StandardCharsets.UTF_8);
+
+            clock.advance(Duration.ofMinutes(30));
+            audit.appendLine("same", StandardCharsets.UTF_8);
+
+            assertThat(audit.activePath().getFileName())
+                    .hasToString("audit.20261018T10.000000.log");
+
+            clock.advance(Duration.ofMinutes(30));
+            audit.appendLine("second", StandardCharsets.UTF_8);
+
+            assertThat(audit.activePath().getFileName())
+                    .hasToString("audit.20261018T11.000001.log");
+
+            clock.advance(Duration.ofDays(1));
+            audit.appendLine("third", StandardCharsets.UTF_8);
+
+            assertThat(audit.segments()).extracting(s -> s.path().getFileName().toString())
+                    .containsExactly("audit.20261018T10.000000.log",
+                            "audit.20261018T11.000001.log");
+        }
+
+        assertThat(this.readAll(this.reopen("audit").segments())).containsExactly("first", "same",
+                "second", "third");
+    }
+
+    @Test
+    void should_delete_oldest_segments_when_retention_exceeded() throws Exception {
+
+        try (var audit = RollingLog.of(directory, "audit").maxSegments(2).open()) {
+
+            for (int i = 0; i < 5; i++) {
+                audit.appendLine("line " + i, StandardCharsets.UTF_8);
+                audit.rotate();
+            }
+
+            assertThat(audit.segments()).hasSize(2);
+        }
+
+        try (var files = Files.list(directory)) {
+            assertThat(files.map(p -> p.getFileName().toString()).sorted())
+                    .hasSize(2).allMatch(f -> f.endsWith(".log.gz"));
+        }
+
+        var audit = this.reopen("audit");
+
+        assertThat(this.readAll(audit.segments())).containsExactly("line 3", "line 4");
+    }
+
+    @Test
+    void should_recover_segments_when_reopened() throws Exception {
+
+        try (var audit = RollingLog.of(directory, "audit").compression(Compression.NONE).open()) {
+            audit.appendLine("first", StandardCharsets.UTF_8);
+        }
+
+        // Interrupted compression of the previous run
+        Files.writeString(directory.resolve("audit.20261018.000000.log.gz.tmp"), "partial");
+        Files.writeString(directory.resolve("other.log"), "other");
+
+        try (var audit = RollingLog.of(directory, "audit").open()) {
+            audit.appendLine("second", StandardCharsets.UTF_8);
+
+            assertThat(audit.segments()).extracting(Segment::sequence).containsExactly(0L);
+            assertThat(audit.activePath().getFileName().toString()).endsWith(".000001.log");
+        }
+
+        assertThat(directory.resolve("other.log")).exists();
+        assertThat(this.readAll(this.reopen("audit").segments())).containsExactly("first",
+                "second");
+    }
+
+    @Test
+    void should_encode_line_separator_with_line_charset() throws Exception {
+
+        try (var audit = RollingLog.of(directory, "audit").compression(Compression.NONE).open()) {
+            audit.appendLine("first", StandardCharsets.UTF_16);
+            audit.appendLine("second", StandardCharsets.UTF_16);
+        }
+
+        var segments = this.reopen("audit").segments();
+
+        assertThat(segments).hasSize(1);
+
+        try (var is = segments.get(0).resource().getContentStream()) {
+            assertThat(is.readAllBytes()).isEqualTo(("first" + System.lineSeparator() + "second"
+                    + System.lineSeparator()).getBytes(StandardCharsets.UTF_16BE));
+        }
+    }
+
+    @Test
+    void should_not_interleave_lines_when_concurrent_writers() throws Exception {
+        var tasks = new ArrayList<Callable<Void>>();
+
+        try (var audit = RollingLog.of(directory, "audit").maxSize("4kb").open();
+                var executor = Executors.newFixedThreadPool(4)) {
+
+            for (int t = 0; t < 4; t++) {
+                var line = String.valueOf((char) ('a' + t)).repeat(30);
+
+                tasks.add(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        audit.appendLine(line, StandardCharsets.US_ASCII);
+                        audit.segments();
+                    }
+
+                    return null;
+                });
+            }
+
+            for (var future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        }
+
+        assertThat(this.readAll(this.reopen("audit").segments())).hasSize(2000)
+                .allMatch(l -> l.length() == 30 && l.chars().distinct().count() == 1);
+    }
+
+    @Test
+    void should_throw_exception_when_invalid_configuration() throws IOException {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> RollingLog.of(directory, "audit").maxSize("0kb"));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> RollingLog.of(directory, "audit").maxSize("512 parsecs"));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> RollingLog.of(directory, "audit").compression(Compression.ZIP));
+
+        var audit = RollingLog.of(directory, "audit").open();
+
+        assertThatIllegalStateException().isThrownBy(() -> audit.maxSegments(1));
+        audit.close();
+        assertThatIOException().isThrownBy(() -> audit.append(new byte[1]));
+    }
+
+    /**
+     * @return the log opened and closed: all the segments are sealed
+     */
+    private RollingLog reopen(String name) throws IOException {
+        var audit = RollingLog.of(directory, name).open();
+        audit.close();
+        return audit;
+    }
+
+    private List<String> readAll(List<Segment> segments) throws IOException {
+        var lines = new ArrayList<String>();
+
+        for (Segment segment : segments) {
+            lines.addAll(segment.resource().withCharset(StandardCharsets.UTF_8).readContent());
+        }
+
+        return lines;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            this.instant = this.instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+    }
+}
@@ -3,16 +3,22 @@ package mike.bootstrap.test.utilities.system;
 import static org.assertj.core.api.Assertions.*;
 
 import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import mike.bootstrap.test.utilities.constants.TestConstants;
 import mike.bootstrap.utilities.system.AppInfo;
@@ -21,6 +27,11 @@ import mike.bootstrap.utilities.system.AppInfo;
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class AppInfoTest {
 
+    private static final Logger log = LoggerFactory.getLogger(AppInfoTest.class);
+
+    private static final String BUILD_INFO_CLASS = AppInfo.class.getName() + "$BuildInfo";
+    private static final String RESOURCE_CLASS = "mike.bootstrap.utilities.nio.files.Resource";
+
     @Test
     @Order(1)
     void should_return_expected_values_when_build_info_exists() throws IOException {
@@ -59,6 +70,184 @@ class AppInfoTest {
         assertThat(deleted).isTrue();
     }
 
+    @Test
+    @Order(2)
+    void should_not_load_build_info_when_node_read(@TempDir Path directory) throws Exception {
+        String buildInfo = System.clearProperty(AppInfo.KW_APP_BUILD_INFO);
+
+        try (var loader = new IsolatedLoader(this.compactBuildInfo(directory))) {
+            assertThat(loader.invoke("node")).isEqualTo(AppInfo.node());
+            assertThat(loader.isLoaded(BUILD_INFO_CLASS)).isFalse();
+            assertThat(loader.isLoaded(RESOURCE_CLASS)).isFalse();
+
+            assertThat(loader.invoke("version")).isEqualTo("2.1.0");
+            assertThat(loader.isLoaded(BUILD_INFO_CLASS)).isTrue();
+            assertThat(loader.isLoaded(RESOURCE_CLASS)).isFalse();
+        } finally {
+            restore(buildInfo);
+        }
+    }
+
+    @Test
+    @Order(3)
+    void should_return_compact_build_info_when_generated(@TempDir Path directory)
+            throws Exception {
+        String buildInfo = System.clearProperty(AppInfo.KW_APP_BUILD_INFO);
+
+        try (var loader = new IsolatedLoader(this.compactBuildInfo(directory))) {
+            assertThat(loader.invoke("name")).isEqualTo("CompactApp");
+            assertThat(loader.invoke("module")).isEqualTo("CompactModule");
+            assertThat(loader.invoke("version")).isEqualTo("2.1.0");
+            assertThat(loader.invoke("company")).isEqualTo("My Compact Company");
+            assertThat(loader.invoke("releaseDttm")).isEqualTo("2026-10-01T08:30:00.000Z");
+        } finally {
+            restore(buildInfo);
+        }
+    }
+
+    @Test
+    @Order(4)
+    void should_ignore_compact_build_info_when_not_unique(@TempDir Path directory)
+            throws Exception {
+        String buildInfo = System.clearProperty(AppInfo.KW_APP_BUILD_INFO);
+
+        try (var loader = new IsolatedLoader(this.compactBuildInfo(directory.resolve("app")),
+                this.compactBuildInfo(directory.resolve("dependency")))) {
+            assertThat(loader.invoke("module")).isNotEqualTo("CompactModule");
+        } finally {
+            restore(buildInfo);
+        }
+    }
+
+    /**
+     * Class initialization cost (fresh class loader): before, any access loaded all the
+     * informations (properties file); now the node alone is loaded, and the build informations
+     * are read from the compact file.
+     */
+    @Test
+    @Order(5)
+    void should_measure_class_init_time(@TempDir Path directory) throws Exception {
+        String buildInfo = System.clearProperty(AppInfo.KW_APP_BUILD_INFO);
+        var classes = this.compactBuildInfo(directory);
+        var properties = directory.resolve("build-info.properties");
+        Files.write(properties, List.of("build.time=2026-10-01T08:30:00.000Z",
+                "build.application.name=PropertiesApp", "build.version=2.1.0"));
+
+        try {
+            long nodeOnly = Long.MAX_VALUE;
+            long compact = Long.MAX_VALUE;
+            long eager = Long.MAX_VALUE;
+
+            for (int i = 0; i < 10; i++) {
+                nodeOnly = Math.min(nodeOnly, this.initTime(classes, false, false, "node"));
+                compact = Math.min(compact, this.initTime(classes, true, false, "node", "version"));
+
+                System.setProperty(AppInfo.KW_APP_BUILD_INFO, properties.toString());
+                eager = Math.min(eager, this.initTime(classes, true, true, "node", "version"));
+                System.clearProperty(AppInfo.KW_APP_BUILD_INFO);
+            }
+
+            log.info("AppInfo::init: node only={} us, node+build (compact)={} us, "
+                    + "node+build (properties, as before)={} us", nodeOnly, compact, eager);
+
+            assertThat(nodeOnly).isPositive();
+        } finally {
+            restore(buildInfo);
+        }
+    }
+
+    /**
+     * @return the time of the calls (microseconds), once checked the loaded holders
+     */
+    private long initTime(Path classes, boolean buildInfoLoaded, boolean resourceLoaded,
+            String... methods) throws Exception {
+
+        try (var loader = new IsolatedLoader(classes)) {
+            long start = System.nanoTime();
+
+            for (String method : methods) {
+                assertThat(loader.invoke(method)).isNotNull();
+            }
+
+            long elapsed = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+            assertThat(loader.isLoaded(BUILD_INFO_CLASS)).isEqualTo(buildInfoLoaded);
+            assertThat(loader.isLoaded(RESOURCE_CLASS)).isEqualTo(resourceLoaded);
+
+            return elapsed;
+        }
+    }
+
+    private Path compactBuildInfo(Path directory) throws IOException {
+        var file = directory.resolve(AppInfo.BUILD_INFO_COMPACT);
+        Files.createDirectories(file.getParent());
+        Files.write(file, List.of("bootstrap-build-info/1", "CompactApp", "CompactModule", "2.1.0",
+                "My Compact Company", "2026-10-01T08:30:00.000Z"));
+
+        return directory;
+    }
+
+    private static void restore(String buildInfo) {
+
+        if (buildInfo != null) {
+            System.setProperty(AppInfo.KW_APP_BUILD_INFO, buildInfo);
+        }
+    }
+
+    /**
+     * Loads the utilities classes again (fresh static initialization)
+     */
+    private static final class IsolatedLoader extends URLClassLoader {
+
+        private static final String PACKAGE = "mike.bootstrap.utilities.";
+
+        IsolatedLoader(Path... resources) throws IOException {
+            super(urls(resources), AppInfoTest.class.getClassLoader());
+        }
+
+        private static URL[] urls(Path... resources) throws IOException {
+            var urls = new URL[resources.length + 1];
+            urls[0] = AppInfo.class.getProtectionDomain().getCodeSource().getLocation();
+
+            for (int i = 0; i < resources.length; i++) {
+                urls[i + 1] = resources[i].toUri().toURL();
+            }
+
+            return urls;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+
+            if (!name.startsWith(PACKAGE)) {
+                return super.loadClass(name, resolve);
+            }
+
+            synchronized (this.getClassLoadingLock(name)) {
+                var clazz = this.findLoadedClass(name);
+
+                if (clazz == null) {
+                    clazz = this.findClass(name);
+                }
+
+                if (resolve) {
+                    this.resolveClass(clazz);
+                }
+
+                return clazz;
+            }
+        }
+
+        boolean isLoaded(String name) {
+            return this.findLoadedClass(name) != null;
+        }
+
+        Object invoke(String method) throws ReflectiveOperationException {
+            return Class.forName(AppInfo.class.getName(), true, this).getMethod(method)
+                    .invoke(null);
+        }
+    }
+
     private Path buildFilePath(String basename) throws IOException {
 
         Path testDirectory = Path.of(TestConstants.TEST_ROOT_FOLDER);
@@ -0,0 +1,97 @@
+package mike.bootstrap.test.utilities.system;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mike.bootstrap.utilities.system.StartupProfiler;
+import mike.bootstrap.utilities.system.StartupProfiler.Phase;
+
+@DisplayName("System::StartupProfiler")
+class StartupProfilerTest {
+
+    @Test
+    void should_return_phases_when_timed() {
+        var profiler = StartupProfiler.of();
+
+        try (var phase = profiler.start("slow")) {
+            sleep(50);
+        }
+
+        assertThat(profiler.time("fast", () -> "ok")).isEqualTo("ok");
+        profiler.record("myBean", "bean", System.nanoTime(), 1_000);
+
+        var phases = profiler.phases(StartupProfiler.BOOTSTRAP);
+
+        assertThat(phases).extracting(Phase::name).containsExactly("jvm_startup", "slow", "fast");
+        assertThat(phases.get(0).start()).isZero();
+        assertThat(phases.get(1).duration()).isGreaterThanOrEqualTo(50_000_000L);
+        assertThat(phases.get(1).start()).isGreaterThanOrEqualTo(phases.get(0).duration());
+        assertThat(phases.get(2).start()).isGreaterThan(phases.get(1).start());
+        assertThat(profiler.phases("bean")).extracting(Phase::name).containsExactly("myBean");
+        assertThat(profiler.uptimeNanos()).isGreaterThan(phases.get(1).start());
+    }
+
+    @Test
+    void should_record_once_when_step_closed_twice() {
+        var profiler = StartupProfiler.of();
+        profiler.clear();
+
+        var step = profiler.start("phase");
+        step.close();
+        step.close();
+
+        assertThat(profiler.phases()).hasSize(1);
+        assertThatIllegalArgumentException().isThrownBy(() -> profiler.start(" "));
+    }
+
+    @Test
+    void should_return_sorted_report_when_limited() {
+        var profiler = StartupProfiler.of();
+        profiler.clear();
+        long now = System.nanoTime();
+        profiler.record("a", "bean", now, 1_000_000);
+        profiler.record("b", "bean", now, 3_000_000);
+        profiler.record("c", "bean", now, 2_000_000);
+
+        var lines = profiler.report("bean", 2).lines().toList();
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).startsWith("Startup profile (bean, uptime ");
+        assertThat(lines.get(1)).matches(" +0\\.003s +\\d+\\.\\d%  b");
+        assertThat(lines.get(2)).matches(" +0\\.002s +\\d+\\.\\d%  c");
+    }
+
+    @Test
+    void should_write_trace_events_when_trace_file(@TempDir Path directory) throws IOException {
+        var profiler = StartupProfiler.of();
+        profiler.clear();
+        profiler.record("app_info", StartupProfiler.BOOTSTRAP, System.nanoTime(), 2_500);
+        profiler.record("my\"Bean", "bean", System.nanoTime(), 1_000);
+
+        var file = directory.resolve("trace.json");
+        profiler.writeTrace(file);
+
+        var content = Files.readString(file);
+
+        assertThat(content).startsWith("{\"traceEvents\":[").endsWith("]}\n");
+        assertThat(content).contains("\"name\":\"app_info\",\"cat\":\"bootstrap\",\"ph\":\"X\"")
+                .contains("\"dur\":2.500").contains("\"tid\":1}")
+                .contains("\"name\":\"my\\\"Bean\",\"cat\":\"bean\"").contains("\"tid\":2}");
+    }
+
+    private static void sleep(long millis) {
+
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
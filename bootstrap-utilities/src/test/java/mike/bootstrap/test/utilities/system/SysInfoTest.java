@@ -5,6 +5,11 @@ import static org.assertj.core.api.Assertions.*;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.ServerSocket;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
@@ -15,6 +20,7 @@ import org.junit.jupiter.api.TestMethodOrder;
 import mike.bootstrap.utilities.exceptions.ApplicationErrorException;
 import mike.bootstrap.utilities.helpers.Strings;
 import mike.bootstrap.utilities.system.SysInfo;
+import mike.bootstrap.utilities.system.SysInfo.HostResolver;
 
 @DisplayName("Helpers::SysInfo")
 @TestMethodOrder(OrderAnnotation.class)
@@ -50,6 +56,94 @@ class SysInfoTest {
         assertThat(SysInfo.pid()).isNotEmpty();
         assertThat(SysInfo.localhost()).isNotEmpty();
         assertThat(SysInfo.machine()).isNotEmpty();
+        assertThat(SysInfo.pid()).isEqualTo(String.valueOf(ProcessHandle.current().pid()));
+    }
+
+    @Test
+    void should_not_block_when_host_resolution_is_slow() throws Exception {
+        var localHost = new CountDownLatch(1);
+        var reverseLookup = new CountDownLatch(1);
+
+        try {
+            SysInfo.resolveHost(HostResolver.DNS).get(10, TimeUnit.SECONDS);
+            var resolved = SysInfo.hostname();
+
+            long start = System.nanoTime();
+            var future = SysInfo.resolveHost(new StubResolver(localHost, reverseLookup));
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start))
+                    .isLessThan(Duration.ofMillis(500));
+            assertThat(SysInfo.awaitHost(Duration.ofMillis(50))).isFalse();
+            assertThat(SysInfo.hostname()).isEqualTo(resolved);
+
+            // Local host address published before the reverse lookup
+            localHost.countDown();
+            assertThat(waitFor(() -> SysInfo.hostIP().equals("10.0.0.42"))).isTrue();
+            assertThat(SysInfo.hostname()).isEqualTo("myhost");
+            assertThat(SysInfo.awaitHost(Duration.ofMillis(50))).isFalse();
+
+            reverseLookup.countDown();
+            assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo("myhost.example.com");
+            assertThat(SysInfo.awaitHost(Duration.ZERO)).isTrue();
+            assertThat(SysInfo.hostname()).isEqualTo("myhost.example.com");
+            assertThat(SysInfo.machine()).isEqualTo("myhost");
+            assertThat(SysInfo.localhost()).isEqualTo("127.0.0.1");
+        } finally {
+            localHost.countDown();
+            reverseLookup.countDown();
+            SysInfo.resolveHost(HostResolver.DNS).get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void should_ignore_previous_resolution_when_resolved_again() throws Exception {
+        var slow = new CountDownLatch(1);
+        var released = new CountDownLatch(0);
+
+        try {
+            var previous = SysInfo.resolveHost(new StubResolver(slow, released));
+            SysInfo.resolveHost(new HostResolver() {
+
+                @Override
+                public InetAddress localHost() throws UnknownHostException {
+                    return InetAddress.getByAddress("other", new byte[] { 10, 0, 0, 7 });
+                }
+
+                @Override
+                public String canonicalHostName(InetAddress address) {
+                    return "other.example.com";
+                }
+            }).get(10, TimeUnit.SECONDS);
+
+            slow.countDown();
+            previous.get(10, TimeUnit.SECONDS);
+
+            assertThat(SysInfo.hostIP()).isEqualTo("10.0.0.7");
+            assertThat(SysInfo.hostname()).isEqualTo("other.example.com");
+            assertThat(SysInfo.machine()).isEqualTo("other");
+        } finally {
+            slow.countDown();
+            SysInfo.resolveHost(HostResolver.DNS).get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void should_keep_current_values_when_host_resolution_fails() throws Exception {
+
+        try {
+            SysInfo.resolveHost(HostResolver.DNS).get(10, TimeUnit.SECONDS);
+            var hostIP = SysInfo.hostIP();
+
+            SysInfo.resolveHost(() -> {
+                throw new UnknownHostException("stub");
+            });
+
+            assertThat(SysInfo.awaitHost(Duration.ofSeconds(10))).isFalse();
+            assertThat(SysInfo.hostIP()).isEqualTo(hostIP);
+            assertThatIllegalArgumentException().isThrownBy(() -> SysInfo.resolveHost(null));
+        } finally {
+            SysInfo.resolveHost(HostResolver.DNS).get(10, TimeUnit.SECONDS);
+        }
     }
 
     @Test
@@ -87,6 +181,49 @@ class SysInfoTest {
                     .isThrownBy(() -> SysInfo.hostAddressAlreadyBound(hostname, port));
         }
     }
+
+    private static boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        while (!condition.getAsBoolean()) {
+
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+
+            Thread.sleep(5);
+        }
+
+        return true;
+    }
+}
+
+/**
+ * Resolver blocked until released (misconfigured DNS)
+ */
+record StubResolver(CountDownLatch addressLookup, CountDownLatch reverseLookup)
+        implements HostResolver {
+
+    @Override
+    public InetAddress localHost() throws UnknownHostException {
+        StubResolver.await(this.addressLookup);
+        return InetAddress.getByAddress("myhost", new byte[] { 10, 0, 0, 42 });
+    }
+
+    @Override
+    public String canonicalHostName(InetAddress address) {
+        StubResolver.await(this.reverseLookup);
+        return "myhost.example.com";
+    }
+
+    private static void await(CountDownLatch latch) {
+
+        try {
+            latch.await();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
 
 final class FooAppTest {